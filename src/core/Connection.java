@@ -3,7 +3,10 @@ package core;
 import java.io.Serializable;
 
 public class Connection implements Serializable {
+    private static final long serialVersionUID = 6743233482268704400L;
+
     int fromId;
     int toId;
     String kind;
-}
\ No newline at end of file
+    transient int index;
+}
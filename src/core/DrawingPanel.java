@@ -7,40 +7,46 @@ import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.title.TextTitle;
 import org.jfree.data.xy.XYDataset;
-import org.jfree.data.xy.XYSeries;
-import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.chart.axis.ValueAxis;
 import javax.swing.Timer;
 import java.util.Random;
 
+import problemas.LatencyHistogram;
 import problemas.SyncMethod;
 
 public class DrawingPanel extends JPanel implements MouseListener, MouseMotionListener {
 
     volatile GraphData data = new GraphData();
     
-    private ShapeNode dragging = null;
+    private volatile int dragging = -1;
     private int offX, offY;
-    private ShapeNode hoveredTarget = null;
+    private volatile int hoveredTarget = -1;
+    private final Object dragKey = new Object();
     private final JPopupMenu createMenu = new JPopupMenu();
     private Point createAt = new Point();
     private final JPopupMenu nodeMenu = new JPopupMenu();
-    private ShapeNode nodeMenuTarget = null;
+    private volatile int nodeMenuTarget = -1;
     private final Map<String, Integer> readersWritersActorSlots = new HashMap<>();
     private final TreeSet<Integer> readersAvailableSlots = new TreeSet<>();
     private final TreeSet<Integer> writersAvailableSlots = new TreeSet<>();
@@ -49,11 +55,12 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
     private static final int RW_ROWS_PER_COLUMN = 5;
     private static final double CHART_HEIGHT_RATIO = 0.32;
     private static final int MIN_CHART_HEIGHT = 180;
-    private static final int CHART_SCROLL_MAX_POINTS = 200;
+    private static final int CHART_SCROLL_WINDOW_POINTS = 200;
+    private static final int CHART_SCROLL_MIN_WINDOW_POINTS = 20;
+    private static final int CHART_HISTORY_RESIDENT_CHUNKS = Integer.getInteger("chart.historyResidentChunks", 32);
     private static final int CHART_ACORDEON_WARMUP = 60;
     private static final double CHART_STEP = 0.30;
     private static final int CHART_CARROUSEL_WINDOW_POINTS = 40;
-    private static final int CHART_CARROUSEL_HISTORY_POINTS = 420;
     private static final double CHART_CARROUSEL_WINDOW_WIDTH = CHART_CARROUSEL_WINDOW_POINTS * CHART_STEP;
 
     public enum ChartKind {
@@ -78,73 +85,132 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         }
     }
 
+    public enum ChartMetric {
+        THROUGHPUT("Throughput", "Consultas/s"),
+        TIMED_OUT("Vencidas", "Solicitudes vencidas/s"),
+        REJECTED("Rechazadas", "Solicitudes rechazadas/s"),
+        QUEUE_DELAY_P99("Retardo en cola p99", "Retardo en cola (ms)"),
+        HIGH_LANE_P99("Retardo carril alto p99", "Retardo en cola, prioridad alta (ms)"),
+        LOW_LANE_P99("Retardo carril bajo p99", "Retardo en cola, prioridad baja (ms)"),
+        QUEUE_DEPTH("Profundidad de cola", "Solicitudes en espera (máx.)"),
+        DROPS("Descartes por cola llena", "Solicitudes descartadas/s"),
+        LATENCY_P50("Latencia p50", "Latencia extremo a extremo (ms)"),
+        LATENCY_P99("Latencia p99", "Latencia extremo a extremo (ms)"),
+        TOKEN_WAIT_P99("Espera de token p99", "Espera de token (ms)"),
+        SLOT_WAIT_P99("Espera de slot p99", "Espera de slot (ms)");
+
+        private final String displayName;
+        private final String axisLabel;
+
+        ChartMetric(String displayName, String axisLabel) {
+            this.displayName = displayName;
+            this.axisLabel = axisLabel;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public String getAxisLabel() {
+            return axisLabel;
+        }
+    }
+
     private static final Color PROCESS_NODE_FILL = new Color(0x00, 0x00, 0xDB);
     private static final Color RESOURCE_NODE_FILL = new Color(0xFF, 0x0C, 0x3A);
     private static final Color NODE_BORDER_COLOR = Color.BLACK;
     private static final Color NODE_LABEL_COLOR = Color.WHITE;
     private static final Color NODE_HIGHLIGHT_OVERLAY = new Color(255, 255, 255, 90);
+    private static final BasicStroke NODE_BORDER_STROKE = new BasicStroke(2);
 
     private ChartPanel chartPanel;
     private ChartKind currentChartKind = null;
     private Timer chartTimer;
-    private XYSeries dynamicSeries;
     private double chartXCursor = 0.0;
     private final Random chartRandom = new Random();
     private JComponent chartComponent;
-    private JScrollPane chartScrollPane;
+    private JScrollBar chartScrollBar;
+    private int scrollWindowPoints = CHART_SCROLL_WINDOW_POINTS;
+    private boolean scrollFollow = true;
+    private boolean adjustingScrollBar;
     private JPanel chartWrapper;
     private JComponent chartTitleContainer;
     private JComponent chartLegendContainer;
     private JLabel chartTitleLabel;
     private JLabel chartLegendLabel;
+    private TextTitle chartCaptionTitle;
     private ValueAxis accordionDomainAxis;
     private ValueAxis carouselDomainAxis;
+    private ValueAxis scrollDomainAxis;
     private enum ChartDataMode { NONE, SAMPLE, VIRTUAL_ASSISTANTS }
     private ChartDataMode chartDataMode = ChartDataMode.NONE;
-    private XYSeriesCollection chartDataset;
-    private final EnumMap<SyncMethod, XYSeries> vaSeries = new EnumMap<>(SyncMethod.class);
+    private HistoryXYDataset chartDataset;
+    private final EnumMap<SyncMethod, Integer> vaSeries = new EnumMap<>(SyncMethod.class);
     private final EnumMap<SyncMethod, Double> vaXCursors = new EnumMap<>(SyncMethod.class);
     private double vaTimelineCursor = 0.0;
+    private volatile ChartMetric vaChartMetric = ChartMetric.THROUGHPUT;
     private XYLineAndShapeRenderer chartRenderer;
+    private static final BasicStroke VA_SERIES_STROKE = new BasicStroke(2.2f);
     private static final Map<SyncMethod, Color> VA_METHOD_COLORS = Map.of(
             SyncMethod.MUTEX, new Color(0x66, 0x66, 0x66),
             SyncMethod.SEMAPHORES, new Color(0xF5, 0x78, 0x3B),
             SyncMethod.VAR_COND, new Color(0x98, 0x3E, 0xF4),
             SyncMethod.MONITORS, new Color(0x14, 0xA0, 0x58),
-            SyncMethod.BARRIERS, new Color(0x0B, 0x7C, 0xC8)
+            SyncMethod.BARRIERS, new Color(0x0B, 0x7C, 0xC8),
+            SyncMethod.LOCK_FREE, new Color(0xD6, 0x2E, 0x4D)
     );
 
-    private enum GraphAutoLayoutHint { NONE, VIRTUAL_ASSISTANTS }
+    private enum GraphAutoLayoutHint { NONE, VIRTUAL_ASSISTANTS, TRACE }
     private GraphAutoLayoutHint autoLayoutHint = GraphAutoLayoutHint.NONE;
+    private final List<String> traceActorLabels = new ArrayList<>();
+    private final List<String> traceResourceLabels = new ArrayList<>();
     private int autoVaAssistants = 0;
     private int autoVaSlots = 0;
     private int autoVaTokens = 0;
+    private int autoVaShards = 1;
+    private static final int GRAPH_FRAME_MILLIS = 16;
+    private static final long GRAPH_LATENCY_WINDOW_NANOS = 1_000_000_000L;
+    private final GraphEventBus graphEvents = new GraphEventBus("Graph-Model", GRAPH_FRAME_MILLIS, this::applyGraphUpdates);
+    private volatile boolean graphBatchActive;
+    private long graphLatencyWindowStart = System.nanoTime();
+    private volatile String graphLatencySummary = "Grafo: midiendo…";
+    private static final int EDGE_DAMAGE_PAD = 14;
+    private static final int NODE_DAMAGE_PAD = 2;
+    private final AtomicBoolean damagePending = new AtomicBoolean();
+    private GraphSnapshot damagedSnapshot = GraphSnapshot.EMPTY;
+    private Rectangle damagedOverlay;
+    private BufferedImage nodeLayer;
+    private GraphSnapshot nodeLayerSnapshot;
+    private Font nodeLayerFont;
+    private double nodeLayerScaleX = 1;
+    private double nodeLayerScaleY = 1;
 
     DrawingPanel() {
         
         setLayout(null);
         setBackground(Color.WHITE);
         JMenuItem crearProceso = new JMenuItem("Proceso");
-        crearProceso.addActionListener(e -> createNode(NodeType.PROCESO, createAt.x, createAt.y));
+        crearProceso.addActionListener(e -> {
+            Point at = createAt;
+            graphEvents.post(() -> createNode(NodeType.PROCESO, at.x, at.y));
+        });
         JMenuItem crearRecurso = new JMenuItem("Recurso");
-        crearRecurso.addActionListener(e -> createNode(NodeType.RECURSO, createAt.x, createAt.y));
+        crearRecurso.addActionListener(e -> {
+            Point at = createAt;
+            graphEvents.post(() -> createNode(NodeType.RECURSO, at.x, at.y));
+        });
         createMenu.add(crearProceso);
         createMenu.add(crearRecurso);
         JMenuItem eliminar = new JMenuItem("Eliminar");
         eliminar.addActionListener(e -> {
-            synchronized (this.data) {
-                if (nodeMenuTarget != null) {
-                    int targetId = nodeMenuTarget.id;
-                    if (data.connections != null) {
-                        data.connections.removeIf(c -> c != null && (c.fromId == targetId || c.toId == targetId));
-                    }
-                    if (data.nodes != null) {
-                        data.nodes.remove(nodeMenuTarget);
-                    }
-                    nodeMenuTarget = null;
-                }
+            int target = nodeMenuTarget;
+            nodeMenuTarget = -1;
+            if (target >= 0) {
+                graphEvents.post(() -> {
+                    data.removeNode(data.nodeById(target));
+                    requestRepaint();
+                });
             }
-            repaint();
         });
         nodeMenu.add(eliminar);
         addMouseListener(this);
@@ -158,23 +224,32 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
     }
 
     
-    synchronized void setData(GraphData g) {
+    void setData(GraphData g) {
         
-        this.data = (g != null) ? g : new GraphData();
-        dragging = null;
-        hoveredTarget = null;
-        nodeMenuTarget = null;
-        repaint();
+        GraphData next = (g != null) ? g : new GraphData();
+        graphEvents.run(() -> {
+            this.data = next;
+            dragging = -1;
+            hoveredTarget = -1;
+            nodeMenuTarget = -1;
+            requestRepaint();
+        });
+    }
+
+    GraphData exportData() {
+        GraphData currentData = this.data;
+        return GraphData.copyOf(currentData != null ? currentData.snapshot() : GraphSnapshot.EMPTY);
     }
 
-    private synchronized void createNode(NodeType type, int x, int y) {
+    public String describeGraphLatency() {
+        return graphLatencySummary;
+    }
+
+    private void createNode(NodeType type, int x, int y) {
         
         if (data == null) {
             data = new GraphData();
         }
-        if (data.nodes == null) {
-            data.nodes = new ArrayList<>();
-        }
         ShapeNode n = new ShapeNode();
         n.id = data.nextId++;
         n.type = type;
@@ -186,18 +261,16 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         } else {
             n.label = "R" + data.nextRecurso++;
         }
-        data.nodes.add(n);
-        repaint();
+        data.addNode(n);
+        requestRepaint();
     }
 
-    private synchronized Optional<ShapeNode> findNodeAt(int x, int y) {
+    private Optional<GraphSnapshot.Node> findNodeAt(int x, int y, int excludedId) {
         
-        if (data == null || data.nodes == null) {
-            return Optional.empty();
-        }
-        for (int i = data.nodes.size() - 1; i >= 0; i--) {
-            ShapeNode n = data.nodes.get(i);
-            if (n != null && n.contains(x, y)) {
+        GraphSnapshot view = data.snapshot();
+        for (int i = view.nodeCount() - 1; i >= 0; i--) {
+            GraphSnapshot.Node n = view.node(i);
+            if (n.id() != excludedId && n.contains(x, y)) {
                 return Optional.of(n);
             }
         }
@@ -210,52 +283,53 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g.create();
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        GraphData currentData;
-        synchronized (this.data) {
-            if (this.data == null) {
-                g2.dispose();
-                return;
-            }
-            currentData = new GraphData();
-            currentData.nodes = (this.data.nodes != null) ? new ArrayList<>(this.data.nodes) : new ArrayList<>();
-            currentData.connections = (this.data.connections != null) ? new ArrayList<>(this.data.connections) : new ArrayList<>();
-            currentData.nextId = this.data.nextId;
-            currentData.nextProceso = this.data.nextProceso;
-            currentData.nextRecurso = this.data.nextRecurso;
+        GraphData currentData = this.data;
+        if (currentData == null) {
+            g2.dispose();
+            return;
         }
+        GraphSnapshot view = currentData.snapshot();
 
-        int reservedHeight = getReservedChartHeight();
-        if (reservedHeight > 0) {
-            g2.setClip(0, 0, getWidth(), Math.max(0, getHeight() - reservedHeight));
+        int graphHeight = Math.max(0, getHeight() - getReservedChartHeight());
+        g2.clipRect(0, 0, getWidth(), graphHeight);
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
         }
-        for (Connection c : currentData.connections) {
-            if (c == null) {
-                continue;
-            }
-            ShapeNode from = currentData.nodes.stream().filter(n -> n != null && n.id == c.fromId).findFirst().orElse(null);
-            ShapeNode to = currentData.nodes.stream().filter(n -> n != null && n.id == c.toId).findFirst().orElse(null);
-            if (from == null || to == null) {
+        if (clip.isEmpty()) {
+            g2.dispose();
+            return;
+        }
+        FontMetrics fm = g2.getFontMetrics();
+        for (int i = 0; i < view.edgeCount(); i++) {
+            GraphSnapshot.Edge edge = view.edge(i);
+            GraphSnapshot.Node from = edge.from();
+            GraphSnapshot.Node to = edge.to();
+            if (from == null || to == null || !clip.intersects(edgeBounds(edge, fm))) {
                 continue;
             }
             drawArrow(g2, from, to);
-            int mx = (from.x + to.x) / 2;
-            int my = (from.y + to.y) / 2;
-            if (c.kind != null) {
-                g2.drawString(c.kind, mx + 6, my - 6);
+            int mx = (from.x() + to.x()) / 2;
+            int my = (from.y() + to.y()) / 2;
+            if (edge.kind() != null) {
+                g2.drawString(edge.kind(), mx + 6, my - 6);
             }
         }
-        for (ShapeNode n : currentData.nodes) {
-            if (n != null) {
-                drawNode(g2, n, n == this.hoveredTarget);
-            }
+        AffineTransform device = g2.getTransform();
+        double scaleX = device.getScaleX();
+        double scaleY = device.getScaleY();
+        BufferedImage layer = nodeLayer(view, fm, getWidth(), graphHeight, scaleX, scaleY);
+        g2.drawImage(layer, AffineTransform.getScaleInstance(1 / nodeLayerScaleX, 1 / nodeLayerScaleY), null);
+        GraphSnapshot.Node currentHovered = view.nodeById(this.hoveredTarget);
+        if (currentHovered != null && clip.intersects(nodeBounds(currentHovered, fm))) {
+            drawNode(g2, currentHovered, true);
         }
-        ShapeNode currentDragging = this.dragging;
-        ShapeNode currentHovered = this.hoveredTarget;
+        GraphSnapshot.Node currentDragging = view.nodeById(this.dragging);
         if (currentDragging != null && currentHovered != null && currentHovered != currentDragging) {
             g2.setColor(new Color(0, 0, 0, 120));
             g2.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 0, new float[]{6, 6}, 0));
-            Point pStart = edgePointTowards(currentDragging, new Point(currentHovered.x, currentHovered.y));
-            Point pEnd = edgePointTowards(currentHovered, new Point(currentDragging.x, currentDragging.y));
+            Point pStart = edgePointTowards(currentDragging, new Point(currentHovered.x(), currentHovered.y()));
+            Point pEnd = edgePointTowards(currentHovered, new Point(currentDragging.x(), currentDragging.y()));
             if (pStart != null && pEnd != null) {
                 g2.draw(new Line2D.Float(pStart.x, pStart.y, pEnd.x, pEnd.y));
             }
@@ -263,31 +337,184 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         g2.dispose();
     }
 
-    public synchronized void clearGraph() {
+    private BufferedImage nodeLayer(GraphSnapshot view, FontMetrics fm, int width, int height, double scaleX, double scaleY) {
+        if (scaleX <= 0 || scaleY <= 0) {
+            scaleX = 1;
+            scaleY = 1;
+        }
+        int pixelWidth = Math.max(1, (int) Math.ceil(width * scaleX));
+        int pixelHeight = Math.max(1, (int) Math.ceil(height * scaleY));
+        if (nodeLayer == null || nodeLayer.getWidth() != pixelWidth || nodeLayer.getHeight() != pixelHeight
+                || nodeLayerScaleX != scaleX || nodeLayerScaleY != scaleY || !fm.getFont().equals(nodeLayerFont)) {
+            nodeLayer = new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+            nodeLayerSnapshot = null;
+            nodeLayerFont = fm.getFont();
+            nodeLayerScaleX = scaleX;
+            nodeLayerScaleY = scaleY;
+        }
+        if (view.sameNodes(nodeLayerSnapshot)) {
+            return nodeLayer;
+        }
+        Rectangle layerBounds = new Rectangle(0, 0, pixelWidth, pixelHeight);
+        Rectangle stale;
+        if (nodeLayerSnapshot == null) {
+            stale = layerBounds;
+        } else {
+            Rectangle changed = new Rectangle(0, 0, -1, -1);
+            view.nodeChangesSince(nodeLayerSnapshot, n -> changed.add(nodeBounds(n, fm)));
+            stale = changed.isEmpty() ? changed : AffineTransform.getScaleInstance(scaleX, scaleY)
+                    .createTransformedShape(changed).getBounds().intersection(layerBounds);
+        }
+        nodeLayerSnapshot = view;
+        if (stale.isEmpty()) {
+            return nodeLayer;
+        }
+        Graphics2D layer = nodeLayer.createGraphics();
+        layer.clip(stale);
+        layer.setComposite(AlphaComposite.Clear);
+        layer.fill(stale);
+        layer.setComposite(AlphaComposite.SrcOver);
+        layer.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        layer.setFont(nodeLayerFont);
+        layer.scale(scaleX, scaleY);
+        Rectangle logicalStale = layer.getClipBounds();
+        for (int i = 0; i < view.nodeCount(); i++) {
+            GraphSnapshot.Node n = view.node(i);
+            if (logicalStale.intersects(nodeBounds(n, fm))) {
+                drawNode(layer, n, false);
+            }
+        }
+        layer.dispose();
+        return nodeLayer;
+    }
+
+    public void enqueueGraphUpdate(Runnable update) {
+        graphEvents.post(update);
+    }
+
+    public void enqueueGraphUpdate(Object actor, Runnable update) {
+        graphEvents.post(actor, update);
+    }
+
+    private void applyGraphUpdates() {
+        int applied;
+        graphBatchActive = true;
+        try {
+            applied = graphEvents.applyPending();
+        } finally {
+            graphBatchActive = false;
+        }
+        if (applied > 0) {
+            repaintGraphChanges();
+        }
+        long now = System.nanoTime();
+        if (now - graphLatencyWindowStart >= GRAPH_LATENCY_WINDOW_NANOS) {
+            LatencyHistogram.Snapshot window = graphEvents.drainLatency();
+            if (window.count() > 0) {
+                graphLatencySummary = String.format(Locale.ROOT, "Grafo: p50 %.2f ms · p99 %.2f ms · máx %.2f ms · %.0f órdenes/s",
+                        window.percentile(50) / 1e6, window.percentile(99) / 1e6, window.max() / 1e6,
+                        window.count() * 1e9 / (now - graphLatencyWindowStart));
+            }
+            graphLatencyWindowStart = now;
+        }
+    }
+
+    private void requestRepaint() {
+        if (!graphBatchActive) {
+            repaintGraphChanges();
+        }
+    }
+
+    private void repaintGraphChanges() {
+        if (!graphEvents.isWriterThread()) {
+            repaint();
+            return;
+        }
+        if (damagePending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::repaintDamage);
+        }
+    }
+
+    private void repaintDamage() {
+        damagePending.set(false);
+        GraphData currentData = this.data;
+        GraphSnapshot view = currentData != null ? currentData.snapshot() : GraphSnapshot.EMPTY;
+        FontMetrics fm = getFontMetrics(getFont());
+        Rectangle damage = new Rectangle(0, 0, -1, -1);
+        view.changesSince(damagedSnapshot, n -> damage.add(nodeBounds(n, fm)), e -> damage.add(edgeBounds(e, fm)));
+        Rectangle overlay = overlayBounds(view, fm);
+        if (damagedOverlay != null) {
+            damage.add(damagedOverlay);
+        }
+        if (overlay != null) {
+            damage.add(overlay);
+        }
+        damagedSnapshot = view;
+        damagedOverlay = overlay;
+        Rectangle graphArea = new Rectangle(0, 0, getWidth(), Math.max(0, getHeight() - getReservedChartHeight()));
+        Rectangle dirty = damage.intersection(graphArea);
+        if (!dirty.isEmpty()) {
+            repaint(dirty);
+        }
+    }
+
+    private Rectangle nodeBounds(GraphSnapshot.Node n, FontMetrics fm) {
+        int width = n.size();
+        if (n.label() != null) {
+            width = Math.max(width, fm.stringWidth(n.label()));
+        }
+        Rectangle bounds = new Rectangle(n.x() - width / 2, n.y() - n.size() / 2, width, n.size());
+        bounds.grow(NODE_DAMAGE_PAD, NODE_DAMAGE_PAD);
+        return bounds;
+    }
+
+    private Rectangle edgeBounds(GraphSnapshot.Edge edge, FontMetrics fm) {
+        GraphSnapshot.Node from = edge.from();
+        GraphSnapshot.Node to = edge.to();
+        if (from == null || to == null) {
+            return new Rectangle(0, 0, -1, -1);
+        }
+        int fh = from.size() / 2;
+        int th = to.size() / 2;
+        Rectangle bounds = new Rectangle(from.x() - fh, from.y() - fh, from.size(), from.size());
+        bounds.add(new Rectangle(to.x() - th, to.y() - th, to.size(), to.size()));
+        bounds.grow(EDGE_DAMAGE_PAD, EDGE_DAMAGE_PAD);
+        if (edge.kind() != null) {
+            int mx = (from.x() + to.x()) / 2;
+            int my = (from.y() + to.y()) / 2;
+            bounds.add(new Rectangle(mx + 6, my - 6 - fm.getAscent(), fm.stringWidth(edge.kind()), fm.getAscent() + fm.getDescent()));
+        }
+        return bounds;
+    }
+
+    private Rectangle overlayBounds(GraphSnapshot view, FontMetrics fm) {
+        GraphSnapshot.Node hovered = view.nodeById(this.hoveredTarget);
+        if (hovered == null) {
+            return null;
+        }
+        Rectangle bounds = nodeBounds(hovered, fm);
+        GraphSnapshot.Node moving = view.nodeById(this.dragging);
+        if (moving != null && moving != hovered) {
+            bounds.add(edgeBounds(new GraphSnapshot.Edge(moving, hovered, null), fm));
+        }
+        return bounds;
+    }
+
+    public void clearGraph() {
         
-        clearGraphInternal();
-        SwingUtilities.invokeLater(this::repaint);
+        graphEvents.run(() -> {
+            clearGraphInternal();
+            requestRepaint();
+        });
     }
 
-    private synchronized void clearGraphInternal() {
+    private void clearGraphInternal() {
         
         if (data != null) {
-            if (data.nodes == null) {
-                data.nodes = new ArrayList<>();
-            } else {
-                data.nodes.clear();
-            }
-            if (data.connections == null) {
-                data.connections = new ArrayList<>();
-            } else {
-                data.connections.clear();
-            }
-            data.nextId = 1;
-            data.nextProceso = 1;
-            data.nextRecurso = 1;
-            nodeMenuTarget = null;
-            dragging = null;
-            hoveredTarget = null;
+            data.clear();
+            nodeMenuTarget = -1;
+            dragging = -1;
+            hoveredTarget = -1;
             resetReadersWritersSlots();
         } else {
             data = new GraphData();
@@ -297,9 +524,12 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         autoVaAssistants = 0;
         autoVaSlots = 0;
         autoVaTokens = 0;
+        autoVaShards = 1;
+        traceActorLabels.clear();
+        traceResourceLabels.clear();
     }
 
-    private synchronized void resetReadersWritersSlots() {
+    private void resetReadersWritersSlots() {
         readersWritersActorSlots.clear();
         readersAvailableSlots.clear();
         writersAvailableSlots.clear();
@@ -307,7 +537,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         nextWriterSlotIndex = 0;
     }
 
-    private synchronized int allocateReadersWritersSlot(String actorLabel) {
+    private int allocateReadersWritersSlot(String actorLabel) {
         if (actorLabel == null) {
             return 0;
         }
@@ -331,7 +561,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         return slot;
     }
 
-    private synchronized void releaseReadersWritersSlot(String actorLabel) {
+    private void releaseReadersWritersSlot(String actorLabel) {
         if (actorLabel == null) {
             return;
         }
@@ -378,7 +608,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         } else {
             component.setBounds(0, getHeight(), getWidth(), 0);
         }
-        updateScrollPreferredSize();
+        refreshChartWindow();
     }
 
     private int getReservedChartHeight() {
@@ -408,18 +638,30 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             remove(chartComponent);
             chartComponent = null;
         }
+        closeChartDataset();
         chartPanel = null;
-        chartScrollPane = null;
+        chartScrollBar = null;
+        scrollWindowPoints = CHART_SCROLL_WINDOW_POINTS;
+        scrollFollow = true;
         chartWrapper = null;
         chartTitleContainer = null;
         chartLegendContainer = null;
         chartTitleLabel = null;
         chartLegendLabel = null;
+        chartCaptionTitle = null;
         accordionDomainAxis = null;
         carouselDomainAxis = null;
+        scrollDomainAxis = null;
         chartRenderer = null;
     }
 
+    private void closeChartDataset() {
+        if (chartDataset != null) {
+            chartDataset.close();
+            chartDataset = null;
+        }
+    }
+
     public void showSampleChart(ChartKind kind) {
         if (kind == null) {
             hideChart();
@@ -431,9 +673,8 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             vaSeries.clear();
             vaXCursors.clear();
 
-            XYDataset dataset = buildDynamicDataset(kind);
-            chartDataset = (XYSeriesCollection) dataset;
-            JFreeChart chart = buildSampleChart(kind, dataset);
+            chartDataset = buildDynamicDataset(kind);
+            JFreeChart chart = buildSampleChart(kind, chartDataset);
 
             mountChart(chart, kind, true, kind.getDisplayName(), kind.getLineColor(), false);
             startChartTimer(kind);
@@ -448,15 +689,13 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         SwingUtilities.invokeLater(() -> {
             resetChartShell();
             chartDataMode = ChartDataMode.VIRTUAL_ASSISTANTS;
-            dynamicSeries = null;
             vaSeries.clear();
             vaXCursors.clear();
-            chartDataset = new XYSeriesCollection();
+            chartDataset = new HistoryXYDataset(CHART_HISTORY_RESIDENT_CHUNKS);
             chartXCursor = 0.0;
             vaTimelineCursor = 0.0;
             JFreeChart chart = buildVirtualAssistantsChart(kind, chartDataset);
             mountChart(chart, kind, true, "Comparativa multi-núcleo", Color.DARK_GRAY, true);
-            updateVirtualAssistantSeriesColors();
             applyAutoLayout();
         });
     }
@@ -475,19 +714,28 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             if (!keepPlotLegend && chart.getLegend() != null) {
                 chart.removeLegend();
             }
-            chartPanel.setBorder(BorderFactory.createEmptyBorder(0, 0, 18, 0));
-            chartScrollPane = new JScrollPane(chartPanel, ScrollPaneConstants.VERTICAL_SCROLLBAR_NEVER, ScrollPaneConstants.HORIZONTAL_SCROLLBAR_ALWAYS);
-            chartScrollPane.setBorder(BorderFactory.createEmptyBorder());
-            chartScrollPane.setOpaque(false);
-            chartScrollPane.getViewport().setOpaque(false);
-            chartScrollPane.getHorizontalScrollBar().setUnitIncrement(24);
+            chartPanel.setBorder(BorderFactory.createEmptyBorder());
+            chartPanel.addMouseWheelListener(e -> zoomScrollWindow(e.getWheelRotation()));
+            chartScrollBar = new JScrollBar(JScrollBar.HORIZONTAL);
+            chartScrollBar.setUnitIncrement(1);
+            chartScrollBar.addAdjustmentListener(e -> {
+                if (adjustingScrollBar) {
+                    return;
+                }
+                scrollFollow = chartScrollBar.getValue() + chartScrollBar.getVisibleAmount() >= chartScrollBar.getMaximum();
+                refreshChartWindow();
+            });
+            JPanel scrollBody = new JPanel(new BorderLayout());
+            scrollBody.setOpaque(false);
+            scrollBody.add(chartPanel, BorderLayout.CENTER);
+            scrollBody.add(chartScrollBar, BorderLayout.SOUTH);
 
             chartWrapper = new JPanel(new BorderLayout());
             chartWrapper.setOpaque(false);
             chartTitleLabel = createTitleLabel(kind.getDisplayName());
             chartTitleContainer = wrapLabel(chartTitleLabel, 8, 0, 4, 0);
             chartWrapper.add(chartTitleContainer, BorderLayout.NORTH);
-            chartWrapper.add(chartScrollPane, BorderLayout.CENTER);
+            chartWrapper.add(scrollBody, BorderLayout.CENTER);
             if (footerLegend) {
                 chartLegendLabel = createLegendLabel(legendText, legendColor);
                 chartLegendContainer = wrapLabel(chartLegendLabel, 8, 0, 10, 0);
@@ -524,9 +772,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         add(chartComponent);
         currentChartKind = kind;
         chartComponent.setVisible(true);
-        updateAccordionAxisBounds();
-        updateCarouselAxisBounds();
-        updateScrollPreferredSize();
+        refreshChartWindow();
         revalidate();
         repaint();
     }
@@ -541,8 +787,9 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             currentChartKind = null;
             accordionDomainAxis = null;
             carouselDomainAxis = null;
+            scrollDomainAxis = null;
             chartDataMode = ChartDataMode.NONE;
-            chartDataset = null;
+            closeChartDataset();
             vaSeries.clear();
             vaXCursors.clear();
             revalidate();
@@ -570,30 +817,25 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             renderer.setDefaultShapesVisible(false);
             chartRenderer = renderer;
         }
-        if (kind == ChartKind.ACORDEON) {
-            accordionDomainAxis = plot.getDomainAxis();
-            accordionDomainAxis.setAutoRange(false);
-            accordionDomainAxis.setLowerMargin(0.02);
-            accordionDomainAxis.setUpperMargin(0.02);
-            carouselDomainAxis = null;
-        } else if (kind == ChartKind.CARROUSEL) {
-            carouselDomainAxis = plot.getDomainAxis();
-            carouselDomainAxis.setAutoRange(false);
-            carouselDomainAxis.setLowerMargin(0.02);
-            carouselDomainAxis.setUpperMargin(0.02);
-            accordionDomainAxis = null;
-        } else {
-            accordionDomainAxis = null;
-            carouselDomainAxis = null;
-        }
+        bindDomainAxis(kind, plot);
         return chart;
     }
 
+    private void bindDomainAxis(ChartKind kind, XYPlot plot) {
+        ValueAxis axis = plot.getDomainAxis();
+        axis.setAutoRange(false);
+        axis.setLowerMargin(0.02);
+        axis.setUpperMargin(0.02);
+        accordionDomainAxis = kind == ChartKind.ACORDEON ? axis : null;
+        carouselDomainAxis = kind == ChartKind.CARROUSEL ? axis : null;
+        scrollDomainAxis = kind == ChartKind.SCROLL ? axis : null;
+    }
+
     private JFreeChart buildVirtualAssistantsChart(ChartKind kind, XYDataset dataset) {
         JFreeChart chart = ChartFactory.createXYLineChart(
-                "Rendimiento por método",
+                "Rendimiento por método · " + vaChartMetric.getDisplayName(),
                 "Tiempo",
-                "Consultas procesadas",
+                vaChartMetric.getAxisLabel(),
                 dataset
         );
         chart.setBackgroundPaint(Color.WHITE);
@@ -605,30 +847,16 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         if (plot.getRenderer() instanceof XYLineAndShapeRenderer renderer) {
             renderer.setDefaultShapesVisible(false);
             renderer.setAutoPopulateSeriesStroke(false);
-            renderer.setDefaultStroke(new BasicStroke(2.2f));
+            renderer.setDefaultStroke(VA_SERIES_STROKE);
             chartRenderer = renderer;
         }
-        if (kind == ChartKind.ACORDEON) {
-            accordionDomainAxis = plot.getDomainAxis();
-            accordionDomainAxis.setAutoRange(false);
-            accordionDomainAxis.setLowerMargin(0.02);
-            accordionDomainAxis.setUpperMargin(0.02);
-            carouselDomainAxis = null;
-        } else if (kind == ChartKind.CARROUSEL) {
-            carouselDomainAxis = plot.getDomainAxis();
-            carouselDomainAxis.setAutoRange(false);
-            carouselDomainAxis.setLowerMargin(0.02);
-            carouselDomainAxis.setUpperMargin(0.02);
-            accordionDomainAxis = null;
-        } else {
-            accordionDomainAxis = null;
-            carouselDomainAxis = null;
-        }
+        bindDomainAxis(kind, plot);
         return chart;
     }
 
-    private XYDataset buildDynamicDataset(ChartKind kind) {
-        dynamicSeries = new XYSeries(kind.getDisplayName());
+    private HistoryXYDataset buildDynamicDataset(ChartKind kind) {
+        HistoryXYDataset dataset = new HistoryXYDataset(CHART_HISTORY_RESIDENT_CHUNKS);
+        int series = dataset.addSeries(kind.getDisplayName());
         chartXCursor = 0.0;
         int warmupPoints = switch (kind) {
             case ACORDEON -> CHART_ACORDEON_WARMUP;
@@ -638,36 +866,23 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         for (int i = 0; i < warmupPoints; i++) {
             double x = i * CHART_STEP;
             double value = computeChartValue(kind, x);
-            dynamicSeries.add(x, value);
+            dataset.append(series, x, value);
             chartXCursor = x;
         }
-        XYSeriesCollection collection = new XYSeriesCollection();
-        collection.addSeries(dynamicSeries);
-        return collection;
+        return dataset;
     }
 
     private void startChartTimer(ChartKind kind) {
-        if (dynamicSeries == null) {
+        HistoryXYDataset dataset = chartDataset;
+        if (dataset == null) {
             return;
         }
         stopChartTimer();
         chartTimer = new Timer(420, e -> {
             chartXCursor += CHART_STEP;
             double value = computeChartValue(kind, chartXCursor);
-            dynamicSeries.add(chartXCursor, value);
-
-            if (kind == ChartKind.SCROLL) {
-                while (dynamicSeries.getItemCount() > CHART_SCROLL_MAX_POINTS) {
-                    dynamicSeries.remove(0);
-                }
-                updateScrollPreferredSize();
-            } else if (kind == ChartKind.CARROUSEL) {
-                while (dynamicSeries.getItemCount() > CHART_CARROUSEL_HISTORY_POINTS) {
-                    dynamicSeries.remove(0);
-                }
-            }
-            updateAccordionAxisBounds();
-            updateCarouselAxisBounds();
+            dataset.append(0, chartXCursor, value);
+            refreshChartWindow();
         });
         chartTimer.start();
     }
@@ -690,11 +905,63 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         return Math.max(0.1, value);
     }
 
+    public void setVirtualAssistantsChartCaption(String caption) {
+        SwingUtilities.invokeLater(() -> {
+            if (chartDataMode != ChartDataMode.VIRTUAL_ASSISTANTS || caption == null) {
+                return;
+            }
+            if (chartLegendLabel != null) {
+                chartLegendLabel.setText(caption);
+            } else if (chartPanel != null && chartPanel.getChart() != null) {
+                if (chartCaptionTitle == null) {
+                    chartCaptionTitle = new TextTitle(caption, new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+                    chartCaptionTitle.setPaint(Color.DARK_GRAY);
+                    chartPanel.getChart().addSubtitle(chartCaptionTitle);
+                } else {
+                    chartCaptionTitle.setText(caption);
+                }
+            }
+        });
+    }
+
+    public ChartMetric getVirtualAssistantChartMetric() {
+        return vaChartMetric;
+    }
+
+    public void setVirtualAssistantChartMetric(ChartMetric metric) {
+        if (metric == null) {
+            return;
+        }
+        vaChartMetric = metric;
+        SwingUtilities.invokeLater(() -> {
+            synchronized (this) {
+                if (chartDataMode == ChartDataMode.VIRTUAL_ASSISTANTS && chartDataset != null) {
+                    chartDataset.clearAll();
+                    refreshChartWindow();
+                }
+            }
+            if (chartDataMode == ChartDataMode.VIRTUAL_ASSISTANTS && chartPanel != null && chartPanel.getChart() != null) {
+                JFreeChart chart = chartPanel.getChart();
+                if (chart.getTitle() != null) {
+                    chart.setTitle("Rendimiento por método · " + metric.getDisplayName());
+                }
+                chart.getXYPlot().getRangeAxis().setLabel(metric.getAxisLabel());
+            }
+        });
+    }
+
     public synchronized double advanceVirtualAssistantTimeline() {
         vaTimelineCursor += CHART_STEP;
         return vaTimelineCursor;
     }
 
+    public synchronized void commitVirtualAssistantSamples() {
+        if (chartDataMode != ChartDataMode.VIRTUAL_ASSISTANTS || chartDataset == null) {
+            return;
+        }
+        refreshChartWindow();
+    }
+
     public synchronized void resetVirtualAssistantTimeline() {
         vaTimelineCursor = 0.0;
     }
@@ -703,51 +970,20 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         if (chartDataMode != ChartDataMode.VIRTUAL_ASSISTANTS || chartDataset == null || method == null || method == SyncMethod.NONE) {
             return;
         }
-        XYSeries series = vaSeries.computeIfAbsent(method, this::createVirtualAssistantSeries);
-        double currentX = timePoint;
-        series.add(currentX, value);
-        vaXCursors.put(method, currentX);
-        trimVirtualAssistantSeries(series);
-        updateVirtualAssistantSeriesColors();
-        updateAccordionAxisBounds();
-        updateCarouselAxisBounds();
-        updateScrollPreferredSize();
+        int series = vaSeries.computeIfAbsent(method, this::createVirtualAssistantSeries);
+        chartDataset.append(series, timePoint, value);
+        vaXCursors.put(method, timePoint);
     }
 
-    private XYSeries createVirtualAssistantSeries(SyncMethod method) {
-        XYSeries s = new XYSeries(methodDisplayName(method));
-        chartDataset.addSeries(s);
+    private int createVirtualAssistantSeries(SyncMethod method) {
+        int index = chartDataset.addSeries(methodDisplayName(method));
         vaXCursors.put(method, vaTimelineCursor);
-        return s;
-    }
-
-    private void trimVirtualAssistantSeries(XYSeries series) {
-        if (currentChartKind == ChartKind.SCROLL) {
-            while (series.getItemCount() > CHART_SCROLL_MAX_POINTS) {
-                series.remove(0);
-            }
-        } else if (currentChartKind == ChartKind.CARROUSEL) {
-            while (series.getItemCount() > CHART_CARROUSEL_HISTORY_POINTS) {
-                series.remove(0);
-            }
-        }
-    }
-
-    private void updateVirtualAssistantSeriesColors() {
-        if (chartRenderer == null || chartDataset == null) {
-            return;
-        }
-        for (Map.Entry<SyncMethod, XYSeries> entry : vaSeries.entrySet()) {
-            SyncMethod method = entry.getKey();
-            XYSeries series = entry.getValue();
-            int index = chartDataset.indexOf(series.getKey());
-            if (index >= 0) {
-                Color color = VA_METHOD_COLORS.getOrDefault(method, Color.DARK_GRAY);
-                chartRenderer.setSeriesPaint(index, color);
-                chartRenderer.setSeriesStroke(index, new BasicStroke(2.2f));
-                chartRenderer.setSeriesShapesVisible(index, false);
-            }
+        if (chartRenderer != null) {
+            chartRenderer.setSeriesPaint(index, VA_METHOD_COLORS.getOrDefault(method, Color.DARK_GRAY));
+            chartRenderer.setSeriesStroke(index, VA_SERIES_STROKE);
+            chartRenderer.setSeriesShapesVisible(index, false);
         }
+        return index;
     }
 
     private String methodDisplayName(SyncMethod method) {
@@ -757,6 +993,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             case VAR_COND -> "Variable condición";
             case MONITORS -> "Monitores";
             case BARRIERS -> "Barreras";
+            case LOCK_FREE -> "Sin bloqueo";
             default -> method.name();
         };
     }
@@ -821,110 +1058,81 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         }
     }
 
-    private double getDatasetMinX() {
-        if (chartDataset == null || chartDataset.getSeriesCount() == 0) {
-            return 0.0;
+    private void refreshChartWindow() {
+        HistoryXYDataset dataset = chartDataset;
+        if (dataset == null || currentChartKind == null) {
+            return;
         }
-        double min = Double.POSITIVE_INFINITY;
-        for (int i = 0; i < chartDataset.getSeriesCount(); i++) {
-            XYSeries s = chartDataset.getSeries(i);
-            if (s.getItemCount() == 0) {
-                continue;
+        double min = dataset.getMinX();
+        double max = dataset.getMaxX();
+        double lower;
+        double upper;
+        ValueAxis axis;
+        switch (currentChartKind) {
+            case ACORDEON -> {
+                lower = min;
+                upper = Math.max(max, CHART_STEP);
+                if (upper <= lower) {
+                    upper = lower + 1.0;
+                }
+                axis = accordionDomainAxis;
             }
-            min = Math.min(min, s.getMinX());
-        }
-        return min == Double.POSITIVE_INFINITY ? 0.0 : min;
-    }
-
-    private double getDatasetMaxX() {
-        if (chartDataset == null || chartDataset.getSeriesCount() == 0) {
-            return chartXCursor;
-        }
-        double max = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < chartDataset.getSeriesCount(); i++) {
-            XYSeries s = chartDataset.getSeries(i);
-            if (s.getItemCount() == 0) {
-                continue;
+            case CARROUSEL -> {
+                upper = Math.max(Math.max(chartXCursor, CHART_CARROUSEL_WINDOW_WIDTH), max);
+                lower = Math.max(0.0, upper - CHART_CARROUSEL_WINDOW_WIDTH);
+                upper += CHART_STEP;
+                axis = carouselDomainAxis;
+            }
+            default -> {
+                int total = (int) Math.min(Integer.MAX_VALUE - 1L, Math.round((max - min) / CHART_STEP) + 1);
+                int extent = Math.min(scrollWindowPoints, Math.max(1, total));
+                int value = scrollFollow || chartScrollBar == null
+                        ? total - extent
+                        : Math.min(chartScrollBar.getValue(), total - extent);
+                if (chartScrollBar != null) {
+                    adjustingScrollBar = true;
+                    chartScrollBar.setValues(value, extent, 0, Math.max(total, extent));
+                    chartScrollBar.setBlockIncrement(Math.max(1, extent / 2));
+                    adjustingScrollBar = false;
+                }
+                lower = min + value * CHART_STEP;
+                upper = lower + Math.max(1, extent - 1) * CHART_STEP;
+                axis = scrollDomainAxis;
             }
-            max = Math.max(max, s.getMaxX());
-        }
-        return max == Double.NEGATIVE_INFINITY ? 0.0 : max;
-    }
-
-    private int getMaxSeriesPointCount() {
-        if (chartDataset == null) {
-            return dynamicSeries != null ? dynamicSeries.getItemCount() : 0;
-        }
-        int max = 0;
-        for (int i = 0; i < chartDataset.getSeriesCount(); i++) {
-            XYSeries s = chartDataset.getSeries(i);
-            max = Math.max(max, s.getItemCount());
-        }
-        return max;
-    }
-
-    private void updateAccordionAxisBounds() {
-        if (currentChartKind != ChartKind.ACORDEON || accordionDomainAxis == null) {
-            return;
-        }
-        double min = getDatasetMinX();
-        double max = Math.max(getDatasetMaxX(), CHART_STEP);
-        if (max <= min) {
-            max = min + 1.0;
         }
-        accordionDomainAxis.setLowerBound(min);
-        accordionDomainAxis.setUpperBound(max);
-    }
-
-    private void updateCarouselAxisBounds() {
-        if (currentChartKind != ChartKind.CARROUSEL || carouselDomainAxis == null) {
-            return;
+        if (axis != null) {
+            axis.setRange(lower, upper);
         }
-        double max = Math.max(chartXCursor, CHART_CARROUSEL_WINDOW_WIDTH);
-        double datasetMax = getDatasetMaxX();
-        max = Math.max(max, datasetMax);
-        double min = Math.max(0.0, max - CHART_CARROUSEL_WINDOW_WIDTH);
-        carouselDomainAxis.setLowerBound(min);
-        carouselDomainAxis.setUpperBound(max + CHART_STEP);
+        int columns = chartPanel != null && chartPanel.getWidth() > 0 ? chartPanel.getWidth() : Math.max(getWidth(), 600);
+        dataset.setWindow(lower, upper, columns);
+        dataset.refresh();
     }
 
-    private void updateScrollPreferredSize() {
-        if (currentChartKind != ChartKind.SCROLL || chartPanel == null) {
+    private void zoomScrollWindow(int rotation) {
+        if (currentChartKind != ChartKind.SCROLL || chartDataset == null || rotation == 0) {
             return;
         }
-        int viewportHeight = (int) Math.round(getHeight() * CHART_HEIGHT_RATIO);
-        int height = Math.max(MIN_CHART_HEIGHT, viewportHeight > 0 ? viewportHeight : MIN_CHART_HEIGHT);
-        int pointCount = getMaxSeriesPointCount();
-        int widthPerPoint = 14;
-        int minWidth = Math.max(getWidth(), 600);
-        int width = Math.max(minWidth, pointCount * widthPerPoint + 160);
-    int reservedTop = (chartTitleContainer != null) ? chartTitleContainer.getPreferredSize().height : 0;
-    int reservedBottom = (chartLegendContainer != null) ? chartLegendContainer.getPreferredSize().height : 0;
-        int availableHeight = Math.max(MIN_CHART_HEIGHT - 12, height - reservedTop - reservedBottom);
-        chartPanel.setPreferredSize(new Dimension(width, availableHeight));
-        chartPanel.revalidate();
-        if (chartScrollPane != null) {
-            chartScrollPane.revalidate();
-        }
+        long total = Math.round((chartDataset.getMaxX() - chartDataset.getMinX()) / CHART_STEP) + 1;
+        long zoomed = rotation > 0 ? (long) scrollWindowPoints * 2 : scrollWindowPoints / 2;
+        scrollWindowPoints = (int) Math.max(CHART_SCROLL_MIN_WINDOW_POINTS, Math.min(Math.max(total, CHART_SCROLL_MIN_WINDOW_POINTS), zoomed));
+        refreshChartWindow();
     }
 
-    private synchronized Optional<Integer> findNodeIdByLabel(String label) {
+    private Optional<Integer> findNodeIdByLabel(String label) {
         
-        if (data == null || data.nodes == null || label == null) {
+        if (data == null || label == null) {
             return Optional.empty();
         }
-        return data.nodes.stream().filter(n -> n != null && label.equals(n.label)).map(n -> n.id).findFirst();
+        ShapeNode node = data.nodeByLabel(label);
+        return node == null ? Optional.empty() : Optional.of(node.id);
     }
 
-    private synchronized void addNodeIfNotExists(String label, NodeType type, int x, int y) {
+    private void addNodeIfNotExists(String label, NodeType type, int x, int y) {
         
         if (label == null || data == null) {
             return;
         }
-        if (data.nodes == null) {
-            data.nodes = new ArrayList<>();
-        }
-        if (findNodeIdByLabel(label).isEmpty()) {
+        if (data.nodeByLabel(label) == null) {
             ShapeNode n = new ShapeNode();
             n.id = data.nextId++;
             n.type = type;
@@ -932,81 +1140,71 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             n.x = x;
             n.y = y;
             n.label = label;
-            data.nodes.add(n);
+            data.addNode(n);
         }
     }
 
-    private synchronized void moveNodeTo(String label, int x, int y) {
-        if (label == null || data == null || data.nodes == null) {
+    private void moveNodeTo(String label, int x, int y) {
+        if (label == null || data == null) {
             return;
         }
-        for (ShapeNode node : data.nodes) {
-            if (node != null && label.equals(node.label)) {
-                node.x = x;
-                node.y = y;
-                return;
-            }
-        }
+        data.moveNode(data.nodeByLabel(label), x, y);
     }
 
-    private synchronized void removeConnectionsInvolving(String nodeLabel) {
+    private void removeConnectionsInvolving(String nodeLabel) {
         
-        if (nodeLabel == null || data == null || data.connections == null) {
+        if (nodeLabel == null || data == null) {
             return;
         }
-        findNodeIdByLabel(nodeLabel).ifPresent(nodeId -> {
-            data.connections.removeIf(c -> c != null && (c.fromId == nodeId || c.toId == nodeId));
-        });
+        findNodeIdByLabel(nodeLabel).ifPresent(data::removeConnectionsOf);
     }
 
-    private synchronized void removeConnection(String fromLabel, String toLabel) {
+    private void removeConnection(String fromLabel, String toLabel) {
         
-        if (fromLabel == null || toLabel == null || data == null || data.connections == null) {
+        if (fromLabel == null || toLabel == null || data == null) {
             return;
         }
         Optional<Integer> fromIdOpt = findNodeIdByLabel(fromLabel);
         Optional<Integer> toIdOpt = findNodeIdByLabel(toLabel);
         if (fromIdOpt.isPresent() && toIdOpt.isPresent()) {
-            int fromId = fromIdOpt.get();
-            int toId = toIdOpt.get();
-            data.connections.removeIf(c -> c != null && c.fromId == fromId && c.toId == toId);
+            data.removeConnection(fromIdOpt.get(), toIdOpt.get());
         }
     }
 
-    private synchronized void removeBidirectional(String labelA, String labelB) {
+    private void removeBidirectional(String labelA, String labelB) {
         removeConnection(labelA, labelB);
         removeConnection(labelB, labelA);
     }
 
-    private synchronized void clearProducerConditionLinks() {
+    private void clearProducerConditionLinks() {
         removeBidirectional("P1", "R_Lock");
         removeBidirectional("P1", "R_Buffer");
         removeBidirectional("P1", "Cond_NotFull");
         removeBidirectional("P1", "Cond_NotEmpty");
     }
 
-    private synchronized void clearConsumerConditionLinks() {
+    private void clearConsumerConditionLinks() {
         removeBidirectional("C1", "R_Lock");
         removeBidirectional("C1", "R_Buffer");
         removeBidirectional("C1", "Cond_NotFull");
         removeBidirectional("C1", "Cond_NotEmpty");
     }
 
-    private synchronized void clearProducerMonitorLinks() {
+    private void clearProducerMonitorLinks() {
         removeBidirectional("P1", "R_Monitor");
         removeBidirectional("P1", "R_Buffer");
         removeBidirectional("P1", "Cond_NotFull_M");
         removeBidirectional("P1", "Cond_NotEmpty_M");
     }
 
-    private synchronized void clearConsumerMonitorLinks() {
+    private void clearConsumerMonitorLinks() {
         removeBidirectional("C1", "R_Monitor");
         removeBidirectional("C1", "R_Buffer");
         removeBidirectional("C1", "Cond_NotFull_M");
         removeBidirectional("C1", "Cond_NotEmpty_M");
     }
 
-    private synchronized void clearBarrierLinks() {
+    private void clearBarrierLinks() {
         removeBidirectional("P1", "R_Barrier");
         removeBidirectional("C1", "R_Barrier");
         removeBidirectional("P1", "R_Buffer");
@@ -1015,7 +1213,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeBidirectional("C1", "R_Token");
     }
 
-    private synchronized void clearPhilosopherMutexLinks(String philosopherLabel) {
+    private void clearPhilosopherMutexLinks(String philosopherLabel) {
         if (philosopherLabel == null) {
             return;
         }
@@ -1023,7 +1221,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Mutex", philosopherLabel);
     }
 
-    private synchronized void clearWaiterLink(String philosopherLabel) {
+    private void clearWaiterLink(String philosopherLabel) {
         if (philosopherLabel == null) {
             return;
         }
@@ -1031,7 +1229,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Waiter", philosopherLabel);
     }
 
-    private synchronized void clearForkLink(String philosopherLabel, String forkLabel) {
+    private void clearForkLink(String philosopherLabel, String forkLabel) {
         if (philosopherLabel == null || forkLabel == null) {
             return;
         }
@@ -1039,7 +1237,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection(forkLabel, philosopherLabel);
     }
 
-    private synchronized void clearConditionLockLink(String philosopherLabel) {
+    private void clearConditionLockLink(String philosopherLabel) {
         if (philosopherLabel == null) {
             return;
         }
@@ -1047,7 +1245,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Lock_Ph", philosopherLabel);
     }
 
-    private synchronized void clearConditionWaitLink(String philosopherLabel) {
+    private void clearConditionWaitLink(String philosopherLabel) {
         if (philosopherLabel == null) {
             return;
         }
@@ -1056,7 +1254,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection(condLabel, philosopherLabel);
     }
 
-    private synchronized void clearMonitorLockLink(String philosopherLabel) {
+    private void clearMonitorLockLink(String philosopherLabel) {
         if (philosopherLabel == null) {
             return;
         }
@@ -1064,7 +1262,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Monitor_Ph", philosopherLabel);
     }
 
-    private synchronized void clearMonitorWaitLink(String philosopherLabel) {
+    private void clearMonitorWaitLink(String philosopherLabel) {
         if (philosopherLabel == null) {
             return;
         }
@@ -1073,7 +1271,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection(condLabel, philosopherLabel);
     }
 
-    private synchronized void clearBarrierPhilosopherLinks(String philosopherLabel) {
+    private void clearBarrierPhilosopherLinks(String philosopherLabel) {
         if (philosopherLabel == null) {
             return;
         }
@@ -1083,7 +1281,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Token_Ph", philosopherLabel);
     }
 
-    private synchronized void clearSleepingBarberProcessLinks(String processLabel) {
+    private void clearSleepingBarberProcessLinks(String processLabel) {
         if (processLabel == null) {
             return;
         }
@@ -1091,7 +1289,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Mutex_Barber", processLabel);
     }
 
-    private synchronized void clearSleepingBarberSemaphoreLinks(String processLabel) {
+    private void clearSleepingBarberSemaphoreLinks(String processLabel) {
         if (processLabel == null) {
             return;
         }
@@ -1105,7 +1303,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_WaitRoom", processLabel);
     }
 
-    private synchronized void clearSleepingBarberConditionLinks(String processLabel) {
+    private void clearSleepingBarberConditionLinks(String processLabel) {
         if (processLabel == null) {
             return;
         }
@@ -1117,7 +1315,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_WaitRoom", processLabel);
     }
 
-    private synchronized void clearSmokersMutexLinks(String processLabel) {
+    private void clearSmokersMutexLinks(String processLabel) {
         if (processLabel == null) {
             return;
         }
@@ -1127,7 +1325,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Table_Smokers", processLabel);
     }
 
-    private synchronized void clearSmokersSemaphoreAgentLinks() {
+    private void clearSmokersSemaphoreAgentLinks() {
         removeConnection("Agent", "S_Agent_Smokers");
         removeConnection("S_Agent_Smokers", "Agent");
         removeConnection("Agent", "R_Table_Smokers");
@@ -1137,7 +1335,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("Agent", "S_Smoker_Cerillos");
     }
 
-    private synchronized void clearSmokersSemaphoreSmokerLinks(String smokerLabel, String semaphoreLabel) {
+    private void clearSmokersSemaphoreSmokerLinks(String smokerLabel, String semaphoreLabel) {
         if (smokerLabel == null || semaphoreLabel == null) {
             return;
         }
@@ -1147,7 +1345,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Table_Smokers", smokerLabel);
     }
 
-    private synchronized void clearSmokersConditionAgentLinks() {
+    private void clearSmokersConditionAgentLinks() {
         removeConnection("Agent", "R_Lock_Smokers");
         removeConnection("R_Lock_Smokers", "Agent");
         removeConnection("Agent", "Cond_Smokers");
@@ -1156,7 +1354,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Table_Smokers", "Agent");
     }
 
-    private synchronized void clearSmokersConditionSmokerLinks(String smokerLabel) {
+    private void clearSmokersConditionSmokerLinks(String smokerLabel) {
         if (smokerLabel == null) {
             return;
         }
@@ -1168,7 +1366,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Table_Smokers", smokerLabel);
     }
 
-    private synchronized void clearSmokersMonitorAgentLinks() {
+    private void clearSmokersMonitorAgentLinks() {
         removeConnection("Agent", "R_Monitor_Smokers");
         removeConnection("R_Monitor_Smokers", "Agent");
         removeConnection("Agent", "Cond_Smokers_M");
@@ -1177,7 +1375,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Table_Smokers", "Agent");
     }
 
-    private synchronized void clearSmokersMonitorSmokerLinks(String smokerLabel) {
+    private void clearSmokersMonitorSmokerLinks(String smokerLabel) {
         if (smokerLabel == null) {
             return;
         }
@@ -1189,14 +1387,14 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Table_Smokers", smokerLabel);
     }
 
-    private synchronized void clearSmokersBarrierAgentLinks() {
+    private void clearSmokersBarrierAgentLinks() {
         removeConnection("Agent", "R_Table_Smokers");
         removeConnection("R_Table_Smokers", "Agent");
         removeConnection("Agent", "R_Barrier_Smokers");
         removeConnection("R_Barrier_Smokers", "Agent");
     }
 
-    private synchronized void clearSmokersBarrierSmokerLinks(String smokerLabel) {
+    private void clearSmokersBarrierSmokerLinks(String smokerLabel) {
         if (smokerLabel == null) {
             return;
         }
@@ -1206,7 +1404,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_Barrier_Smokers", smokerLabel);
     }
 
-    private synchronized void clearReadersWritersActorLinks(String actorLabel) {
+    private void clearReadersWritersActorLinks(String actorLabel) {
         if (actorLabel == null) {
             return;
         }
@@ -1236,7 +1434,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             removeConnection("R_Barrier_RW", actorLabel);
     }
 
-    private synchronized void ensureReadersWritersActorNode(String actorLabel) {
+    private void ensureReadersWritersActorNode(String actorLabel) {
         if (actorLabel == null) {
             return;
         }
@@ -1250,16 +1448,18 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists(actorLabel, NodeType.PROCESO, position.x, position.y);
     }
 
-    private synchronized void removeReadersWritersActorNode(String actorLabel) {
-        if (actorLabel == null || data == null || data.nodes == null) {
+    private void removeReadersWritersActorNode(String actorLabel) {
+        if (actorLabel == null || data == null) {
             return;
         }
         releaseReadersWritersSlot(actorLabel);
-        removeConnectionsInvolving(actorLabel);
-        data.nodes.removeIf(n -> n != null && actorLabel.equals(n.label));
+        ShapeNode node;
+        while ((node = data.nodeByLabel(actorLabel)) != null) {
+            data.removeNode(node);
+        }
     }
 
-    private synchronized void clearSleepingBarberBarrierLinks(String processLabel) {
+    private void clearSleepingBarberBarrierLinks(String processLabel) {
         if (processLabel == null) {
             return;
         }
@@ -1271,34 +1471,29 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_WaitRoom", processLabel);
     }
 
-    private synchronized void addConnectionIfNotExists(String fromLabel, String toLabel, String kind) {
+    private void addConnectionIfNotExists(String fromLabel, String toLabel, String kind) {
         
         if (fromLabel == null || toLabel == null || kind == null || data == null) {
             return;
         }
-        if (data.connections == null) {
-            data.connections = new ArrayList<>();
-        }
         Optional<Integer> fromIdOpt = findNodeIdByLabel(fromLabel);
         Optional<Integer> toIdOpt = findNodeIdByLabel(toLabel);
         if (fromIdOpt.isPresent() && toIdOpt.isPresent()) {
-            int fromId = fromIdOpt.get();
-            int toId = toIdOpt.get();
-            data.connections.removeIf(c -> c != null && ((c.fromId == fromId && c.toId == toId) || (c.fromId == toId && c.toId == fromId)));
-            Connection c = new Connection();
-            c.fromId = fromId;
-            c.toId = toId;
-            c.kind = kind;
-            data.connections.add(c);
+            data.connect(fromIdOpt.get(), toIdOpt.get(), kind);
         }
     }
 
-    public synchronized void setupVirtualAssistantsGraph(int assistantCount, int slots, int tokens) {
+    public void setupVirtualAssistantsGraph(int assistantCount, int slots, int tokens) {
+        setupVirtualAssistantsGraph(assistantCount, slots, tokens, 1);
+    }
+
+    public void setupVirtualAssistantsGraph(int assistantCount, int slots, int tokens, int shards) {
         clearGraphInternal();
         autoLayoutHint = GraphAutoLayoutHint.VIRTUAL_ASSISTANTS;
         autoVaAssistants = Math.max(1, assistantCount);
         autoVaSlots = Math.max(1, slots);
         autoVaTokens = Math.max(1, tokens);
+        autoVaShards = Math.max(1, shards);
 
         for (int i = 0; i < autoVaAssistants; i++) {
             addNodeIfNotExists("AV" + (i + 1), NodeType.PROCESO, 0, 0);
@@ -1306,89 +1501,160 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("Q_Alta", NodeType.RECURSO, 0, 0);
         addNodeIfNotExists("Q_Baja", NodeType.RECURSO, 0, 0);
         addNodeIfNotExists("R_Tokens", NodeType.RECURSO, 0, 0);
-        addNodeIfNotExists("R_Server", NodeType.RECURSO, 0, 0);
+        for (int i = 0; i < autoVaShards; i++) {
+            addNodeIfNotExists(virtualAssistantServerLabel(i), NodeType.RECURSO, 0, 0);
+        }
         addNodeIfNotExists("R_Slots", NodeType.RECURSO, 0, 0);
 
         layoutVirtualAssistantsGraph();
     }
 
     private void applyAutoLayout() {
+        if (!graphEvents.isWriterThread()) {
+            graphEvents.post(this::applyAutoLayout);
+            return;
+        }
         if (autoLayoutHint == GraphAutoLayoutHint.VIRTUAL_ASSISTANTS) {
             layoutVirtualAssistantsGraph();
+        } else if (autoLayoutHint == GraphAutoLayoutHint.TRACE) {
+            layoutTraceGraph();
         }
     }
 
     private void layoutVirtualAssistantsGraph() {
-        synchronized (this) {
-            if (autoLayoutHint != GraphAutoLayoutHint.VIRTUAL_ASSISTANTS || data == null || data.nodes == null) {
-                return;
-            }
-            Rectangle bounds = getGraphDrawingBounds();
-            int width = Math.max(200, bounds.width);
-            int height = Math.max(150, bounds.height);
-            int topMargin = bounds.y + 50;
-            int bottomMargin = bounds.y + height - 50;
-            if (bottomMargin <= topMargin) {
-                bottomMargin = topMargin + 100;
-            }
-            int assistantCount = Math.max(1, autoVaAssistants);
-            int usableHeight = bottomMargin - topMargin;
-            int spacing = assistantCount == 1 ? 0 : Math.max(46, usableHeight / (assistantCount - 1));
-            int assistantX = bounds.x + (int) (width * 0.43);
-            int queueX = bounds.x + (int) (width * 0.18);
-            int tokenX = bounds.x + (int) (width * 0.60);
-            int serverX = bounds.x + (int) (width * 0.75);
-            int slotsX = bounds.x + (int) (width * 0.88);
-            int queueHighY = Math.max(bounds.y + 60, topMargin - 40);
-            int queueLowY = Math.min(bounds.y + height - 60, bottomMargin + 20);
-            int tokenY = Math.max(bounds.y + 60, topMargin - 80);
-            int serverY = bounds.y + height / 2;
-            int slotsY = Math.min(bounds.y + height - 40, serverY + 50);
-
-            for (int i = 0; i < assistantCount; i++) {
-                int offset = (assistantCount == 1) ? usableHeight / 2 : i * spacing;
-                int y = topMargin + offset;
-                moveNodeTo("AV" + (i + 1), assistantX, y);
-            }
-            moveNodeTo("Q_Alta", queueX, queueHighY);
-            moveNodeTo("Q_Baja", queueX, queueLowY);
-            moveNodeTo("R_Tokens", tokenX, tokenY);
-            moveNodeTo("R_Server", serverX, serverY);
-            moveNodeTo("R_Slots", slotsX, slotsY);
+        if (autoLayoutHint != GraphAutoLayoutHint.VIRTUAL_ASSISTANTS || data == null || data.nodes == null) {
+            return;
+        }
+        Rectangle bounds = getGraphDrawingBounds();
+        int width = Math.max(200, bounds.width);
+        int height = Math.max(150, bounds.height);
+        int topMargin = bounds.y + 50;
+        int bottomMargin = bounds.y + height - 50;
+        if (bottomMargin <= topMargin) {
+            bottomMargin = topMargin + 100;
+        }
+        int assistantCount = Math.max(1, autoVaAssistants);
+        int usableHeight = bottomMargin - topMargin;
+        int spacing = assistantCount == 1 ? 0 : Math.max(46, usableHeight / (assistantCount - 1));
+        int assistantX = bounds.x + (int) (width * 0.43);
+        int queueX = bounds.x + (int) (width * 0.18);
+        int tokenX = bounds.x + (int) (width * 0.60);
+        int serverX = bounds.x + (int) (width * 0.75);
+        int slotsX = bounds.x + (int) (width * 0.88);
+        int queueHighY = Math.max(bounds.y + 60, topMargin - 40);
+        int queueLowY = Math.min(bounds.y + height - 60, bottomMargin + 20);
+        int tokenY = Math.max(bounds.y + 60, topMargin - 80);
+        int serverY = bounds.y + height / 2;
+        int slotsY = Math.min(bounds.y + height - 40, serverY + 50);
+
+        for (int i = 0; i < assistantCount; i++) {
+            int offset = (assistantCount == 1) ? usableHeight / 2 : i * spacing;
+            int y = topMargin + offset;
+            moveNodeTo("AV" + (i + 1), assistantX, y);
+        }
+        moveNodeTo("Q_Alta", queueX, queueHighY);
+        moveNodeTo("Q_Baja", queueX, queueLowY);
+        moveNodeTo("R_Tokens", tokenX, tokenY);
+        int serverSpacing = Math.max(50, usableHeight / (autoVaShards + 1));
+        for (int i = 0; i < autoVaShards; i++) {
+            moveNodeTo(virtualAssistantServerLabel(i), serverX, serverY + (int) ((i - (autoVaShards - 1) / 2.0) * serverSpacing));
         }
-        SwingUtilities.invokeLater(this::repaint);
+        moveNodeTo("R_Slots", slotsX, slotsY);
+        requestRepaint();
     }
 
-    public synchronized void showVirtualAssistantQueued(String assistantLabel, boolean highPriority) {
+    public void showVirtualAssistantQueued(String assistantLabel, boolean highPriority) {
         removeConnectionsInvolving(assistantLabel);
         addConnectionIfNotExists(assistantLabel, highPriority ? "Q_Alta" : "Q_Baja", "Espera token");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showVirtualAssistantTokenGranted(String assistantLabel) {
+    public void showVirtualAssistantTokenGranted(String assistantLabel) {
         removeConnectionsInvolving(assistantLabel);
         addConnectionIfNotExists("R_Tokens", assistantLabel, "Token");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showVirtualAssistantRequestingSlot(String assistantLabel) {
+    public void showVirtualAssistantRequestingSlot(String assistantLabel) {
         removeConnectionsInvolving(assistantLabel);
         addConnectionIfNotExists(assistantLabel, "R_Slots", "Solicita slot");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showVirtualAssistantProcessing(String assistantLabel) {
+    public void showVirtualAssistantProcessing(String assistantLabel) {
+        showVirtualAssistantProcessing(assistantLabel, 0);
+    }
+
+    public void showVirtualAssistantProcessing(String assistantLabel, int shard) {
         removeConnectionsInvolving(assistantLabel);
-        addConnectionIfNotExists("R_Server", assistantLabel, "Procesando");
-        SwingUtilities.invokeLater(this::repaint);
+        addConnectionIfNotExists(virtualAssistantServerLabel(shard), assistantLabel, "Procesando");
+        requestRepaint();
+    }
+
+    private String virtualAssistantServerLabel(int shard) {
+        return autoVaShards <= 1 ? "R_Server" : "R_Server" + (Math.floorMod(shard, autoVaShards) + 1);
     }
 
-    public synchronized void showVirtualAssistantFinished(String assistantLabel) {
+    public void showVirtualAssistantFinished(String assistantLabel) {
         removeConnectionsInvolving(assistantLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupProducerConsumerGraph() {
+    public void setupTraceGraph(List<String> actors, List<String> resources) {
+        clearGraphInternal();
+        autoLayoutHint = GraphAutoLayoutHint.TRACE;
+        traceActorLabels.addAll(actors);
+        traceResourceLabels.addAll(resources);
+        for (String actor : actors) {
+            addNodeIfNotExists(actor, NodeType.PROCESO, 0, 0);
+        }
+        for (String resource : resources) {
+            addNodeIfNotExists(resource, NodeType.RECURSO, 0, 0);
+        }
+        layoutTraceGraph();
+    }
+
+    private void layoutTraceGraph() {
+        if (autoLayoutHint != GraphAutoLayoutHint.TRACE) {
+            return;
+        }
+        Rectangle bounds = getGraphDrawingBounds();
+        layoutTraceColumn(traceActorLabels, bounds, 0.30, -1);
+        layoutTraceColumn(traceResourceLabels, bounds, 0.70, 1);
+        requestRepaint();
+    }
+
+    private void layoutTraceColumn(List<String> labels, Rectangle bounds, double anchor, int direction) {
+        int height = Math.max(150, bounds.height);
+        int spacing = 90;
+        int rows = Math.max(1, (height - 60) / spacing);
+        int columnSpacing = Math.max(70, bounds.width / 10);
+        int baseX = bounds.x + (int) (bounds.width * anchor);
+        for (int i = 0; i < labels.size(); i++) {
+            int column = i / rows;
+            int row = i % rows;
+            int inColumn = Math.min(rows, labels.size() - column * rows);
+            int top = bounds.y + (height - (inColumn - 1) * spacing) / 2;
+            moveNodeTo(labels.get(i), baseX + direction * column * columnSpacing, top + row * spacing);
+        }
+    }
+
+    public void showTraceEdge(String actor, String resource, String kind) {
+        if ("Asignado".equals(kind)) {
+            addConnectionIfNotExists(resource, actor, kind);
+        } else {
+            addConnectionIfNotExists(actor, resource, kind);
+        }
+        requestRepaint();
+    }
+
+    public void removeTraceEdge(String actor, String resource) {
+        removeConnection(actor, resource);
+        removeConnection(resource, actor);
+        requestRepaint();
+    }
+
+    public void setupProducerConsumerGraph() {
         
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
@@ -1404,27 +1670,27 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
     }
 
     
-    public synchronized void showProducerRequestingMutex() {
+    public void showProducerRequestingMutex() {
         String from = "P1";
         String to = "R_Mutex";
         String kind = "Solicitud";
         removeConnectionsInvolving(from);
         addConnectionIfNotExists(from, to, kind);
         System.out.println("GRAPH: P1 -> R_Mutex (Solicitud). Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerHoldingMutex() {
+    public void showProducerHoldingMutex() {
         String from = "R_Mutex";
         String to = "P1";
         String kind = "Asignado";
         removeConnectionsInvolving(to); 
         addConnectionIfNotExists(from, to, kind);
         System.out.println("GRAPH: R_Mutex -> P1 (Asignado). Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerBlockedByBuffer() {
+    public void showProducerBlockedByBuffer() {
         String holder = "P1";
         String blockedBy = "R_Buffer";
         String kind = "Solicita Espacio";
@@ -1434,37 +1700,37 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection(blockedBy, "C1");
         addConnectionIfNotExists(holder, blockedBy, kind);
         System.out.println("GRAPH: P1 -> R_Buffer (Bloqueado). Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerReleasingMutex() {
+    public void showProducerReleasingMutex() {
         String releaser = "P1";
         removeConnectionsInvolving(releaser);
         System.out.println("GRAPH: P1 libera R_Mutex. Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerRequestingMutex() {
+    public void showConsumerRequestingMutex() {
         String from = "C1";
         String to = "R_Mutex";
         String kind = "Solicitud";
         removeConnectionsInvolving(from);
         addConnectionIfNotExists(from, to, kind);
         System.out.println("GRAPH: C1 -> R_Mutex (Solicitud). Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerHoldingMutex() {
+    public void showConsumerHoldingMutex() {
         String from = "R_Mutex";
         String to = "C1";
         String kind = "Asignado";
         removeConnectionsInvolving(to); 
         addConnectionIfNotExists(from, to, kind);
         System.out.println("GRAPH: R_Mutex -> C1 (Asignado). Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerBlockedByBuffer() {
+    public void showConsumerBlockedByBuffer() {
         String holder = "C1";
         String blockedBy = "R_Buffer";
         String kind = "Solicita Item";
@@ -1474,18 +1740,18 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection(blockedBy, "P1");
         addConnectionIfNotExists(holder, blockedBy, kind);
         System.out.println("GRAPH: C1 -> R_Buffer (Bloqueado). Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerReleasingMutex() {
+    public void showConsumerReleasingMutex() {
         String releaser = "C1";
         removeConnectionsInvolving(releaser);
         System.out.println("GRAPH: C1 libera R_Mutex. Connections: " + data.connections.size()); 
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    public synchronized void setupProducerConsumerSemaphoreGraph() {
+    public void setupProducerConsumerSemaphoreGraph() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -1501,124 +1767,124 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Buffer", NodeType.RECURSO, centerX, bottomY);
     }
 
-    public synchronized void showProducerWaitingEmptySemaphore() {
+    public void showProducerWaitingEmptySemaphore() {
         removeBidirectional("P1", "S_Mutex");
         removeBidirectional("P1", "R_Buffer");
         removeBidirectional("P1", "S_Full");
         removeConnection("S_Empty", "P1");
         addConnectionIfNotExists("P1", "S_Empty", "Espera");
         System.out.println("GRAPH SEM: P1 espera S_Empty");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerAcquiredEmptySemaphore() {
+    public void showProducerAcquiredEmptySemaphore() {
         removeConnection("P1", "S_Empty");
         addConnectionIfNotExists("S_Empty", "P1", "Permiso");
         System.out.println("GRAPH SEM: S_Empty -> P1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerWaitingMutexSemaphore() {
+    public void showProducerWaitingMutexSemaphore() {
         removeConnection("S_Mutex", "P1");
         removeBidirectional("P1", "R_Buffer");
         addConnectionIfNotExists("P1", "S_Mutex", "Espera");
         System.out.println("GRAPH SEM: P1 espera S_Mutex");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerHoldingMutexSemaphore() {
+    public void showProducerHoldingMutexSemaphore() {
         removeConnection("P1", "S_Mutex");
         addConnectionIfNotExists("S_Mutex", "P1", "Permiso");
         System.out.println("GRAPH SEM: S_Mutex -> P1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerAccessingBufferSemaphore() {
+    public void showProducerAccessingBufferSemaphore() {
         removeConnection("S_Empty", "P1");
         addConnectionIfNotExists("P1", "R_Buffer", "Produce");
         System.out.println("GRAPH SEM: P1 produce en R_Buffer");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerReleasingMutexSemaphore() {
+    public void showProducerReleasingMutexSemaphore() {
         removeConnection("S_Mutex", "P1");
         removeConnection("P1", "R_Buffer");
         System.out.println("GRAPH SEM: P1 libera S_Mutex");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerSignalingFullSemaphore() {
+    public void showProducerSignalingFullSemaphore() {
         addConnectionIfNotExists("P1", "S_Full", "Senal");
         System.out.println("GRAPH SEM: P1 senaliza S_Full");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerIdleSemaphore() {
+    public void showProducerIdleSemaphore() {
         removeConnectionsInvolving("P1");
         System.out.println("GRAPH SEM: P1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWaitingFullSemaphore() {
+    public void showConsumerWaitingFullSemaphore() {
         removeBidirectional("C1", "S_Mutex");
         removeBidirectional("C1", "R_Buffer");
         removeBidirectional("C1", "S_Empty");
         removeConnection("S_Full", "C1");
         addConnectionIfNotExists("C1", "S_Full", "Espera");
         System.out.println("GRAPH SEM: C1 espera S_Full");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerAcquiredFullSemaphore() {
+    public void showConsumerAcquiredFullSemaphore() {
         removeConnection("C1", "S_Full");
         addConnectionIfNotExists("S_Full", "C1", "Permiso");
         System.out.println("GRAPH SEM: S_Full -> C1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWaitingMutexSemaphore() {
+    public void showConsumerWaitingMutexSemaphore() {
         removeConnection("S_Mutex", "C1");
         removeBidirectional("C1", "R_Buffer");
         addConnectionIfNotExists("C1", "S_Mutex", "Espera");
         System.out.println("GRAPH SEM: C1 espera S_Mutex");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerHoldingMutexSemaphore() {
+    public void showConsumerHoldingMutexSemaphore() {
         removeConnection("C1", "S_Mutex");
         addConnectionIfNotExists("S_Mutex", "C1", "Permiso");
         System.out.println("GRAPH SEM: S_Mutex -> C1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerAccessingBufferSemaphore() {
+    public void showConsumerAccessingBufferSemaphore() {
         removeConnection("S_Full", "C1");
         addConnectionIfNotExists("C1", "R_Buffer", "Consume");
         System.out.println("GRAPH SEM: C1 consume de R_Buffer");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerReleasingMutexSemaphore() {
+    public void showConsumerReleasingMutexSemaphore() {
         removeConnection("S_Mutex", "C1");
         removeConnection("C1", "R_Buffer");
         System.out.println("GRAPH SEM: C1 libera S_Mutex");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerSignalingEmptySemaphore() {
+    public void showConsumerSignalingEmptySemaphore() {
         addConnectionIfNotExists("C1", "S_Empty", "Senal");
         System.out.println("GRAPH SEM: C1 senaliza S_Empty");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerIdleSemaphore() {
+    public void showConsumerIdleSemaphore() {
         removeConnectionsInvolving("C1");
         System.out.println("GRAPH SEM: C1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    public synchronized void setupProducerConsumerConditionGraph() {
+    public void setupProducerConsumerConditionGraph() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -1635,120 +1901,120 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Buffer", NodeType.RECURSO, centerX, bottomY);
     }
 
-    public synchronized void showProducerWaitingLockCondition() {
+    public void showProducerWaitingLockCondition() {
         clearProducerConditionLinks();
         addConnectionIfNotExists("P1", "R_Lock", "Espera");
         System.out.println("GRAPH COND: P1 espera lock");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerHoldingLockCondition() {
+    public void showProducerHoldingLockCondition() {
         clearProducerConditionLinks();
         addConnectionIfNotExists("R_Lock", "P1", "Asignado");
         System.out.println("GRAPH COND: R_Lock -> P1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerWaitingNotFullCondition() {
+    public void showProducerWaitingNotFullCondition() {
         clearProducerConditionLinks();
         addConnectionIfNotExists("P1", "Cond_NotFull", "Espera");
         System.out.println("GRAPH COND: P1 espera Cond_NotFull");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerSignaledByNotFullCondition() {
+    public void showProducerSignaledByNotFullCondition() {
         clearProducerConditionLinks();
         addConnectionIfNotExists("Cond_NotFull", "P1", "Aviso");
         System.out.println("GRAPH COND: Cond_NotFull -> P1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerProducingCondition() {
+    public void showProducerProducingCondition() {
         clearProducerConditionLinks();
         addConnectionIfNotExists("R_Lock", "P1", "Asignado");
         addConnectionIfNotExists("P1", "R_Buffer", "Produce");
         System.out.println("GRAPH COND: P1 produce");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerSignalingNotEmptyCondition() {
+    public void showProducerSignalingNotEmptyCondition() {
         clearProducerConditionLinks();
         addConnectionIfNotExists("R_Lock", "P1", "Asignado");
         addConnectionIfNotExists("P1", "Cond_NotEmpty", "Senal");
         System.out.println("GRAPH COND: P1 senaliza Cond_NotEmpty");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerReleasingLockCondition() {
+    public void showProducerReleasingLockCondition() {
         clearProducerConditionLinks();
         System.out.println("GRAPH COND: P1 libera lock");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerIdleCondition() {
+    public void showProducerIdleCondition() {
         clearProducerConditionLinks();
         System.out.println("GRAPH COND: P1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWaitingLockCondition() {
+    public void showConsumerWaitingLockCondition() {
         clearConsumerConditionLinks();
         addConnectionIfNotExists("C1", "R_Lock", "Espera");
         System.out.println("GRAPH COND: C1 espera lock");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerHoldingLockCondition() {
+    public void showConsumerHoldingLockCondition() {
         clearConsumerConditionLinks();
         addConnectionIfNotExists("R_Lock", "C1", "Asignado");
         System.out.println("GRAPH COND: R_Lock -> C1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWaitingNotEmptyCondition() {
+    public void showConsumerWaitingNotEmptyCondition() {
         clearConsumerConditionLinks();
         addConnectionIfNotExists("C1", "Cond_NotEmpty", "Espera");
         System.out.println("GRAPH COND: C1 espera Cond_NotEmpty");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerSignaledByNotEmptyCondition() {
+    public void showConsumerSignaledByNotEmptyCondition() {
         clearConsumerConditionLinks();
         addConnectionIfNotExists("Cond_NotEmpty", "C1", "Aviso");
         System.out.println("GRAPH COND: Cond_NotEmpty -> C1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerConsumingCondition() {
+    public void showConsumerConsumingCondition() {
         clearConsumerConditionLinks();
         addConnectionIfNotExists("R_Lock", "C1", "Asignado");
         addConnectionIfNotExists("C1", "R_Buffer", "Consume");
         System.out.println("GRAPH COND: C1 consume");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerSignalingNotFullCondition() {
+    public void showConsumerSignalingNotFullCondition() {
         clearConsumerConditionLinks();
         addConnectionIfNotExists("R_Lock", "C1", "Asignado");
         addConnectionIfNotExists("C1", "Cond_NotFull", "Senal");
         System.out.println("GRAPH COND: C1 senaliza Cond_NotFull");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerReleasingLockCondition() {
+    public void showConsumerReleasingLockCondition() {
         clearConsumerConditionLinks();
         System.out.println("GRAPH COND: C1 libera lock");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerIdleCondition() {
+    public void showConsumerIdleCondition() {
         clearConsumerConditionLinks();
         System.out.println("GRAPH COND: C1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    public synchronized void setupProducerConsumerMonitorGraph() {
+    public void setupProducerConsumerMonitorGraph() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -1765,120 +2031,120 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Buffer", NodeType.RECURSO, centerX, bottomY);
     }
 
-    public synchronized void showProducerWaitingMonitor() {
+    public void showProducerWaitingMonitor() {
         clearProducerMonitorLinks();
         addConnectionIfNotExists("P1", "R_Monitor", "Espera");
         System.out.println("GRAPH MON: P1 espera Monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerInMonitor() {
+    public void showProducerInMonitor() {
         clearProducerMonitorLinks();
         addConnectionIfNotExists("R_Monitor", "P1", "Dentro");
         System.out.println("GRAPH MON: Monitor -> P1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerWaitingNotFullMonitor() {
+    public void showProducerWaitingNotFullMonitor() {
         clearProducerMonitorLinks();
         addConnectionIfNotExists("P1", "Cond_NotFull_M", "Wait");
         System.out.println("GRAPH MON: P1 espera Cond_NotFull_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerSignaledNotFullMonitor() {
+    public void showProducerSignaledNotFullMonitor() {
         clearProducerMonitorLinks();
         addConnectionIfNotExists("Cond_NotFull_M", "P1", "Signal");
         System.out.println("GRAPH MON: Cond_NotFull_M -> P1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerProducingMonitor() {
+    public void showProducerProducingMonitor() {
         clearProducerMonitorLinks();
         addConnectionIfNotExists("R_Monitor", "P1", "Dentro");
         addConnectionIfNotExists("P1", "R_Buffer", "Produce");
         System.out.println("GRAPH MON: P1 produce");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerSignalNotEmptyMonitor() {
+    public void showProducerSignalNotEmptyMonitor() {
         clearProducerMonitorLinks();
         addConnectionIfNotExists("R_Monitor", "P1", "Dentro");
         addConnectionIfNotExists("P1", "Cond_NotEmpty_M", "Signal");
         System.out.println("GRAPH MON: P1 signal Cond_NotEmpty_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerExitMonitor() {
+    public void showProducerExitMonitor() {
         clearProducerMonitorLinks();
         System.out.println("GRAPH MON: P1 sale Monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerIdleMonitor() {
+    public void showProducerIdleMonitor() {
         clearProducerMonitorLinks();
         System.out.println("GRAPH MON: P1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWaitingMonitor() {
+    public void showConsumerWaitingMonitor() {
         clearConsumerMonitorLinks();
         addConnectionIfNotExists("C1", "R_Monitor", "Espera");
         System.out.println("GRAPH MON: C1 espera Monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerInMonitor() {
+    public void showConsumerInMonitor() {
         clearConsumerMonitorLinks();
         addConnectionIfNotExists("R_Monitor", "C1", "Dentro");
         System.out.println("GRAPH MON: Monitor -> C1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWaitingNotEmptyMonitor() {
+    public void showConsumerWaitingNotEmptyMonitor() {
         clearConsumerMonitorLinks();
         addConnectionIfNotExists("C1", "Cond_NotEmpty_M", "Wait");
         System.out.println("GRAPH MON: C1 espera Cond_NotEmpty_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerSignaledNotEmptyMonitor() {
+    public void showConsumerSignaledNotEmptyMonitor() {
         clearConsumerMonitorLinks();
         addConnectionIfNotExists("Cond_NotEmpty_M", "C1", "Signal");
         System.out.println("GRAPH MON: Cond_NotEmpty_M -> C1");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerConsumingMonitor() {
+    public void showConsumerConsumingMonitor() {
         clearConsumerMonitorLinks();
         addConnectionIfNotExists("R_Monitor", "C1", "Dentro");
         addConnectionIfNotExists("C1", "R_Buffer", "Consume");
         System.out.println("GRAPH MON: C1 consume");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerSignalNotFullMonitor() {
+    public void showConsumerSignalNotFullMonitor() {
         clearConsumerMonitorLinks();
         addConnectionIfNotExists("R_Monitor", "C1", "Dentro");
         addConnectionIfNotExists("C1", "Cond_NotFull_M", "Signal");
         System.out.println("GRAPH MON: C1 signal Cond_NotFull_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerExitMonitor() {
+    public void showConsumerExitMonitor() {
         clearConsumerMonitorLinks();
         System.out.println("GRAPH MON: C1 sale Monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerIdleMonitor() {
+    public void showConsumerIdleMonitor() {
         clearConsumerMonitorLinks();
         System.out.println("GRAPH MON: C1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    public synchronized void setupProducerConsumerBarrierGraph() {
+    public void setupProducerConsumerBarrierGraph() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -1893,64 +2159,64 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Token", NodeType.RECURSO, centerX, midY - height / 6);
     }
 
-    public synchronized void showProducerWorkingBarrier() {
+    public void showProducerWorkingBarrier() {
         clearBarrierLinks();
         addConnectionIfNotExists("P1", "R_Buffer", "Produce");
         System.out.println("GRAPH BAR: P1 produce");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerWaitingBarrier() {
+    public void showProducerWaitingBarrier() {
         clearBarrierLinks();
         addConnectionIfNotExists("P1", "R_Barrier", "Espera");
         System.out.println("GRAPH BAR: P1 espera barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerReleasedBarrier() {
+    public void showProducerReleasedBarrier() {
         clearBarrierLinks();
         addConnectionIfNotExists("R_Barrier", "P1", "Avanza");
         addConnectionIfNotExists("R_Token", "P1", "Turno");
         System.out.println("GRAPH BAR: P1 cruza barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showProducerIdleBarrier() {
+    public void showProducerIdleBarrier() {
         clearBarrierLinks();
         System.out.println("GRAPH BAR: P1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWorkingBarrier() {
+    public void showConsumerWorkingBarrier() {
         clearBarrierLinks();
         addConnectionIfNotExists("C1", "R_Buffer", "Consume");
         System.out.println("GRAPH BAR: C1 consume");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerWaitingBarrier() {
+    public void showConsumerWaitingBarrier() {
         clearBarrierLinks();
         addConnectionIfNotExists("C1", "R_Barrier", "Espera");
         System.out.println("GRAPH BAR: C1 espera barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerReleasedBarrier() {
+    public void showConsumerReleasedBarrier() {
         clearBarrierLinks();
         addConnectionIfNotExists("R_Barrier", "C1", "Avanza");
         addConnectionIfNotExists("R_Token", "C1", "Turno");
         System.out.println("GRAPH BAR: C1 cruza barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showConsumerIdleBarrier() {
+    public void showConsumerIdleBarrier() {
         clearBarrierLinks();
         System.out.println("GRAPH BAR: C1 inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    public synchronized void setupPhilosophersGraph_Mutex() {
+    public void setupPhilosophersGraph_Mutex() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -1968,27 +2234,27 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Mutex", NodeType.RECURSO, centerX, centerY);
     }
 
-    public synchronized void showPhilosopherRequestingLock_Mutex(String philosopherLabel) {
+    public void showPhilosopherRequestingLock_Mutex(String philosopherLabel) {
         clearPhilosopherMutexLinks(philosopherLabel);
         addConnectionIfNotExists(philosopherLabel, "R_Mutex", "Solicitud");
         System.out.println("GRAPH PHILO MUTEX: " + philosopherLabel + " solicita R_Mutex");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherHoldingLock_Mutex(String philosopherLabel) {
+    public void showPhilosopherHoldingLock_Mutex(String philosopherLabel) {
         clearPhilosopherMutexLinks(philosopherLabel);
         addConnectionIfNotExists("R_Mutex", philosopherLabel, "Asignado");
         System.out.println("GRAPH PHILO MUTEX: R_Mutex -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleasingLock_Mutex(String philosopherLabel) {
+    public void showPhilosopherReleasingLock_Mutex(String philosopherLabel) {
         clearPhilosopherMutexLinks(philosopherLabel);
         System.out.println("GRAPH PHILO MUTEX: " + philosopherLabel + " libera R_Mutex");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupPhilosophersGraph_Semaphore() {
+    public void setupPhilosophersGraph_Semaphore() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2013,53 +2279,53 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         }
     }
 
-    public synchronized void showPhilosopherRequestingWaiter_Sem(String philosopherLabel) {
+    public void showPhilosopherRequestingWaiter_Sem(String philosopherLabel) {
         clearWaiterLink(philosopherLabel);
         addConnectionIfNotExists(philosopherLabel, "R_Waiter", "Solicitud");
         System.out.println("GRAPH PHILO SEM: " + philosopherLabel + " solicita R_Waiter");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherGrantedWaiter_Sem(String philosopherLabel) {
+    public void showPhilosopherGrantedWaiter_Sem(String philosopherLabel) {
         clearWaiterLink(philosopherLabel);
         addConnectionIfNotExists("R_Waiter", philosopherLabel, "Permiso");
         System.out.println("GRAPH PHILO SEM: R_Waiter -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherRequestingFork_Sem(String philosopherLabel, String forkLabel) {
+    public void showPhilosopherRequestingFork_Sem(String philosopherLabel, String forkLabel) {
         clearForkLink(philosopherLabel, forkLabel);
         addConnectionIfNotExists(philosopherLabel, forkLabel, "Solicitud");
         System.out.println("GRAPH PHILO SEM: " + philosopherLabel + " solicita " + forkLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherHoldingFork_Sem(String philosopherLabel, String forkLabel) {
+    public void showPhilosopherHoldingFork_Sem(String philosopherLabel, String forkLabel) {
         clearForkLink(philosopherLabel, forkLabel);
         addConnectionIfNotExists(forkLabel, philosopherLabel, "Asignado");
         System.out.println("GRAPH PHILO SEM: " + forkLabel + " -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherEating_Sem(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherEating_Sem(String philosopherLabel, String leftFork, String rightFork) {
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         addConnectionIfNotExists("R_Waiter", philosopherLabel, "Permiso");
         addConnectionIfNotExists(leftFork, philosopherLabel, "Uso");
         addConnectionIfNotExists(rightFork, philosopherLabel, "Uso");
         System.out.println("GRAPH PHILO SEM: " + philosopherLabel + " comiendo con " + leftFork + ", " + rightFork);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleasingResources_Sem(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherReleasingResources_Sem(String philosopherLabel, String leftFork, String rightFork) {
         clearWaiterLink(philosopherLabel);
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         System.out.println("GRAPH PHILO SEM: " + philosopherLabel + " libera recursos");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupPhilosophersGraph_Condition() {
+    public void setupPhilosophersGraph_Condition() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2091,37 +2357,37 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         }
     }
 
-    public synchronized void showPhilosopherRequestingLock_Cond(String philosopherLabel) {
+    public void showPhilosopherRequestingLock_Cond(String philosopherLabel) {
         clearConditionLockLink(philosopherLabel);
         clearConditionWaitLink(philosopherLabel);
         addConnectionIfNotExists(philosopherLabel, "R_Lock_Ph", "Solicitud");
         System.out.println("GRAPH PHILO COND: " + philosopherLabel + " solicita R_Lock_Ph");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherHoldingLock_Cond(String philosopherLabel) {
+    public void showPhilosopherHoldingLock_Cond(String philosopherLabel) {
         clearConditionLockLink(philosopherLabel);
         addConnectionIfNotExists("R_Lock_Ph", philosopherLabel, "Dentro");
         System.out.println("GRAPH PHILO COND: R_Lock_Ph -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherWaitingCondition_Cond(String philosopherLabel) {
+    public void showPhilosopherWaitingCondition_Cond(String philosopherLabel) {
         clearConditionLockLink(philosopherLabel);
         clearConditionWaitLink(philosopherLabel);
         addConnectionIfNotExists(philosopherLabel, "Cond_" + philosopherLabel, "Espera");
         System.out.println("GRAPH PHILO COND: " + philosopherLabel + " espera Cond");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherSignaledCondition_Cond(String philosopherLabel) {
+    public void showPhilosopherSignaledCondition_Cond(String philosopherLabel) {
         clearConditionWaitLink(philosopherLabel);
         addConnectionIfNotExists("Cond_" + philosopherLabel, philosopherLabel, "Signal");
         System.out.println("GRAPH PHILO COND: Cond -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherEating_Cond(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherEating_Cond(String philosopherLabel, String leftFork, String rightFork) {
         clearConditionWaitLink(philosopherLabel);
         addConnectionIfNotExists("R_Lock_Ph", philosopherLabel, "Dentro");
         clearForkLink(philosopherLabel, leftFork);
@@ -2129,34 +2395,34 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addConnectionIfNotExists(leftFork, philosopherLabel, "Uso");
         addConnectionIfNotExists(rightFork, philosopherLabel, "Uso");
         System.out.println("GRAPH PHILO COND: " + philosopherLabel + " come con " + leftFork + ", " + rightFork);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleasing_Cond(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherReleasing_Cond(String philosopherLabel, String leftFork, String rightFork) {
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         clearConditionLockLink(philosopherLabel);
         clearConditionWaitLink(philosopherLabel);
         System.out.println("GRAPH PHILO COND: " + philosopherLabel + " libera recursos");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleasingLock_Cond(String philosopherLabel) {
+    public void showPhilosopherReleasingLock_Cond(String philosopherLabel) {
         clearConditionLockLink(philosopherLabel);
         System.out.println("GRAPH PHILO COND: " + philosopherLabel + " libera R_Lock_Ph");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherIdle_Cond(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherIdle_Cond(String philosopherLabel, String leftFork, String rightFork) {
         clearConditionLockLink(philosopherLabel);
         clearConditionWaitLink(philosopherLabel);
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         System.out.println("GRAPH PHILO COND: " + philosopherLabel + " inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupPhilosophersGraph_Monitor() {
+    public void setupPhilosophersGraph_Monitor() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2188,37 +2454,37 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         }
     }
 
-    public synchronized void showPhilosopherRequestingMonitor(String philosopherLabel) {
+    public void showPhilosopherRequestingMonitor(String philosopherLabel) {
         clearMonitorLockLink(philosopherLabel);
         clearMonitorWaitLink(philosopherLabel);
         addConnectionIfNotExists(philosopherLabel, "R_Monitor_Ph", "Solicitud");
         System.out.println("GRAPH PHILO MON: " + philosopherLabel + " solicita R_Monitor_Ph");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherInsideMonitor(String philosopherLabel) {
+    public void showPhilosopherInsideMonitor(String philosopherLabel) {
         clearMonitorLockLink(philosopherLabel);
         addConnectionIfNotExists("R_Monitor_Ph", philosopherLabel, "Dentro");
         System.out.println("GRAPH PHILO MON: R_Monitor_Ph -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherWaitingMonitor(String philosopherLabel) {
+    public void showPhilosopherWaitingMonitor(String philosopherLabel) {
         clearMonitorLockLink(philosopherLabel);
         clearMonitorWaitLink(philosopherLabel);
         addConnectionIfNotExists(philosopherLabel, "CondM_" + philosopherLabel, "Wait");
         System.out.println("GRAPH PHILO MON: " + philosopherLabel + " espera CondM");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherSignaledMonitor(String philosopherLabel) {
+    public void showPhilosopherSignaledMonitor(String philosopherLabel) {
         clearMonitorWaitLink(philosopherLabel);
         addConnectionIfNotExists("CondM_" + philosopherLabel, philosopherLabel, "Signal");
         System.out.println("GRAPH PHILO MON: CondM -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherEatingMonitor(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherEatingMonitor(String philosopherLabel, String leftFork, String rightFork) {
         clearMonitorWaitLink(philosopherLabel);
         addConnectionIfNotExists("R_Monitor_Ph", philosopherLabel, "Dentro");
         clearForkLink(philosopherLabel, leftFork);
@@ -2226,33 +2492,33 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addConnectionIfNotExists(leftFork, philosopherLabel, "Uso");
         addConnectionIfNotExists(rightFork, philosopherLabel, "Uso");
         System.out.println("GRAPH PHILO MON: " + philosopherLabel + " come con " + leftFork + ", " + rightFork);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleasingMonitor(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherReleasingMonitor(String philosopherLabel, String leftFork, String rightFork) {
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         clearMonitorWaitLink(philosopherLabel);
         System.out.println("GRAPH PHILO MON: " + philosopherLabel + " libera tenedores");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherExitMonitor(String philosopherLabel) {
+    public void showPhilosopherExitMonitor(String philosopherLabel) {
         clearMonitorLockLink(philosopherLabel);
         System.out.println("GRAPH PHILO MON: " + philosopherLabel + " sale del monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherIdleMonitor(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherIdleMonitor(String philosopherLabel, String leftFork, String rightFork) {
         clearMonitorLockLink(philosopherLabel);
         clearMonitorWaitLink(philosopherLabel);
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         System.out.println("GRAPH PHILO MON: " + philosopherLabel + " inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupPhilosophersGraph_Barrier() {
+    public void setupPhilosophersGraph_Barrier() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2278,66 +2544,66 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         }
     }
 
-    public synchronized void showPhilosopherThinkingBarrier(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherThinkingBarrier(String philosopherLabel, String leftFork, String rightFork) {
         clearBarrierPhilosopherLinks(philosopherLabel);
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         System.out.println("GRAPH PHILO BAR: " + philosopherLabel + " pensando");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherWaitingBarrier(String philosopherLabel) {
+    public void showPhilosopherWaitingBarrier(String philosopherLabel) {
         clearBarrierPhilosopherLinks(philosopherLabel);
         addConnectionIfNotExists(philosopherLabel, "R_Barrier_Ph", "Espera");
         System.out.println("GRAPH PHILO BAR: " + philosopherLabel + " espera barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleasedBarrier(String philosopherLabel) {
+    public void showPhilosopherReleasedBarrier(String philosopherLabel) {
         clearBarrierPhilosopherLinks(philosopherLabel);
         addConnectionIfNotExists("R_Barrier_Ph", philosopherLabel, "Cruza");
         addConnectionIfNotExists("R_Token_Ph", philosopherLabel, "Turno");
         System.out.println("GRAPH PHILO BAR: " + philosopherLabel + " cruza barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherRequestingForkBarrier(String philosopherLabel, String forkLabel) {
+    public void showPhilosopherRequestingForkBarrier(String philosopherLabel, String forkLabel) {
         clearForkLink(philosopherLabel, forkLabel);
         addConnectionIfNotExists(philosopherLabel, forkLabel, "Solicitud");
         System.out.println("GRAPH PHILO BAR: " + philosopherLabel + " solicita " + forkLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherHoldingForkBarrier(String philosopherLabel, String forkLabel) {
+    public void showPhilosopherHoldingForkBarrier(String philosopherLabel, String forkLabel) {
         clearForkLink(philosopherLabel, forkLabel);
         addConnectionIfNotExists(forkLabel, philosopherLabel, "Asignado");
         System.out.println("GRAPH PHILO BAR: " + forkLabel + " -> " + philosopherLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherEatingBarrier(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherEatingBarrier(String philosopherLabel, String leftFork, String rightFork) {
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         addConnectionIfNotExists("R_Token_Ph", philosopherLabel, "Sesión");
         addConnectionIfNotExists(leftFork, philosopherLabel, "Uso");
         addConnectionIfNotExists(rightFork, philosopherLabel, "Uso");
         System.out.println("GRAPH PHILO BAR: " + philosopherLabel + " comiendo con " + leftFork + ", " + rightFork);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleasingBarrier(String philosopherLabel, String leftFork, String rightFork) {
+    public void showPhilosopherReleasingBarrier(String philosopherLabel, String leftFork, String rightFork) {
         clearBarrierPhilosopherLinks(philosopherLabel);
         clearForkLink(philosopherLabel, leftFork);
         clearForkLink(philosopherLabel, rightFork);
         System.out.println("GRAPH PHILO BAR: " + philosopherLabel + " libera recursos");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupPhilosophersGraph_DeadlockDemo() {
+    public void setupPhilosophersGraph_DeadlockDemo() {
         setupPhilosophersGraph_ForkDemoInternal();
     }
 
-    public synchronized void setupPhilosophersGraph_HoareDemo() {
+    public void setupPhilosophersGraph_HoareDemo() {
         setupPhilosophersGraph_ForkDemoInternal();
     }
 
@@ -2363,45 +2629,45 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
             int fy = centerY + (int) Math.round(Math.sin(ang) * forkRadius);
             addNodeIfNotExists("F" + i, NodeType.RECURSO, fx, fy);
         }
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherThinkingDemo(String philosopherLabel, String leftForkLabel, String rightForkLabel) {
+    public void showPhilosopherThinkingDemo(String philosopherLabel, String leftForkLabel, String rightForkLabel) {
         clearForkLink(philosopherLabel, leftForkLabel);
         clearForkLink(philosopherLabel, rightForkLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherRequestingForkDemo(String philosopherLabel, String forkLabel) {
+    public void showPhilosopherRequestingForkDemo(String philosopherLabel, String forkLabel) {
         removeConnection(philosopherLabel, forkLabel);
         addConnectionIfNotExists(philosopherLabel, forkLabel, "Solicitud");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherWaitingForkDemo(String philosopherLabel, String forkLabel) {
+    public void showPhilosopherWaitingForkDemo(String philosopherLabel, String forkLabel) {
         removeConnection(philosopherLabel, forkLabel);
         addConnectionIfNotExists(philosopherLabel, forkLabel, "Esperando");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherHoldingForkDemo(String philosopherLabel, String forkLabel) {
+    public void showPhilosopherHoldingForkDemo(String philosopherLabel, String forkLabel) {
         clearForkLink(philosopherLabel, forkLabel);
         addConnectionIfNotExists(forkLabel, philosopherLabel, "Asignado");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherEatingDemo(String philosopherLabel, String leftForkLabel, String rightForkLabel) {
+    public void showPhilosopherEatingDemo(String philosopherLabel, String leftForkLabel, String rightForkLabel) {
         clearForkLink(philosopherLabel, leftForkLabel);
         clearForkLink(philosopherLabel, rightForkLabel);
         addConnectionIfNotExists(leftForkLabel, philosopherLabel, "Uso");
         addConnectionIfNotExists(rightForkLabel, philosopherLabel, "Uso");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showPhilosopherReleaseForksDemo(String philosopherLabel, String leftForkLabel, String rightForkLabel) {
+    public void showPhilosopherReleaseForksDemo(String philosopherLabel, String leftForkLabel, String rightForkLabel) {
         clearForkLink(philosopherLabel, leftForkLabel);
         clearForkLink(philosopherLabel, rightForkLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     private String smokerNodeLabel(int smokerId) {
@@ -2430,7 +2696,7 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         }
     }
 
-    public synchronized void setupSmokersGraph() {
+    public void setupSmokersGraph() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2448,10 +2714,10 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("Smoker_Cerillos", NodeType.PROCESO, centerX + offsetSmoker, smokersY);
         addNodeIfNotExists("R_Mutex_Smokers", NodeType.RECURSO, mutexX, centerY);
         addNodeIfNotExists("R_Table_Smokers", NodeType.RECURSO, tableX, centerY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSmokersGraph_Semaphore() {
+    public void setupSmokersGraph_Semaphore() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2474,10 +2740,10 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("S_Smoker_Tabaco", NodeType.RECURSO, centerX - semOffsetX, semRowY + (int) (height * 0.08));
         addNodeIfNotExists("S_Smoker_Papel", NodeType.RECURSO, centerX, semRowY + (int) (height * 0.08));
         addNodeIfNotExists("S_Smoker_Cerillos", NodeType.RECURSO, centerX + semOffsetX, semRowY + (int) (height * 0.08));
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSmokersGraph_Condition() {
+    public void setupSmokersGraph_Condition() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2496,74 +2762,74 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Lock_Smokers", NodeType.RECURSO, centerX - (int) (width * 0.2), lockY);
         addNodeIfNotExists("Cond_Smokers", NodeType.RECURSO, centerX + (int) (width * 0.2), condY);
         addNodeIfNotExists("R_Table_Smokers", NodeType.RECURSO, centerX, tableY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentRequestingLock_Smokers() {
+    public void showAgentRequestingLock_Smokers() {
         clearSmokersMutexLinks("Agente");
         addConnectionIfNotExists("Agent", "R_Mutex_Smokers", "Solicitud");
         System.out.println("GRAPH SMOKERS MUTEX: Agent solicita R_Mutex_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentHoldingLock_Smokers(String ingredientsLabel) {
+    public void showAgentHoldingLock_Smokers(String ingredientsLabel) {
         clearSmokersMutexLinks("Agente");
         addConnectionIfNotExists("R_Mutex_Smokers", "Agent", "Asignado");
         if (ingredientsLabel != null && !ingredientsLabel.isEmpty()) {
             addConnectionIfNotExists("Agent", "R_Table_Smokers", ingredientsLabel);
         }
         System.out.println("GRAPH SMOKERS MUTEX: Agent coloca " + (ingredientsLabel == null ? "" : ingredientsLabel));
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentReleasingLock_Smokers() {
+    public void showAgentReleasingLock_Smokers() {
         clearSmokersMutexLinks("Agente");
         System.out.println("GRAPH SMOKERS MUTEX: Agent libera R_Mutex_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerRequestingLock_Smokers(int smokerId) {
+    public void showSmokerRequestingLock_Smokers(int smokerId) {
         String label = smokerNodeLabel(smokerId);
         clearSmokersMutexLinks(label);
         addConnectionIfNotExists(label, "R_Mutex_Smokers", "Solicitud");
         System.out.println("GRAPH SMOKERS MUTEX: " + label + " solicita R_Mutex_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerHoldingLock_Smokers(int smokerId) {
+    public void showSmokerHoldingLock_Smokers(int smokerId) {
         String label = smokerNodeLabel(smokerId);
         clearSmokersMutexLinks(label);
         addConnectionIfNotExists("R_Mutex_Smokers", label, "Asignado");
         addConnectionIfNotExists(label, "R_Table_Smokers", "Toma");
         System.out.println("GRAPH SMOKERS MUTEX: " + label + " toma ingredientes");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerReleasingLock_Smokers(int smokerId) {
+    public void showSmokerReleasingLock_Smokers(int smokerId) {
         String label = smokerNodeLabel(smokerId);
         clearSmokersMutexLinks(label);
         System.out.println("GRAPH SMOKERS MUTEX: " + label + " libera R_Mutex_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentWaitingSemaphore_Smokers() {
+    public void showAgentWaitingSemaphore_Smokers() {
         clearSmokersSemaphoreAgentLinks();
         addConnectionIfNotExists("Agente", "S_Agent_Smokers", "Espera");
         System.out.println("GRAPH SMOKERS SEM: Agent espera S_Agent_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentHoldingSemaphore_Smokers(String ingredientsLabel) {
+    public void showAgentHoldingSemaphore_Smokers(String ingredientsLabel) {
         clearSmokersSemaphoreAgentLinks();
         addConnectionIfNotExists("S_Agent_Smokers", "Agent", "Permiso");
         if (ingredientsLabel != null && !ingredientsLabel.isEmpty()) {
             addConnectionIfNotExists("Agent", "R_Table_Smokers", ingredientsLabel);
         }
         System.out.println("GRAPH SMOKERS SEM: Agent coloca " + (ingredientsLabel == null ? "" : ingredientsLabel));
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentSignalingSemaphore_Smokers(int smokerId, String ingredientsLabel) {
+    public void showAgentSignalingSemaphore_Smokers(int smokerId, String ingredientsLabel) {
         clearSmokersSemaphoreAgentLinks();
         addConnectionIfNotExists("S_Agent_Smokers", "Agent", "Permiso");
         if (ingredientsLabel != null && !ingredientsLabel.isEmpty()) {
@@ -2572,112 +2838,112 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         String semaphoreLabel = smokerSemaphoreLabel(smokerId);
         addConnectionIfNotExists("Agent", semaphoreLabel, "Signal");
         System.out.println("GRAPH SMOKERS SEM: Agent signal a " + semaphoreLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentIdleSemaphore_Smokers() {
+    public void showAgentIdleSemaphore_Smokers() {
         clearSmokersSemaphoreAgentLinks();
         System.out.println("GRAPH SMOKERS SEM: Agent inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerWaitingSemaphore_Smokers(int smokerId) {
+    public void showSmokerWaitingSemaphore_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         String semaphoreLabel = smokerSemaphoreLabel(smokerId);
         clearSmokersSemaphoreSmokerLinks(nodeLabel, semaphoreLabel);
         addConnectionIfNotExists(nodeLabel, semaphoreLabel, "Espera");
         System.out.println("GRAPH SMOKERS SEM: " + nodeLabel + " espera " + semaphoreLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerGrantedSemaphore_Smokers(int smokerId) {
+    public void showSmokerGrantedSemaphore_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         String semaphoreLabel = smokerSemaphoreLabel(smokerId);
         clearSmokersSemaphoreSmokerLinks(nodeLabel, semaphoreLabel);
         addConnectionIfNotExists(semaphoreLabel, nodeLabel, "Permiso");
         System.out.println("GRAPH SMOKERS SEM: " + semaphoreLabel + " -> " + nodeLabel);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerTakingSemaphore_Smokers(int smokerId) {
+    public void showSmokerTakingSemaphore_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         String semaphoreLabel = smokerSemaphoreLabel(smokerId);
         clearSmokersSemaphoreSmokerLinks(nodeLabel, semaphoreLabel);
         addConnectionIfNotExists("R_Table_Smokers", nodeLabel, "Toma");
         System.out.println("GRAPH SMOKERS SEM: " + nodeLabel + " toma ingredientes");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerFinishedSemaphore_Smokers(int smokerId) {
+    public void showSmokerFinishedSemaphore_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         String semaphoreLabel = smokerSemaphoreLabel(smokerId);
         clearSmokersSemaphoreSmokerLinks(nodeLabel, semaphoreLabel);
         System.out.println("GRAPH SMOKERS SEM: " + nodeLabel + " inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentRequestingCondition_Smokers() {
+    public void showAgentRequestingCondition_Smokers() {
         clearSmokersConditionAgentLinks();
         addConnectionIfNotExists("Agent", "R_Lock_Smokers", "Solicitud");
         System.out.println("GRAPH SMOKERS COND: Agent solicita R_Lock_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentPlacingCondition_Smokers(String ingredientsLabel) {
+    public void showAgentPlacingCondition_Smokers(String ingredientsLabel) {
         clearSmokersConditionAgentLinks();
         addConnectionIfNotExists("R_Lock_Smokers", "Agent", "Dentro");
         if (ingredientsLabel != null && !ingredientsLabel.isEmpty()) {
             addConnectionIfNotExists("Agente", "R_Table_Smokers", ingredientsLabel);
         }
         System.out.println("GRAPH SMOKERS COND: Agent coloca " + (ingredientsLabel == null ? "" : ingredientsLabel));
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentSignalingCondition_Smokers() {
+    public void showAgentSignalingCondition_Smokers() {
         clearSmokersConditionAgentLinks();
         addConnectionIfNotExists("R_Lock_Smokers", "Agent", "Dentro");
         addConnectionIfNotExists("Agent", "Cond_Smokers", "Signal");
         System.out.println("GRAPH SMOKERS COND: Agent signal Cond_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentIdleCondition_Smokers() {
+    public void showAgentIdleCondition_Smokers() {
         clearSmokersConditionAgentLinks();
         System.out.println("GRAPH SMOKERS COND: Agent inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerWaitingCondition_Smokers(int smokerId) {
+    public void showSmokerWaitingCondition_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersConditionSmokerLinks(nodeLabel);
         addConnectionIfNotExists(nodeLabel, "Cond_Smokers", "Wait");
         System.out.println("GRAPH SMOKERS COND: " + nodeLabel + " espera Cond_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerTakingCondition_Smokers(int smokerId) {
+    public void showSmokerTakingCondition_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersConditionSmokerLinks(nodeLabel);
         addConnectionIfNotExists("R_Lock_Smokers", nodeLabel, "Asignado");
         addConnectionIfNotExists(nodeLabel, "R_Table_Smokers", "Toma");
         System.out.println("GRAPH SMOKERS COND: " + nodeLabel + " toma ingredientes");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerSignalingCondition_Smokers() {
+    public void showSmokerSignalingCondition_Smokers() {
         addConnectionIfNotExists("Cond_Smokers", "Agent", "Signal");
         System.out.println("GRAPH SMOKERS COND: Cond_Smokers -> Agent");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerIdleCondition_Smokers(int smokerId) {
+    public void showSmokerIdleCondition_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersConditionSmokerLinks(nodeLabel);
         System.out.println("GRAPH SMOKERS COND: " + nodeLabel + " inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSmokersGraph_Monitor() {
+    public void setupSmokersGraph_Monitor() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2696,93 +2962,93 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Monitor_Smokers", NodeType.RECURSO, centerX - (int) (width * 0.2), monitorY);
         addNodeIfNotExists("Cond_Smokers_M", NodeType.RECURSO, centerX + (int) (width * 0.2), condY);
         addNodeIfNotExists("R_Table_Smokers", NodeType.RECURSO, centerX, tableY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentRequestingMonitor_Smokers() {
+    public void showAgentRequestingMonitor_Smokers() {
         clearSmokersMonitorAgentLinks();
         addConnectionIfNotExists("Agent", "R_Monitor_Smokers", "Solicitud");
         System.out.println("GRAPH SMOKERS MON: Agent solicita R_Monitor_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentInsideMonitor_Smokers() {
+    public void showAgentInsideMonitor_Smokers() {
         clearSmokersMonitorAgentLinks();
         addConnectionIfNotExists("R_Monitor_Smokers", "Agent", "Dentro");
         System.out.println("GRAPH SMOKERS MON: Agent dentro del monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentPlacingMonitor_Smokers(String ingredientsLabel) {
+    public void showAgentPlacingMonitor_Smokers(String ingredientsLabel) {
         clearSmokersMonitorAgentLinks();
         addConnectionIfNotExists("R_Monitor_Smokers", "Agent", "Dentro");
         if (ingredientsLabel != null && !ingredientsLabel.isEmpty()) {
             addConnectionIfNotExists("Agent", "R_Table_Smokers", ingredientsLabel);
         }
         System.out.println("GRAPH SMOKERS MON: Agent coloca " + (ingredientsLabel == null ? "" : ingredientsLabel));
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentSignalingMonitor_Smokers() {
+    public void showAgentSignalingMonitor_Smokers() {
         clearSmokersMonitorAgentLinks();
         addConnectionIfNotExists("R_Monitor_Smokers", "Agent", "Dentro");
         addConnectionIfNotExists("Agent", "Cond_Smokers_M", "Signal");
         System.out.println("GRAPH SMOKERS MON: Agent signal Cond_Smokers_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentIdleMonitor_Smokers() {
+    public void showAgentIdleMonitor_Smokers() {
         clearSmokersMonitorAgentLinks();
         System.out.println("GRAPH SMOKERS MON: Agent inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerWaitingMonitor_Smokers(int smokerId) {
+    public void showSmokerWaitingMonitor_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersMonitorSmokerLinks(nodeLabel);
         addConnectionIfNotExists(nodeLabel, "Cond_Smokers_M", "Wait");
         System.out.println("GRAPH SMOKERS MON: " + nodeLabel + " espera Cond_Smokers_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerInsideMonitor_Smokers(int smokerId) {
+    public void showSmokerInsideMonitor_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersMonitorSmokerLinks(nodeLabel);
         addConnectionIfNotExists("R_Monitor_Smokers", nodeLabel, "Dentro");
         System.out.println("GRAPH SMOKERS MON: " + nodeLabel + " dentro del monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerTakingMonitor_Smokers(int smokerId) {
+    public void showSmokerTakingMonitor_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersMonitorSmokerLinks(nodeLabel);
         addConnectionIfNotExists("R_Monitor_Smokers", nodeLabel, "Dentro");
         addConnectionIfNotExists(nodeLabel, "R_Table_Smokers", "Toma");
         System.out.println("GRAPH SMOKERS MON: " + nodeLabel + " toma ingredientes");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerExitMonitor_Smokers(int smokerId) {
+    public void showSmokerExitMonitor_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersMonitorSmokerLinks(nodeLabel);
         System.out.println("GRAPH SMOKERS MON: " + nodeLabel + " sale del monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerSignalingMonitor_Smokers() {
+    public void showSmokerSignalingMonitor_Smokers() {
         addConnectionIfNotExists("Cond_Smokers_M", "Agent", "Signal");
         System.out.println("GRAPH SMOKERS MON: Cond_Smokers_M -> Agent");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerIdleMonitor_Smokers(int smokerId) {
+    public void showSmokerIdleMonitor_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersMonitorSmokerLinks(nodeLabel);
         System.out.println("GRAPH SMOKERS MON: " + nodeLabel + " inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSmokersGraph_Barrier() {
+    public void setupSmokersGraph_Barrier() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2799,94 +3065,94 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("Smoker_Cerillos", NodeType.PROCESO, centerX + smokerOffset, smokersY);
         addNodeIfNotExists("R_Barrier_Smokers", NodeType.RECURSO, centerX - (int) (width * 0.2), barrierY);
         addNodeIfNotExists("R_Table_Smokers", NodeType.RECURSO, centerX + (int) (width * 0.2), tableY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentRequestingBarrier_Smokers() {
+    public void showAgentRequestingBarrier_Smokers() {
         clearSmokersBarrierAgentLinks();
         addConnectionIfNotExists("Agent", "R_Table_Smokers", "Solicitud");
         System.out.println("GRAPH SMOKERS BAR: Agent solicita R_Table_Smokers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentPlacingBarrier_Smokers(String ingredientsLabel) {
+    public void showAgentPlacingBarrier_Smokers(String ingredientsLabel) {
         clearSmokersBarrierAgentLinks();
         addConnectionIfNotExists("R_Table_Smokers", "Agent", "Coloca");
         if (ingredientsLabel != null && !ingredientsLabel.isEmpty()) {
             addConnectionIfNotExists("Agent", "R_Table_Smokers", ingredientsLabel);
         }
         System.out.println("GRAPH SMOKERS BAR: Agent coloca " + (ingredientsLabel == null ? "" : ingredientsLabel));
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentTableBusyBarrier_Smokers() {
+    public void showAgentTableBusyBarrier_Smokers() {
         clearSmokersBarrierAgentLinks();
         addConnectionIfNotExists("Agent", "R_Table_Smokers", "Ocupada");
         System.out.println("GRAPH SMOKERS BAR: Agent encuentra mesa ocupada");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentWaitingBarrier_Smokers() {
+    public void showAgentWaitingBarrier_Smokers() {
         clearSmokersBarrierAgentLinks();
         addConnectionIfNotExists("Agent", "R_Barrier_Smokers", "Espera");
         System.out.println("GRAPH SMOKERS BAR: Agent espera barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentReleasedBarrier_Smokers() {
+    public void showAgentReleasedBarrier_Smokers() {
         clearSmokersBarrierAgentLinks();
         addConnectionIfNotExists("R_Barrier_Smokers", "Agent", "Cruza");
         System.out.println("GRAPH SMOKERS BAR: Agent cruza barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showAgentFinishedBarrier_Smokers() {
+    public void showAgentFinishedBarrier_Smokers() {
         clearSmokersBarrierAgentLinks();
         System.out.println("GRAPH SMOKERS BAR: Agent ciclo listo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerRequestingBarrier_Smokers(int smokerId) {
+    public void showSmokerRequestingBarrier_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersBarrierSmokerLinks(nodeLabel);
         addConnectionIfNotExists(nodeLabel, "R_Table_Smokers", "Solicitud");
         System.out.println("GRAPH SMOKERS BAR: " + nodeLabel + " solicita mesa");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerTakingBarrier_Smokers(int smokerId) {
+    public void showSmokerTakingBarrier_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersBarrierSmokerLinks(nodeLabel);
         addConnectionIfNotExists("R_Table_Smokers", nodeLabel, "Toma");
         System.out.println("GRAPH SMOKERS BAR: " + nodeLabel + " toma ingredientes");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerWaitingBarrier_Smokers(int smokerId) {
+    public void showSmokerWaitingBarrier_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersBarrierSmokerLinks(nodeLabel);
         addConnectionIfNotExists(nodeLabel, "R_Barrier_Smokers", "Espera");
         System.out.println("GRAPH SMOKERS BAR: " + nodeLabel + " espera barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerReleasedBarrier_Smokers(int smokerId) {
+    public void showSmokerReleasedBarrier_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersBarrierSmokerLinks(nodeLabel);
         addConnectionIfNotExists("R_Barrier_Smokers", nodeLabel, "Cruza");
         System.out.println("GRAPH SMOKERS BAR: " + nodeLabel + " cruza barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showSmokerIdleBarrier_Smokers(int smokerId) {
+    public void showSmokerIdleBarrier_Smokers(int smokerId) {
         String nodeLabel = smokerNodeLabel(smokerId);
         clearSmokersBarrierSmokerLinks(nodeLabel);
         System.out.println("GRAPH SMOKERS BAR: " + nodeLabel + " inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    public synchronized void setupReadersWritersGraph_Mutex() {
+    public void setupReadersWritersGraph_Mutex() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2897,47 +3163,47 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
 
         addNodeIfNotExists("R_Mutex_RW", NodeType.RECURSO, centerX, mutexY);
         addNodeIfNotExists("R_Document_RW", NodeType.RECURSO, centerX, documentY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showActorRequestingLock_RW(String actorLabel) {
+    public void showActorRequestingLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Mutex_RW", "Solicitud");
         System.out.println("GRAPH RW MUTEX: " + actorLabel + " solicita R_Mutex_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showActorHoldingLock_RW(String actorLabel) {
+    public void showActorHoldingLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Mutex_RW", actorLabel, "Asignado");
         String action = (actorLabel != null && actorLabel.startsWith("L")) ? "Lee" : "Escribe";
         addConnectionIfNotExists(actorLabel, "R_Document_RW", action);
         System.out.println("GRAPH RW MUTEX: " + actorLabel + " accede al documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showActorReleasingLock_RW(String actorLabel) {
+    public void showActorReleasingLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         System.out.println("GRAPH RW MUTEX: " + actorLabel + " libera mutex");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderFinishedMutex_RW(String actorLabel) {
+    public void showReaderFinishedMutex_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW MUTEX: " + actorLabel + " se retira");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterFinishedMutex_RW(String actorLabel) {
+    public void showWriterFinishedMutex_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW MUTEX: " + actorLabel + " se retira");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupReadersWritersGraph_Semaphore() {
+    public void setupReadersWritersGraph_Semaphore() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -2950,107 +3216,107 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_CountMutex_RW", NodeType.RECURSO, centerX - (int) (width * 0.18), countY);
         addNodeIfNotExists("S_RW_Semaphore", NodeType.RECURSO, centerX + (int) (width * 0.18), semaphoreY);
         addNodeIfNotExists("R_Document_RW", NodeType.RECURSO, centerX, documentY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderRequestingCountSemaphore_RW(String actorLabel) {
+    public void showReaderRequestingCountSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_CountMutex_RW", "Solicitud");
         System.out.println("GRAPH RW SEM: " + actorLabel + " solicita R_CountMutex_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderHoldingCountSemaphore_RW(String actorLabel) {
+    public void showReaderHoldingCountSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_CountMutex_RW", actorLabel, "Asignado");
         System.out.println("GRAPH RW SEM: " + actorLabel + " bloquea R_CountMutex_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderReleasingCountSemaphore_RW(String actorLabel) {
+    public void showReaderReleasingCountSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         System.out.println("GRAPH RW SEM: " + actorLabel + " libera R_CountMutex_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderRequestingRwSemaphore_RW(String actorLabel) {
+    public void showReaderRequestingRwSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "S_RW_Semaphore", "Solicitud");
         System.out.println("GRAPH RW SEM: " + actorLabel + " solicita S_RW_Semaphore");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderHoldingRwSemaphore_RW(String actorLabel) {
+    public void showReaderHoldingRwSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("S_RW_Semaphore", actorLabel, "Asignado");
         System.out.println("GRAPH RW SEM: " + actorLabel + " obtiene S_RW_Semaphore");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderReleasingRwSemaphore_RW(String actorLabel) {
+    public void showReaderReleasingRwSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         System.out.println("GRAPH RW SEM: " + actorLabel + " libera S_RW_Semaphore");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderUsingDocumentSemaphore_RW(String actorLabel) {
+    public void showReaderUsingDocumentSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Lee");
         System.out.println("GRAPH RW SEM: " + actorLabel + " lee documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderFinishedSemaphore_RW(String actorLabel) {
+    public void showReaderFinishedSemaphore_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW SEM: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterRequestingSemaphore_RW(String actorLabel) {
+    public void showWriterRequestingSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "S_RW_Semaphore", "Solicitud");
         System.out.println("GRAPH RW SEM: " + actorLabel + " solicita S_RW_Semaphore");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterHoldingSemaphore_RW(String actorLabel) {
+    public void showWriterHoldingSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("S_RW_Semaphore", actorLabel, "Asignado");
         System.out.println("GRAPH RW SEM: " + actorLabel + " obtiene S_RW_Semaphore");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterUsingDocumentSemaphore_RW(String actorLabel) {
+    public void showWriterUsingDocumentSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Escribe");
         System.out.println("GRAPH RW SEM: " + actorLabel + " escribe documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterReleasingSemaphore_RW(String actorLabel) {
+    public void showWriterReleasingSemaphore_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         System.out.println("GRAPH RW SEM: " + actorLabel + " libera S_RW_Semaphore");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterFinishedSemaphore_RW(String actorLabel) {
+    public void showWriterFinishedSemaphore_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW SEM: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupReadersWritersGraph_Condition() {
+    public void setupReadersWritersGraph_Condition() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3065,150 +3331,150 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("Cond_Readers_RW", NodeType.RECURSO, centerX - offsetX, conditionY);
         addNodeIfNotExists("Cond_Writers_RW", NodeType.RECURSO, centerX + offsetX, conditionY);
         addNodeIfNotExists("R_Document_RW", NodeType.RECURSO, centerX, documentY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderRequestingLockCondition_RW(String actorLabel) {
+    public void showReaderRequestingLockCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW", "Solicitud");
         System.out.println("GRAPH RW COND: " + actorLabel + " solicita R_Lock_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderHoldingLockCondition_RW(String actorLabel) {
+    public void showReaderHoldingLockCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Lock_RW", actorLabel, "Asignado");
         System.out.println("GRAPH RW COND: " + actorLabel + " obtiene R_Lock_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderWaitingCondition_RW(String actorLabel) {
+    public void showReaderWaitingCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Readers_RW", "Espera");
         System.out.println("GRAPH RW COND: " + actorLabel + " espera Cond_Readers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderSignaledCondition_RW(String actorLabel) {
+    public void showReaderSignaledCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
     addConnectionIfNotExists("Cond_Readers_RW", actorLabel, "Senal");
     System.out.println("GRAPH RW COND: " + actorLabel + " recibe senal Cond_Readers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderReleasingLockCondition_RW(String actorLabel) {
+    public void showReaderReleasingLockCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW", "Libera");
         System.out.println("GRAPH RW COND: " + actorLabel + " libera R_Lock_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderUsingDocumentCondition_RW(String actorLabel) {
+    public void showReaderUsingDocumentCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Lee");
         System.out.println("GRAPH RW COND: " + actorLabel + " lee documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderSignalingWriterCondition_RW(String actorLabel) {
+    public void showReaderSignalingWriterCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
     addConnectionIfNotExists(actorLabel, "Cond_Writers_RW", "Senal");
     System.out.println("GRAPH RW COND: " + actorLabel + " senala Cond_Writers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderSignalingReadersCondition_RW(String actorLabel) {
+    public void showReaderSignalingReadersCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
     addConnectionIfNotExists(actorLabel, "Cond_Readers_RW", "Senal");
     System.out.println("GRAPH RW COND: " + actorLabel + " senala Cond_Readers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderFinishedCondition_RW(String actorLabel) {
+    public void showReaderFinishedCondition_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW COND: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterRequestingLockCondition_RW(String actorLabel) {
+    public void showWriterRequestingLockCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW", "Solicitud");
         System.out.println("GRAPH RW COND: " + actorLabel + " solicita R_Lock_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterHoldingLockCondition_RW(String actorLabel) {
+    public void showWriterHoldingLockCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Lock_RW", actorLabel, "Asignado");
         System.out.println("GRAPH RW COND: " + actorLabel + " obtiene R_Lock_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterWaitingCondition_RW(String actorLabel) {
+    public void showWriterWaitingCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Writers_RW", "Espera");
         System.out.println("GRAPH RW COND: " + actorLabel + " espera Cond_Writers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterSignaledCondition_RW(String actorLabel) {
+    public void showWriterSignaledCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
     addConnectionIfNotExists("Cond_Writers_RW", actorLabel, "Senal");
     System.out.println("GRAPH RW COND: " + actorLabel + " recibe senal Cond_Writers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterReleasingLockCondition_RW(String actorLabel) {
+    public void showWriterReleasingLockCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW", "Libera");
         System.out.println("GRAPH RW COND: " + actorLabel + " libera R_Lock_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterUsingDocumentCondition_RW(String actorLabel) {
+    public void showWriterUsingDocumentCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Escribe");
         System.out.println("GRAPH RW COND: " + actorLabel + " escribe documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterSignalingWriterCondition_RW(String actorLabel) {
+    public void showWriterSignalingWriterCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
     addConnectionIfNotExists(actorLabel, "Cond_Writers_RW", "Senal");
     System.out.println("GRAPH RW COND: " + actorLabel + " senala Cond_Writers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterSignalingReadersCondition_RW(String actorLabel) {
+    public void showWriterSignalingReadersCondition_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
     addConnectionIfNotExists(actorLabel, "Cond_Readers_RW", "Senal");
     System.out.println("GRAPH RW COND: " + actorLabel + " senala Cond_Readers_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterFinishedCondition_RW(String actorLabel) {
+    public void showWriterFinishedCondition_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW COND: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupReadersWritersGraph_Monitor() {
+    public void setupReadersWritersGraph_Monitor() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3223,150 +3489,150 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("Cond_Readers_RW_M", NodeType.RECURSO, centerX - offsetX, conditionY);
         addNodeIfNotExists("Cond_Writers_RW_M", NodeType.RECURSO, centerX + offsetX, conditionY);
         addNodeIfNotExists("R_Document_RW", NodeType.RECURSO, centerX, documentY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderRequestingMonitor_RW(String actorLabel) {
+    public void showReaderRequestingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Monitor_RW", "Solicitud");
         System.out.println("GRAPH RW MON: " + actorLabel + " solicita R_Monitor_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderHoldingMonitor_RW(String actorLabel) {
+    public void showReaderHoldingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Monitor_RW", actorLabel, "Asignado");
         System.out.println("GRAPH RW MON: " + actorLabel + " obtiene R_Monitor_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderWaitingMonitor_RW(String actorLabel) {
+    public void showReaderWaitingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Readers_RW_M", "Espera");
         System.out.println("GRAPH RW MON: " + actorLabel + " espera Cond_Readers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderSignaledMonitor_RW(String actorLabel) {
+    public void showReaderSignaledMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("Cond_Readers_RW_M", actorLabel, "Senal");
         System.out.println("GRAPH RW MON: " + actorLabel + " recibe senal Cond_Readers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderReleasingMonitor_RW(String actorLabel) {
+    public void showReaderReleasingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Monitor_RW", "Libera");
         System.out.println("GRAPH RW MON: " + actorLabel + " libera R_Monitor_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderUsingDocumentMonitor_RW(String actorLabel) {
+    public void showReaderUsingDocumentMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Lee");
         System.out.println("GRAPH RW MON: " + actorLabel + " lee documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderSignalingWriterMonitor_RW(String actorLabel) {
+    public void showReaderSignalingWriterMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Writers_RW_M", "Senal");
         System.out.println("GRAPH RW MON: " + actorLabel + " senala Cond_Writers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderSignalingReadersMonitor_RW(String actorLabel) {
+    public void showReaderSignalingReadersMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Readers_RW_M", "Senal");
         System.out.println("GRAPH RW MON: " + actorLabel + " senala Cond_Readers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderFinishedMonitor_RW(String actorLabel) {
+    public void showReaderFinishedMonitor_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW MON: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterRequestingMonitor_RW(String actorLabel) {
+    public void showWriterRequestingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Monitor_RW", "Solicitud");
         System.out.println("GRAPH RW MON: " + actorLabel + " solicita R_Monitor_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterHoldingMonitor_RW(String actorLabel) {
+    public void showWriterHoldingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Monitor_RW", actorLabel, "Asignado");
         System.out.println("GRAPH RW MON: " + actorLabel + " obtiene R_Monitor_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterWaitingMonitor_RW(String actorLabel) {
+    public void showWriterWaitingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Writers_RW_M", "Espera");
         System.out.println("GRAPH RW MON: " + actorLabel + " espera Cond_Writers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterSignaledMonitor_RW(String actorLabel) {
+    public void showWriterSignaledMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("Cond_Writers_RW_M", actorLabel, "Senal");
         System.out.println("GRAPH RW MON: " + actorLabel + " recibe senal Cond_Writers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterReleasingMonitor_RW(String actorLabel) {
+    public void showWriterReleasingMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Monitor_RW", "Libera");
         System.out.println("GRAPH RW MON: " + actorLabel + " libera R_Monitor_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterUsingDocumentMonitor_RW(String actorLabel) {
+    public void showWriterUsingDocumentMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Escribe");
         System.out.println("GRAPH RW MON: " + actorLabel + " escribe documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterSignalingWriterMonitor_RW(String actorLabel) {
+    public void showWriterSignalingWriterMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Writers_RW_M", "Senal");
         System.out.println("GRAPH RW MON: " + actorLabel + " senala Cond_Writers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterSignalingReadersMonitor_RW(String actorLabel) {
+    public void showWriterSignalingReadersMonitor_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "Cond_Readers_RW_M", "Senal");
         System.out.println("GRAPH RW MON: " + actorLabel + " senala Cond_Readers_RW_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterFinishedMonitor_RW(String actorLabel) {
+    public void showWriterFinishedMonitor_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW MON: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupReadersWritersGraph_Barrier() {
+    public void setupReadersWritersGraph_Barrier() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3379,135 +3645,135 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Lock_RW_B", NodeType.RECURSO, centerX, lockY);
         addNodeIfNotExists("R_Barrier_RW", NodeType.RECURSO, centerX, barrierY);
         addNodeIfNotExists("R_Document_RW", NodeType.RECURSO, centerX, documentY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderRequestingBarrierLock_RW(String actorLabel) {
+    public void showReaderRequestingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW_B", "Solicitud");
         System.out.println("GRAPH RW BAR: " + actorLabel + " solicita R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderWaitingBarrierLock_RW(String actorLabel) {
+    public void showReaderWaitingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW_B", "Espera");
         System.out.println("GRAPH RW BAR: " + actorLabel + " espera R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderHoldingBarrierLock_RW(String actorLabel) {
+    public void showReaderHoldingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Lock_RW_B", actorLabel, "Asignado");
         System.out.println("GRAPH RW BAR: " + actorLabel + " obtiene R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderUsingDocumentBarrier_RW(String actorLabel) {
+    public void showReaderUsingDocumentBarrier_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Lee");
         System.out.println("GRAPH RW BAR: " + actorLabel + " lee documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderReleasingBarrierLock_RW(String actorLabel) {
+    public void showReaderReleasingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW_B", "Libera");
         System.out.println("GRAPH RW BAR: " + actorLabel + " libera R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderWaitingBarrierGate_RW(String actorLabel) {
+    public void showReaderWaitingBarrierGate_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Barrier_RW", "Espera");
         System.out.println("GRAPH RW BAR: " + actorLabel + " espera R_Barrier_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderCrossingBarrierGate_RW(String actorLabel) {
+    public void showReaderCrossingBarrierGate_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Barrier_RW", actorLabel, "Cruza");
         System.out.println("GRAPH RW BAR: " + actorLabel + " cruza R_Barrier_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showReaderFinishedBarrier_RW(String actorLabel) {
+    public void showReaderFinishedBarrier_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW BAR: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterRequestingBarrierLock_RW(String actorLabel) {
+    public void showWriterRequestingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW_B", "Solicitud");
         System.out.println("GRAPH RW BAR: " + actorLabel + " solicita R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterWaitingBarrierLock_RW(String actorLabel) {
+    public void showWriterWaitingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW_B", "Espera");
         System.out.println("GRAPH RW BAR: " + actorLabel + " espera R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterHoldingBarrierLock_RW(String actorLabel) {
+    public void showWriterHoldingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Lock_RW_B", actorLabel, "Asignado");
         System.out.println("GRAPH RW BAR: " + actorLabel + " obtiene R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterUsingDocumentBarrier_RW(String actorLabel) {
+    public void showWriterUsingDocumentBarrier_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Document_RW", "Escribe");
         System.out.println("GRAPH RW BAR: " + actorLabel + " escribe documento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterReleasingBarrierLock_RW(String actorLabel) {
+    public void showWriterReleasingBarrierLock_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Lock_RW_B", "Libera");
         System.out.println("GRAPH RW BAR: " + actorLabel + " libera R_Lock_RW_B");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterWaitingBarrierGate_RW(String actorLabel) {
+    public void showWriterWaitingBarrierGate_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists(actorLabel, "R_Barrier_RW", "Espera");
         System.out.println("GRAPH RW BAR: " + actorLabel + " espera R_Barrier_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterCrossingBarrierGate_RW(String actorLabel) {
+    public void showWriterCrossingBarrierGate_RW(String actorLabel) {
         ensureReadersWritersActorNode(actorLabel);
         clearReadersWritersActorLinks(actorLabel);
         addConnectionIfNotExists("R_Barrier_RW", actorLabel, "Cruza");
         System.out.println("GRAPH RW BAR: " + actorLabel + " cruza R_Barrier_RW");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showWriterFinishedBarrier_RW(String actorLabel) {
+    public void showWriterFinishedBarrier_RW(String actorLabel) {
         removeReadersWritersActorNode(actorLabel);
         System.out.println("GRAPH RW BAR: " + actorLabel + " finaliza");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    public synchronized void setupSleepingBarberGraph() {
+    public void setupSleepingBarberGraph() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3519,50 +3785,50 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("Generator", NodeType.PROCESO, centerX - offsetX, processY);
         addNodeIfNotExists("Barber", NodeType.PROCESO, centerX + offsetX, processY);
         addNodeIfNotExists("R_Mutex_Barber", NodeType.RECURSO, centerX, resourceY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showGeneratorRequestingLock_Barber() {
+    public void showGeneratorRequestingLock_Barber() {
         clearSleepingBarberProcessLinks("Generator");
         addConnectionIfNotExists("Generator", "R_Mutex_Barber", "Solicitud");
         System.out.println("GRAPH BARBER MUTEX: Generator solicita R_Mutex_Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showGeneratorHoldingLock_Barber() {
+    public void showGeneratorHoldingLock_Barber() {
         clearSleepingBarberProcessLinks("Generator");
         addConnectionIfNotExists("R_Mutex_Barber", "Generator", "Asignado");
         System.out.println("GRAPH BARBER MUTEX: R_Mutex_Barber -> Generator");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showGeneratorReleasingLock_Barber() {
+    public void showGeneratorReleasingLock_Barber() {
         clearSleepingBarberProcessLinks("Generator");
         System.out.println("GRAPH BARBER MUTEX: Generator libera R_Mutex_Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberRequestingLock_Barber() {
+    public void showBarberRequestingLock_Barber() {
         clearSleepingBarberProcessLinks("Barber");
         addConnectionIfNotExists("Barber", "R_Mutex_Barber", "Solicitud");
         System.out.println("GRAPH BARBER MUTEX: Barber solicita R_Mutex_Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberHoldingLock_Barber() {
+    public void showBarberHoldingLock_Barber() {
         clearSleepingBarberProcessLinks("Barber");
         addConnectionIfNotExists("R_Mutex_Barber", "Barber", "Asignado");
         System.out.println("GRAPH BARBER MUTEX: R_Mutex_Barber -> Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberReleasingLock_Barber() {
+    public void showBarberReleasingLock_Barber() {
         clearSleepingBarberProcessLinks("Barber");
         System.out.println("GRAPH BARBER MUTEX: Barber libera R_Mutex_Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSleepingBarberGraph_Semaphore() {
+    public void setupSleepingBarberGraph_Semaphore() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3578,111 +3844,111 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("S_Customers", NodeType.RECURSO, centerX - midOffsetX, centerY);
         addNodeIfNotExists("S_Barber", NodeType.RECURSO, centerX + midOffsetX, centerY);
         addNodeIfNotExists("R_WaitRoom", NodeType.RECURSO, centerX, centerY + (int) (height * 0.05));
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerRequestingAccessSemaphore_Barber() {
+    public void showCustomerRequestingAccessSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         addConnectionIfNotExists("Customer", "S_AccessSeats", "Espera");
         System.out.println("GRAPH BARBER SEM: Customer espera S_AccessSeats");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerHoldingAccessSemaphore_Barber() {
+    public void showCustomerHoldingAccessSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         addConnectionIfNotExists("S_AccessSeats", "Customer", "Permiso");
         System.out.println("GRAPH BARBER SEM: S_AccessSeats -> Customer");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerReleasingAccessSemaphore_Barber() {
+    public void showCustomerReleasingAccessSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         System.out.println("GRAPH BARBER SEM: Customer libera S_AccessSeats");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerQueueFullSemaphore_Barber() {
+    public void showCustomerQueueFullSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         addConnectionIfNotExists("Customer", "R_WaitRoom", "Lleno");
         System.out.println("GRAPH BARBER SEM: Customer sin asiento");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerSignalingCustomersSemaphore_Barber() {
+    public void showCustomerSignalingCustomersSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         addConnectionIfNotExists("Customer", "S_Customers", "Signal");
         System.out.println("GRAPH BARBER SEM: Customer signal S_Customers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerWaitingBarberSemaphore_Barber() {
+    public void showCustomerWaitingBarberSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         addConnectionIfNotExists("Customer", "S_Barber", "Espera");
         System.out.println("GRAPH BARBER SEM: Customer espera S_Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerGrantedBarberSemaphore_Barber() {
+    public void showCustomerGrantedBarberSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         addConnectionIfNotExists("S_Barber", "Customer", "Permiso");
         System.out.println("GRAPH BARBER SEM: S_Barber -> Customer");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerIdleSemaphore_Barber() {
+    public void showCustomerIdleSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Customer");
         System.out.println("GRAPH BARBER SEM: Customer inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberWaitingCustomersSemaphore_Barber() {
+    public void showBarberWaitingCustomersSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Barber");
         addConnectionIfNotExists("Barber", "S_Customers", "Espera");
         System.out.println("GRAPH BARBER SEM: Barber espera S_Customers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberAcquiredCustomersSemaphore_Barber() {
+    public void showBarberAcquiredCustomersSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Barber");
         addConnectionIfNotExists("S_Customers", "Barber", "Permiso");
         System.out.println("GRAPH BARBER SEM: S_Customers -> Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberRequestingAccessSemaphore_Barber() {
+    public void showBarberRequestingAccessSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Barber");
         addConnectionIfNotExists("Barber", "S_AccessSeats", "Espera");
         System.out.println("GRAPH BARBER SEM: Barber espera S_AccessSeats");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberHoldingAccessSemaphore_Barber() {
+    public void showBarberHoldingAccessSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Barber");
         addConnectionIfNotExists("S_AccessSeats", "Barber", "Permiso");
         System.out.println("GRAPH BARBER SEM: S_AccessSeats -> Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberReleasingAccessSemaphore_Barber() {
+    public void showBarberReleasingAccessSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Barber");
         System.out.println("GRAPH BARBER SEM: Barber libera S_AccessSeats");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberSignalingBarberSemaphore_Barber() {
+    public void showBarberSignalingBarberSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Barber");
         addConnectionIfNotExists("Barber", "S_Barber", "Signal");
         System.out.println("GRAPH BARBER SEM: Barber signal S_Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberIdleSemaphore_Barber() {
+    public void showBarberIdleSemaphore_Barber() {
         clearSleepingBarberSemaphoreLinks("Barber");
         System.out.println("GRAPH BARBER SEM: Barber inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSleepingBarberGraph_Condition() {
+    public void setupSleepingBarberGraph_Condition() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3698,99 +3964,99 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Lock_SB", NodeType.RECURSO, centerX, lockY);
         addNodeIfNotExists("Cond_Customers", NodeType.RECURSO, centerX + (int) (width * 0.12), conditionY);
         addNodeIfNotExists("R_WaitRoom", NodeType.RECURSO, centerX - (int) (width * 0.12), waitRoomY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerRequestingLockCondition_Barber() {
+    public void showCustomerRequestingLockCondition_Barber() {
         clearSleepingBarberConditionLinks("Customer");
         addConnectionIfNotExists("Customer", "R_Lock_SB", "Espera");
         System.out.println("GRAPH BARBER COND: Customer espera R_Lock_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerHoldingLockCondition_Barber() {
+    public void showCustomerHoldingLockCondition_Barber() {
         clearSleepingBarberConditionLinks("Customer");
         addConnectionIfNotExists("R_Lock_SB", "Customer", "Dentro");
         System.out.println("GRAPH BARBER COND: R_Lock_SB -> Customer");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerSeatedCondition_Barber() {
+    public void showCustomerSeatedCondition_Barber() {
         clearSleepingBarberConditionLinks("Customer");
         addConnectionIfNotExists("R_Lock_SB", "Customer", "Dentro");
         addConnectionIfNotExists("Customer", "R_WaitRoom", "Silla");
         System.out.println("GRAPH BARBER COND: Customer ocupa silla");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerQueueFullCondition_Barber() {
+    public void showCustomerQueueFullCondition_Barber() {
         clearSleepingBarberConditionLinks("Customer");
         addConnectionIfNotExists("Customer", "R_WaitRoom", "Lleno");
         System.out.println("GRAPH BARBER COND: Customer sin silla");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerSignalingCondition_Barber() {
+    public void showCustomerSignalingCondition_Barber() {
         clearSleepingBarberConditionLinks("Customer");
         addConnectionIfNotExists("R_Lock_SB", "Customer", "Dentro");
         addConnectionIfNotExists("Customer", "Cond_Customers", "Signal");
         System.out.println("GRAPH BARBER COND: Customer signal Cond_Customers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerReleasingLockCondition_Barber() {
+    public void showCustomerReleasingLockCondition_Barber() {
         clearSleepingBarberConditionLinks("Customer");
         System.out.println("GRAPH BARBER COND: Customer libera R_Lock_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerIdleCondition_Barber() {
+    public void showCustomerIdleCondition_Barber() {
         clearSleepingBarberConditionLinks("Customer");
         System.out.println("GRAPH BARBER COND: Customer inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberRequestingLockCondition_Barber() {
+    public void showBarberRequestingLockCondition_Barber() {
         clearSleepingBarberConditionLinks("Barber");
         addConnectionIfNotExists("Barber", "R_Lock_SB", "Espera");
         System.out.println("GRAPH BARBER COND: Barber espera R_Lock_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberHoldingLockCondition_Barber() {
+    public void showBarberHoldingLockCondition_Barber() {
         clearSleepingBarberConditionLinks("Barber");
         addConnectionIfNotExists("R_Lock_SB", "Barber", "Dentro");
         System.out.println("GRAPH BARBER COND: R_Lock_SB -> Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberWaitingCondition_Barber() {
+    public void showBarberWaitingCondition_Barber() {
         clearSleepingBarberConditionLinks("Barber");
         addConnectionIfNotExists("Barber", "Cond_Customers", "Wait");
         System.out.println("GRAPH BARBER COND: Barber espera Cond_Customers");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberSignaledCondition_Barber() {
+    public void showBarberSignaledCondition_Barber() {
         clearSleepingBarberConditionLinks("Barber");
         addConnectionIfNotExists("Cond_Customers", "Barber", "Signal");
         System.out.println("GRAPH BARBER COND: Cond_Customers -> Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberReleasingLockCondition_Barber() {
+    public void showBarberReleasingLockCondition_Barber() {
         clearSleepingBarberConditionLinks("Barber");
         System.out.println("GRAPH BARBER COND: Barber libera R_Lock_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberIdleCondition_Barber() {
+    public void showBarberIdleCondition_Barber() {
         clearSleepingBarberConditionLinks("Barber");
         System.out.println("GRAPH BARBER COND: Barber inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSleepingBarberGraph_Monitor() {
+    public void setupSleepingBarberGraph_Monitor() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3806,10 +4072,10 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Monitor_SB", NodeType.RECURSO, centerX, monitorY);
         addNodeIfNotExists("Cond_Customers_M", NodeType.RECURSO, centerX + (int) (width * 0.12), condY);
         addNodeIfNotExists("R_WaitRoom", NodeType.RECURSO, centerX - (int) (width * 0.12), waitRoomY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    private synchronized void clearSleepingBarberMonitorLinks(String processLabel) {
+    private void clearSleepingBarberMonitorLinks(String processLabel) {
         if (processLabel == null) {
             return;
         }
@@ -3821,96 +4087,96 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         removeConnection("R_WaitRoom", processLabel);
     }
 
-    public synchronized void showCustomerRequestingMonitor_Barber() {
+    public void showCustomerRequestingMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Customer");
         addConnectionIfNotExists("Customer", "R_Monitor_SB", "Solicitud");
         System.out.println("GRAPH BARBER MON: Customer solicita R_Monitor_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerInsideMonitor_Barber() {
+    public void showCustomerInsideMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Customer");
         addConnectionIfNotExists("R_Monitor_SB", "Customer", "Dentro");
         System.out.println("GRAPH BARBER MON: R_Monitor_SB -> Customer");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerSeatedMonitor_Barber() {
+    public void showCustomerSeatedMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Customer");
         addConnectionIfNotExists("R_Monitor_SB", "Customer", "Dentro");
         addConnectionIfNotExists("Customer", "R_WaitRoom", "Silla");
         System.out.println("GRAPH BARBER MON: Customer ocupa silla");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerQueueFullMonitor_Barber() {
+    public void showCustomerQueueFullMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Customer");
         addConnectionIfNotExists("Customer", "R_WaitRoom", "Lleno");
         System.out.println("GRAPH BARBER MON: Customer sin silla");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerSignalingMonitor_Barber() {
+    public void showCustomerSignalingMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Customer");
         addConnectionIfNotExists("R_Monitor_SB", "Customer", "Dentro");
         addConnectionIfNotExists("Customer", "Cond_Customers_M", "Signal");
         System.out.println("GRAPH BARBER MON: Customer signal Cond_Customers_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerExitMonitor_Barber() {
+    public void showCustomerExitMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Customer");
         System.out.println("GRAPH BARBER MON: Customer sale del monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showCustomerIdleMonitor_Barber() {
+    public void showCustomerIdleMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Customer");
         System.out.println("GRAPH BARBER MON: Customer inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberRequestingMonitor_Barber() {
+    public void showBarberRequestingMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Barber");
         addConnectionIfNotExists("Barber", "R_Monitor_SB", "Solicitud");
         System.out.println("GRAPH BARBER MON: Barber solicita R_Monitor_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberInsideMonitor_Barber() {
+    public void showBarberInsideMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Barber");
         addConnectionIfNotExists("R_Monitor_SB", "Barber", "Dentro");
         System.out.println("GRAPH BARBER MON: R_Monitor_SB -> Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberWaitingMonitor_Barber() {
+    public void showBarberWaitingMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Barber");
         addConnectionIfNotExists("Barber", "Cond_Customers_M", "Wait");
         System.out.println("GRAPH BARBER MON: Barber espera Cond_Customers_M");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberSignaledMonitor_Barber() {
+    public void showBarberSignaledMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Barber");
         addConnectionIfNotExists("Cond_Customers_M", "Barber", "Signal");
         System.out.println("GRAPH BARBER MON: Cond_Customers_M -> Barber");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberExitMonitor_Barber() {
+    public void showBarberExitMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Barber");
         System.out.println("GRAPH BARBER MON: Barber sale del monitor");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberIdleMonitor_Barber() {
+    public void showBarberIdleMonitor_Barber() {
         clearSleepingBarberMonitorLinks("Barber");
         System.out.println("GRAPH BARBER MON: Barber inactivo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void setupSleepingBarberGraph_Barrier() {
+    public void setupSleepingBarberGraph_Barrier() {
         clearGraphInternal();
         int width = getWidth() > 0 ? getWidth() : 600;
         int height = getHeight() > 0 ? getHeight() : 400;
@@ -3926,105 +4192,106 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         addNodeIfNotExists("R_Barrier_SB", NodeType.RECURSO, centerX, barrierY);
         addNodeIfNotExists("R_Token_SB", NodeType.RECURSO, centerX + (int) (width * 0.12), tokenY);
         addNodeIfNotExists("R_WaitRoom", NodeType.RECURSO, centerX - (int) (width * 0.12), waitRoomY);
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showGeneratorRequestingBarrier_Barber() {
+    public void showGeneratorRequestingBarrier_Barber() {
         clearSleepingBarberBarrierLinks("Generator");
         addConnectionIfNotExists("Generator", "R_Barrier_SB", "Solicitud");
         System.out.println("GRAPH BARBER BAR: Generator solicita R_Barrier_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showGeneratorWaitingBarrier_Barber() {
+    public void showGeneratorWaitingBarrier_Barber() {
         clearSleepingBarberBarrierLinks("Generator");
         addConnectionIfNotExists("Generator", "R_Barrier_SB", "Espera");
         System.out.println("GRAPH BARBER BAR: Generator espera barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showGeneratorReleasedBarrier_Barber() {
+    public void showGeneratorReleasedBarrier_Barber() {
         clearSleepingBarberBarrierLinks("Generator");
         addConnectionIfNotExists("R_Barrier_SB", "Generator", "Cruza");
         addConnectionIfNotExists("R_Token_SB", "Generator", "Turno");
         System.out.println("GRAPH BARBER BAR: Generator cruza barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showGeneratorFinishedCycle_Barber() {
+    public void showGeneratorFinishedCycle_Barber() {
         clearSleepingBarberBarrierLinks("Generator");
         System.out.println("GRAPH BARBER BAR: Generator ciclo listo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberRequestingBarrier_Barber() {
+    public void showBarberRequestingBarrier_Barber() {
         clearSleepingBarberBarrierLinks("Barber");
         addConnectionIfNotExists("Barber", "R_Barrier_SB", "Solicitud");
         System.out.println("GRAPH BARBER BAR: Barber solicita R_Barrier_SB");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberWaitingBarrier_Barber() {
+    public void showBarberWaitingBarrier_Barber() {
         clearSleepingBarberBarrierLinks("Barber");
         addConnectionIfNotExists("Barber", "R_Barrier_SB", "Espera");
         System.out.println("GRAPH BARBER BAR: Barber espera barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberReleasedBarrier_Barber() {
+    public void showBarberReleasedBarrier_Barber() {
         clearSleepingBarberBarrierLinks("Barber");
         addConnectionIfNotExists("R_Barrier_SB", "Barber", "Cruza");
         addConnectionIfNotExists("R_Token_SB", "Barber", "Turno");
         System.out.println("GRAPH BARBER BAR: Barber cruza barrera");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
-    public synchronized void showBarberFinishedCycle_Barber() {
+    public void showBarberFinishedCycle_Barber() {
         clearSleepingBarberBarrierLinks("Barber");
         System.out.println("GRAPH BARBER BAR: Barber ciclo listo");
-        SwingUtilities.invokeLater(this::repaint);
+        requestRepaint();
     }
 
     
-    private void drawNode(Graphics2D g2, ShapeNode n, boolean highlight) {
+    private void drawNode(Graphics2D g2, GraphSnapshot.Node n, boolean highlight) {
         
-        if (n == null || n.label == null) {
+        if (n == null || n.label() == null) {
             return;
         }
-        int h = n.size / 2;
-        if (n.type == NodeType.PROCESO) {
+        int h = n.size() / 2;
+        g2.setStroke(NODE_BORDER_STROKE);
+        if (n.type() == NodeType.PROCESO) {
             g2.setColor(PROCESS_NODE_FILL);
-            g2.fillOval(n.x - h, n.y - h, n.size, n.size);
+            g2.fillOval(n.x() - h, n.y() - h, n.size(), n.size());
             if (highlight) {
                 g2.setColor(NODE_HIGHLIGHT_OVERLAY);
-                g2.fillOval(n.x - h, n.y - h, n.size, n.size);
+                g2.fillOval(n.x() - h, n.y() - h, n.size(), n.size());
             }
             g2.setColor(NODE_BORDER_COLOR);
-            g2.drawOval(n.x - h, n.y - h, n.size, n.size);
+            g2.drawOval(n.x() - h, n.y() - h, n.size(), n.size());
         } else { 
             g2.setColor(RESOURCE_NODE_FILL);
-            g2.fillRect(n.x - h, n.y - h, n.size, n.size);
+            g2.fillRect(n.x() - h, n.y() - h, n.size(), n.size());
             if (highlight) {
                 g2.setColor(NODE_HIGHLIGHT_OVERLAY);
-                g2.fillRect(n.x - h, n.y - h, n.size, n.size);
+                g2.fillRect(n.x() - h, n.y() - h, n.size(), n.size());
             }
             g2.setColor(NODE_BORDER_COLOR);
-            g2.drawRect(n.x - h, n.y - h, n.size, n.size);
+            g2.drawRect(n.x() - h, n.y() - h, n.size(), n.size());
         }
         FontMetrics fm = g2.getFontMetrics();
-        int tw = fm.stringWidth(n.label);
+        int tw = fm.stringWidth(n.label());
         int th = fm.getAscent();
         g2.setColor(NODE_LABEL_COLOR);
-        g2.drawString(n.label, n.x - tw / 2, n.y + th / 4);
+        g2.drawString(n.label(), n.x() - tw / 2, n.y() + th / 4);
     }
 
-    private void drawArrow(Graphics2D g2, ShapeNode from, ShapeNode to) {
+    private void drawArrow(Graphics2D g2, GraphSnapshot.Node from, GraphSnapshot.Node to) {
         
         if (from == null || to == null) {
             return;
         }
-        Point start = edgePointTowards(from, new Point(to.x, to.y));
-        Point end = edgePointTowards(to, new Point(from.x, from.y));
+        Point start = edgePointTowards(from, new Point(to.x(), to.y()));
+        Point end = edgePointTowards(to, new Point(from.x(), from.y()));
         if (start == null || end == null || start.equals(end)) {
             return;
         }
@@ -4034,29 +4301,29 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
         drawArrowHead(g2, start, end);
     }
 
-    private Point edgePointTowards(ShapeNode n, Point target) {
+    private Point edgePointTowards(GraphSnapshot.Node n, Point target) {
         
         if (n == null || target == null) {
             return null;
         }
-        double dx = target.x - n.x, dy = target.y - n.y;
+        double dx = target.x - n.x(), dy = target.y - n.y();
         if (Math.abs(dx) < 1e-6 && Math.abs(dy) < 1e-6) {
-            return new Point(n.x, n.y);
+            return new Point(n.x(), n.y());
         }
         double ang = Math.atan2(dy, dx);
-        int h = n.size / 2;
-        if (n.type == NodeType.PROCESO) {
-            int ex = n.x + (int) Math.round(Math.cos(ang) * h);
-            int ey = n.y + (int) Math.round(Math.sin(ang) * h);
+        int h = n.size() / 2;
+        if (n.type() == NodeType.PROCESO) {
+            int ex = n.x() + (int) Math.round(Math.cos(ang) * h);
+            int ey = n.y() + (int) Math.round(Math.sin(ang) * h);
             return new Point(ex, ey);
         } else { 
             double cos = Math.cos(ang), sin = Math.sin(ang);
             double t = Math.max(Math.abs(cos), Math.abs(sin));
             if (t < 1e-6) {
-                return new Point(n.x, n.y);
+                return new Point(n.x(), n.y());
             }
-            int ex = n.x + (int) Math.round((cos / t) * h);
-            int ey = n.y + (int) Math.round((sin / t) * h);
+            int ex = n.x() + (int) Math.round((cos / t) * h);
+            int ey = n.y() + (int) Math.round((sin / t) * h);
             return new Point(ex, ey);
         }
     }
@@ -4079,64 +4346,72 @@ public class DrawingPanel extends JPanel implements MouseListener, MouseMotionLi
     }
 
     @Override
-    public synchronized void mousePressed(MouseEvent e) {
+    public void mousePressed(MouseEvent e) {
         
         if (SwingUtilities.isRightMouseButton(e)) {
-            Optional<ShapeNode> hit = findNodeAt(e.getX(), e.getY());
+            Optional<GraphSnapshot.Node> hit = findNodeAt(e.getX(), e.getY(), -1);
             if (hit.isPresent()) {
-                nodeMenuTarget = hit.get();
+                nodeMenuTarget = hit.get().id();
                 nodeMenu.show(this, e.getX(), e.getY());
             } else {
-                nodeMenuTarget = null;
+                nodeMenuTarget = -1;
                 createAt = e.getPoint();
                 createMenu.show(this, e.getX(), e.getY());
             }
             return;
         }
-        findNodeAt(e.getX(), e.getY()).ifPresent(n -> {
-            dragging = n;
-            offX = e.getX() - n.x;
-            offY = e.getY() - n.y;
+        findNodeAt(e.getX(), e.getY(), -1).ifPresent(n -> {
+            dragging = n.id();
+            offX = e.getX() - n.x();
+            offY = e.getY() - n.y();
         });
-        hoveredTarget = null;
-        repaint();
+        hoveredTarget = -1;
+        graphEvents.run(this::requestRepaint);
     }
 
     @Override
-    public synchronized void mouseDragged(MouseEvent e) {
+    public void mouseDragged(MouseEvent e) {
         
-        if (dragging != null) {
-            dragging.x = e.getX() - offX;
-            dragging.y = e.getY() - offY;
-            Optional<ShapeNode> over = findNodeAt(e.getX(), e.getY());
-            hoveredTarget = over.filter(n -> n != dragging).orElse(null);
-            repaint();
+        int moving = dragging;
+        if (moving >= 0) {
+            int x = e.getX() - offX;
+            int y = e.getY() - offY;
+            graphEvents.post(dragKey, () -> {
+                data.moveNode(data.nodeById(moving), x, y);
+                requestRepaint();
+            });
+            hoveredTarget = findNodeAt(e.getX(), e.getY(), moving).map(GraphSnapshot.Node::id).orElse(-1);
         }
     }
 
     @Override
-    public synchronized void mouseReleased(MouseEvent e) {
+    public void mouseReleased(MouseEvent e) {
         
-        ShapeNode currentDragging = this.dragging;
-        ShapeNode currentHovered = this.hoveredTarget;
-        if (currentDragging != null && currentHovered != null) {
-            ShapeNode a = currentDragging;
-            ShapeNode b = currentHovered;
-            if (a.type == NodeType.PROCESO && b.type == NodeType.RECURSO) {
-                addConnectionIfNotExists(a.label, b.label, "Solicitud");
-            } else if (a.type == NodeType.RECURSO && b.type == NodeType.PROCESO) {
-                addConnectionIfNotExists(a.label, b.label, "Asignado");
+        GraphSnapshot view = data.snapshot();
+        GraphSnapshot.Node a = view.nodeById(this.dragging);
+        GraphSnapshot.Node b = view.nodeById(this.hoveredTarget);
+        if (a != null && b != null) {
+            if (a.type() == NodeType.PROCESO && b.type() == NodeType.RECURSO) {
+                graphEvents.post(() -> {
+                    addConnectionIfNotExists(a.label(), b.label(), "Solicitud");
+                    requestRepaint();
+                });
+            } else if (a.type() == NodeType.RECURSO && b.type() == NodeType.PROCESO) {
+                graphEvents.post(() -> {
+                    addConnectionIfNotExists(a.label(), b.label(), "Asignado");
+                    requestRepaint();
+                });
             }
         }
-        dragging = null;
-        hoveredTarget = null;
-        repaint();
+        dragging = -1;
+        hoveredTarget = -1;
+        graphEvents.run(this::requestRepaint);
     }
 
     @Override
     public void mouseMoved(MouseEvent e) {
         
-        setCursor(findNodeAt(e.getX(), e.getY()).isPresent() ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+        setCursor(findNodeAt(e.getX(), e.getY(), -1).isPresent() ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
     }
 
     @Override
@@ -1,10 +1,257 @@
 package core;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class GraphData implements Serializable {
+    private static final long serialVersionUID = -4678036804986037035L;
+
     ArrayList<ShapeNode> nodes = new ArrayList<>();
     ArrayList<Connection> connections = new ArrayList<>();
     int nextProceso = 1, nextRecurso = 1, nextId = 1;
-}
\ No newline at end of file
+    private transient Map<String, ShapeNode> byLabel = new HashMap<>();
+    private transient Map<Integer, ShapeNode> byId = new HashMap<>();
+    private transient Map<Integer, List<Connection>> adjacency = new HashMap<>();
+    private transient GraphSnapshot.Chunks<GraphSnapshot.Node> nodeViews = GraphSnapshot.Chunks.empty();
+    private transient GraphSnapshot.Chunks<GraphSnapshot.Edge> edgeViews = GraphSnapshot.Chunks.empty();
+    private transient GraphSnapshot.IdIndex idIndex = new GraphSnapshot.IdIndex(nodeViews);
+    private transient long version;
+    private transient volatile GraphSnapshot snapshot = GraphSnapshot.EMPTY;
+
+    GraphSnapshot snapshot() {
+        return snapshot;
+    }
+
+    static GraphData copyOf(GraphSnapshot view) {
+        GraphData copy = new GraphData();
+        for (int i = 0; i < view.nodeCount(); i++) {
+            GraphSnapshot.Node n = view.node(i);
+            ShapeNode c = new ShapeNode();
+            c.id = n.id();
+            c.type = n.type();
+            c.x = n.x();
+            c.y = n.y();
+            c.size = n.size();
+            c.label = n.label();
+            copy.addNode(c);
+        }
+        for (int i = 0; i < view.edgeCount(); i++) {
+            GraphSnapshot.Edge e = view.edge(i);
+            if (e.from() != null && e.to() != null) {
+                copy.connect(e.from().id(), e.to().id(), e.kind());
+            }
+        }
+        GraphSnapshot.Counters counters = view.counters();
+        copy.nextId = counters.nextId();
+        copy.nextProceso = counters.nextProceso();
+        copy.nextRecurso = counters.nextRecurso();
+        copy.publish();
+        return copy;
+    }
+
+    ShapeNode nodeById(int id) {
+        return byId.get(id);
+    }
+
+    ShapeNode nodeByLabel(String label) {
+        return label == null ? null : byLabel.get(label);
+    }
+
+    List<Connection> connectionsOf(int id) {
+        List<Connection> incident = adjacency.get(id);
+        return incident == null ? Collections.emptyList() : Collections.unmodifiableList(incident);
+    }
+
+    void addNode(ShapeNode node) {
+        node.index = nodes.size();
+        nodes.add(node);
+        index(node);
+        nodeViews = nodeViews.append(GraphSnapshot.Node.of(node));
+        idIndex = new GraphSnapshot.IdIndex(nodeViews);
+        publish();
+    }
+
+    void moveNode(ShapeNode node, int x, int y) {
+        if (!owns(node) || (node.x == x && node.y == y)) {
+            return;
+        }
+        node.x = x;
+        node.y = y;
+        nodeViews = nodeViews.set(node.index, GraphSnapshot.Node.of(node));
+        for (Connection c : connectionsOf(node.id)) {
+            edgeViews = edgeViews.set(c.index, edgeView(c));
+        }
+        publish();
+    }
+
+    void removeNode(ShapeNode node) {
+        if (!owns(node)) {
+            return;
+        }
+        dropConnectionsOf(node.id);
+        nodes.remove(node.index);
+        nodeViews = nodeViews.remove(node.index);
+        idIndex = new GraphSnapshot.IdIndex(nodeViews);
+        for (int i = node.index; i < nodes.size(); i++) {
+            nodes.get(i).index = i;
+        }
+        adjacency.remove(node.id);
+        if (byId.get(node.id) == node) {
+            byId.remove(node.id);
+        }
+        if (node.label != null && byLabel.get(node.label) == node) {
+            byLabel.remove(node.label);
+            for (ShapeNode other : nodes) {
+                if (node.label.equals(other.label)) {
+                    byLabel.put(other.label, other);
+                    break;
+                }
+            }
+        }
+        publish();
+    }
+
+    void connect(int fromId, int toId, String kind) {
+        dropConnection(fromId, toId);
+        dropConnection(toId, fromId);
+        Connection c = new Connection();
+        c.fromId = fromId;
+        c.toId = toId;
+        c.kind = kind;
+        addConnection(c);
+        publish();
+    }
+
+    void removeConnection(int fromId, int toId) {
+        dropConnection(fromId, toId);
+        publish();
+    }
+
+    void removeConnectionsOf(int id) {
+        dropConnectionsOf(id);
+        publish();
+    }
+
+    void clear() {
+        nodes.clear();
+        connections.clear();
+        byLabel.clear();
+        byId.clear();
+        adjacency.clear();
+        nodeViews = GraphSnapshot.Chunks.empty();
+        edgeViews = GraphSnapshot.Chunks.empty();
+        idIndex = new GraphSnapshot.IdIndex(nodeViews);
+        nextId = 1;
+        nextProceso = 1;
+        nextRecurso = 1;
+        publish();
+    }
+
+    private boolean owns(ShapeNode node) {
+        return node != null && node.index >= 0 && node.index < nodes.size() && nodes.get(node.index) == node;
+    }
+
+    private void dropConnection(int fromId, int toId) {
+        List<Connection> incident = adjacency.get(fromId);
+        if (incident == null) {
+            return;
+        }
+        for (int i = incident.size() - 1; i >= 0; i--) {
+            Connection c = incident.get(i);
+            if (c.fromId == fromId && c.toId == toId) {
+                unlink(c);
+            }
+        }
+    }
+
+    private void dropConnectionsOf(int id) {
+        List<Connection> incident = adjacency.get(id);
+        while (incident != null && !incident.isEmpty()) {
+            unlink(incident.get(incident.size() - 1));
+        }
+    }
+
+    private void publish() {
+        snapshot = new GraphSnapshot(++version, nodeViews, edgeViews, idIndex, new GraphSnapshot.Counters(nextId, nextProceso, nextRecurso));
+    }
+
+    private GraphSnapshot.Edge edgeView(Connection c) {
+        ShapeNode from = byId.get(c.fromId);
+        ShapeNode to = byId.get(c.toId);
+        return new GraphSnapshot.Edge(from == null ? null : nodeViews.get(from.index), to == null ? null : nodeViews.get(to.index), c.kind);
+    }
+
+    private void addConnection(Connection c) {
+        c.index = connections.size();
+        connections.add(c);
+        edgeViews = edgeViews.append(edgeView(c));
+        adjacency.computeIfAbsent(c.fromId, k -> new ArrayList<>()).add(c);
+        if (c.toId != c.fromId) {
+            adjacency.computeIfAbsent(c.toId, k -> new ArrayList<>()).add(c);
+        }
+    }
+
+    private void unlink(Connection c) {
+        int last = connections.size() - 1;
+        Connection moved = connections.remove(last);
+        if (moved != c) {
+            connections.set(c.index, moved);
+            edgeViews = edgeViews.set(c.index, edgeViews.get(last));
+            moved.index = c.index;
+        }
+        edgeViews = edgeViews.removeLast();
+        detach(c.fromId, c);
+        if (c.toId != c.fromId) {
+            detach(c.toId, c);
+        }
+    }
+
+    private void detach(int id, Connection c) {
+        List<Connection> incident = adjacency.get(id);
+        if (incident != null) {
+            incident.remove(c);
+        }
+    }
+
+    private void index(ShapeNode node) {
+        byId.putIfAbsent(node.id, node);
+        if (node.label != null) {
+            byLabel.putIfAbsent(node.label, node);
+        }
+    }
+
+    private void reindex() {
+        byLabel = new HashMap<>();
+        byId = new HashMap<>();
+        adjacency = new HashMap<>();
+        nodeViews = GraphSnapshot.Chunks.empty();
+        edgeViews = GraphSnapshot.Chunks.empty();
+        idIndex = new GraphSnapshot.IdIndex(nodeViews);
+        ArrayList<ShapeNode> loadedNodes = nodes != null ? nodes : new ArrayList<>();
+        ArrayList<Connection> loadedConnections = connections != null ? connections : new ArrayList<>();
+        nodes = new ArrayList<>(loadedNodes.size());
+        connections = new ArrayList<>(loadedConnections.size());
+        for (ShapeNode node : loadedNodes) {
+            if (node != null) {
+                addNode(node);
+            }
+        }
+        for (Connection c : loadedConnections) {
+            if (c != null) {
+                addConnection(c);
+            }
+        }
+        publish();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        reindex();
+    }
+}
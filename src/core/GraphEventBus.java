@@ -0,0 +1,134 @@
+package core;
+
+import problemas.LatencyHistogram;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public final class GraphEventBus {
+
+    private final ConcurrentLinkedQueue<Event> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<Object, Event> latest = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ScheduledExecutorService writer;
+    private final int frameMillis;
+    private final Runnable frame;
+    private volatile Thread writerThread;
+
+    public GraphEventBus(String name, int frameMillis, Runnable onFrame) {
+        this.frameMillis = frameMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            writerThread = thread;
+            return thread;
+        });
+        this.frame = () -> {
+            scheduled.set(false);
+            onFrame.run();
+        };
+    }
+
+    public boolean isWriterThread() {
+        return Thread.currentThread() == writerThread;
+    }
+
+    public void post(Runnable update) {
+        post(null, update);
+    }
+
+    public void post(Object actor, Runnable update) {
+        Event event = new Event(actor, update, System.nanoTime());
+        if (actor != null) {
+            Event previous = latest.put(actor, event);
+            if (previous != null) {
+                previous.superseded = true;
+            }
+        }
+        queue.add(event);
+        pending.incrementAndGet();
+        if (scheduled.compareAndSet(false, true)) {
+            scheduleFrame();
+        }
+    }
+
+    public void run(Runnable update) {
+        if (isWriterThread()) {
+            update.run();
+        } else {
+            post(update);
+        }
+    }
+
+    public <T> T call(Supplier<T> query) {
+        if (isWriterThread()) {
+            return query.get();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        post(() -> {
+            try {
+                result.complete(query.get());
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+        return result.join();
+    }
+
+    public int applyPending() {
+        int budget = pending.get();
+        int applied = 0;
+        Event event;
+        while (budget-- > 0 && (event = queue.poll()) != null) {
+            pending.decrementAndGet();
+            if (event.superseded) {
+                continue;
+            }
+            if (event.actor != null) {
+                latest.remove(event.actor, event);
+            }
+            try {
+                event.update.run();
+            } catch (RuntimeException ex) {
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, ex);
+            }
+            latency.record(System.nanoTime() - event.postedAt);
+            applied++;
+        }
+        if (pending.get() > 0 && scheduled.compareAndSet(false, true)) {
+            scheduleFrame();
+        }
+        return applied;
+    }
+
+    public LatencyHistogram.Snapshot drainLatency() {
+        return latency.drain();
+    }
+
+    private void scheduleFrame() {
+        writer.schedule(frame, frameMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class Event {
+        final Object actor;
+        final Runnable update;
+        final long postedAt;
+        volatile boolean superseded;
+
+        Event(Object actor, Runnable update, long postedAt) {
+            this.actor = actor;
+            this.update = update;
+            this.postedAt = postedAt;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class GraphSnapshot {
+
+    static final GraphSnapshot EMPTY = new GraphSnapshot(0L, Chunks.empty(), Chunks.empty(), new IdIndex(Chunks.empty()), new Counters(1, 1, 1));
+
+    record Node(int id, NodeType type, int x, int y, int size, String label) {
+        static Node of(ShapeNode n) {
+            return new Node(n.id, n.type, n.x, n.y, n.size, n.label);
+        }
+
+        boolean contains(int px, int py) {
+            int h = size / 2;
+            if (type == NodeType.PROCESO) {
+                int dx = px - x, dy = py - y;
+                return dx * dx + dy * dy <= h * h;
+            } else {
+                return px >= x - h && px <= x + h && py >= y - h && py <= y + h;
+            }
+        }
+    }
+
+    record Edge(Node from, Node to, String kind) {
+    }
+
+    record Counters(int nextId, int nextProceso, int nextRecurso) {
+    }
+
+    private final long version;
+    private final Chunks<Node> nodes;
+    private final Chunks<Edge> edges;
+    private final IdIndex ids;
+    private final Counters counters;
+
+    GraphSnapshot(long version, Chunks<Node> nodes, Chunks<Edge> edges, IdIndex ids, Counters counters) {
+        this.version = version;
+        this.nodes = nodes;
+        this.edges = edges;
+        this.ids = ids;
+        this.counters = counters;
+    }
+
+    long version() {
+        return version;
+    }
+
+    Counters counters() {
+        return counters;
+    }
+
+    int nodeCount() {
+        return nodes.size();
+    }
+
+    Node node(int index) {
+        return nodes.get(index);
+    }
+
+    Node nodeById(int id) {
+        if (id < 0) {
+            return null;
+        }
+        int index = ids.indexOf(id);
+        return index < 0 ? null : nodes.get(index);
+    }
+
+    int edgeCount() {
+        return edges.size();
+    }
+
+    Edge edge(int index) {
+        return edges.get(index);
+    }
+
+    boolean sameNodes(GraphSnapshot other) {
+        return other != null && nodes == other.nodes;
+    }
+
+    void nodeChangesSince(GraphSnapshot previous, Consumer<Node> nodeChanged) {
+        Chunks.diff(previous.nodes, nodes, nodeChanged);
+    }
+
+    void changesSince(GraphSnapshot previous, Consumer<Node> nodeChanged, Consumer<Edge> edgeChanged) {
+        nodeChangesSince(previous, nodeChanged);
+        Chunks.diff(previous.edges, edges, edgeChanged);
+    }
+
+    static final class IdIndex {
+        private final Chunks<Node> source;
+        private volatile Map<Integer, Integer> positions;
+
+        IdIndex(Chunks<Node> source) {
+            this.source = source;
+        }
+
+        int indexOf(int id) {
+            Map<Integer, Integer> index = positions;
+            if (index == null) {
+                index = new HashMap<>(Math.max(16, source.size() * 2));
+                for (int i = 0; i < source.size(); i++) {
+                    index.put(source.get(i).id(), i);
+                }
+                positions = index;
+            }
+            Integer position = index.get(id);
+            return position == null ? -1 : position;
+        }
+    }
+
+    static final class Chunks<T> {
+        private static final int BITS = 5;
+        private static final int WIDTH = 1 << BITS;
+        private static final int MASK = WIDTH - 1;
+        private static final Chunks<?> EMPTY = new Chunks<>(new Object[0][], 0);
+
+        private final Object[][] chunks;
+        private final int size;
+
+        private Chunks(Object[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Chunks<T> empty() {
+            return (Chunks<T>) EMPTY;
+        }
+
+        static <S, T> Chunks<T> of(List<S> source, Function<S, T> view) {
+            int size = source.size();
+            Object[][] chunks = new Object[(size + MASK) >>> BITS][];
+            for (int i = 0; i < size; i++) {
+                if ((i & MASK) == 0) {
+                    chunks[i >>> BITS] = new Object[WIDTH];
+                }
+                chunks[i >>> BITS][i & MASK] = view.apply(source.get(i));
+            }
+            return new Chunks<>(chunks, size);
+        }
+
+        int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            return (T) chunks[index >>> BITS][index & MASK];
+        }
+
+        Chunks<T> set(int index, T value) {
+            Object[][] copy = chunks.clone();
+            Object[] chunk = copy[index >>> BITS].clone();
+            chunk[index & MASK] = value;
+            copy[index >>> BITS] = chunk;
+            return new Chunks<>(copy, size);
+        }
+
+        Chunks<T> append(T value) {
+            int chunk = size >>> BITS;
+            Object[][] copy;
+            if ((size & MASK) == 0) {
+                copy = Arrays.copyOf(chunks, chunk + 1);
+                copy[chunk] = new Object[WIDTH];
+            } else {
+                copy = chunks.clone();
+                copy[chunk] = copy[chunk].clone();
+            }
+            copy[chunk][size & MASK] = value;
+            return new Chunks<>(copy, size + 1);
+        }
+
+        Chunks<T> removeLast() {
+            int last = size - 1;
+            if ((last & MASK) == 0) {
+                return new Chunks<>(Arrays.copyOf(chunks, last >>> BITS), last);
+            }
+            Object[][] copy = chunks.clone();
+            Object[] chunk = copy[last >>> BITS].clone();
+            chunk[last & MASK] = null;
+            copy[last >>> BITS] = chunk;
+            return new Chunks<>(copy, last);
+        }
+
+        static <T> void diff(Chunks<T> before, Chunks<T> after, Consumer<T> changed) {
+            if (before == after) {
+                return;
+            }
+            Set<T> gone = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<T> added = new ArrayList<>();
+            int count = Math.max(before.chunks.length, after.chunks.length);
+            for (int c = 0; c < count; c++) {
+                Object[] old = c < before.chunks.length ? before.chunks[c] : null;
+                Object[] now = c < after.chunks.length ? after.chunks[c] : null;
+                if (old == now) {
+                    continue;
+                }
+                for (int i = c << BITS; i < Math.min(before.size, (c + 1) << BITS); i++) {
+                    gone.add(before.get(i));
+                }
+                for (int i = c << BITS; i < Math.min(after.size, (c + 1) << BITS); i++) {
+                    added.add(after.get(i));
+                }
+            }
+            for (T value : added) {
+                if (!gone.remove(value)) {
+                    changed.accept(value);
+                }
+            }
+            gone.forEach(changed);
+        }
+
+        Chunks<T> remove(int index) {
+            if (index == size - 1) {
+                return removeLast();
+            }
+            int first = index >>> BITS;
+            Object[][] copy = Arrays.copyOf(chunks, (size - 1 + MASK) >>> BITS);
+            for (int i = index; i < size - 1; i++) {
+                if ((i & MASK) == 0 || i == index) {
+                    copy[i >>> BITS] = i >>> BITS == first ? chunks[first].clone() : new Object[WIDTH];
+                }
+                copy[i >>> BITS][i & MASK] = get(i + 1);
+            }
+            return new Chunks<>(copy, size - 1);
+        }
+    }
+}
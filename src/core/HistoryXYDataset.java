@@ -0,0 +1,264 @@
+package core;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYDataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class HistoryXYDataset extends AbstractXYDataset {
+
+    private static final long serialVersionUID = 3011673121477074599L;
+
+    private final List<Series> series = new ArrayList<>();
+    private final int residentChunks;
+    private double lower;
+    private double upper = Double.POSITIVE_INFINITY;
+    private int columns = 800;
+    private boolean stale = true;
+
+    HistoryXYDataset(int residentChunks) {
+        this.residentChunks = residentChunks;
+    }
+
+    int addSeries(Comparable<?> key) {
+        series.add(new Series(key, new SampleHistory(residentChunks)));
+        stale = true;
+        return series.size() - 1;
+    }
+
+    void append(int index, double x, double y) {
+        series.get(index).history.append(x, y);
+        stale = true;
+    }
+
+    void clearAll() {
+        for (Series s : series) {
+            s.history.clear();
+            s.points = Points.EMPTY;
+        }
+        stale = true;
+        fireDatasetChanged();
+    }
+
+    void close() {
+        for (Series s : series) {
+            s.history.close();
+        }
+    }
+
+    void setWindow(double lower, double upper, int columns) {
+        int resolved = Math.max(16, columns);
+        if (lower != this.lower || upper != this.upper || resolved != this.columns) {
+            this.lower = lower;
+            this.upper = upper;
+            this.columns = resolved;
+            stale = true;
+        }
+    }
+
+    void refresh() {
+        if (!stale) {
+            return;
+        }
+        stale = false;
+        for (Series s : series) {
+            s.downsample(lower, upper, columns);
+        }
+        fireDatasetChanged();
+    }
+
+    double getMinX() {
+        double min = Double.POSITIVE_INFINITY;
+        for (Series s : series) {
+            if (s.history.size() > 0) {
+                min = Math.min(min, s.history.firstX());
+            }
+        }
+        return min == Double.POSITIVE_INFINITY ? 0.0 : min;
+    }
+
+    double getMaxX() {
+        double max = Double.NEGATIVE_INFINITY;
+        for (Series s : series) {
+            if (s.history.size() > 0) {
+                max = Math.max(max, s.history.lastX());
+            }
+        }
+        return max == Double.NEGATIVE_INFINITY ? 0.0 : max;
+    }
+
+    long getMaxSampleCount() {
+        long max = 0;
+        for (Series s : series) {
+            max = Math.max(max, s.history.size());
+        }
+        return max;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return series.size();
+    }
+
+    @Override
+    public Comparable<?> getSeriesKey(int index) {
+        return series.get(index).key;
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    @Override
+    public int getItemCount(int index) {
+        return series.get(index).points.count();
+    }
+
+    @Override
+    public Number getX(int index, int item) {
+        return getXValue(index, item);
+    }
+
+    @Override
+    public Number getY(int index, int item) {
+        return getYValue(index, item);
+    }
+
+    @Override
+    public double getXValue(int index, int item) {
+        return series.get(index).points.xs()[item];
+    }
+
+    @Override
+    public double getYValue(int index, int item) {
+        return series.get(index).points.ys()[item];
+    }
+
+    private static final class Series {
+        private final Comparable<?> key;
+        private final SampleHistory history;
+        private volatile Points points = Points.EMPTY;
+        private double[] xs;
+        private double[] ys;
+        private int count;
+
+        Series(Comparable<?> key, SampleHistory history) {
+            this.key = key;
+            this.history = history;
+        }
+
+        void downsample(double lower, double upper, int columns) {
+            int capacity = Math.max(256, points.count());
+            xs = new double[capacity];
+            ys = new double[capacity];
+            count = 0;
+            collect(lower, upper, columns);
+            points = new Points(xs, ys, count);
+            xs = null;
+            ys = null;
+        }
+
+        private void collect(double lower, double upper, int columns) {
+            long size = history.size();
+            if (size == 0) {
+                return;
+            }
+            long first = Math.max(0, history.indexAtOrAfter(lower) - 1);
+            long last = Math.min(size, history.indexAtOrAfter(upper) + 1);
+            long span = last - first;
+            if (span <= (long) columns * 2) {
+                for (long i = first; i < last; i++) {
+                    emit(history.x(i), history.y(i));
+                }
+                return;
+            }
+            long perColumn = Math.max(1, span / columns);
+            if (perColumn >= SampleHistory.BLOCK * 2) {
+                downsampleBlocks(first, last, perColumn);
+            } else {
+                downsampleRaw(first, last, perColumn);
+            }
+        }
+
+        private void downsampleRaw(long first, long last, long perColumn) {
+            for (long start = first; start < last; start += perColumn) {
+                long end = Math.min(last, start + perColumn);
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                long minAt = start;
+                long maxAt = start;
+                for (long i = start; i < end; i++) {
+                    double y = history.y(i);
+                    if (y < min) {
+                        min = y;
+                        minAt = i;
+                    }
+                    if (y > max) {
+                        max = y;
+                        maxAt = i;
+                    }
+                }
+                emitPair(minAt, min, maxAt, max);
+            }
+        }
+
+        private void downsampleBlocks(long first, long last, long perColumn) {
+            long firstBlock = first >>> SampleHistory.BLOCK_BITS;
+            long endBlock = Math.min(history.blockCount(), (last + SampleHistory.BLOCK - 1) >>> SampleHistory.BLOCK_BITS);
+            long blocksPerColumn = Math.max(1, perColumn >>> SampleHistory.BLOCK_BITS);
+            for (long block = firstBlock; block < endBlock; block += blocksPerColumn) {
+                long end = Math.min(endBlock, block + blocksPerColumn);
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                long minBlock = block;
+                long maxBlock = block;
+                for (long b = block; b < end; b++) {
+                    if (history.blockMin(b) < min) {
+                        min = history.blockMin(b);
+                        minBlock = b;
+                    }
+                    if (history.blockMax(b) > max) {
+                        max = history.blockMax(b);
+                        maxBlock = b;
+                    }
+                }
+                if (minBlock <= maxBlock) {
+                    emit(history.blockFirstX(minBlock), min);
+                    emit(history.blockFirstX(maxBlock), max);
+                } else {
+                    emit(history.blockFirstX(maxBlock), max);
+                    emit(history.blockFirstX(minBlock), min);
+                }
+            }
+        }
+
+        private void emitPair(long minAt, double min, long maxAt, double max) {
+            if (minAt == maxAt) {
+                emit(history.x(minAt), min);
+            } else if (minAt < maxAt) {
+                emit(history.x(minAt), min);
+                emit(history.x(maxAt), max);
+            } else {
+                emit(history.x(maxAt), max);
+                emit(history.x(minAt), min);
+            }
+        }
+
+        private void emit(double x, double y) {
+            if (count == xs.length) {
+                xs = Arrays.copyOf(xs, count * 2);
+                ys = Arrays.copyOf(ys, count * 2);
+            }
+            xs[count] = x;
+            ys[count] = y;
+            count++;
+        }
+    }
+
+    private record Points(double[] xs, double[] ys, int count) {
+        static final Points EMPTY = new Points(new double[0], new double[0], 0);
+    }
+}
@@ -5,6 +5,9 @@ import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
 import java.io.*;
+import java.util.Enumeration;
+import synch.SyncTrace;
+import synch.SyncTracer;
 import problemas.*; 
 import problemas.SimPanel;
 import problemas.Problem;
@@ -16,16 +19,24 @@ public class ProyectoPCyP extends JFrame {
     private Problem selectedProblem = Problem.NONE;
 
     
-    private JMenuItem mutex, semaforos, varCon, monitores, barreras;
+    private JMenuItem mutex, semaforos, varCon, monitores, barreras, sinBloqueo;
     private JMenuItem prodConsum, cenaFilosofos, barberoDormilon, fumadores, lectoresEscritores, asistentesVirtuales;
     private JMenuItem deadlockRun, deadlockEdit;
     private JMenuItem graficaAcordeon, graficaCarrusel, graficaScroll;
+    private JCheckBoxMenuItem hilosVirtuales, comparacionJusta, grabarTraza;
+    private JMenuItem guardarTraza, reproducirTraza, reproducirGrabacion;
+    private final ButtonGroup metricaGrupo = new ButtonGroup();
+    private final ButtonGroup admisionGrupo = new ButtonGroup();
+    private final ButtonGroup cargaGrupo = new ButtonGroup();
+    private final ButtonGroup carrilesGrupo = new ButtonGroup();
+    private final ButtonGroup servicioGrupo = new ButtonGroup();
     private JMenu graficaMenu;
 
     
     private final JPanel leftPanel;
     private final DrawingPanel drawing;
     private final JFileChooser chooser = new JFileChooser();
+    private final JFileChooser traceChooser = new JFileChooser();
     private SimPanel currentSim = null;
 
     public static void main(String[] args) {
@@ -75,11 +86,14 @@ public class ProyectoPCyP extends JFrame {
         varCon = new JMenuItem("Variable Condición");
         monitores = new JMenuItem("Monitores");
         barreras = new JMenuItem("Barreras");
+        sinBloqueo = new JMenuItem("Sin bloqueo (CAS)");
         synch.add(mutex);
         synch.add(semaforos);
         synch.add(varCon);
         synch.add(monitores);
         synch.add(barreras);
+        synch.addSeparator();
+        synch.add(sinBloqueo);
 
         JMenu problemasMenu = new JMenu("Problemas");
         prodConsum = new JMenuItem("Productores-Consumidores");
@@ -102,6 +116,52 @@ public class ProyectoPCyP extends JFrame {
         graficaMenu.add(graficaAcordeon);
         graficaMenu.add(graficaCarrusel);
         graficaMenu.add(graficaScroll);
+        JMenu metricaMenu = new JMenu("Métrica");
+        for (DrawingPanel.ChartMetric metric : DrawingPanel.ChartMetric.values()) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem(metric.getDisplayName(), metric == DrawingPanel.ChartMetric.THROUGHPUT);
+            item.addActionListener(e -> handleChartMetricAction(metric));
+            metricaGrupo.add(item);
+            metricaMenu.add(item);
+        }
+        graficaMenu.addSeparator();
+        graficaMenu.add(metricaMenu);
+        JMenu admisionMenu = new JMenu("Admisión");
+        for (AdmissionPolicy policy : AdmissionPolicy.values()) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem(policy.getDisplayName(), policy == AdmissionPolicy.NONE);
+            item.addActionListener(e -> handleAdmissionPolicyAction(policy));
+            admisionGrupo.add(item);
+            admisionMenu.add(item);
+        }
+        graficaMenu.add(admisionMenu);
+        JMenu cargaMenu = new JMenu("Carga");
+        for (ArrivalPattern pattern : ArrivalPattern.values()) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem(pattern.getDisplayName(), pattern == ArrivalPattern.CLOSED_LOOP);
+            item.addActionListener(e -> handleArrivalPatternAction(pattern));
+            cargaGrupo.add(item);
+            cargaMenu.add(item);
+        }
+        graficaMenu.add(cargaMenu);
+        JMenu carrilesMenu = new JMenu("Carriles");
+        for (LanePolicy policy : LanePolicy.values()) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem(policy.getDisplayName(), policy == LanePolicy.TWO_WIN);
+            item.addActionListener(e -> handleLanePolicyAction(policy));
+            carrilesGrupo.add(item);
+            carrilesMenu.add(item);
+        }
+        graficaMenu.add(carrilesMenu);
+        JMenu servicioMenu = new JMenu("Servicio");
+        ServiceDistribution initialDistribution = ServiceDistribution.fromProperty("va.serviceDistribution", ServiceDistribution.UNIFORM);
+        for (ServiceDistribution distribution : ServiceDistribution.values()) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem(distribution.getDisplayName(), distribution == initialDistribution);
+            item.addActionListener(e -> handleServiceDistributionAction(distribution));
+            servicioGrupo.add(item);
+            servicioMenu.add(item);
+        }
+        graficaMenu.add(servicioMenu);
+        hilosVirtuales = new JCheckBoxMenuItem("Hilos virtuales", VirtualAssistantsSim.isVirtualThreadsEnabled());
+        graficaMenu.add(hilosVirtuales);
+        comparacionJusta = new JCheckBoxMenuItem("Comparación justa", Boolean.getBoolean("va.fairComparison"));
+        graficaMenu.add(comparacionJusta);
 
     JMenu deadlockMenu = new JMenu("Deadlock");
     deadlockRun = new JMenuItem("Ejecutar");
@@ -109,11 +169,23 @@ public class ProyectoPCyP extends JFrame {
     deadlockMenu.add(deadlockRun);
     deadlockMenu.add(deadlockEdit);
 
+    JMenu trazaMenu = new JMenu("Traza");
+    grabarTraza = new JCheckBoxMenuItem("Grabar", SyncTracer.isEnabled());
+    guardarTraza = new JMenuItem("Guardar traza…");
+    reproducirTraza = new JMenuItem("Reproducir traza…");
+    reproducirGrabacion = new JMenuItem("Reproducir grabación");
+    trazaMenu.add(grabarTraza);
+    trazaMenu.add(guardarTraza);
+    trazaMenu.addSeparator();
+    trazaMenu.add(reproducirTraza);
+    trazaMenu.add(reproducirGrabacion);
+
         barra.add(archivo);
         barra.add(synch);
         barra.add(problemasMenu);
         barra.add(graficaMenu);
     barra.add(deadlockMenu);
+    barra.add(trazaMenu);
         setJMenuBar(barra);
 
 
@@ -130,6 +202,7 @@ public class ProyectoPCyP extends JFrame {
         abrir.addActionListener(e -> openFromFile());
         cerrar.addActionListener(e -> dispose());
         chooser.setFileFilter(new FileNameExtensionFilter("Diagramas (*.diag)", "diag"));
+        traceChooser.setFileFilter(new FileNameExtensionFilter("Trazas (*.trc)", "trc"));
     }
 
     private void setupActions() {
@@ -147,15 +220,24 @@ public class ProyectoPCyP extends JFrame {
         varCon.addActionListener(e -> selectMethod(SyncMethod.VAR_COND));
         monitores.addActionListener(e -> selectMethod(SyncMethod.MONITORS)); 
         barreras.addActionListener(e -> selectMethod(SyncMethod.BARRIERS)); 
+        sinBloqueo.addActionListener(e -> selectMethod(SyncMethod.LOCK_FREE));
 
         
         graficaAcordeon.addActionListener(e -> handleChartAction(DrawingPanel.ChartKind.ACORDEON));
         graficaCarrusel.addActionListener(e -> handleChartAction(DrawingPanel.ChartKind.CARROUSEL));
         graficaScroll.addActionListener(e -> handleChartAction(DrawingPanel.ChartKind.SCROLL));
+        hilosVirtuales.addActionListener(e -> handleThreadModeAction(hilosVirtuales.isSelected()));
+        comparacionJusta.addActionListener(e -> handleFairComparisonAction(comparacionJusta.isSelected()));
 
         
         deadlockRun.addActionListener(e -> runDeadlockScenario(false));
         deadlockEdit.addActionListener(e -> runDeadlockScenario(true));
+
+        
+        grabarTraza.addActionListener(e -> handleTraceRecording(grabarTraza.isSelected()));
+        guardarTraza.addActionListener(e -> saveTrace());
+        reproducirTraza.addActionListener(e -> openTrace());
+        reproducirGrabacion.addActionListener(e -> replayTrace(SyncTracer.snapshot()));
     }
 
     private void methodNotImplementedYet(String name) {
@@ -190,6 +272,9 @@ public class ProyectoPCyP extends JFrame {
         if (currentSim != null) {
             currentSim.setDrawingPanel(this.drawing); 
         }
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            syncVirtualAssistantsMenus(vaSim);
+        }
 
         leftPanel.add(currentSim.getComponent(), BorderLayout.CENTER);
         leftPanel.revalidate();
@@ -251,6 +336,30 @@ public class ProyectoPCyP extends JFrame {
             boolean enable = selectedProblem == Problem.VIRTUAL_ASSISTANTS;
             graficaMenu.setEnabled(enable);
         }
+        if (sinBloqueo != null) {
+            sinBloqueo.setEnabled(selectedProblem == Problem.VIRTUAL_ASSISTANTS);
+        }
+        if (hilosVirtuales != null) {
+            hilosVirtuales.setEnabled(selectedProblem == Problem.VIRTUAL_ASSISTANTS);
+        }
+    }
+
+    private void syncVirtualAssistantsMenus(VirtualAssistantsSim vaSim) {
+        selectRadio(admisionGrupo, vaSim.getAdmissionPolicy().getDisplayName());
+        selectRadio(cargaGrupo, vaSim.getArrivalPattern().getDisplayName());
+        selectRadio(carrilesGrupo, vaSim.getLanePolicy().getDisplayName());
+        selectRadio(servicioGrupo, vaSim.getServiceDistribution().getDisplayName());
+        hilosVirtuales.setSelected(VirtualAssistantsSim.isVirtualThreadsEnabled());
+    }
+
+    private static void selectRadio(ButtonGroup group, String displayName) {
+        for (Enumeration<AbstractButton> items = group.getElements(); items.hasMoreElements(); ) {
+            AbstractButton item = items.nextElement();
+            if (item.getText().equals(displayName)) {
+                group.setSelected(item.getModel(), true);
+                return;
+            }
+        }
     }
 
     private void handleChartAction(DrawingPanel.ChartKind kind) {
@@ -261,6 +370,96 @@ public class ProyectoPCyP extends JFrame {
         vaSim.handleChartSelection(kind);
     }
 
+    private void handleChartMetricAction(DrawingPanel.ChartMetric metric) {
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            vaSim.handleChartMetricSelection(metric);
+        }
+    }
+
+    private void handleAdmissionPolicyAction(AdmissionPolicy policy) {
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            vaSim.setAdmissionPolicy(policy);
+        }
+    }
+
+    private void handleArrivalPatternAction(ArrivalPattern pattern) {
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            vaSim.setArrivalPattern(pattern);
+        }
+    }
+
+    private void handleLanePolicyAction(LanePolicy policy) {
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            vaSim.setLanePolicy(policy);
+        }
+    }
+
+    private void handleServiceDistributionAction(ServiceDistribution distribution) {
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            ServiceDistribution applied = vaSim.setServiceDistribution(distribution);
+            selectRadio(servicioGrupo, applied.getDisplayName());
+        }
+    }
+
+    private void handleFairComparisonAction(boolean enabled) {
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            vaSim.setFairComparison(enabled);
+        }
+    }
+
+    private void handleThreadModeAction(boolean virtualThreads) {
+        if (currentSim instanceof VirtualAssistantsSim vaSim) {
+            vaSim.setVirtualThreadsEnabled(virtualThreads);
+        }
+        hilosVirtuales.setSelected(VirtualAssistantsSim.isVirtualThreadsEnabled());
+    }
+
+    private void handleTraceRecording(boolean enabled) {
+        if (enabled) {
+            SyncTracer.clear();
+        }
+        SyncTracer.setEnabled(enabled);
+    }
+
+    private void saveTrace() {
+        SyncTrace trace = SyncTracer.snapshot();
+        if (trace.size() == 0) {
+            JOptionPane.showMessageDialog(this, "No hay eventos grabados. Activa Traza > Grabar y ejecuta una simulación.", "Traza vacía", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        if (traceChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            File f = traceChooser.getSelectedFile();
+            if (!f.getName().toLowerCase().endsWith(".trc")) {
+                f = new File(f.getParentFile(), f.getName() + ".trc");
+            }
+            try {
+                trace.write(f.toPath());
+                JOptionPane.showMessageDialog(this, "Traza guardada (" + trace.size() + " eventos):\n" + f.getAbsolutePath());
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "Error al guardar la traza: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    private void openTrace() {
+        if (traceChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+            File f = traceChooser.getSelectedFile();
+            try {
+                replayTrace(SyncTrace.read(f.toPath()));
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "Error al abrir la traza: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    private void replayTrace(SyncTrace trace) {
+        if (trace.size() == 0) {
+            JOptionPane.showMessageDialog(this, "La traza no contiene eventos.", "Traza vacía", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        selectProblem(Problem.TRACE_REPLAY, TraceReplaySim.open(trace));
+    }
+
     private void saveToFile() {
         if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
             File f = chooser.getSelectedFile();
@@ -268,7 +467,7 @@ public class ProyectoPCyP extends JFrame {
                 f = new File(f.getParentFile(), f.getName() + ".diag");
             }
             try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(f))) {
-                oos.writeObject(drawing.data);
+                oos.writeObject(drawing.exportData());
                 JOptionPane.showMessageDialog(this, "Guardado:\n" + f.getAbsolutePath());
             } catch (IOException ex) {
                 JOptionPane.showMessageDialog(this, "Error al guardar: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
@@ -0,0 +1,249 @@
+package core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class SampleHistory implements Closeable {
+
+    static final int BLOCK_BITS = 8;
+    static final int BLOCK = 1 << BLOCK_BITS;
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK - 1;
+    private static final int CHUNK_BYTES = CHUNK * Double.BYTES * 2;
+    private static final int LOADED_CHUNKS = 4;
+
+    private final int residentChunks;
+    private final List<double[]> xChunks = new ArrayList<>();
+    private final List<double[]> yChunks = new ArrayList<>();
+    private double[] chunkFirstX = new double[16];
+    private double[] blockFirstX = new double[64];
+    private double[] blockMin = new double[64];
+    private double[] blockMax = new double[64];
+    private long size;
+    private int spilledChunks;
+    private FileChannel spill;
+    private Path spillPath;
+    private ByteBuffer spillBuffer;
+    private final int[] loadedIndex = new int[LOADED_CHUNKS];
+    private final double[][] loadedX = new double[LOADED_CHUNKS][];
+    private final double[][] loadedY = new double[LOADED_CHUNKS][];
+    private int loadedCursor;
+    private boolean spillFailed;
+
+    SampleHistory(int residentChunks) {
+        this.residentChunks = residentChunks;
+        Arrays.fill(loadedIndex, -1);
+    }
+
+    long size() {
+        return size;
+    }
+
+    long blockCount() {
+        return (size + BLOCK - 1) >>> BLOCK_BITS;
+    }
+
+    void append(double x, double y) {
+        int offset = (int) (size & CHUNK_MASK);
+        int chunk = (int) (size >>> CHUNK_BITS);
+        if (offset == 0) {
+            xChunks.add(new double[CHUNK]);
+            yChunks.add(new double[CHUNK]);
+            if (chunk >= chunkFirstX.length) {
+                chunkFirstX = Arrays.copyOf(chunkFirstX, chunkFirstX.length * 2);
+            }
+            chunkFirstX[chunk] = x;
+            spillIfNeeded();
+        }
+        xChunks.get(chunk)[offset] = x;
+        yChunks.get(chunk)[offset] = y;
+        int block = (int) (size >>> BLOCK_BITS);
+        if ((size & (BLOCK - 1)) == 0) {
+            if (block >= blockMin.length) {
+                int grown = blockMin.length * 2;
+                blockFirstX = Arrays.copyOf(blockFirstX, grown);
+                blockMin = Arrays.copyOf(blockMin, grown);
+                blockMax = Arrays.copyOf(blockMax, grown);
+            }
+            blockFirstX[block] = x;
+            blockMin[block] = y;
+            blockMax[block] = y;
+        } else {
+            blockMin[block] = Math.min(blockMin[block], y);
+            blockMax[block] = Math.max(blockMax[block], y);
+        }
+        size++;
+    }
+
+    double x(long index) {
+        int chunk = (int) (index >>> CHUNK_BITS);
+        double[] xs = xChunks.get(chunk);
+        if (xs == null) {
+            xs = loadedX[load(chunk)];
+        }
+        return xs[(int) (index & CHUNK_MASK)];
+    }
+
+    double y(long index) {
+        int chunk = (int) (index >>> CHUNK_BITS);
+        double[] ys = yChunks.get(chunk);
+        if (ys == null) {
+            ys = loadedY[load(chunk)];
+        }
+        return ys[(int) (index & CHUNK_MASK)];
+    }
+
+    double firstX() {
+        return size > 0 ? chunkFirstX[0] : 0.0;
+    }
+
+    double lastX() {
+        return size > 0 ? x(size - 1) : 0.0;
+    }
+
+    double blockFirstX(long block) {
+        return blockFirstX[(int) block];
+    }
+
+    double blockMin(long block) {
+        return blockMin[(int) block];
+    }
+
+    double blockMax(long block) {
+        return blockMax[(int) block];
+    }
+
+    long indexAtOrAfter(double x) {
+        if (size == 0 || x <= chunkFirstX[0]) {
+            return 0;
+        }
+        int chunks = xChunks.size();
+        int lowChunk = 0;
+        int highChunk = chunks - 1;
+        while (lowChunk < highChunk) {
+            int mid = (lowChunk + highChunk + 1) >>> 1;
+            if (chunkFirstX[mid] < x) {
+                lowChunk = mid;
+            } else {
+                highChunk = mid - 1;
+            }
+        }
+        long low = (long) lowChunk << CHUNK_BITS;
+        long high = Math.min(size, low + CHUNK);
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (x(mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    void clear() {
+        xChunks.clear();
+        yChunks.clear();
+        size = 0;
+        spilledChunks = 0;
+        spillFailed = false;
+        Arrays.fill(loadedIndex, -1);
+        closeSpill();
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    private void spillIfNeeded() {
+        if (residentChunks <= 0 || spillFailed) {
+            return;
+        }
+        int full = xChunks.size() - 1;
+        while (full - spilledChunks > residentChunks) {
+            if (!writeChunk(spilledChunks)) {
+                return;
+            }
+            xChunks.set(spilledChunks, null);
+            yChunks.set(spilledChunks, null);
+            spilledChunks++;
+        }
+    }
+
+    private boolean writeChunk(int chunk) {
+        try {
+            if (spill == null) {
+                spillPath = Files.createTempFile("pcyp-history-", ".bin");
+                spillPath.toFile().deleteOnExit();
+                spill = FileChannel.open(spillPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                spillBuffer = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            }
+            spillBuffer.clear();
+            spillBuffer.asDoubleBuffer().put(xChunks.get(chunk)).put(yChunks.get(chunk));
+            spillBuffer.limit(CHUNK_BYTES);
+            long position = (long) chunk * CHUNK_BYTES;
+            while (spillBuffer.hasRemaining()) {
+                position += spill.write(spillBuffer, position);
+            }
+            return true;
+        } catch (IOException ex) {
+            spillFailed = true;
+            return false;
+        }
+    }
+
+    private int load(int chunk) {
+        for (int i = 0; i < LOADED_CHUNKS; i++) {
+            if (loadedIndex[i] == chunk) {
+                return i;
+            }
+        }
+        int slot = loadedCursor;
+        loadedCursor = (loadedCursor + 1) % LOADED_CHUNKS;
+        if (loadedX[slot] == null) {
+            loadedX[slot] = new double[CHUNK];
+            loadedY[slot] = new double[CHUNK];
+        }
+        try {
+            spillBuffer.clear();
+            long position = (long) chunk * CHUNK_BYTES;
+            while (spillBuffer.hasRemaining()) {
+                int read = spill.read(spillBuffer, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+            spillBuffer.flip();
+            spillBuffer.asDoubleBuffer().get(loadedX[slot]).get(loadedY[slot]);
+        } catch (IOException ex) {
+            throw new IllegalStateException("No se pudo leer el historial desde disco", ex);
+        }
+        loadedIndex[slot] = chunk;
+        return slot;
+    }
+
+    private void closeSpill() {
+        if (spill == null) {
+            return;
+        }
+        try {
+            spill.close();
+            Files.deleteIfExists(spillPath);
+        } catch (IOException ignored) {
+        }
+        spill = null;
+        spillPath = null;
+        spillBuffer = null;
+    }
+}
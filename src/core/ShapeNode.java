@@ -3,19 +3,12 @@ package core;
 import java.io.Serializable;
 
 public class ShapeNode implements Serializable {
+    private static final long serialVersionUID = -1812960447976977758L;
+
     int id;
     NodeType type;
     int x, y;
     int size;
     String label; 
-
-    boolean contains(int px, int py) {
-        int h = size / 2;
-        if (type == NodeType.PROCESO) {
-            int dx = px - x, dy = py - y;
-            return dx * dx + dy * dy <= h * h;
-        } else {
-            return px >= x - h && px <= x + h && py >= y - h && py <= y + h;
-        }
-    }
+    transient int index;
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package problemas;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class AdmissionController {
+
+    public enum Decision { ADMIT, DOWNGRADE, REJECT }
+
+    private static final double ALPHA = 0.2;
+
+    private final long highDeadlineNanos;
+    private final long lowDeadlineNanos;
+    private final AtomicLong highPredicted = new AtomicLong(Double.doubleToLongBits(0.0));
+    private final AtomicLong lowPredicted = new AtomicLong(Double.doubleToLongBits(0.0));
+
+    public AdmissionController(long highDeadlineMillis, long lowDeadlineMillis) {
+        this.highDeadlineNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, highDeadlineMillis));
+        this.lowDeadlineNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, lowDeadlineMillis));
+    }
+
+    public static AdmissionController fromSystemProperties() {
+        return new AdmissionController(Long.getLong("va.deadlineHighMs", 400L), Long.getLong("va.deadlineLowMs", 1200L));
+    }
+
+    public long deadlineNanos(boolean highPriority) {
+        return highPriority ? highDeadlineNanos : lowDeadlineNanos;
+    }
+
+    public double predictedWaitNanos(boolean highPriority) {
+        return Double.longBitsToDouble((highPriority ? highPredicted : lowPredicted).get());
+    }
+
+    public Decision admit(AdmissionPolicy policy, boolean highPriority) {
+        if (policy == AdmissionPolicy.NONE || predictedWaitNanos(highPriority) <= deadlineNanos(highPriority)) {
+            return Decision.ADMIT;
+        }
+        if (policy == AdmissionPolicy.DOWNGRADE && highPriority && predictedWaitNanos(false) <= lowDeadlineNanos) {
+            return Decision.DOWNGRADE;
+        }
+        decay(highPriority);
+        return Decision.REJECT;
+    }
+
+    public void observe(boolean highPriority, long waitNanos) {
+        blend(highPriority ? highPredicted : lowPredicted, waitNanos, ALPHA);
+    }
+
+    public void reset() {
+        highPredicted.set(Double.doubleToLongBits(0.0));
+        lowPredicted.set(Double.doubleToLongBits(0.0));
+    }
+
+    private void decay(boolean highPriority) {
+        blend(highPriority ? highPredicted : lowPredicted, 0.0, ALPHA);
+    }
+
+    private static void blend(AtomicLong cell, double sample, double weight) {
+        while (true) {
+            long bits = cell.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = current + weight * (sample - current);
+            if (cell.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
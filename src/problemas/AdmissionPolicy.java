@@ -0,0 +1,31 @@
+package problemas;
+
+import java.util.Locale;
+
+public enum AdmissionPolicy {
+    NONE("Sin control"),
+    SHED("Descartar"),
+    DOWNGRADE("Degradar a baja");
+
+    private final String displayName;
+
+    AdmissionPolicy(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    static AdmissionPolicy fromProperty(String key, AdmissionPolicy defaultValue) {
+        String raw = System.getProperty(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return defaultValue;
+        }
+    }
+}
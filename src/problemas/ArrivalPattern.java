@@ -0,0 +1,49 @@
+package problemas;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public enum ArrivalPattern {
+    CLOSED_LOOP("Lazo cerrado"),
+    POISSON("Poisson"),
+    BURSTY("Ráfagas"),
+    STEP("Escalones");
+
+    private static final long BURST_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(4);
+    private static final long STEP_LENGTH_NANOS = TimeUnit.SECONDS.toNanos(Long.getLong("va.stepSeconds", 10L));
+    private static final double[] STEP_MULTIPLIERS = {0.5, 0.75, 1.0, 1.25, 1.5, 2.0};
+
+    private final String displayName;
+
+    ArrivalPattern(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isOpenLoop() {
+        return this != CLOSED_LOOP;
+    }
+
+    public double rateMultiplier(long elapsedNanos) {
+        return switch (this) {
+            case CLOSED_LOOP, POISSON -> 1.0;
+            case BURSTY -> elapsedNanos % BURST_PERIOD_NANOS < BURST_PERIOD_NANOS / 4 ? 2.5 : 0.5;
+            case STEP -> STEP_MULTIPLIERS[(int) ((elapsedNanos / Math.max(1L, STEP_LENGTH_NANOS)) % STEP_MULTIPLIERS.length)];
+        };
+    }
+
+    static ArrivalPattern fromSystemProperties() {
+        String raw = System.getProperty("va.arrivalPattern");
+        if (raw == null || raw.isBlank()) {
+            return System.getProperty("va.arrivalRate") != null ? POISSON : CLOSED_LOOP;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return CLOSED_LOOP;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package problemas;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+final class FrameStats {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private long sliceStart;
+    private long sliceAllocStart;
+    private long frameNanos;
+    private long frameBytes;
+    private int frames;
+    private long totalNanos;
+    private long maxNanos;
+    private long totalBytes;
+    private String summary = "Cuadro: midiendo…";
+
+    FrameStats() {
+        com.sun.management.ThreadMXBean bean = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean candidate
+                && candidate.isThreadAllocatedMemorySupported()) {
+            if (!candidate.isThreadAllocatedMemoryEnabled()) {
+                candidate.setThreadAllocatedMemoryEnabled(true);
+            }
+            bean = candidate;
+        }
+        this.threads = bean;
+    }
+
+    void begin() {
+        sliceAllocStart = allocatedBytes();
+        sliceStart = System.nanoTime();
+    }
+
+    void end() {
+        frameNanos += System.nanoTime() - sliceStart;
+        frameBytes += allocatedBytes() - sliceAllocStart;
+    }
+
+    void frameDone() {
+        frames++;
+        totalNanos += frameNanos;
+        maxNanos = Math.max(maxNanos, frameNanos);
+        totalBytes += frameBytes;
+        frameNanos = 0L;
+        frameBytes = 0L;
+    }
+
+    int frames() {
+        return frames;
+    }
+
+    String roll() {
+        if (frames > 0) {
+            String allocation = threads != null
+                    ? String.format(Locale.ROOT, "%d B/cuadro", totalBytes / frames)
+                    : "asignación no disponible";
+            summary = String.format(Locale.ROOT, "Cuadro: %.2f ms (máx %.2f) · %s · %d cuadros",
+                    totalNanos / 1e6 / frames, maxNanos / 1e6, allocation, frames);
+        }
+        frames = 0;
+        totalNanos = 0L;
+        maxNanos = 0L;
+        totalBytes = 0L;
+        return summary;
+    }
+
+    String summary() {
+        return summary;
+    }
+
+    private long allocatedBytes() {
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : 0L;
+    }
+}
@@ -0,0 +1,33 @@
+package problemas;
+
+import java.util.Locale;
+
+public enum LanePolicy {
+    STRICT("Prioridad estricta"),
+    TWO_WIN("Dos altas por una baja"),
+    WFQ("Cola justa ponderada"),
+    DRR("Round robin por déficit"),
+    AGING("Envejecimiento por espera");
+
+    private final String displayName;
+
+    LanePolicy(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static LanePolicy fromProperty(String key, LanePolicy defaultValue) {
+        String raw = System.getProperty(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package problemas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKET_COUNT = (MAX_SHIFT + 1) * SUB_BUCKETS + SUB_BUCKETS;
+    private static final long MAX_TRACKABLE = bucketUpperBound(BUCKET_COUNT - 1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    public void record(long nanos) {
+        counts.getAndIncrement(bucketIndex(nanos));
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    public Snapshot drain() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.getAndSet(i, 0L);
+        }
+        return new Snapshot(copy);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+    }
+
+    private static int bucketIndex(long value) {
+        long v = Math.min(Math.max(0L, value), MAX_TRACKABLE);
+        if (v < LINEAR_LIMIT) {
+            return (int) v;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (v >>> shift);
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long total;
+
+        private Snapshot(long[] counts) {
+            this.counts = counts;
+            long sum = 0L;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.total = sum;
+        }
+
+        public long count() {
+            return total;
+        }
+
+        public long percentile(double percentile) {
+            if (total == 0L) {
+                return 0L;
+            }
+            double clamped = Math.min(100.0, Math.max(0.0, percentile));
+            long rank = Math.max(1L, (long) Math.ceil(clamped / 100.0 * total));
+            long seen = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return bucketUpperBound(counts.length - 1);
+        }
+
+        public double mean() {
+            if (total == 0L) {
+                return 0.0;
+            }
+            double weighted = 0.0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0L) {
+                    weighted += (double) counts[i] * bucketUpperBound(i);
+                }
+            }
+            return weighted / total;
+        }
+
+        public long max() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] != 0L) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return 0L;
+        }
+
+        public Snapshot merge(Snapshot other) {
+            long[] merged = counts.clone();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += other.counts[i];
+            }
+            return new Snapshot(merged);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package problemas;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+public final class LoadGenerator {
+
+    public record Request(long arrivedAt, boolean highPriority) {
+    }
+
+    private final ArrivalPattern pattern;
+    private final double ratePerSecond;
+    private final int maxQueue;
+    private final double highShare;
+    private final LinkedBlockingQueue<Request> highRequests = new LinkedBlockingQueue<>();
+    private final LinkedBlockingQueue<Request> lowRequests = new LinkedBlockingQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger windowMaxPending = new AtomicInteger();
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running;
+    private volatile double currentRate;
+    private Thread generator;
+
+    public LoadGenerator(ArrivalPattern pattern, double ratePerSecond, int maxQueue, double highShare) {
+        this.pattern = pattern;
+        this.ratePerSecond = Math.max(0.01, ratePerSecond);
+        this.maxQueue = Math.max(1, maxQueue);
+        this.highShare = Math.min(1.0, Math.max(0.0, highShare));
+        this.currentRate = this.ratePerSecond;
+    }
+
+    public static LoadGenerator fromSystemProperties(ArrivalPattern pattern) {
+        double rate = 3.0;
+        String raw = System.getProperty("va.arrivalRate");
+        if (raw != null && !raw.isBlank()) {
+            try {
+                rate = Double.parseDouble(raw.trim());
+            } catch (NumberFormatException ex) {
+                rate = 3.0;
+            }
+        }
+        double highShare = 0.5;
+        String share = System.getProperty("va.highShare");
+        if (share != null && !share.isBlank()) {
+            try {
+                highShare = Double.parseDouble(share.trim());
+            } catch (NumberFormatException ex) {
+                highShare = 0.5;
+            }
+        }
+        return new LoadGenerator(pattern, rate, Integer.getInteger("va.maxQueue", 64), highShare);
+    }
+
+    public ArrivalPattern getPattern() {
+        return pattern;
+    }
+
+    public double getCurrentRate() {
+        return currentRate;
+    }
+
+    public synchronized void start(Function<Runnable, Thread> spawner) {
+        if (running || !pattern.isOpenLoop()) {
+            return;
+        }
+        running = true;
+        generator = spawner.apply(this::generate);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (generator != null) {
+            generator.interrupt();
+            generator = null;
+        }
+        highRequests.clear();
+        lowRequests.clear();
+        pending.set(0);
+        windowMaxPending.set(0);
+    }
+
+    public Request take(boolean highPriority) throws InterruptedException {
+        return (highPriority ? highRequests : lowRequests).take();
+    }
+
+    public Request poll(boolean highPriority, long timeout, TimeUnit unit) throws InterruptedException {
+        return (highPriority ? highRequests : lowRequests).poll(timeout, unit);
+    }
+
+    public void enterQueue() {
+        int depth = pending.incrementAndGet();
+        windowMaxPending.accumulateAndGet(depth, Math::max);
+    }
+
+    public void leaveQueue() {
+        pending.decrementAndGet();
+    }
+
+    public int drainMaxDepth() {
+        return windowMaxPending.getAndSet(pending.get());
+    }
+
+    public long drainOffered() {
+        return offered.sumThenReset();
+    }
+
+    public long drainDropped() {
+        return dropped.sumThenReset();
+    }
+
+    private void generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long startedAt = System.nanoTime();
+        long nextArrival = startedAt;
+        while (running && !Thread.currentThread().isInterrupted()) {
+            double rate = ratePerSecond * pattern.rateMultiplier(nextArrival - startedAt);
+            currentRate = rate;
+            double gapSeconds = -Math.log(1.0 - random.nextDouble()) / rate;
+            nextArrival += (long) (gapSeconds * 1e9);
+            long delay;
+            while ((delay = nextArrival - System.nanoTime()) > 0L) {
+                LockSupport.parkNanos(this, delay);
+                if (!running || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+            offer(new Request(nextArrival, random.nextDouble() < highShare));
+        }
+    }
+
+    private void offer(Request request) {
+        offered.increment();
+        if (pending.get() >= maxQueue) {
+            dropped.increment();
+            return;
+        }
+        enterQueue();
+        (request.highPriority() ? highRequests : lowRequests).add(request);
+    }
+}
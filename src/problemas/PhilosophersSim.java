@@ -54,7 +54,7 @@ public class PhilosophersSim extends JPanel implements SimPanel {
 
     private void clearRagGraph() {
         if (drawingPanel != null) {
-            SwingUtilities.invokeLater(() -> drawingPanel.clearGraph());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.clearGraph());
         }
     }
 
@@ -85,7 +85,7 @@ public class PhilosophersSim extends JPanel implements SimPanel {
 
         
         if (drawingPanel != null) {
-            SwingUtilities.invokeLater(() -> {
+            drawingPanel.enqueueGraphUpdate(() -> {
                 if (method == SyncMethod.MUTEX) {
                     
                     drawingPanel.setupPhilosophersGraph_Mutex();
@@ -146,229 +146,229 @@ public class PhilosophersSim extends JPanel implements SimPanel {
     
     public void updateGraphPhilosopherRequestingLock(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherRequestingLock_Mutex("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherRequestingLock_Mutex("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherHoldingLock(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherHoldingLock_Mutex("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherHoldingLock_Mutex("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherReleasingLock(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleasingLock_Mutex("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleasingLock_Mutex("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherRequestingWaiter(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherRequestingWaiter_Sem("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherRequestingWaiter_Sem("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherGrantedWaiter(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherGrantedWaiter_Sem("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherGrantedWaiter_Sem("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherRequestingFork(int philosopherId, int forkId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherRequestingFork_Sem("P" + philosopherId, "F" + forkId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherRequestingFork_Sem("P" + philosopherId, "F" + forkId));
         }
     }
 
     public void updateGraphPhilosopherHoldingFork(int philosopherId, int forkId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherHoldingFork_Sem("P" + philosopherId, "F" + forkId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherHoldingFork_Sem("P" + philosopherId, "F" + forkId));
         }
     }
 
     public void updateGraphPhilosopherEatingSemaphore(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherEating_Sem("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherEating_Sem("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherReleasingSemaphore(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleasingResources_Sem("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleasingResources_Sem("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherRequestingLockCondition(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherRequestingLock_Cond("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherRequestingLock_Cond("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherHoldingLockCondition(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherHoldingLock_Cond("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherHoldingLock_Cond("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherWaitingCondition(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherWaitingCondition_Cond("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherWaitingCondition_Cond("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherSignaledCondition(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherSignaledCondition_Cond("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherSignaledCondition_Cond("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherEatingCondition(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherEating_Cond("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherEating_Cond("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherReleasingCondition(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleasing_Cond("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleasing_Cond("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherReleasingLockCondition(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleasingLock_Cond("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleasingLock_Cond("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherIdleCondition(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherIdle_Cond("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherIdle_Cond("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherRequestingMonitor(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherRequestingMonitor("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherRequestingMonitor("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherInsideMonitor(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherInsideMonitor("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherInsideMonitor("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherWaitingMonitor(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherWaitingMonitor("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherWaitingMonitor("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherSignaledMonitor(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherSignaledMonitor("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherSignaledMonitor("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherEatingMonitor(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherEatingMonitor("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherEatingMonitor("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherReleasingMonitor(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleasingMonitor("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleasingMonitor("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherExitMonitor(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherExitMonitor("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherExitMonitor("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherIdleMonitor(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherIdleMonitor("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherIdleMonitor("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherThinkingBarrier(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherThinkingBarrier("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherThinkingBarrier("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherWaitingBarrier(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherWaitingBarrier("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherWaitingBarrier("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherReleasedBarrier(int philosopherId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleasedBarrier("P" + philosopherId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleasedBarrier("P" + philosopherId));
         }
     }
 
     public void updateGraphPhilosopherRequestingForkBarrier(int philosopherId, int forkId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherRequestingForkBarrier("P" + philosopherId, "F" + forkId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherRequestingForkBarrier("P" + philosopherId, "F" + forkId));
         }
     }
 
     public void updateGraphPhilosopherHoldingForkBarrier(int philosopherId, int forkId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherHoldingForkBarrier("P" + philosopherId, "F" + forkId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherHoldingForkBarrier("P" + philosopherId, "F" + forkId));
         }
     }
 
     public void updateGraphPhilosopherEatingBarrier(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherEatingBarrier("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherEatingBarrier("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherReleasingBarrier(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleasingBarrier("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleasingBarrier("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherThinkingDemo(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && (currentStrategy instanceof PhilosophersDeadlockStrategy || currentStrategy instanceof PhilosophersHoareStrategy)) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherThinkingDemo("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherThinkingDemo("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherRequestingForkDemo(int philosopherId, int forkId) {
         if (drawingPanel != null && (currentStrategy instanceof PhilosophersDeadlockStrategy || currentStrategy instanceof PhilosophersHoareStrategy)) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherRequestingForkDemo("P" + philosopherId, "F" + forkId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherRequestingForkDemo("P" + philosopherId, "F" + forkId));
         }
     }
 
     public void updateGraphPhilosopherWaitingForkDemo(int philosopherId, int forkId) {
         if (drawingPanel != null && currentStrategy instanceof PhilosophersDeadlockStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherWaitingForkDemo("P" + philosopherId, "F" + forkId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherWaitingForkDemo("P" + philosopherId, "F" + forkId));
         }
     }
 
     public void updateGraphPhilosopherHoldingForkDemo(int philosopherId, int forkId) {
         if (drawingPanel != null && (currentStrategy instanceof PhilosophersDeadlockStrategy || currentStrategy instanceof PhilosophersHoareStrategy)) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherHoldingForkDemo("P" + philosopherId, "F" + forkId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherHoldingForkDemo("P" + philosopherId, "F" + forkId));
         }
     }
 
     public void updateGraphPhilosopherEatingDemo(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && (currentStrategy instanceof PhilosophersDeadlockStrategy || currentStrategy instanceof PhilosophersHoareStrategy)) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherEatingDemo("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherEatingDemo("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
     public void updateGraphPhilosopherReleasingForksDemo(int philosopherId, int leftFork, int rightFork) {
         if (drawingPanel != null && (currentStrategy instanceof PhilosophersDeadlockStrategy || currentStrategy instanceof PhilosophersHoareStrategy)) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showPhilosopherReleaseForksDemo("P" + philosopherId, "F" + leftFork, "F" + rightFork));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showPhilosopherReleaseForksDemo("P" + philosopherId, "F" + leftFork, "F" + rightFork));
         }
     }
 
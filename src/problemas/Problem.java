@@ -8,5 +8,6 @@ public enum Problem {
     SMOKERS,
     READERS_WRITERS,
     DEADLOCK_DEMO,
-    VIRTUAL_ASSISTANTS
+    VIRTUAL_ASSISTANTS,
+    TRACE_REPLAY
 }
\ No newline at end of file
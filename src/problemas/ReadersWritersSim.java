@@ -15,7 +15,6 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.JComponent;
 import javax.swing.JPanel;
-import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import synch.ReadersWritersBarrierStrategy;
 import synch.ReadersWritersConditionStrategy;
@@ -103,7 +102,7 @@ public class ReadersWritersSim extends JPanel implements SimPanel {
     
     private void clearRagGraph() {
         if (drawingPanel != null) {
-            SwingUtilities.invokeLater(() -> drawingPanel.clearGraph());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.clearGraph());
         }
     }
 
@@ -131,7 +130,7 @@ public class ReadersWritersSim extends JPanel implements SimPanel {
 
         
         if (drawingPanel != null) {
-            SwingUtilities.invokeLater(() -> {
+            drawingPanel.enqueueGraphUpdate(() -> {
                 if (method == SyncMethod.MUTEX) {
                     
                     drawingPanel.setupReadersWritersGraph_Mutex();
@@ -192,443 +191,443 @@ public class ReadersWritersSim extends JPanel implements SimPanel {
 
     public void updateGraphReaderRequestingLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showActorRequestingLock_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showActorRequestingLock_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderHoldingLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showActorHoldingLock_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showActorHoldingLock_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderReleasingLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showActorReleasingLock_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showActorReleasingLock_RW("L" + actorId));
         }
     }
 
     public void updateGraphWriterRequestingLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showActorRequestingLock_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showActorRequestingLock_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterHoldingLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showActorHoldingLock_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showActorHoldingLock_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterReleasingLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showActorReleasingLock_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showActorReleasingLock_RW("E" + actorId));
         }
     }
 
     public void updateGraphReaderFinishedMutex(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderFinishedMutex_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderFinishedMutex_RW("L" + actorId));
         }
     }
 
     public void updateGraphWriterFinishedMutex(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterFinishedMutex_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterFinishedMutex_RW("E" + actorId));
         }
     }
 
     
     public void updateGraphReaderRequestingCountSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderRequestingCountSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderRequestingCountSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderHoldingCountSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderHoldingCountSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderHoldingCountSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderReleasingCountSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderReleasingCountSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderReleasingCountSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderRequestingRwSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderRequestingRwSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderRequestingRwSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderHoldingRwSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderHoldingRwSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderHoldingRwSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderReleasingRwSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderReleasingRwSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderReleasingRwSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderUsingDocumentSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderUsingDocumentSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderUsingDocumentSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderFinishedSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderFinishedSemaphore_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderFinishedSemaphore_RW("L" + actorId));
         }
     }
 
     public void updateGraphWriterRequestingSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterRequestingSemaphore_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterRequestingSemaphore_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterHoldingSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterHoldingSemaphore_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterHoldingSemaphore_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterUsingDocumentSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterUsingDocumentSemaphore_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterUsingDocumentSemaphore_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterReleasingSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterReleasingSemaphore_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterReleasingSemaphore_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterFinishedSemaphore(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterFinishedSemaphore_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterFinishedSemaphore_RW("E" + actorId));
         }
     }
 
     
     public void updateGraphReaderRequestingLockCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderRequestingLockCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderRequestingLockCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderHoldingLockCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderHoldingLockCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderHoldingLockCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderWaitingCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderWaitingCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderWaitingCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderSignaledCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderSignaledCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderSignaledCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderReleasingLockCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderReleasingLockCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderReleasingLockCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderUsingDocumentCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderUsingDocumentCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderUsingDocumentCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderSignalingWriterCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderSignalingWriterCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderSignalingWriterCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderSignalingReadersCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderSignalingReadersCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderSignalingReadersCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderFinishedCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderFinishedCondition_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderFinishedCondition_RW("L" + actorId));
         }
     }
 
     public void updateGraphWriterRequestingLockCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterRequestingLockCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterRequestingLockCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterHoldingLockCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterHoldingLockCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterHoldingLockCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterWaitingCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterWaitingCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterWaitingCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterSignaledCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterSignaledCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterSignaledCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterReleasingLockCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterReleasingLockCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterReleasingLockCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterUsingDocumentCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterUsingDocumentCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterUsingDocumentCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterSignalingWriterCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterSignalingWriterCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterSignalingWriterCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterSignalingReadersCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterSignalingReadersCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterSignalingReadersCondition_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterFinishedCondition(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterFinishedCondition_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterFinishedCondition_RW("E" + actorId));
         }
     }
 
     
     public void updateGraphReaderRequestingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderRequestingMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderRequestingMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderHoldingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderHoldingMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderHoldingMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderWaitingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderWaitingMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderWaitingMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderSignaledMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderSignaledMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderSignaledMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderReleasingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderReleasingMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderReleasingMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderUsingDocumentMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderUsingDocumentMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderUsingDocumentMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderSignalingWriterMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderSignalingWriterMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderSignalingWriterMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderSignalingReadersMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderSignalingReadersMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderSignalingReadersMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderFinishedMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderFinishedMonitor_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderFinishedMonitor_RW("L" + actorId));
         }
     }
 
     public void updateGraphWriterRequestingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterRequestingMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterRequestingMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterHoldingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterHoldingMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterHoldingMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterWaitingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterWaitingMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterWaitingMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterSignaledMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterSignaledMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterSignaledMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterReleasingMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterReleasingMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterReleasingMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterUsingDocumentMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterUsingDocumentMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterUsingDocumentMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterSignalingWriterMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterSignalingWriterMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterSignalingWriterMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterSignalingReadersMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterSignalingReadersMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterSignalingReadersMonitor_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterFinishedMonitor(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterFinishedMonitor_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterFinishedMonitor_RW("E" + actorId));
         }
     }
 
     
     public void updateGraphReaderRequestingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderRequestingBarrierLock_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderRequestingBarrierLock_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderWaitingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderWaitingBarrierLock_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderWaitingBarrierLock_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderHoldingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderHoldingBarrierLock_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderHoldingBarrierLock_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderUsingDocumentBarrier(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderUsingDocumentBarrier_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderUsingDocumentBarrier_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderReleasingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderReleasingBarrierLock_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderReleasingBarrierLock_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderWaitingBarrierGate(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderWaitingBarrierGate_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderWaitingBarrierGate_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderCrossingBarrierGate(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderCrossingBarrierGate_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderCrossingBarrierGate_RW("L" + actorId));
         }
     }
 
     public void updateGraphReaderFinishedBarrier(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showReaderFinishedBarrier_RW("L" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showReaderFinishedBarrier_RW("L" + actorId));
         }
     }
 
     public void updateGraphWriterRequestingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterRequestingBarrierLock_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterRequestingBarrierLock_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterWaitingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterWaitingBarrierLock_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterWaitingBarrierLock_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterHoldingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterHoldingBarrierLock_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterHoldingBarrierLock_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterUsingDocumentBarrier(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterUsingDocumentBarrier_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterUsingDocumentBarrier_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterReleasingBarrierLock(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterReleasingBarrierLock_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterReleasingBarrierLock_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterWaitingBarrierGate(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterWaitingBarrierGate_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterWaitingBarrierGate_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterCrossingBarrierGate(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterCrossingBarrierGate_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterCrossingBarrierGate_RW("E" + actorId));
         }
     }
 
     public void updateGraphWriterFinishedBarrier(int actorId) {
         if (drawingPanel != null && currentStrategy instanceof ReadersWritersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showWriterFinishedBarrier_RW("E" + actorId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showWriterFinishedBarrier_RW("E" + actorId));
         }
     }
 
@@ -0,0 +1,38 @@
+package problemas;
+
+import java.util.Locale;
+
+public enum ServiceDistribution {
+    UNIFORM("Uniforme"),
+    CONSTANT("Constante"),
+    EXPONENTIAL("Exponencial"),
+    LOG_NORMAL("Log-normal"),
+    REPLAY("Reproducir archivo"),
+    CPU("Sin esperas (CPU)");
+
+    private final String displayName;
+
+    ServiceDistribution(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isZeroDelay() {
+        return this == CPU;
+    }
+
+    public static ServiceDistribution fromProperty(String key, ServiceDistribution defaultValue) {
+        String raw = System.getProperty(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException ex) {
+            return defaultValue;
+        }
+    }
+}
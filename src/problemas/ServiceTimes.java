@@ -0,0 +1,154 @@
+package problemas;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class ServiceTimes {
+
+    enum Phase {
+        THINK(0),
+        TOKEN_HOLD(4),
+        PROCESSING(1),
+        RESPONDING(2),
+        REST(0);
+
+        private final int cpuDivisor;
+
+        Phase(int cpuDivisor) {
+            this.cpuDivisor = cpuDivisor;
+        }
+
+        boolean isBusy() {
+            return cpuDivisor > 0;
+        }
+    }
+
+    private static final int CPU_WORK = Math.max(1, Integer.getInteger("va.service.cpuWork", 20000));
+    private static volatile long sink;
+
+    private final ServiceDistribution distribution;
+    private final double sigma;
+    private final Map<Phase, long[]> replay = new EnumMap<>(Phase.class);
+    private final Map<Phase, AtomicInteger> replayCursors = new EnumMap<>(Phase.class);
+
+    ServiceTimes(ServiceDistribution distribution, double sigma, Path replayFile) {
+        this.sigma = Math.max(0.0, sigma);
+        ServiceDistribution resolved = distribution;
+        if (distribution == ServiceDistribution.REPLAY && !loadReplay(replayFile)) {
+            resolved = ServiceDistribution.UNIFORM;
+        }
+        this.distribution = resolved;
+    }
+
+    static ServiceTimes fromSystemProperties(ServiceDistribution distribution) {
+        double sigma = 0.5;
+        String raw = System.getProperty("va.service.sigma");
+        if (raw != null && !raw.isBlank()) {
+            try {
+                sigma = Double.parseDouble(raw.trim());
+            } catch (NumberFormatException ex) {
+                sigma = 0.5;
+            }
+        }
+        String file = System.getProperty("va.service.file");
+        return new ServiceTimes(distribution, sigma, file == null || file.isBlank() ? null : Path.of(file.trim()));
+    }
+
+    ServiceDistribution getDistribution() {
+        return distribution;
+    }
+
+    boolean isZeroDelay() {
+        return distribution.isZeroDelay();
+    }
+
+    long sampleMillis(Phase phase, int min, int spread, Random random) {
+        double mean = min + spread / 2.0;
+        return switch (distribution) {
+            case UNIFORM -> min + random.nextInt(Math.max(1, spread));
+            case CONSTANT -> Math.round(mean);
+            case EXPONENTIAL -> Math.round(-Math.log(1.0 - random.nextDouble()) * mean);
+            case LOG_NORMAL -> Math.round(Math.exp(Math.log(mean) - sigma * sigma / 2.0 + sigma * random.nextGaussian()));
+            case REPLAY -> nextReplay(phase);
+            case CPU -> 0L;
+        };
+    }
+
+    void pause(Phase phase, int min, int spread, Random random) throws InterruptedException {
+        if (distribution.isZeroDelay()) {
+            burn(phase);
+            return;
+        }
+        long millis = sampleMillis(phase, min, spread, random);
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    void burn(Phase phase) {
+        if (!phase.isBusy()) {
+            return;
+        }
+        long x = System.nanoTime() | 1L;
+        for (int i = CPU_WORK / phase.cpuDivisor; i > 0; i--) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+        }
+        sink = x;
+    }
+
+    private long nextReplay(Phase phase) {
+        long[] values = replay.get(phase);
+        int index = replayCursors.get(phase).getAndIncrement();
+        return values[Math.floorMod(index, values.length)];
+    }
+
+    private boolean loadReplay(Path file) {
+        if (file == null) {
+            return false;
+        }
+        Map<Phase, List<Long>> perPhase = new EnumMap<>(Phase.class);
+        List<Long> shared = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int hash = line.indexOf('#');
+                String[] parts = (hash >= 0 ? line.substring(0, hash) : line).trim().split("[\\s,;=]+");
+                if (parts.length == 0 || parts[0].isEmpty()) {
+                    continue;
+                }
+                try {
+                    if (parts.length == 1) {
+                        shared.add(Math.max(0L, Math.round(Double.parseDouble(parts[0]))));
+                    } else {
+                        Phase phase = Phase.valueOf(parts[0].toUpperCase(Locale.ROOT).replace('-', '_'));
+                        perPhase.computeIfAbsent(phase, k -> new ArrayList<>()).add(Math.max(0L, Math.round(Double.parseDouble(parts[1]))));
+                    }
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        } catch (IOException ex) {
+            return false;
+        }
+        for (Phase phase : Phase.values()) {
+            List<Long> values = perPhase.getOrDefault(phase, shared);
+            if (values.isEmpty()) {
+                return false;
+            }
+            replay.put(phase, values.stream().mapToLong(Long::longValue).toArray());
+            replayCursors.put(phase, new AtomicInteger());
+        }
+        return true;
+    }
+}
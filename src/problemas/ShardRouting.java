@@ -0,0 +1,30 @@
+package problemas;
+
+import java.util.Locale;
+
+public enum ShardRouting {
+    HASH("Por hash"),
+    LEAST_LOADED("Menor carga");
+
+    private final String displayName;
+
+    ShardRouting(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public static ShardRouting fromProperty(String key, ShardRouting defaultValue) {
+        String raw = System.getProperty(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return defaultValue;
+        }
+    }
+}
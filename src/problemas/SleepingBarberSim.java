@@ -70,7 +70,7 @@ public class SleepingBarberSim extends JPanel implements SimPanel {
     
     private void clearRagGraph() {
         if (drawingPanel != null) {
-            SwingUtilities.invokeLater(() -> drawingPanel.clearGraph());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.clearGraph());
         }
     }
 
@@ -109,7 +109,7 @@ public class SleepingBarberSim extends JPanel implements SimPanel {
         }
 
         if (drawingPanel != null) {
-            SwingUtilities.invokeLater(() -> {
+            drawingPanel.enqueueGraphUpdate(() -> {
                 if (method == SyncMethod.MUTEX) {
                     drawingPanel.setupSleepingBarberGraph();
                 } else if (method == SyncMethod.SEMAPHORES) {
@@ -156,334 +156,334 @@ public class SleepingBarberSim extends JPanel implements SimPanel {
 
     public void updateGraphGeneratorRequestingLock() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showGeneratorRequestingLock_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showGeneratorRequestingLock_Barber());
         }
     }
 
     public void updateGraphGeneratorHoldingLock() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showGeneratorHoldingLock_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showGeneratorHoldingLock_Barber());
         }
     }
 
     public void updateGraphGeneratorReleasingLock() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showGeneratorReleasingLock_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showGeneratorReleasingLock_Barber());
         }
     }
 
     public void updateGraphBarberRequestingLock() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberRequestingLock_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberRequestingLock_Barber());
         }
     }
 
     public void updateGraphBarberHoldingLock() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberHoldingLock_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberHoldingLock_Barber());
         }
     }
 
     public void updateGraphBarberReleasingLock() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberReleasingLock_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberReleasingLock_Barber());
         }
     }
 
     public void updateGraphCustomerRequestingAccessSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerRequestingAccessSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerRequestingAccessSemaphore_Barber());
         }
     }
 
     public void updateGraphCustomerHoldingAccessSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerHoldingAccessSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerHoldingAccessSemaphore_Barber());
         }
     }
 
     public void updateGraphCustomerReleasingAccessSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerReleasingAccessSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerReleasingAccessSemaphore_Barber());
         }
     }
 
     public void updateGraphCustomerQueueFullSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerQueueFullSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerQueueFullSemaphore_Barber());
         }
     }
 
     public void updateGraphCustomerSignalingCustomersSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerSignalingCustomersSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerSignalingCustomersSemaphore_Barber());
         }
     }
 
     public void updateGraphCustomerWaitingBarberSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerWaitingBarberSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerWaitingBarberSemaphore_Barber());
         }
     }
 
     public void updateGraphCustomerGrantedBarberSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerGrantedBarberSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerGrantedBarberSemaphore_Barber());
         }
     }
 
     public void updateGraphCustomerIdleSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerIdleSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerIdleSemaphore_Barber());
         }
     }
 
     public void updateGraphBarberWaitingCustomersSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberWaitingCustomersSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberWaitingCustomersSemaphore_Barber());
         }
     }
 
     public void updateGraphBarberAcquiredCustomersSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberAcquiredCustomersSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberAcquiredCustomersSemaphore_Barber());
         }
     }
 
     public void updateGraphBarberRequestingAccessSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberRequestingAccessSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberRequestingAccessSemaphore_Barber());
         }
     }
 
     public void updateGraphBarberHoldingAccessSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberHoldingAccessSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberHoldingAccessSemaphore_Barber());
         }
     }
 
     public void updateGraphBarberReleasingAccessSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberReleasingAccessSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberReleasingAccessSemaphore_Barber());
         }
     }
 
     public void updateGraphBarberSignalingBarberSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberSignalingBarberSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberSignalingBarberSemaphore_Barber());
         }
     }
 
     public void updateGraphBarberIdleSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberIdleSemaphore_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberIdleSemaphore_Barber());
         }
     }
 
     
     public void updateGraphCustomerRequestingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerRequestingLockCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerRequestingLockCondition_Barber());
         }
     }
 
     public void updateGraphCustomerHoldingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerHoldingLockCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerHoldingLockCondition_Barber());
         }
     }
 
     public void updateGraphCustomerSeatedCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerSeatedCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerSeatedCondition_Barber());
         }
     }
 
     public void updateGraphCustomerQueueFullCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerQueueFullCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerQueueFullCondition_Barber());
         }
     }
 
     public void updateGraphCustomerSignalingCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerSignalingCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerSignalingCondition_Barber());
         }
     }
 
     public void updateGraphCustomerReleasingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerReleasingLockCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerReleasingLockCondition_Barber());
         }
     }
 
     public void updateGraphCustomerIdleCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerIdleCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerIdleCondition_Barber());
         }
     }
 
     public void updateGraphBarberRequestingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberRequestingLockCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberRequestingLockCondition_Barber());
         }
     }
 
     public void updateGraphBarberHoldingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberHoldingLockCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberHoldingLockCondition_Barber());
         }
     }
 
     public void updateGraphBarberWaitingCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberWaitingCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberWaitingCondition_Barber());
         }
     }
 
     public void updateGraphBarberSignaledCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberSignaledCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberSignaledCondition_Barber());
         }
     }
 
     public void updateGraphBarberReleasingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberReleasingLockCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberReleasingLockCondition_Barber());
         }
     }
 
     public void updateGraphBarberIdleCondition() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberIdleCondition_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberIdleCondition_Barber());
         }
     }
 
     
     public void updateGraphCustomerRequestingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerRequestingMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerRequestingMonitor_Barber());
         }
     }
 
     public void updateGraphCustomerInsideMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerInsideMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerInsideMonitor_Barber());
         }
     }
 
     public void updateGraphCustomerSeatedMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerSeatedMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerSeatedMonitor_Barber());
         }
     }
 
     public void updateGraphCustomerQueueFullMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerQueueFullMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerQueueFullMonitor_Barber());
         }
     }
 
     public void updateGraphCustomerSignalingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerSignalingMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerSignalingMonitor_Barber());
         }
     }
 
     public void updateGraphCustomerExitMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerExitMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerExitMonitor_Barber());
         }
     }
 
     public void updateGraphCustomerIdleMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showCustomerIdleMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showCustomerIdleMonitor_Barber());
         }
     }
 
     public void updateGraphBarberRequestingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberRequestingMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberRequestingMonitor_Barber());
         }
     }
 
     public void updateGraphBarberInsideMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberInsideMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberInsideMonitor_Barber());
         }
     }
 
     public void updateGraphBarberWaitingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberWaitingMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberWaitingMonitor_Barber());
         }
     }
 
     public void updateGraphBarberSignaledMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberSignaledMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberSignaledMonitor_Barber());
         }
     }
 
     public void updateGraphBarberExitMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberExitMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberExitMonitor_Barber());
         }
     }
 
     public void updateGraphBarberIdleMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberIdleMonitor_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberIdleMonitor_Barber());
         }
     }
 
     
     public void updateGraphGeneratorRequestingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showGeneratorRequestingBarrier_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showGeneratorRequestingBarrier_Barber());
         }
     }
 
     public void updateGraphGeneratorWaitingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showGeneratorWaitingBarrier_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showGeneratorWaitingBarrier_Barber());
         }
     }
 
     public void updateGraphGeneratorReleasedBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showGeneratorReleasedBarrier_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showGeneratorReleasedBarrier_Barber());
         }
     }
 
     public void updateGraphGeneratorFinishedCycle() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showGeneratorFinishedCycle_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showGeneratorFinishedCycle_Barber());
         }
     }
 
     public void updateGraphBarberRequestingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberRequestingBarrier_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberRequestingBarrier_Barber());
         }
     }
 
     public void updateGraphBarberWaitingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberWaitingBarrier_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberWaitingBarrier_Barber());
         }
     }
 
     public void updateGraphBarberReleasedBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberReleasedBarrier_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberReleasedBarrier_Barber());
         }
     }
 
     public void updateGraphBarberFinishedCycle() {
         if (drawingPanel != null && currentStrategy instanceof SleepingBarberBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showBarberFinishedCycle_Barber());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showBarberFinishedCycle_Barber());
         }
     }
     
@@ -63,7 +63,7 @@ public class SmokersSim extends JPanel implements SimPanel {
     private void clearRagGraph() {
         if (drawingPanel != null) {
 
-            SwingUtilities.invokeLater(() -> drawingPanel.clearGraph());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.clearGraph());
         }
     }
 
@@ -91,7 +91,7 @@ public class SmokersSim extends JPanel implements SimPanel {
 
         
         if (drawingPanel != null) {
-            SwingUtilities.invokeLater(() -> {
+            drawingPanel.enqueueGraphUpdate(() -> {
                 if (method == SyncMethod.MUTEX) {
                     drawingPanel.setupSmokersGraph();
                 } else if (method == SyncMethod.SEMAPHORES) {
@@ -149,276 +149,276 @@ public class SmokersSim extends JPanel implements SimPanel {
     
     public void updateGraphAgentRequestingLock() {
         if (drawingPanel != null && currentStrategy instanceof SmokersPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentRequestingLock_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentRequestingLock_Smokers());
         }
     }
 
     public void updateGraphAgentHoldingLock(Ing ing1, Ing ing2) {
         if (drawingPanel != null && currentStrategy instanceof SmokersPureMutexStrategy) {
             String label = formatIngredientPair(ing1, ing2);
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentHoldingLock_Smokers(label));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentHoldingLock_Smokers(label));
         }
     }
 
     public void updateGraphAgentReleasingLock() {
         if (drawingPanel != null && currentStrategy instanceof SmokersPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentReleasingLock_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentReleasingLock_Smokers());
         }
     }
 
     public void updateGraphSmokerRequestingLock(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerRequestingLock_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerRequestingLock_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerHoldingLock(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersPureMutexStrategy) {
             
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerHoldingLock_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerHoldingLock_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerReleasingLock(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerReleasingLock_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerReleasingLock_Smokers(smokerId));
         }
     }
 
     
     public void updateGraphAgentWaitingSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentWaitingSemaphore_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentWaitingSemaphore_Smokers());
         }
     }
 
     public void updateGraphAgentHoldingSemaphore(Ing ing1, Ing ing2) {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
             String label = formatIngredientPair(ing1, ing2);
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentHoldingSemaphore_Smokers(label));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentHoldingSemaphore_Smokers(label));
         }
     }
 
     public void updateGraphAgentSignalingSemaphore(int smokerId, Ing ing1, Ing ing2) {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
             String label = formatIngredientPair(ing1, ing2);
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentSignalingSemaphore_Smokers(smokerId, label));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentSignalingSemaphore_Smokers(smokerId, label));
         }
     }
 
     public void updateGraphAgentIdleSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentIdleSemaphore_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentIdleSemaphore_Smokers());
         }
     }
 
     public void updateGraphSmokerWaitingSemaphore(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerWaitingSemaphore_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerWaitingSemaphore_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerGrantedSemaphore(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerGrantedSemaphore_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerGrantedSemaphore_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerTakingSemaphore(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerTakingSemaphore_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerTakingSemaphore_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerFinishedSemaphore(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerFinishedSemaphore_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerFinishedSemaphore_Smokers(smokerId));
         }
     }
 
     
     public void updateGraphAgentRequestingCondition() {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentRequestingCondition_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentRequestingCondition_Smokers());
         }
     }
 
     public void updateGraphAgentPlacingIngredientsCondition(Ing ing1, Ing ing2) {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
             String label = formatIngredientPair(ing1, ing2);
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentPlacingCondition_Smokers(label));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentPlacingCondition_Smokers(label));
         }
     }
 
     public void updateGraphAgentSignalingCondition() {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentSignalingCondition_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentSignalingCondition_Smokers());
         }
     }
 
     public void updateGraphAgentIdleCondition() {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentIdleCondition_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentIdleCondition_Smokers());
         }
     }
 
     public void updateGraphSmokerWaitingCondition(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerWaitingCondition_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerWaitingCondition_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerTakingCondition(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerTakingCondition_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerTakingCondition_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerSignalingCondition() {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerSignalingCondition_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerSignalingCondition_Smokers());
         }
     }
 
     public void updateGraphSmokerIdleCondition(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerIdleCondition_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerIdleCondition_Smokers(smokerId));
         }
     }
 
     
     public void updateGraphAgentRequestingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentRequestingMonitor_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentRequestingMonitor_Smokers());
         }
     }
 
     public void updateGraphAgentInsideMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentInsideMonitor_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentInsideMonitor_Smokers());
         }
     }
 
     public void updateGraphAgentPlacingMonitor(Ing ing1, Ing ing2) {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
             String label = formatIngredientPair(ing1, ing2);
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentPlacingMonitor_Smokers(label));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentPlacingMonitor_Smokers(label));
         }
     }
 
     public void updateGraphAgentSignalingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentSignalingMonitor_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentSignalingMonitor_Smokers());
         }
     }
 
     public void updateGraphAgentIdleMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentIdleMonitor_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentIdleMonitor_Smokers());
         }
     }
 
     public void updateGraphSmokerWaitingMonitor(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerWaitingMonitor_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerWaitingMonitor_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerInsideMonitor(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerInsideMonitor_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerInsideMonitor_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerTakingMonitor(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerTakingMonitor_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerTakingMonitor_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerExitMonitor(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerExitMonitor_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerExitMonitor_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerSignalingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerSignalingMonitor_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerSignalingMonitor_Smokers());
         }
     }
 
     public void updateGraphSmokerIdleMonitor(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerIdleMonitor_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerIdleMonitor_Smokers(smokerId));
         }
     }
 
     
     public void updateGraphAgentRequestingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentRequestingBarrier_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentRequestingBarrier_Smokers());
         }
     }
 
     public void updateGraphAgentPlacingBarrier(Ing ing1, Ing ing2) {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
             String label = formatIngredientPair(ing1, ing2);
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentPlacingBarrier_Smokers(label));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentPlacingBarrier_Smokers(label));
         }
     }
 
     public void updateGraphAgentTableBusyBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentTableBusyBarrier_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentTableBusyBarrier_Smokers());
         }
     }
 
     public void updateGraphAgentWaitingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentWaitingBarrier_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentWaitingBarrier_Smokers());
         }
     }
 
     public void updateGraphAgentReleasedBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentReleasedBarrier_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentReleasedBarrier_Smokers());
         }
     }
 
     public void updateGraphAgentFinishedBarrier() {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showAgentFinishedBarrier_Smokers());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showAgentFinishedBarrier_Smokers());
         }
     }
 
     public void updateGraphSmokerRequestingBarrier(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerRequestingBarrier_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerRequestingBarrier_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerTakingBarrier(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerTakingBarrier_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerTakingBarrier_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerWaitingBarrier(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerWaitingBarrier_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerWaitingBarrier_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerReleasedBarrier(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerReleasedBarrier_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerReleasedBarrier_Smokers(smokerId));
         }
     }
 
     public void updateGraphSmokerIdleBarrier(int smokerId) {
         if (drawingPanel != null && currentStrategy instanceof SmokersBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showSmokerIdleBarrier_Smokers(smokerId));
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showSmokerIdleBarrier_Smokers(smokerId));
         }
     }
 
@@ -7,6 +7,7 @@ public enum SyncMethod {
     VAR_COND,
     MONITORS,
     BARRIERS,
+    LOCK_FREE,
     PHIL_DEADLOCK,
     PHIL_HOARE
 }
\ No newline at end of file
@@ -0,0 +1,335 @@
+package problemas;
+
+import core.DrawingPanel;
+import synch.SyncTrace;
+import synch.SyncTracer;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JSlider;
+import javax.swing.Timer;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public class TraceReplaySim extends JPanel implements SimPanel {
+
+    private static final long serialVersionUID = -5512043382810516153L;
+
+    private static final double[] SPEEDS = {0.001, 0.01, 0.1, 0.5, 1.0, 2.0, 10.0};
+    private static final int DEFAULT_SPEED = 4;
+    private static final Map<SyncTracer.Op, Color> OP_COLORS = new EnumMap<>(Map.of(
+            SyncTracer.Op.ACQUIRE, new Color(0x5B, 0x7F, 0xB5),
+            SyncTracer.Op.WAIT, new Color(0xE0, 0x6C, 0x1F),
+            SyncTracer.Op.GRANT, new Color(0x2E, 0x9E, 0x4F),
+            SyncTracer.Op.RELEASE, new Color(0xB8, 0xB8, 0xB8),
+            SyncTracer.Op.SIGNAL, new Color(0x8E, 0x44, 0xAD)
+    ));
+
+    private final SyncTrace trace;
+    private final List<String> laneLabels = new ArrayList<>();
+    private final List<String> resourceLabels = new ArrayList<>();
+    private final int[] eventLane;
+    private final int[] eventResource;
+    private final SyncTracer.Op[] laneState;
+    private final Timer timer;
+    private final JButton playButton = new JButton("Reproducir");
+    private final JSlider timeline;
+    private final JLabel status = new JLabel(" ");
+    private final LaneView laneView = new LaneView();
+    private DrawingPanel drawingPanel;
+    private int cursor;
+    private long virtualNanos;
+    private long lastTick;
+    private double speed = SPEEDS[DEFAULT_SPEED];
+    private boolean playing;
+    private boolean adjustingTimeline;
+
+    private TraceReplaySim(SyncTrace trace) {
+        super(new BorderLayout());
+        this.trace = trace;
+        this.eventLane = new int[trace.size()];
+        this.eventResource = new int[trace.size()];
+        indexLanes();
+        this.laneState = new SyncTracer.Op[laneLabels.size()];
+        this.timer = new Timer(16, e -> tick());
+        this.timeline = new JSlider(0, Math.max(1, trace.size()), 0);
+    }
+
+    public static TraceReplaySim open(SyncTrace trace) {
+        TraceReplaySim sim = new TraceReplaySim(trace);
+        sim.installControls();
+        return sim;
+    }
+
+    private void installControls() {
+        JComboBox<String> speedBox = new JComboBox<>();
+        for (double s : SPEEDS) {
+            speedBox.addItem(String.format(Locale.ROOT, "×%s", s >= 1.0 ? String.valueOf((int) s) : String.valueOf(s)));
+        }
+        speedBox.setSelectedIndex(DEFAULT_SPEED);
+        speedBox.addActionListener(e -> speed = SPEEDS[speedBox.getSelectedIndex()]);
+        JButton stepButton = new JButton("Paso");
+        JButton resetButton = new JButton("Reiniciar");
+        playButton.addActionListener(e -> setPlaying(!playing));
+        stepButton.addActionListener(e -> {
+            setPlaying(false);
+            step();
+        });
+        resetButton.addActionListener(e -> {
+            setPlaying(false);
+            seek(0);
+        });
+        timeline.addChangeListener(e -> {
+            if (!adjustingTimeline) {
+                setPlaying(false);
+                seek(timeline.getValue());
+            }
+        });
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 4));
+        buttons.add(playButton);
+        buttons.add(stepButton);
+        buttons.add(resetButton);
+        buttons.add(new JLabel("Velocidad:"));
+        buttons.add(speedBox);
+        JPanel controls = new JPanel(new GridLayout(2, 1));
+        controls.add(buttons);
+        controls.add(timeline);
+        status.setBorder(BorderFactory.createEmptyBorder(4, 8, 4, 8));
+        add(controls, BorderLayout.NORTH);
+        add(laneView, BorderLayout.CENTER);
+        add(status, BorderLayout.SOUTH);
+        updateStatus();
+    }
+
+    private void indexLanes() {
+        Map<Integer, Set<Integer>> threadsPerActor = new HashMap<>();
+        for (int i = 0; i < trace.size(); i++) {
+            threadsPerActor.computeIfAbsent(trace.actorId(i), k -> new HashSet<>()).add(trace.thread(i));
+        }
+        Map<Long, Integer> lanes = new HashMap<>();
+        Map<Integer, Integer> resources = new HashMap<>();
+        for (int i = 0; i < trace.size(); i++) {
+            int actor = trace.actorId(i);
+            long key = ((long) trace.thread(i) << 32) | actor;
+            Integer lane = lanes.get(key);
+            if (lane == null) {
+                lane = laneLabels.size();
+                lanes.put(key, lane);
+                String label = trace.actor(i);
+                laneLabels.add(threadsPerActor.get(actor).size() > 1 ? label + "#" + trace.threadId(i) : label);
+            }
+            eventLane[i] = lane;
+            Integer resource = resources.get(trace.primitiveId(i));
+            if (resource == null) {
+                resource = resourceLabels.size();
+                resources.put(trace.primitiveId(i), resource);
+                resourceLabels.add(trace.primitive(i));
+            }
+            eventResource[i] = resource;
+        }
+    }
+
+    @Override
+    public void setDrawingPanel(DrawingPanel drawingPanel) {
+        this.drawingPanel = drawingPanel;
+    }
+
+    @Override
+    public void showSkeleton() {
+        setPlaying(false);
+        seek(0);
+    }
+
+    @Override
+    public void startWith(SyncMethod method) {
+        setPlaying(true);
+    }
+
+    @Override
+    public void stopSimulation() {
+        setPlaying(false);
+    }
+
+    @Override
+    public JComponent getComponent() {
+        return this;
+    }
+
+    private void setPlaying(boolean value) {
+        if (value && cursor >= trace.size()) {
+            seek(0);
+        }
+        playing = value;
+        playButton.setText(value ? "Pausa" : "Reproducir");
+        if (value) {
+            lastTick = System.nanoTime();
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        virtualNanos += (long) ((now - lastTick) * speed);
+        lastTick = now;
+        while (cursor < trace.size() && trace.offsetNanos(cursor) <= virtualNanos) {
+            apply(cursor++);
+        }
+        if (cursor >= trace.size()) {
+            setPlaying(false);
+        }
+        syncTimeline();
+    }
+
+    private void step() {
+        if (cursor < trace.size()) {
+            virtualNanos = trace.offsetNanos(cursor);
+            apply(cursor++);
+            syncTimeline();
+        }
+    }
+
+    private void seek(int target) {
+        int bounded = Math.max(0, Math.min(trace.size(), target));
+        if (bounded < cursor || cursor == 0) {
+            cursor = 0;
+            Arrays.fill(laneState, null);
+            if (drawingPanel != null) {
+                drawingPanel.enqueueGraphUpdate(() -> drawingPanel.setupTraceGraph(laneLabels, resourceLabels));
+            }
+        }
+        while (cursor < bounded) {
+            apply(cursor++);
+        }
+        virtualNanos = cursor > 0 ? trace.offsetNanos(cursor - 1) : 0L;
+        syncTimeline();
+    }
+
+    private void apply(int index) {
+        int lane = eventLane[index];
+        SyncTracer.Op op = trace.op(index);
+        if (op != SyncTracer.Op.SIGNAL) {
+            laneState[lane] = op;
+        }
+        if (drawingPanel == null) {
+            return;
+        }
+        String actor = laneLabels.get(lane);
+        String resource = resourceLabels.get(eventResource[index]);
+        switch (op) {
+            case ACQUIRE -> drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showTraceEdge(actor, resource, "Solicitud"));
+            case WAIT -> drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showTraceEdge(actor, resource, "Espera"));
+            case GRANT -> drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showTraceEdge(actor, resource, "Asignado"));
+            case RELEASE -> drawingPanel.enqueueGraphUpdate(() -> drawingPanel.removeTraceEdge(actor, resource));
+            case SIGNAL -> {
+            }
+        }
+    }
+
+    private void syncTimeline() {
+        adjustingTimeline = true;
+        timeline.setValue(cursor);
+        adjustingTimeline = false;
+        updateStatus();
+        laneView.repaint();
+    }
+
+    private void updateStatus() {
+        String last = "";
+        if (cursor > 0) {
+            int i = cursor - 1;
+            last = String.format(" · %s %s %s", laneLabels.get(eventLane[i]), trace.op(i).getDisplayName().toLowerCase(Locale.ROOT), resourceLabels.get(eventResource[i]));
+        }
+        status.setText(String.format(Locale.ROOT, "Evento %d/%d · t=%.3f ms de %.3f ms%s",
+                cursor, trace.size(), virtualNanos / 1e6, trace.durationNanos() / 1e6, last));
+    }
+
+    private final class LaneView extends JComponent {
+        private static final long serialVersionUID = 5858729308313801676L;
+
+        private static final int LABEL_WIDTH = 120;
+        private BufferedImage marks;
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            int w = getWidth();
+            int h = getHeight();
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, w, h);
+            int lanes = laneLabels.size();
+            if (lanes == 0 || w <= LABEL_WIDTH + 10) {
+                g.setColor(Color.GRAY);
+                g.drawString("La traza no contiene eventos.", 12, 24);
+                return;
+            }
+            int row = Math.max(3, Math.min(22, (h - 8) / lanes));
+            if (marks == null || marks.getWidth() != w || marks.getHeight() != h) {
+                marks = renderMarks(w, h, row);
+            }
+            g.drawImage(marks, 0, 0, null);
+            int plotWidth = w - LABEL_WIDTH - 8;
+            for (int lane = 0; lane < lanes; lane++) {
+                SyncTracer.Op state = laneState[lane];
+                if (state != null) {
+                    g.setColor(OP_COLORS.get(state));
+                    g.fillRect(LABEL_WIDTH - 8, 4 + lane * row + 1, 5, Math.max(1, row - 2));
+                }
+            }
+            long duration = Math.max(1L, trace.durationNanos());
+            int x = LABEL_WIDTH + (int) (Math.min(virtualNanos, duration) * plotWidth / duration);
+            g.setColor(Color.RED);
+            g.drawLine(x, 0, x, h);
+        }
+
+        private BufferedImage renderMarks(int w, int h, int row) {
+            BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.setColor(Color.WHITE);
+            g2.fillRect(0, 0, w, h);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, Math.min(12, Math.max(8, row - 4))));
+            int plotWidth = w - LABEL_WIDTH - 8;
+            long duration = Math.max(1L, trace.durationNanos());
+            for (int lane = 0; lane < laneLabels.size(); lane++) {
+                int y = 4 + lane * row;
+                if (lane % 2 == 1) {
+                    g2.setColor(new Color(246, 246, 246));
+                    g2.fillRect(0, y, w, row);
+                }
+                if (row >= 10) {
+                    g2.setColor(Color.DARK_GRAY);
+                    g2.drawString(laneLabels.get(lane), 4, y + row - 3);
+                }
+            }
+            for (int i = 0; i < trace.size(); i++) {
+                int x = LABEL_WIDTH + (int) (trace.offsetNanos(i) * plotWidth / duration);
+                g2.setColor(OP_COLORS.get(trace.op(i)));
+                g2.fillRect(x, 4 + eventLane[i] * row + 1, 1, Math.max(1, row - 2));
+            }
+            g2.dispose();
+            return image;
+        }
+    }
+}
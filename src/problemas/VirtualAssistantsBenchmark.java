@@ -0,0 +1,489 @@
+package problemas;
+
+import problemas.VirtualAssistantsSim.AssistantAgent;
+import synch.ResourceGrant;
+import synch.VirtualAssistantsShardedStrategy;
+import synch.VirtualAssistantsStrategy;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+public final class VirtualAssistantsBenchmark {
+
+    private static final List<SyncMethod> DEFAULT_METHODS = List.of(
+            SyncMethod.MUTEX,
+            SyncMethod.SEMAPHORES,
+            SyncMethod.VAR_COND,
+            SyncMethod.MONITORS,
+            SyncMethod.BARRIERS,
+            SyncMethod.LOCK_FREE
+    );
+
+    private final int agentCount;
+    private final int slots;
+    private final int tokens;
+    private final long warmupMillis;
+    private final long durationMillis;
+    private final boolean virtualThreads;
+    private long thinkNanos = 0L;
+    private boolean combinedAcquire = false;
+    private long serviceNanos = 0L;
+    private ArrivalPattern arrivalPattern = ArrivalPattern.CLOSED_LOOP;
+    private double arrivalRate = 0.0;
+    private int maxQueue = 1024;
+    private int shards = 1;
+    private ShardRouting routing = ShardRouting.LEAST_LOADED;
+
+    public VirtualAssistantsBenchmark(int agentCount, int slots, int tokens, long warmupMillis, long durationMillis, boolean virtualThreads) {
+        this.agentCount = Math.max(2, agentCount);
+        this.slots = Math.max(1, slots);
+        this.tokens = Math.max(1, tokens);
+        this.warmupMillis = Math.max(0L, warmupMillis);
+        this.durationMillis = Math.max(1L, durationMillis);
+        this.virtualThreads = virtualThreads;
+    }
+
+    public VirtualAssistantsBenchmark withThinkTime(long micros) {
+        this.thinkNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0L, micros));
+        return this;
+    }
+
+    public VirtualAssistantsBenchmark withCombinedAcquire(boolean combined) {
+        this.combinedAcquire = combined;
+        return this;
+    }
+
+    public VirtualAssistantsBenchmark withServiceTime(long micros) {
+        this.serviceNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0L, micros));
+        return this;
+    }
+
+    public VirtualAssistantsBenchmark withOpenLoop(ArrivalPattern pattern, double ratePerSecond, int maxQueue) {
+        this.arrivalPattern = pattern;
+        this.arrivalRate = ratePerSecond;
+        this.maxQueue = Math.max(1, maxQueue);
+        return this;
+    }
+
+    public VirtualAssistantsBenchmark withShards(int shards, ShardRouting routing) {
+        this.shards = Math.max(1, shards);
+        this.routing = routing;
+        return this;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        if (options.containsKey("help")) {
+            printUsage();
+            return;
+        }
+        int agents = intOption(options, "agents", 64);
+        int slots = intOption(options, "slots", Integer.getInteger("va.slots", 3));
+        int tokens = intOption(options, "tokens", Integer.getInteger("va.tokens", 2));
+        long warmup = (long) (doubleOption(options, "warmup", 1.0) * 1000);
+        long duration = (long) (doubleOption(options, "duration", 5.0) * 1000);
+        boolean virtual = options.containsKey("virtual");
+        if (options.containsKey("wakeups")) {
+            System.setProperty("va.targetedWakeups", Boolean.toString(!"broadcast".equalsIgnoreCase(options.get("wakeups").trim())));
+        }
+        if (options.containsKey("lanes")) {
+            System.setProperty("va.lanePolicy", options.get("lanes").trim());
+        }
+        List<SyncMethod> methods = parseMethods(options.get("methods"));
+
+        VirtualAssistantsBenchmark benchmark = new VirtualAssistantsBenchmark(agents, slots, tokens, warmup, duration, virtual)
+                .withThinkTime(intOption(options, "think-us", 0))
+                .withCombinedAcquire("combined".equalsIgnoreCase(options.getOrDefault("acquire", "split").trim()))
+                .withServiceTime(intOption(options, "service-us", 0))
+                .withShards(intOption(options, "shards", 1),
+                        ShardRouting.valueOf(options.getOrDefault("routing", "least_loaded").trim().toUpperCase(Locale.ROOT)));
+        if (options.containsKey("arrival-rate")) {
+            ArrivalPattern pattern = ArrivalPattern.valueOf(options.getOrDefault("pattern", "poisson").trim().toUpperCase(Locale.ROOT));
+            benchmark.withOpenLoop(pattern.isOpenLoop() ? pattern : ArrivalPattern.POISSON, doubleOption(options, "arrival-rate", 1000.0), intOption(options, "max-queue", 1024));
+        }
+        System.out.printf(Locale.ROOT, "Benchmark VA: %d agentes, %d slots, %d tokens, %.1f s (+%.1f s calentamiento), pausa %d µs, hilos %s, despertares %s, adquisición %s, carriles %s%n",
+                benchmark.agentCount, benchmark.slots, benchmark.tokens, duration / 1000.0, warmup / 1000.0,
+                TimeUnit.NANOSECONDS.toMicros(benchmark.thinkNanos), virtual ? "virtuales" : "de plataforma",
+                Boolean.parseBoolean(System.getProperty("va.targetedWakeups", "true")) ? "dirigidos" : "difusión",
+                benchmark.combinedAcquire ? "combinada" : "token y luego slot",
+                LanePolicy.fromProperty("va.lanePolicy", LanePolicy.TWO_WIN).getDisplayName());
+        if (benchmark.shards > 1) {
+            System.out.printf(Locale.ROOT, "Servidor particionado: %d particiones, enrutado %s%n", benchmark.shards, benchmark.routing.getDisplayName());
+        }
+        if (benchmark.arrivalPattern.isOpenLoop()) {
+            System.out.printf(Locale.ROOT, "Carga abierta %s: %.0f solicitudes/s, cola máxima %d, servicio %d µs%n",
+                    benchmark.arrivalPattern.getDisplayName(), benchmark.arrivalRate, benchmark.maxQueue, TimeUnit.NANOSECONDS.toMicros(benchmark.serviceNanos));
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (SyncMethod method : methods) {
+            Result result = benchmark.run(method);
+            results.add(result);
+            System.out.printf(Locale.ROOT, "  %-10s listo: %,.0f concesiones/s%n", method, result.grantsPerSecond());
+        }
+        System.out.println();
+        printTable(results);
+        if (options.containsKey("csv")) {
+            writeCsv(Path.of(options.get("csv")), results);
+        }
+        if (options.containsKey("json")) {
+            writeJson(Path.of(options.get("json")), results);
+        }
+    }
+
+    public Result run(SyncMethod method) throws InterruptedException {
+        VirtualAssistantsStrategy strategy = VirtualAssistantsSim.createStrategy(method, slots, tokens, shards, routing);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Método no soportado por los Asistentes Virtuales: " + method);
+        }
+        int highCount = agentCount / 2;
+        List<AssistantAgent> roster = new ArrayList<>();
+        for (int i = 0; i < agentCount; i++) {
+            boolean highPriority = i < highCount;
+            roster.add(new AssistantAgent(i + 1, highPriority, highPriority ? i : i - highCount));
+        }
+        Recorder recorder = new Recorder(agentCount);
+        LoadGenerator load = new LoadGenerator(arrivalPattern, Math.max(0.01, arrivalRate), maxQueue, 0.5);
+        strategy.start();
+        load.start(task -> virtualThreads ? Thread.ofVirtual().name("VA-Bench-Load").start(task) : Thread.ofPlatform().name("VA-Bench-Load").daemon(true).start(task));
+        List<Thread> workers = new ArrayList<>();
+        for (AssistantAgent agent : roster) {
+            Runnable loop = () -> runAgent(strategy, agent, recorder, load);
+            String name = "VA-Bench-" + method + "-" + agent.getLabel();
+            workers.add(virtualThreads ? Thread.ofVirtual().name(name).start(loop) : Thread.ofPlatform().name(name).daemon(true).start(loop));
+        }
+
+        Thread.sleep(warmupMillis);
+        recorder.measuring = true;
+        long cpuFrom = processCpuNanos();
+        long wakeupsFrom = strategy.getWakeupCount();
+        long spuriousFrom = strategy.getSpuriousWakeupCount();
+        long stealsFrom = strategy instanceof VirtualAssistantsShardedStrategy sharded ? sharded.getStealCount() : 0L;
+        load.drainOffered();
+        load.drainDropped();
+        load.drainMaxDepth();
+        long measuredFrom = System.nanoTime();
+        Thread.sleep(durationMillis);
+        recorder.measuring = false;
+        long measuredNanos = System.nanoTime() - measuredFrom;
+        long cpuNanos = Math.max(0L, processCpuNanos() - cpuFrom);
+        long wakeups = strategy.getWakeupCount() - wakeupsFrom;
+        long spuriousWakeups = strategy.getSpuriousWakeupCount() - spuriousFrom;
+        long offered = load.drainOffered();
+        long dropped = load.drainDropped();
+        int maxDepth = load.drainMaxDepth();
+        if (strategy instanceof VirtualAssistantsShardedStrategy sharded) {
+            System.out.printf(Locale.ROOT, "  %-10s %d particiones, %,d robos entre particiones%n", method, sharded.getShardCount(), sharded.getStealCount() - stealsFrom);
+        }
+
+        recorder.running = false;
+        load.stop();
+        strategy.stop();
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(2));
+        }
+        return recorder.toResult(method, roster, measuredNanos, cpuNanos, wakeups, spuriousWakeups, offered, dropped, maxDepth);
+    }
+
+    private static long processCpuNanos() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            return sunOs.getProcessCpuTime();
+        }
+        return 0L;
+    }
+
+    private void runAgent(VirtualAssistantsStrategy strategy, AssistantAgent agent, Recorder recorder, LoadGenerator load) {
+        int agentIndex = agent.getId() - 1;
+        boolean openLoop = arrivalPattern.isOpenLoop();
+        while (recorder.running) {
+            int tokenIndex = -1;
+            int slotIndex = -1;
+            try {
+                long requestedAt;
+                if (openLoop) {
+                    requestedAt = load.take(agent.isHighPriority()).arrivedAt();
+                } else {
+                    if (thinkNanos > 0L) {
+                        LockSupport.parkNanos(thinkNanos);
+                    }
+                    requestedAt = System.nanoTime();
+                }
+                long tokenAt;
+                if (combinedAcquire) {
+                    ResourceGrant grant = strategy.acquireTokenAndSlot(agent);
+                    tokenIndex = grant.tokenIndex();
+                    slotIndex = grant.slotIndex();
+                    tokenAt = System.nanoTime();
+                } else {
+                    tokenIndex = strategy.acquirePriorityToken(agent);
+                    tokenAt = System.nanoTime();
+                    slotIndex = strategy.acquireServerSlot(agent);
+                }
+                long slotAt = System.nanoTime();
+                if (openLoop) {
+                    load.leaveQueue();
+                }
+                if (serviceNanos > 0L) {
+                    LockSupport.parkNanos(serviceNanos);
+                }
+                strategy.releaseResources(agent, tokenIndex, slotIndex);
+                tokenIndex = -1;
+                slotIndex = -1;
+                if (recorder.measuring) {
+                    recorder.record(agentIndex, agent.isHighPriority(), tokenAt - requestedAt, slotAt - tokenAt, slotAt - requestedAt);
+                }
+            } catch (InterruptedException ex) {
+                if (tokenIndex >= 0 || slotIndex >= 0) {
+                    strategy.releaseResources(agent, tokenIndex, slotIndex);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static final class Recorder {
+        private final LatencyHistogram tokenWait = new LatencyHistogram();
+        private final LatencyHistogram slotWait = new LatencyHistogram();
+        private final LatencyHistogram highTokenWait = new LatencyHistogram();
+        private final LatencyHistogram lowTokenWait = new LatencyHistogram();
+        private final LatencyHistogram queueDelay = new LatencyHistogram();
+        private final AtomicLongArray perAgentGrants;
+        private volatile boolean running = true;
+        private volatile boolean measuring = false;
+
+        Recorder(int agents) {
+            this.perAgentGrants = new AtomicLongArray(agents);
+        }
+
+        void record(int agentIndex, boolean highPriority, long tokenNanos, long slotNanos, long queueNanos) {
+            tokenWait.record(tokenNanos);
+            queueDelay.record(queueNanos);
+            slotWait.record(slotNanos);
+            (highPriority ? highTokenWait : lowTokenWait).record(tokenNanos);
+            perAgentGrants.getAndIncrement(agentIndex);
+        }
+
+        Result toResult(SyncMethod method, List<AssistantAgent> roster, long measuredNanos, long cpuNanos, long wakeups, long spuriousWakeups,
+                        long offered, long dropped, int maxDepth) {
+            long highGrants = 0L;
+            long lowGrants = 0L;
+            double sum = 0.0;
+            double sumSquares = 0.0;
+            for (AssistantAgent agent : roster) {
+                long grants = perAgentGrants.get(agent.getId() - 1);
+                if (agent.isHighPriority()) {
+                    highGrants += grants;
+                } else {
+                    lowGrants += grants;
+                }
+                sum += grants;
+                sumSquares += (double) grants * grants;
+            }
+            double jain = sumSquares == 0.0 ? 0.0 : (sum * sum) / (roster.size() * sumSquares);
+            return new Result(method, roster.size(), measuredNanos, cpuNanos, highGrants, lowGrants,
+                    tokenWait.snapshot(), slotWait.snapshot(), highTokenWait.snapshot(), lowTokenWait.snapshot(), jain, wakeups, spuriousWakeups,
+                    offered, dropped, maxDepth, queueDelay.snapshot());
+        }
+    }
+
+    public record Result(SyncMethod method, int agents, long measuredNanos, long cpuNanos, long highGrants, long lowGrants,
+                         LatencyHistogram.Snapshot tokenWait, LatencyHistogram.Snapshot slotWait,
+                         LatencyHistogram.Snapshot highTokenWait, LatencyHistogram.Snapshot lowTokenWait,
+                         double jainFairness, long wakeups, long spuriousWakeups,
+                         long offered, long dropped, int maxDepth, LatencyHistogram.Snapshot queueDelay) {
+
+        public long grants() {
+            return highGrants + lowGrants;
+        }
+
+        public double grantsPerSecond() {
+            return grants() / (measuredNanos / 1e9);
+        }
+
+        public double cpuCores() {
+            return cpuNanos / (double) measuredNanos;
+        }
+
+        public double offeredPerSecond() {
+            return offered / (measuredNanos / 1e9);
+        }
+
+        public double droppedPerSecond() {
+            return dropped / (measuredNanos / 1e9);
+        }
+
+        public double spuriousShare() {
+            return wakeups == 0L ? 0.0 : spuriousWakeups / (double) wakeups;
+        }
+
+        public double highShare() {
+            long total = grants();
+            return total == 0L ? 0.0 : highGrants / (double) total;
+        }
+    }
+
+    private static void printTable(List<Result> results) {
+        String header = String.format(Locale.ROOT, "%-10s %12s %10s %10s %10s %10s %10s %10s %8s %8s %8s",
+                "método", "conc./s", "tok p50", "tok p99", "tok p999", "slot p50", "slot p99", "slot p999", "% alta", "% baja", "Jain");
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+        for (Result r : results) {
+            System.out.printf(Locale.ROOT, "%-10s %,12.0f %10s %10s %10s %10s %10s %10s %7.1f%% %7.1f%% %8.3f%n",
+                    r.method(), r.grantsPerSecond(),
+                    formatNanos(r.tokenWait().percentile(50)), formatNanos(r.tokenWait().percentile(99)), formatNanos(r.tokenWait().percentile(99.9)),
+                    formatNanos(r.slotWait().percentile(50)), formatNanos(r.slotWait().percentile(99)), formatNanos(r.slotWait().percentile(99.9)),
+                    r.highShare() * 100.0, (1.0 - r.highShare()) * 100.0, r.jainFairness());
+        }
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-10s %12s %12s %12s %10s %10s %10s %12s %10s%n", "método", "tok p50 baja", "tok p99 alta", "tok p99 baja", "conc. alta", "conc. baja", "CPU (núc.)", "despertares", "% espurios");
+        for (Result r : results) {
+            System.out.printf(Locale.ROOT, "%-10s %12s %12s %12s %,10d %,10d %10.2f %,12d %9.1f%%%n", r.method(),
+                    formatNanos(r.lowTokenWait().percentile(50)), formatNanos(r.highTokenWait().percentile(99)), formatNanos(r.lowTokenWait().percentile(99)),
+                    r.highGrants(), r.lowGrants(), r.cpuCores(), r.wakeups(), r.spuriousShare() * 100.0);
+        }
+        if (results.stream().anyMatch(r -> r.offered() > 0L)) {
+            System.out.println();
+            System.out.printf(Locale.ROOT, "%-10s %12s %12s %12s %10s %10s %10s %10s%n", "método", "ofrecidas/s", "atendidas/s", "descartes/s", "cola p50", "cola p99", "cola p999", "prof. máx");
+            for (Result r : results) {
+                System.out.printf(Locale.ROOT, "%-10s %,12.0f %,12.0f %,12.0f %10s %10s %10s %,10d%n", r.method(),
+                        r.offeredPerSecond(), r.grantsPerSecond(), r.droppedPerSecond(),
+                        formatNanos(r.queueDelay().percentile(50)), formatNanos(r.queueDelay().percentile(99)), formatNanos(r.queueDelay().percentile(99.9)),
+                        r.maxDepth());
+            }
+        }
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000L) {
+            return nanos + " ns";
+        }
+        if (nanos < 1_000_000L) {
+            return String.format(Locale.ROOT, "%.1f µs", nanos / 1_000.0);
+        }
+        if (nanos < 1_000_000_000L) {
+            return String.format(Locale.ROOT, "%.2f ms", nanos / 1_000_000.0);
+        }
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1_000_000_000.0);
+    }
+
+    private static void writeCsv(Path path, List<Result> results) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            out.println("method,agents,seconds,grants,grants_per_sec,token_p50_ns,token_p99_ns,token_p999_ns,slot_p50_ns,slot_p99_ns,slot_p999_ns,high_grants,low_grants,high_token_p99_ns,low_token_p99_ns,jain,cpu_cores,wakeups,spurious_wakeups,offered,dropped,queue_p50_ns,queue_p99_ns,queue_p999_ns,max_depth");
+            for (Result r : results) {
+                out.printf(Locale.ROOT, "%s,%d,%.3f,%d,%.1f,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%.4f,%.3f,%d,%d,%d,%d,%d,%d,%d,%d%n",
+                        r.method(), r.agents(), r.measuredNanos() / 1e9, r.grants(), r.grantsPerSecond(),
+                        r.tokenWait().percentile(50), r.tokenWait().percentile(99), r.tokenWait().percentile(99.9),
+                        r.slotWait().percentile(50), r.slotWait().percentile(99), r.slotWait().percentile(99.9),
+                        r.highGrants(), r.lowGrants(), r.highTokenWait().percentile(99), r.lowTokenWait().percentile(99), r.jainFairness(), r.cpuCores(), r.wakeups(), r.spuriousWakeups(),
+                        r.offered(), r.dropped(), r.queueDelay().percentile(50), r.queueDelay().percentile(99), r.queueDelay().percentile(99.9), r.maxDepth());
+            }
+        }
+        System.out.println("CSV escrito en " + path.toAbsolutePath());
+    }
+
+    private static void writeJson(Path path, List<Result> results) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            out.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                Result r = results.get(i);
+                out.printf(Locale.ROOT, "  {\"method\": \"%s\", \"agents\": %d, \"seconds\": %.3f, \"grants\": %d, \"grantsPerSec\": %.1f, \"cpuCores\": %.3f,%n",
+                        r.method(), r.agents(), r.measuredNanos() / 1e9, r.grants(), r.grantsPerSecond(), r.cpuCores());
+                out.printf(Locale.ROOT, "   \"wakeups\": {\"total\": %d, \"spurious\": %d},%n", r.wakeups(), r.spuriousWakeups());
+                out.printf(Locale.ROOT, "   \"load\": {\"offered\": %d, \"dropped\": %d, \"maxDepth\": %d, \"queueDelayNs\": {\"p50\": %d, \"p99\": %d, \"p999\": %d}},%n",
+                        r.offered(), r.dropped(), r.maxDepth(), r.queueDelay().percentile(50), r.queueDelay().percentile(99), r.queueDelay().percentile(99.9));
+                out.printf(Locale.ROOT, "   \"tokenWaitNs\": {\"p50\": %d, \"p99\": %d, \"p999\": %d, \"max\": %d},%n",
+                        r.tokenWait().percentile(50), r.tokenWait().percentile(99), r.tokenWait().percentile(99.9), r.tokenWait().max());
+                out.printf(Locale.ROOT, "   \"slotWaitNs\": {\"p50\": %d, \"p99\": %d, \"p999\": %d, \"max\": %d},%n",
+                        r.slotWait().percentile(50), r.slotWait().percentile(99), r.slotWait().percentile(99.9), r.slotWait().max());
+                out.printf(Locale.ROOT, "   \"fairness\": {\"highGrants\": %d, \"lowGrants\": %d, \"highTokenP99Ns\": %d, \"lowTokenP99Ns\": %d, \"jain\": %.4f}}%s%n",
+                        r.highGrants(), r.lowGrants(), r.highTokenWait().percentile(99), r.lowTokenWait().percentile(99), r.jainFairness(),
+                        i + 1 < results.size() ? "," : "");
+            }
+            out.println("]");
+        }
+        System.out.println("JSON escrito en " + path.toAbsolutePath());
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+            String body = arg.substring(2);
+            int eq = body.indexOf('=');
+            if (eq < 0) {
+                options.put(body, "");
+            } else {
+                options.put(body.substring(0, eq), body.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String raw = options.get(key);
+        return raw == null || raw.isBlank() ? defaultValue : Integer.parseInt(raw.trim());
+    }
+
+    private static double doubleOption(Map<String, String> options, String key, double defaultValue) {
+        String raw = options.get(key);
+        return raw == null || raw.isBlank() ? defaultValue : Double.parseDouble(raw.trim());
+    }
+
+    private static List<SyncMethod> parseMethods(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return DEFAULT_METHODS;
+        }
+        List<SyncMethod> methods = new ArrayList<>();
+        for (String name : raw.split(",")) {
+            SyncMethod method = SyncMethod.valueOf(name.trim().toUpperCase(Locale.ROOT));
+            if (!VirtualAssistantsSim.supports(method)) {
+                throw new IllegalArgumentException("Método no soportado por los Asistentes Virtuales: " + method);
+            }
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private static void printUsage() {
+        System.out.println("Uso: java -cp <classpath> problemas.VirtualAssistantsBenchmark [opciones]");
+        System.out.println("  --agents=N        agentes por estrategia (64)");
+        System.out.println("  --slots=N         slots del servidor (va.slots o 3)");
+        System.out.println("  --tokens=N        tokens de prioridad (va.tokens o 2)");
+        System.out.println("  --duration=S      segundos medidos por estrategia (5)");
+        System.out.println("  --warmup=S        segundos de calentamiento (1)");
+        System.out.println("  --methods=A,B     subconjunto de MUTEX,SEMAPHORES,VAR_COND,MONITORS,BARRIERS,LOCK_FREE");
+        System.out.println("  --shards=K        particiones del servidor, cada una con su pool de slots (1)");
+        System.out.println("  --routing=R       enrutado a particiones: hash o least_loaded (least_loaded)");
+        System.out.println("  --lanes=P         planificación de carriles: strict, two_win, wfq, drr o aging (two_win)");
+        System.out.println("  --service-us=N    tiempo de servicio con el slot ocupado en microsegundos (0)");
+        System.out.println("  --arrival-rate=R  carga en lazo abierto: R solicitudes/s independientes de las respuestas");
+        System.out.println("  --pattern=P       patrón de llegadas: poisson, bursty o step (poisson)");
+        System.out.println("  --max-queue=N     solicitudes en espera antes de descartar (1024)");
+        System.out.println("  --think-us=N      pausa entre solicitudes en microsegundos (0)");
+        System.out.println("  --virtual         ejecuta los agentes en hilos virtuales");
+        System.out.println("  --acquire=M       token y slot por separado (split) o en una sola operación (combined)");
+        System.out.println("  --wakeups=M       despertares dirigidos (targeted) o por difusión (broadcast)");
+        System.out.println("  --csv=archivo     exporta resultados en CSV");
+        System.out.println("  --json=archivo    exporta resultados en JSON");
+    }
+}
@@ -2,47 +2,83 @@ package problemas;
 
 import core.DrawingPanel;
 import core.DrawingPanel.ChartKind;
+import core.DrawingPanel.ChartMetric;
 import synch.VirtualAssistantsBarrierStrategy;
 import synch.VirtualAssistantsConditionStrategy;
+import synch.VirtualAssistantsLockFreeStrategy;
 import synch.VirtualAssistantsMonitorStrategy;
 import synch.VirtualAssistantsMutexStrategy;
 import synch.VirtualAssistantsSemaphoreStrategy;
+import synch.VirtualAssistantsShardedStrategy;
+import synch.SyncTracer;
 import synch.VirtualAssistantsStrategy;
 
 import javax.swing.JComponent;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
-import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
-import java.awt.geom.Point2D;
+import java.awt.Stroke;
 import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 
 public class VirtualAssistantsSim extends JPanel implements SimPanel {
 
     private static final int ASSISTANT_COUNT = readPositiveSystemProperty("va.assistants", 8);
+    private static final int CHART_ASSISTANT_COUNT = readPositiveSystemProperty("va.chartAssistants", ASSISTANT_COUNT);
     private static final int SERVER_SLOTS = readPositiveSystemProperty("va.slots", 3);
     private static final int PRIORITY_TOKENS = readPositiveSystemProperty("va.tokens", 2);
+    private static final int CHART_WORKERS = readPositiveSystemProperty("va.chartWorkers", Math.max(2, Runtime.getRuntime().availableProcessors()));
+    private static final int SERVER_SHARDS = readPositiveSystemProperty("va.shards", 1);
+    private static final ShardRouting SHARD_ROUTING = ShardRouting.fromProperty("va.shardRouting", ShardRouting.LEAST_LOADED);
     private static final Color HIGH_PRIORITY_COLOR = new Color(0x6C, 0x63, 0xF5);
     private static final Color LOW_PRIORITY_COLOR = new Color(0x1A, 0x9C, 0x82);
     private static final Color SERVER_COLOR = new Color(0x24, 0x3C, 0x5A);
     private static final Color TOKEN_COLOR = new Color(0xFF, 0xA0, 0x27);
     private static final long TOKEN_PULSE_DURATION_MS = 900;
+    private static final int PULSE_ALPHA_STEPS = 64;
+    private static final int AGENT_SIZE = 26;
+    private static final int FRAME_STATS_WINDOW = 30;
+    private static final Color BACKGROUND_COLOR = new Color(246, 248, 255);
+    private static final Color SERVER_FILL_COLOR = new Color(0xE8, 0xED, 0xFF);
+    private static final Color HIGH_QUEUE_FILL_COLOR = new Color(0xE9, 0xE3, 0xFF);
+    private static final Color LOW_QUEUE_FILL_COLOR = new Color(0xD6, 0xF5, 0xEE);
+    private static final Color HIGH_QUEUE_BORDER_COLOR = HIGH_PRIORITY_COLOR.darker();
+    private static final Color LOW_QUEUE_BORDER_COLOR = LOW_PRIORITY_COLOR.darker();
+    private static final Color TITLE_COLOR = new Color(0x14, 0x1E, 0x3C);
+    private static final Color[] PULSE_COLORS = buildPulseColors();
+    private static final BasicStroke SERVER_STROKE = new BasicStroke(2f);
+    private static final BasicStroke QUEUE_STROKE = new BasicStroke(1.2f);
+    private static final BasicStroke PULSE_STROKE = new BasicStroke(2f);
+    private static final BufferedImage HIGH_PRIORITY_SPRITE = buildAgentSprite(HIGH_PRIORITY_COLOR);
+    private static final BufferedImage LOW_PRIORITY_SPRITE = buildAgentSprite(LOW_PRIORITY_COLOR);
+    private static volatile boolean virtualThreadsEnabled = Boolean.getBoolean("va.virtualThreads");
 
     public enum AssistantState {
         IDLE, WAITING_TOKEN, HAS_TOKEN, WAITING_SLOT, PROCESSING, RESPONDING, RESTING
@@ -52,22 +88,21 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         private final int id;
         private final boolean highPriority;
         private final int laneIndex;
+        private final String label;
         private volatile AssistantState state = AssistantState.IDLE;
-        private volatile double x;
-        private volatile double y;
-        private volatile double targetX;
-        private volatile double targetY;
         private volatile int assignedSlot = -1;
         private volatile int assignedToken = -1;
+        private AssistantAgent demoted;
 
         public AssistantAgent(int id, boolean highPriority, int laneIndex) {
             this.id = id;
             this.highPriority = highPriority;
             this.laneIndex = laneIndex;
+            this.label = "AV" + id;
         }
 
         public String getLabel() {
-            return "AV" + id;
+            return label;
         }
 
         public boolean isHighPriority() {
@@ -85,17 +120,46 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         public int getId() {
             return id;
         }
+
+        AssistantAgent downgraded() {
+            AssistantAgent lowered = demoted;
+            if (lowered == null) {
+                lowered = highPriority ? new AssistantAgent(id, false, laneIndex) : this;
+                demoted = lowered;
+            }
+            return lowered;
+        }
     }
 
     private final List<AssistantAgent> agents = new ArrayList<>();
+    private final AgentLayout layout;
+    private final FrameStats frameStats = new FrameStats();
+    private final RoundRectangle2D.Double serverBox = new RoundRectangle2D.Double();
+    private final double[] tokenCenterX = new double[PRIORITY_TOKENS];
+    private final double[] tokenCenterY = new double[PRIORITY_TOKENS];
+    private final String[] tokenLabels = new String[PRIORITY_TOKENS];
+    private final int[] arrowX = new int[3];
+    private final int[] arrowY = new int[3];
+    private Font baseFont;
+    private Font serverFont;
+    private Font plainFont;
+    private Font agentFont;
+    private Font titleFont;
+    private Font statsFont;
     private final List<Thread> agentThreads = new ArrayList<>();
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final Timer animationTimer;
     private final Timer performanceTimer;
-    private final Random random = new Random();
     private final EnumSet<SyncMethod> trackedChartMethods = EnumSet.noneOf(SyncMethod.class);
     private final ChartSimulationPool chartPool = new ChartSimulationPool();
-    private final List<TokenPulse> tokenPulses = Collections.synchronizedList(new ArrayList<>());
+    private final PulseRing tokenPulses = new PulseRing(Math.max(64, ASSISTANT_COUNT * 4));
+    private final AdmissionController agentAdmission = AdmissionController.fromSystemProperties();
+    private volatile AdmissionPolicy admissionPolicy = AdmissionPolicy.fromProperty("va.admission", AdmissionPolicy.NONE);
+    private volatile ArrivalPattern arrivalPattern = ArrivalPattern.fromSystemProperties();
+    private volatile boolean fairComparison = Boolean.getBoolean("va.fairComparison");
+    private volatile LanePolicy lanePolicy = LanePolicy.fromProperty("va.lanePolicy", LanePolicy.TWO_WIN);
+    private volatile ServiceTimes serviceTimes = ServiceTimes.fromSystemProperties(ServiceDistribution.fromProperty("va.serviceDistribution", ServiceDistribution.UNIFORM));
+    private LoadGenerator agentLoad = LoadGenerator.fromSystemProperties(ArrivalPattern.CLOSED_LOOP);
 
     private DrawingPanel drawingPanel;
     private VirtualAssistantsStrategy currentStrategy;
@@ -104,9 +168,10 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
     private boolean skeletonVisible = true;
     private boolean chartActive = false;
     private ChartKind chartKind = null;
+    private String lastChartCaption = null;
 
     public VirtualAssistantsSim() {
-        setBackground(new Color(246, 248, 255));
+        setBackground(BACKGROUND_COLOR);
         setOpaque(true);
         animationTimer = new Timer(32, e -> advanceAgents());
         animationTimer.setCoalesce(true);
@@ -114,6 +179,28 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         performanceTimer.setCoalesce(true);
         performanceTimer.setInitialDelay(900);
         createAgents();
+        layout = new AgentLayout(agents, SERVER_SLOTS);
+        for (int i = 0; i < PRIORITY_TOKENS; i++) {
+            tokenLabels[i] = "T" + (i + 1);
+        }
+    }
+
+    private static BufferedImage buildAgentSprite(Color color) {
+        BufferedImage sprite = new BufferedImage(AGENT_SIZE + 1, AGENT_SIZE + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = sprite.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(color);
+        g2.fillOval(0, 0, AGENT_SIZE, AGENT_SIZE);
+        g2.dispose();
+        return sprite;
+    }
+
+    private static Color[] buildPulseColors() {
+        Color[] colors = new Color[PULSE_ALPHA_STEPS + 1];
+        for (int i = 0; i <= PULSE_ALPHA_STEPS; i++) {
+            colors[i] = new Color(TOKEN_COLOR.getRed(), TOKEN_COLOR.getGreen(), TOKEN_COLOR.getBlue(), i * 255 / PULSE_ALPHA_STEPS);
+        }
+        return colors;
     }
 
     private static int readPositiveSystemProperty(String key, int defaultValue) {
@@ -135,20 +222,118 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         for (int i = 0; i < ASSISTANT_COUNT; i++) {
             boolean highPriority = i < highCount;
             int laneIndex = highPriority ? i : i - highCount;
-            AssistantAgent agent = new AssistantAgent(i + 1, highPriority, laneIndex);
-            Point2D fallback = fallbackIdlePosition(agent);
-            agent.x = fallback.getX();
-            agent.y = fallback.getY();
-            agent.targetX = agent.x;
-            agent.targetY = agent.y;
-            agents.add(agent);
+            agents.add(new AssistantAgent(i + 1, highPriority, laneIndex));
         }
     }
 
+    public static boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    public void setVirtualThreadsEnabled(boolean enabled) {
+        if (virtualThreadsEnabled == enabled) {
+            return;
+        }
+        virtualThreadsEnabled = enabled;
+        SyncMethod restartMethod = currentMethod;
+        if (chartActive) {
+            chartPool.stopAll();
+            chartPool.ensureRunning(trackedChartMethods);
+        }
+        if (restartMethod != SyncMethod.NONE) {
+            startWith(restartMethod);
+        }
+    }
+
+    public ArrivalPattern getArrivalPattern() {
+        return arrivalPattern;
+    }
+
+    public void setArrivalPattern(ArrivalPattern pattern) {
+        if (pattern == null || pattern == arrivalPattern) {
+            return;
+        }
+        arrivalPattern = pattern;
+        SyncMethod restartMethod = currentMethod;
+        if (chartActive) {
+            chartPool.stopAll();
+            chartPool.ensureRunning(trackedChartMethods);
+        }
+        if (restartMethod != SyncMethod.NONE) {
+            startWith(restartMethod);
+        }
+    }
+
+    public ServiceDistribution getServiceDistribution() {
+        return serviceTimes.getDistribution();
+    }
+
+    public ServiceDistribution setServiceDistribution(ServiceDistribution distribution) {
+        if (distribution == null || distribution == serviceTimes.getDistribution()) {
+            return serviceTimes.getDistribution();
+        }
+        ServiceTimes resolved = ServiceTimes.fromSystemProperties(distribution);
+        if (resolved.getDistribution() == serviceTimes.getDistribution()) {
+            return resolved.getDistribution();
+        }
+        serviceTimes = resolved;
+        SyncMethod restartMethod = currentMethod;
+        if (chartActive) {
+            chartPool.stopAll();
+            chartPool.ensureRunning(trackedChartMethods);
+        }
+        if (restartMethod != SyncMethod.NONE) {
+            startWith(restartMethod);
+        }
+        return serviceTimes.getDistribution();
+    }
+
+    public boolean isFairComparison() {
+        return fairComparison;
+    }
+
+    public void setFairComparison(boolean enabled) {
+        if (fairComparison == enabled) {
+            return;
+        }
+        fairComparison = enabled;
+        chartPool.applyFairComparison(enabled);
+    }
+
+    public LanePolicy getLanePolicy() {
+        return lanePolicy;
+    }
+
+    public void setLanePolicy(LanePolicy policy) {
+        if (policy == null || policy == lanePolicy) {
+            return;
+        }
+        lanePolicy = policy;
+        if (currentStrategy != null) {
+            currentStrategy.setLanePolicy(policy);
+        }
+        chartPool.applyLanePolicy(policy);
+    }
+
+    private static Thread spawnWorker(Runnable task, String name, boolean daemon) {
+        if (virtualThreadsEnabled) {
+            return Thread.ofVirtual().name(name).start(task);
+        }
+        Thread worker = new Thread(task, name);
+        worker.setDaemon(daemon);
+        worker.start();
+        return worker;
+    }
+
+    private static long usedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
     private List<AssistantAgent> buildChartAgents() {
         List<AssistantAgent> roster = new ArrayList<>();
-        int highCount = ASSISTANT_COUNT / 2;
-        for (int i = 0; i < ASSISTANT_COUNT; i++) {
+        int highCount = CHART_ASSISTANT_COUNT / 2;
+        for (int i = 0; i < CHART_ASSISTANT_COUNT; i++) {
             boolean highPriority = i < highCount;
             int laneIndex = highPriority ? i : i - highCount;
             roster.add(new AssistantAgent(100 + i + 1, highPriority, laneIndex));
@@ -164,7 +349,7 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         resetAgentsToIdle();
         tokenPulses.clear();
         if (drawingPanel != null) {
-            drawingPanel.setupVirtualAssistantsGraph(ASSISTANT_COUNT, SERVER_SLOTS, PRIORITY_TOKENS);
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.setupVirtualAssistantsGraph(ASSISTANT_COUNT, SERVER_SLOTS, PRIORITY_TOKENS, Math.min(SERVER_SHARDS, SERVER_SLOTS)));
         }
         repaint();
         updatePerformanceTimer();
@@ -189,12 +374,15 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         resetAgentsToIdle();
         currentStrategy.start();
         running.set(true);
+        agentLoad = LoadGenerator.fromSystemProperties(arrivalPattern);
+        agentLoad.start(task -> spawnWorker(task, "VA-Load-" + method, true));
         enableMethodTracking(method);
         startAgents();
         animationTimer.start();
         updatePerformanceTimer();
         if (drawingPanel != null) {
-            drawingPanel.setupVirtualAssistantsGraph(ASSISTANT_COUNT, SERVER_SLOTS, PRIORITY_TOKENS);
+            int shards = currentStrategy.getShardCount();
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.setupVirtualAssistantsGraph(ASSISTANT_COUNT, SERVER_SLOTS, PRIORITY_TOKENS, shards));
         }
     }
 
@@ -207,6 +395,7 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
             t.interrupt();
         }
         agentThreads.clear();
+        agentLoad.stop();
         if (currentStrategy != null) {
             currentStrategy.stop();
             currentStrategy = null;
@@ -246,26 +435,53 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
     private void startAgents() {
         agentThreads.clear();
         for (AssistantAgent agent : agents) {
-            Thread worker = new Thread(() -> runAssistant(agent), "VA-Agent-" + agent.getLabel());
-            worker.start();
-            agentThreads.add(worker);
+            agentThreads.add(spawnWorker(() -> runAssistant(agent), "VA-Agent-" + agent.getLabel(), false));
         }
     }
 
     private void runAssistant(AssistantAgent agent) {
+        SyncTracer.bindActor(agent.getLabel());
         Random local = new Random(agent.id * 31L + System.nanoTime());
+        LoadGenerator source = agentLoad;
+        boolean openLoop = source.getPattern().isOpenLoop();
         while (running.get() && currentStrategy != null) {
             int tokenIndex = -1;
             int slotIndex = -1;
+            ServiceTimes times = serviceTimes;
             try {
 
                 transition(agent, AssistantState.IDLE);
-                Thread.sleep(350 + local.nextInt(500));
+                if (openLoop) {
+                    source.take(agent.isHighPriority());
+                    source.leaveQueue();
+                } else {
+                    times.pause(ServiceTimes.Phase.THINK, 350, 500, local);
+                }
+
+                AdmissionPolicy policy = admissionPolicy;
+                AssistantAgent requester = agent;
+                if (policy != AdmissionPolicy.NONE) {
+                    AdmissionController.Decision decision = agentAdmission.admit(policy, agent.isHighPriority());
+                    if (decision == AdmissionController.Decision.REJECT) {
+                        transition(agent, AssistantState.RESTING);
+                        continue;
+                    }
+                    if (decision == AdmissionController.Decision.DOWNGRADE) {
+                        requester = agent.downgraded();
+                    }
+                }
+                long budget = agentAdmission.deadlineNanos(requester.isHighPriority());
+                long requestedAt = System.nanoTime();
 
                 transition(agent, AssistantState.WAITING_TOKEN);
                 notifyGraphQueued(agent);
-                tokenIndex = currentStrategy.acquirePriorityToken(agent);
+                tokenIndex = policy == AdmissionPolicy.NONE
+                        ? currentStrategy.acquirePriorityToken(requester)
+                        : currentStrategy.tryAcquirePriorityToken(requester, budget, TimeUnit.NANOSECONDS);
                 if (tokenIndex < 0) {
+                    agentAdmission.observe(requester.isHighPriority(), budget);
+                    notifyGraphFinished(agent);
+                    transition(agent, AssistantState.RESTING);
                     continue;
                 }
                 agent.assignedToken = tokenIndex;
@@ -274,24 +490,35 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
 
                 transition(agent, AssistantState.WAITING_SLOT);
                 notifyGraphRequestingSlot(agent);
-                slotIndex = currentStrategy.acquireServerSlot(agent);
+                slotIndex = policy == AdmissionPolicy.NONE
+                        ? currentStrategy.acquireServerSlot(requester)
+                        : currentStrategy.tryAcquireServerSlot(requester, budget - (System.nanoTime() - requestedAt), TimeUnit.NANOSECONDS);
                 if (slotIndex < 0) {
+                    agentAdmission.observe(requester.isHighPriority(), budget);
+                    currentStrategy.releaseResources(agent, tokenIndex, -1);
+                    tokenIndex = -1;
+                    agent.assignedToken = -1;
+                    notifyGraphFinished(agent);
+                    transition(agent, AssistantState.RESTING);
                     continue;
                 }
+                agentAdmission.observe(requester.isHighPriority(), System.nanoTime() - requestedAt);
                 agent.assignedSlot = slotIndex;
                 transition(agent, AssistantState.PROCESSING);
                 notifyGraphProcessing(agent);
 
-                Thread.sleep(450 + local.nextInt(agent.isHighPriority() ? 450 : 700));
+                times.pause(ServiceTimes.Phase.PROCESSING, 450, agent.isHighPriority() ? 450 : 700, local);
                 transition(agent, AssistantState.RESPONDING);
-                Thread.sleep(260 + local.nextInt(240));
+                times.pause(ServiceTimes.Phase.RESPONDING, 260, 240, local);
 
                 currentStrategy.releaseResources(agent, agent.assignedToken, agent.assignedSlot);
                 agent.assignedSlot = -1;
                 agent.assignedToken = -1;
                 notifyGraphFinished(agent);
                 transition(agent, AssistantState.RESTING);
-                Thread.sleep(280 + local.nextInt(280));
+                if (!openLoop) {
+                    times.pause(ServiceTimes.Phase.REST, 280, 280, local);
+                }
             } catch (InterruptedException ex) {
                 if (currentStrategy != null && (tokenIndex >= 0 || slotIndex >= 0)) {
                     currentStrategy.releaseResources(agent, tokenIndex, slotIndex);
@@ -319,12 +546,81 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         }
         chartPool.ensureRunning(trackedChartMethods);
         double timePoint = drawingPanel.advanceVirtualAssistantTimeline();
+        ChartMetric metric = drawingPanel.getVirtualAssistantChartMetric();
+        int served = 0;
+        int timedOut = 0;
+        int rejected = 0;
+        long offered = 0L;
+        long dropped = 0L;
+        double windowSeconds = 0.0;
+        SyncMethod fairMethod = chartPool.fairWindowMethod();
         for (SyncMethod method : trackedChartMethods) {
-            int completed = chartPool.drainCompleted(method);
-            double base = performanceMultiplier(method);
-            double noise = random.nextGaussian() * 0.25;
-            double value = Math.max(0.1, completed * base + noise);
-            drawingPanel.appendVirtualAssistantPerformanceSample(method, value, timePoint);
+            if (fairMethod != null && method != fairMethod) {
+                continue;
+            }
+            WindowSample sample = chartPool.drainWindow(method);
+            if (sample == null) {
+                continue;
+            }
+            served += sample.completed();
+            timedOut += sample.timedOut();
+            rejected += sample.rejected();
+            offered += sample.offered();
+            dropped += sample.dropped();
+            windowSeconds += sample.elapsedNanos() / 1e9;
+            drawingPanel.appendVirtualAssistantPerformanceSample(method, sample.valueOf(metric), timePoint);
+        }
+        drawingPanel.commitVirtualAssistantSamples();
+        if (fairMethod != null) {
+            chartPool.rotateFairWindow(new ArrayList<>(trackedChartMethods));
+        }
+        double offeredRate = windowSeconds > 0.0 ? offered / windowSeconds : 0.0;
+        updateChartCaption(served, timedOut, rejected, offeredRate, dropped);
+    }
+
+    public AdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    public void setAdmissionPolicy(AdmissionPolicy policy) {
+        if (policy == null || policy == admissionPolicy) {
+            return;
+        }
+        admissionPolicy = policy;
+        agentAdmission.reset();
+        chartPool.resetCounters();
+    }
+
+    public void handleChartMetricSelection(ChartMetric metric) {
+        if (drawingPanel == null || metric == null) {
+            return;
+        }
+        drawingPanel.setVirtualAssistantChartMetric(metric);
+        chartPool.resetCounters();
+    }
+
+    private void updateChartCaption(int served, int timedOut, int rejected, double offeredRate, long dropped) {
+        String caption = "Comparativa multi-núcleo · " + chartPool.describeExecutor() + " · Carriles: " + lanePolicy.getDisplayName();
+        SyncMethod fairMethod = chartPool.fairWindowMethod();
+        if (fairMethod != null) {
+            caption += " · Comparación justa: ventana de " + describeMethod(fairMethod);
+        }
+        ServiceDistribution distribution = serviceTimes.getDistribution();
+        if (distribution != ServiceDistribution.UNIFORM) {
+            caption += " · Servicio: " + distribution.getDisplayName();
+        }
+        ArrivalPattern pattern = arrivalPattern;
+        if (pattern.isOpenLoop()) {
+            caption += String.format(" · Carga abierta %s: %.1f sol/s ofrecidas, %d descartadas", pattern.getDisplayName(), offeredRate, dropped);
+        }
+        AdmissionPolicy policy = admissionPolicy;
+        if (policy != AdmissionPolicy.NONE || timedOut > 0 || rejected > 0) {
+            caption += String.format(" · Admisión: %s (atendidas %d, vencidas %d, rechazadas %d)",
+                    policy.getDisplayName(), served, timedOut, rejected);
+        }
+        if (!caption.equals(lastChartCaption)) {
+            lastChartCaption = caption;
+            drawingPanel.setVirtualAssistantsChartCaption(caption);
         }
     }
 
@@ -337,17 +633,6 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         }
     }
 
-    private double performanceMultiplier(SyncMethod method) {
-        return switch (method) {
-            case MONITORS -> 1.8;
-            case VAR_COND -> 1.45;
-            case SEMAPHORES -> 1.25;
-            case BARRIERS -> 1.10;
-            case MUTEX -> 0.95;
-            default -> 1.0;
-        };
-    }
-
     private void transition(AssistantAgent agent, AssistantState state) {
         agent.setState(state);
     }
@@ -357,20 +642,17 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
             agent.assignedSlot = -1;
             agent.assignedToken = -1;
             agent.setState(AssistantState.IDLE);
-            Point2D fallback = fallbackIdlePosition(agent);
-            agent.x = fallback.getX();
-            agent.y = fallback.getY();
-            agent.targetX = agent.x;
-            agent.targetY = agent.y;
         }
+        layout.reset();
     }
 
-    private boolean supports(SyncMethod method) {
+    public static boolean supports(SyncMethod method) {
         return method == SyncMethod.MUTEX
                 || method == SyncMethod.SEMAPHORES
                 || method == SyncMethod.VAR_COND
                 || method == SyncMethod.MONITORS
-                || method == SyncMethod.BARRIERS;
+                || method == SyncMethod.BARRIERS
+                || method == SyncMethod.LOCK_FREE;
     }
 
     private String describeMethod(SyncMethod method) {
@@ -380,111 +662,113 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
             case VAR_COND -> "Variables de Condición";
             case MONITORS -> "Monitores";
             case BARRIERS -> "Barreras";
+            case LOCK_FREE -> "Sin bloqueo (CAS)";
             default -> "Método desconocido";
         };
     }
 
     private VirtualAssistantsStrategy instantiateStrategy(SyncMethod method) {
-        return switch (method) {
-            case MUTEX -> new VirtualAssistantsMutexStrategy(SERVER_SLOTS, PRIORITY_TOKENS);
-            case SEMAPHORES -> new VirtualAssistantsSemaphoreStrategy(SERVER_SLOTS, PRIORITY_TOKENS);
-            case VAR_COND -> new VirtualAssistantsConditionStrategy(SERVER_SLOTS, PRIORITY_TOKENS);
-            case MONITORS -> new VirtualAssistantsMonitorStrategy(SERVER_SLOTS, PRIORITY_TOKENS);
-            case BARRIERS -> new VirtualAssistantsBarrierStrategy(SERVER_SLOTS, PRIORITY_TOKENS);
-            default -> null;
-        };
+        VirtualAssistantsStrategy strategy = createStrategy(method, SERVER_SLOTS, PRIORITY_TOKENS);
+        if (strategy != null) {
+            strategy.setLanePolicy(lanePolicy);
+        }
+        return strategy;
     }
 
-    private void advanceAgents() {
-        Dimension size = getSize();
-        int width = Math.max(size.width, 600);
-        int height = Math.max(size.height, 420);
-        for (AssistantAgent agent : agents) {
-            Point2D target = computeTarget(agent, width, height);
-            agent.targetX = target.getX();
-            agent.targetY = target.getY();
-            agent.x += (agent.targetX - agent.x) * 0.12;
-            agent.y += (agent.targetY - agent.y) * 0.12;
+    public static VirtualAssistantsStrategy createStrategy(SyncMethod method, int slots, int tokens) {
+        return createStrategy(method, slots, tokens, SERVER_SHARDS, SHARD_ROUTING);
+    }
+
+    public static VirtualAssistantsStrategy createStrategy(SyncMethod method, int slots, int tokens, int shards, ShardRouting routing) {
+        if (shards > 1 && slots > 1 && method != SyncMethod.BARRIERS && supports(method)) {
+            return new VirtualAssistantsShardedStrategy(method, slots, tokens, shards, routing,
+                    (shardSlots, shardTokens) -> createUnshardedStrategy(method, shardSlots, shardTokens));
         }
-        repaint();
+        return createUnshardedStrategy(method, slots, tokens);
     }
 
-    private Point2D computeTarget(AssistantAgent agent, int width, int height) {
-        double startQueueX = width * 0.12;
-        double highQueueY = height * 0.25;
-        double lowQueueY = height * 0.65;
-        double queueSpacing = Math.max(36, height * 0.05);
-        double tokenX = width * 0.38;
-        double slotX = width * 0.58;
-        double serverX = width * 0.70;
-        double restY = height * 0.88;
-
-        return switch (agent.getState()) {
-            case WAITING_TOKEN -> new Point2D.Double(tokenX - 80, (agent.isHighPriority() ? highQueueY : lowQueueY) + agent.laneIndex * queueSpacing);
-            case HAS_TOKEN -> new Point2D.Double(tokenX, (agent.isHighPriority() ? highQueueY - 50 : lowQueueY + 50));
-            case WAITING_SLOT -> new Point2D.Double(slotX - 40, height * 0.45 + agent.laneIndex * 12);
-            case PROCESSING -> {
-                double slotSpacing = 60;
-                double baseY = height * 0.42;
-                int slot = Math.max(0, agent.assignedSlot);
-                yield new Point2D.Double(serverX + Math.cos(slot) * 30, baseY + slot * slotSpacing);
-            }
-            case RESPONDING -> new Point2D.Double(serverX + 70, height * 0.45);
-            case RESTING -> new Point2D.Double(width * 0.2 + agent.laneIndex * 32, restY);
-            case IDLE -> fallbackIdlePosition(agent);
+    private static VirtualAssistantsStrategy createUnshardedStrategy(SyncMethod method, int slots, int tokens) {
+        return switch (method) {
+            case MUTEX -> new VirtualAssistantsMutexStrategy(slots, tokens);
+            case SEMAPHORES -> new VirtualAssistantsSemaphoreStrategy(slots, tokens);
+            case VAR_COND -> new VirtualAssistantsConditionStrategy(slots, tokens);
+            case MONITORS -> new VirtualAssistantsMonitorStrategy(slots, tokens);
+            case BARRIERS -> new VirtualAssistantsBarrierStrategy(slots, tokens);
+            case LOCK_FREE -> new VirtualAssistantsLockFreeStrategy(slots, tokens);
+            default -> null;
         };
     }
 
-    private Point2D fallbackIdlePosition(AssistantAgent agent) {
-        double baseX = agent.isHighPriority() ? 80 : 110;
-        double baseY = agent.isHighPriority() ? 120 : 260;
-        return new Point2D.Double(baseX + agent.laneIndex * 36, baseY + agent.laneIndex * 12);
+    private void advanceAgents() {
+        frameStats.begin();
+        layout.advance(Math.max(getWidth(), 600), Math.max(getHeight(), 420));
+        frameStats.end();
+        repaint();
     }
 
     private void notifyGraphQueued(AssistantAgent agent) {
         if (drawingPanel == null) {
             return;
         }
-        SwingUtilities.invokeLater(() -> drawingPanel.showVirtualAssistantQueued(agent.getLabel(), agent.isHighPriority()));
+        drawingPanel.enqueueGraphUpdate(agent.getLabel(), () -> drawingPanel.showVirtualAssistantQueued(agent.getLabel(), agent.isHighPriority()));
     }
 
     private void notifyGraphTokenGranted(AssistantAgent agent) {
         if (drawingPanel == null) {
             return;
         }
-        tokenPulses.add(new TokenPulse(agent));
-        SwingUtilities.invokeLater(() -> drawingPanel.showVirtualAssistantTokenGranted(agent.getLabel()));
+        int index = layout.indexOf(agent);
+        if (index >= 0) {
+            tokenPulses.publish(index, System.currentTimeMillis());
+        }
+        drawingPanel.enqueueGraphUpdate(agent.getLabel(), () -> drawingPanel.showVirtualAssistantTokenGranted(agent.getLabel()));
     }
 
     private void notifyGraphRequestingSlot(AssistantAgent agent) {
         if (drawingPanel == null) {
             return;
         }
-        SwingUtilities.invokeLater(() -> drawingPanel.showVirtualAssistantRequestingSlot(agent.getLabel()));
+        drawingPanel.enqueueGraphUpdate(agent.getLabel(), () -> drawingPanel.showVirtualAssistantRequestingSlot(agent.getLabel()));
     }
 
     private void notifyGraphProcessing(AssistantAgent agent) {
         if (drawingPanel == null) {
             return;
         }
-        SwingUtilities.invokeLater(() -> drawingPanel.showVirtualAssistantProcessing(agent.getLabel()));
+        VirtualAssistantsStrategy strategy = currentStrategy;
+        int shard = strategy != null && agent.assignedSlot >= 0 ? strategy.shardOf(agent.assignedSlot) : 0;
+        drawingPanel.enqueueGraphUpdate(agent.getLabel(), () -> drawingPanel.showVirtualAssistantProcessing(agent.getLabel(), shard));
     }
 
     private void notifyGraphFinished(AssistantAgent agent) {
         if (drawingPanel == null) {
             return;
         }
-        SwingUtilities.invokeLater(() -> drawingPanel.showVirtualAssistantFinished(agent.getLabel()));
+        drawingPanel.enqueueGraphUpdate(agent.getLabel(), () -> drawingPanel.showVirtualAssistantFinished(agent.getLabel()));
     }
 
     private final class ChartSimulationPool {
         private final EnumMap<SyncMethod, MethodChartSimulation> simulations = new EnumMap<>(SyncMethod.class);
+        private volatile ExecutorService executor;
+        private volatile ExecutorService waiters;
+        private volatile ScheduledExecutorService timer;
+        private volatile int workerThreads;
+        private volatile int waiterThreads;
+        private SyncMethod fairActive;
 
         synchronized void ensureRunning(SyncMethod method) {
             if (method == null || method == SyncMethod.NONE) {
                 return;
             }
+            ensureExecutors();
             MethodChartSimulation simulation = simulations.computeIfAbsent(method, MethodChartSimulation::new);
+            reserveWaiters();
+            if (fairComparison) {
+                if (fairActive == null || !simulations.containsKey(fairActive)) {
+                    fairActive = method;
+                }
+                simulation.setPaused(method != fairActive);
+            }
             simulation.start();
         }
 
@@ -494,9 +778,148 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
             }
         }
 
-        synchronized int drainCompleted(SyncMethod method) {
+        private void ensureExecutors() {
+            if (executor != null) {
+                return;
+            }
+            AtomicInteger workerIds = new AtomicInteger();
+            if (virtualThreadsEnabled) {
+                workerThreads = 0;
+                waiterThreads = 0;
+                executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("VA-Chart-", 0).factory());
+                waiters = executor;
+            } else {
+                workerThreads = CHART_WORKERS;
+                executor = Executors.newFixedThreadPool(workerThreads, task -> {
+                    Thread worker = new Thread(task, "VA-Chart-" + workerIds.incrementAndGet());
+                    worker.setDaemon(true);
+                    return worker;
+                });
+                AtomicInteger waiterIds = new AtomicInteger();
+                waiterThreads = 1;
+                ThreadPoolExecutor pool = new ThreadPoolExecutor(waiterThreads, waiterThreads, 30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                    Thread worker = new Thread(task, "VA-Chart-Wait-" + waiterIds.incrementAndGet());
+                    worker.setDaemon(true);
+                    return worker;
+                });
+                pool.allowCoreThreadTimeOut(true);
+                waiters = pool;
+            }
+            timer = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread worker = new Thread(task, "VA-Chart-Timer");
+                worker.setDaemon(true);
+                return worker;
+            });
+        }
+
+        private void reserveWaiters() {
+            if (!(waiters instanceof ThreadPoolExecutor pool)) {
+                return;
+            }
+            int needed = 0;
+            for (MethodChartSimulation simulation : simulations.values()) {
+                needed += simulation.chartAgents.size();
+            }
+            if (needed > waiterThreads) {
+                waiterThreads = needed;
+                pool.setMaximumPoolSize(needed);
+                pool.setCorePoolSize(needed);
+            }
+        }
+
+        void execute(Runnable task) {
+            submit(waiters, task);
+        }
+
+        void compute(Runnable task) {
+            submit(executor, task);
+        }
+
+        private void submit(ExecutorService current, Runnable task) {
+            if (current == null) {
+                return;
+            }
+            try {
+                current.execute(task);
+            } catch (RejectedExecutionException ignored) {
+            }
+        }
+
+        void schedule(Runnable task, long delayMillis, boolean onTimer) {
+            ScheduledExecutorService current = timer;
+            if (current == null) {
+                return;
+            }
+            try {
+                current.schedule(onTimer ? task : () -> execute(task), delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ignored) {
+            }
+        }
+
+        synchronized WindowSample drainWindow(SyncMethod method) {
             MethodChartSimulation simulation = simulations.get(method);
-            return simulation != null ? simulation.drainCompletedWindow() : 0;
+            return simulation != null ? simulation.drainWindow() : null;
+        }
+
+        synchronized SyncMethod fairWindowMethod() {
+            return fairComparison ? fairActive : null;
+        }
+
+        synchronized void rotateFairWindow(List<SyncMethod> order) {
+            if (!fairComparison || order.isEmpty()) {
+                return;
+            }
+            int current = order.indexOf(fairActive);
+            SyncMethod next = order.get((current + 1) % order.size());
+            MethodChartSimulation previous = simulations.get(fairActive);
+            if (previous != null && next != fairActive) {
+                previous.setPaused(true);
+            }
+            fairActive = next;
+            MethodChartSimulation upcoming = simulations.get(next);
+            if (upcoming != null) {
+                upcoming.resetCounter();
+                upcoming.setPaused(false);
+            }
+        }
+
+        synchronized void applyFairComparison(boolean enabled) {
+            if (enabled && (fairActive == null || !simulations.containsKey(fairActive))) {
+                fairActive = simulations.isEmpty() ? null : simulations.keySet().iterator().next();
+            }
+            for (Map.Entry<SyncMethod, MethodChartSimulation> entry : simulations.entrySet()) {
+                entry.getValue().resetCounter();
+                entry.getValue().setPaused(enabled && entry.getKey() != fairActive);
+            }
+        }
+
+        synchronized String describeExecutor() {
+            int tasks = 0;
+            StringBuilder costs = new StringBuilder();
+            for (Map.Entry<SyncMethod, MethodChartSimulation> entry : simulations.entrySet()) {
+                MethodChartSimulation simulation = entry.getValue();
+                tasks += simulation.requests.size();
+                SpawnCost cost = simulation.spawnCost;
+                if (cost.threads() > 0) {
+                    costs.append(costs.length() == 0 ? "" : " / ").append(describeMethod(entry.getKey())).append(' ').append(cost.describe());
+                }
+            }
+            String description;
+            if (workerThreads == 0) {
+                description = String.format("Ejecutor compartido: hilos virtuales, %d tareas", tasks);
+            } else {
+                description = String.format("Ejecutor compartido: %d hilos fijos + %d de espera, %d tareas", workerThreads, waiterThreads, tasks);
+            }
+            if (costs.length() > 0) {
+                description += " · Creación de " + (workerThreads == 0 ? "hilos virtuales" : "hilos de plataforma") + ": " + costs;
+            }
+            return description;
+        }
+
+        void prestartWaiters() {
+            if (waiters instanceof ThreadPoolExecutor pool) {
+                pool.prestartAllCoreThreads();
+            }
         }
 
         synchronized void resetCounters() {
@@ -505,11 +928,29 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
             }
         }
 
+        synchronized void applyLanePolicy(LanePolicy policy) {
+            for (MethodChartSimulation simulation : simulations.values()) {
+                if (simulation.strategy != null) {
+                    simulation.strategy.setLanePolicy(policy);
+                }
+                simulation.resetCounter();
+            }
+        }
+
         synchronized void stopAll() {
             for (MethodChartSimulation simulation : simulations.values()) {
                 simulation.stop();
             }
             simulations.clear();
+            fairActive = null;
+            if (executor != null) {
+                executor.shutdownNow();
+                waiters.shutdownNow();
+                timer.shutdownNow();
+                executor = null;
+                waiters = null;
+                timer = null;
+            }
         }
     }
 
@@ -517,9 +958,25 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         private final SyncMethod method;
         private final VirtualAssistantsStrategy strategy;
         private final List<AssistantAgent> chartAgents = new ArrayList<>();
-        private final List<Thread> workers = new ArrayList<>();
+        private final List<ChartRequest> requests = new ArrayList<>();
+        private final Queue<ChartRequest> parked = new ConcurrentLinkedQueue<>();
         private final AtomicBoolean running = new AtomicBoolean(false);
+        private final AtomicInteger inFlight = new AtomicInteger(0);
         private final AtomicInteger windowCounter = new AtomicInteger(0);
+        private final AtomicInteger timedOutCounter = new AtomicInteger(0);
+        private final AtomicInteger rejectedCounter = new AtomicInteger(0);
+        private final AdmissionController admission = AdmissionController.fromSystemProperties();
+        private final LatencyHistogram tokenWait = new LatencyHistogram();
+        private final LatencyHistogram slotWait = new LatencyHistogram();
+        private final LatencyHistogram endToEnd = new LatencyHistogram();
+        private final LatencyHistogram queueDelay = new LatencyHistogram();
+        private final LatencyHistogram highQueueDelay = new LatencyHistogram();
+        private final LatencyHistogram lowQueueDelay = new LatencyHistogram();
+        private volatile LoadGenerator load = LoadGenerator.fromSystemProperties(ArrivalPattern.CLOSED_LOOP);
+        private volatile long windowStartedAt = System.nanoTime();
+        private volatile boolean paused;
+        private volatile int generation;
+        private volatile SpawnCost spawnCost = SpawnCost.NONE;
 
         MethodChartSimulation(SyncMethod method) {
             this.method = method;
@@ -537,17 +994,35 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
                 return;
             }
             strategy.start();
-            workers.clear();
+            generation++;
+            requests.clear();
+            parked.clear();
             for (AssistantAgent agent : chartAgents) {
                 agent.assignedSlot = -1;
                 agent.assignedToken = -1;
                 agent.setState(AssistantState.IDLE);
             }
+            load = LoadGenerator.fromSystemProperties(arrivalPattern);
+            load.start(task -> spawnWorker(task, "VA-Load-" + method, true));
+            long heapBefore = usedHeapBytes();
+            long startedAt = System.nanoTime();
+            chartPool.prestartWaiters();
             for (AssistantAgent agent : chartAgents) {
-                Thread worker = new Thread(() -> runLoop(agent), "VA-Chart-" + method + "-" + agent.getLabel());
-                worker.setDaemon(true);
-                worker.start();
-                workers.add(worker);
+                ChartRequest request = new ChartRequest(agent, load, generation);
+                requests.add(request);
+                chartPool.execute(request);
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            spawnCost = new SpawnCost(requests.size(), elapsed, Math.max(0L, usedHeapBytes() - heapBefore));
+        }
+
+        void setPaused(boolean paused) {
+            this.paused = paused;
+            if (!paused) {
+                ChartRequest request;
+                while ((request = parked.poll()) != null) {
+                    chartPool.execute(request);
+                }
             }
         }
 
@@ -555,84 +1030,293 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
             if (!running.compareAndSet(true, false)) {
                 return;
             }
-            for (Thread worker : workers) {
-                worker.interrupt();
-            }
-            for (Thread worker : workers) {
-                try {
-                    worker.join(200);
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                    break;
+            load.stop();
+            strategy.stop();
+            for (ChartRequest request : requests) {
+                Thread runner = request.runner;
+                if (runner != null) {
+                    runner.interrupt();
                 }
             }
-            workers.clear();
-            windowCounter.set(0);
-            strategy.stop();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            requests.clear();
+            parked.clear();
+            spawnCost = SpawnCost.NONE;
+            resetCounter();
         }
 
-        int drainCompletedWindow() {
-            return windowCounter.getAndSet(0);
+        WindowSample drainWindow() {
+            long now = System.nanoTime();
+            long elapsed = Math.max(1L, now - windowStartedAt);
+            windowStartedAt = now;
+            int completed = windowCounter.getAndSet(0);
+            return new WindowSample(completed, timedOutCounter.getAndSet(0), rejectedCounter.getAndSet(0), elapsed,
+                    tokenWait.drain(), slotWait.drain(), endToEnd.drain(), queueDelay.drain(),
+                    highQueueDelay.drain(), lowQueueDelay.drain(), load.drainOffered(), load.drainDropped(), load.drainMaxDepth());
         }
 
         void resetCounter() {
             windowCounter.set(0);
+            timedOutCounter.set(0);
+            rejectedCounter.set(0);
+            admission.reset();
+            tokenWait.reset();
+            slotWait.reset();
+            endToEnd.reset();
+            queueDelay.reset();
+            highQueueDelay.reset();
+            lowQueueDelay.reset();
+            load.drainOffered();
+            load.drainDropped();
+            load.drainMaxDepth();
+            windowStartedAt = System.nanoTime();
         }
 
-        private void runLoop(AssistantAgent agent) {
-            Random local = new Random((long) agent.getId() * 97L + System.nanoTime());
-            while (running.get()) {
-                int tokenIndex = -1;
-                int slotIndex = -1;
-                try {
-                    Thread.sleep(240 + local.nextInt(360));
-                    tokenIndex = strategy.acquirePriorityToken(agent);
-                    if (tokenIndex < 0) {
-                        continue;
+        private final class ChartRequest implements Runnable {
+            private final AssistantAgent agent;
+            private final LoadGenerator source;
+            private final int owner;
+            private final Random local;
+            private volatile Thread runner;
+            private Stage stage = Stage.ARRIVE;
+            private boolean queued;
+            private AdmissionPolicy policy;
+            private AssistantAgent requester;
+            private long requestedAt;
+            private long budget;
+            private long tokenWaited;
+            private long slotRequestedAt;
+            private int tokenIndex = -1;
+            private int slotIndex = -1;
+
+            ChartRequest(AssistantAgent agent, LoadGenerator source, int owner) {
+                this.agent = agent;
+                this.source = source;
+                this.owner = owner;
+                this.local = new Random((long) agent.getId() * 97L + System.nanoTime());
+            }
+
+            private boolean live() {
+                return running.get() && generation == owner;
+            }
+
+            @Override
+            public void run() {
+                if (!live()) {
+                    abandon();
+                    return;
+                }
+                if (stage == Stage.ARRIVE && paused) {
+                    parked.add(this);
+                    if (!paused && parked.remove(this)) {
+                        chartPool.execute(this);
                     }
-                    agent.assignedToken = tokenIndex;
-                    Thread.sleep(60 + local.nextInt(120));
-                    slotIndex = strategy.acquireServerSlot(agent);
-                    if (slotIndex < 0) {
-                        strategy.releaseResources(agent, tokenIndex, -1);
-                        agent.assignedToken = -1;
-                        continue;
+                    return;
+                }
+                inFlight.incrementAndGet();
+                runner = Thread.currentThread();
+                try {
+                    switch (stage) {
+                        case ARRIVE -> arrive();
+                        case TOKEN -> acquireToken();
+                        case SLOT -> acquireSlot();
                     }
-                    agent.assignedSlot = slotIndex;
-                    Thread.sleep(320 + local.nextInt(agent.isHighPriority() ? 320 : 460));
-                    strategy.releaseResources(agent, tokenIndex, slotIndex);
-                    agent.assignedToken = -1;
-                    agent.assignedSlot = -1;
-                    windowCounter.incrementAndGet();
-                    Thread.sleep(160 + local.nextInt(240));
                 } catch (InterruptedException ex) {
-                    if (tokenIndex >= 0 || slotIndex >= 0) {
-                        strategy.releaseResources(agent, tokenIndex, slotIndex);
+                    abandon();
+                } finally {
+                    runner = null;
+                    Thread.interrupted();
+                    inFlight.decrementAndGet();
+                }
+            }
+
+            private void arrive() throws InterruptedException {
+                if (source.getPattern().isOpenLoop()) {
+                    requestedAt = source.take(agent.isHighPriority()).arrivedAt();
+                } else {
+                    requestedAt = System.nanoTime();
+                    source.enterQueue();
+                }
+                queued = true;
+                policy = admissionPolicy;
+                requester = agent;
+                if (policy != AdmissionPolicy.NONE) {
+                    AdmissionController.Decision decision = admission.admit(policy, agent.isHighPriority());
+                    if (decision == AdmissionController.Decision.REJECT) {
+                        rejectedCounter.incrementAndGet();
+                        leaveQueue();
+                        scheduleNext(false);
+                        return;
                     }
-                    Thread.currentThread().interrupt();
-                    break;
+                    if (decision == AdmissionController.Decision.DOWNGRADE) {
+                        requester = agent.downgraded();
+                    }
+                }
+                budget = admission.deadlineNanos(requester.isHighPriority());
+                stage = Stage.TOKEN;
+                acquireToken();
+            }
+
+            private void acquireToken() throws InterruptedException {
+                if (policy == AdmissionPolicy.NONE) {
+                    tokenIndex = strategy.acquirePriorityToken(requester);
+                } else {
+                    tokenIndex = strategy.tryAcquirePriorityToken(requester, budget - (System.nanoTime() - requestedAt), TimeUnit.NANOSECONDS);
+                }
+                if (tokenIndex < 0) {
+                    admission.observe(requester.isHighPriority(), budget);
+                    timedOutCounter.incrementAndGet();
+                    leaveQueue();
+                    scheduleNext(false);
+                    return;
+                }
+                tokenWaited = System.nanoTime() - requestedAt;
+                tokenWait.record(tokenWaited);
+                agent.assignedToken = tokenIndex;
+                stage = Stage.SLOT;
+                ServiceTimes times = serviceTimes;
+                if (times.isZeroDelay()) {
+                    chartPool.compute(() -> {
+                        times.burn(ServiceTimes.Phase.TOKEN_HOLD);
+                        chartPool.execute(this);
+                    });
+                    return;
+                }
+                chartPool.schedule(this, times.sampleMillis(ServiceTimes.Phase.TOKEN_HOLD, 60, 120, local), false);
+            }
+
+            private void acquireSlot() throws InterruptedException {
+                slotRequestedAt = System.nanoTime();
+                if (policy == AdmissionPolicy.NONE) {
+                    slotIndex = strategy.acquireServerSlot(requester);
+                } else {
+                    slotIndex = strategy.tryAcquireServerSlot(requester, budget - tokenWaited, TimeUnit.NANOSECONDS);
+                }
+                leaveQueue();
+                if (slotIndex < 0) {
+                    admission.observe(requester.isHighPriority(), budget);
+                    timedOutCounter.incrementAndGet();
+                    strategy.releaseResources(agent, tokenIndex, -1);
+                    tokenIndex = -1;
+                    agent.assignedToken = -1;
+                    scheduleNext(false);
+                    return;
                 }
+                long slotWaited = System.nanoTime() - slotRequestedAt;
+                slotWait.record(slotWaited);
+                queueDelay.record(tokenWaited + slotWaited);
+                (requester.isHighPriority() ? highQueueDelay : lowQueueDelay).record(tokenWaited + slotWaited);
+                admission.observe(requester.isHighPriority(), tokenWaited + slotWaited);
+                agent.assignedSlot = slotIndex;
+                ServiceTimes times = serviceTimes;
+                if (times.isZeroDelay()) {
+                    chartPool.compute(() -> {
+                        times.burn(ServiceTimes.Phase.PROCESSING);
+                        finish();
+                    });
+                    return;
+                }
+                chartPool.schedule(this::finish, times.sampleMillis(ServiceTimes.Phase.PROCESSING, 320, agent.isHighPriority() ? 320 : 460, local), true);
+            }
+
+            private void finish() {
+                strategy.releaseResources(agent, tokenIndex, slotIndex);
+                tokenIndex = -1;
+                slotIndex = -1;
+                agent.assignedToken = -1;
+                agent.assignedSlot = -1;
+                if (!live()) {
+                    return;
+                }
+                endToEnd.record(System.nanoTime() - requestedAt);
+                windowCounter.incrementAndGet();
+                scheduleNext(true);
+            }
+
+            private void scheduleNext(boolean served) {
+                stage = Stage.ARRIVE;
+                if (!live()) {
+                    return;
+                }
+                if (source.getPattern().isOpenLoop()) {
+                    chartPool.execute(this);
+                    return;
+                }
+                ServiceTimes times = serviceTimes;
+                if (times.isZeroDelay()) {
+                    chartPool.execute(this);
+                    return;
+                }
+                long rest = served ? times.sampleMillis(ServiceTimes.Phase.REST, 160, 240, local) : 0;
+                chartPool.schedule(this, rest + times.sampleMillis(ServiceTimes.Phase.THINK, 240, 360, local), false);
+            }
+
+            private void leaveQueue() {
+                if (queued) {
+                    queued = false;
+                    source.leaveQueue();
+                }
+            }
+
+            private void abandon() {
+                stage = Stage.ARRIVE;
+                leaveQueue();
+                if (tokenIndex >= 0 || slotIndex >= 0) {
+                    strategy.releaseResources(agent, tokenIndex, slotIndex);
+                    tokenIndex = -1;
+                    slotIndex = -1;
+                }
+                agent.assignedToken = -1;
+                agent.assignedSlot = -1;
             }
         }
     }
 
+    private enum Stage { ARRIVE, TOKEN, SLOT }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2 = (Graphics2D) g.create();
+        frameStats.begin();
+        Graphics2D g2 = (Graphics2D) g;
+        Object antialiasing = g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        Stroke stroke = g2.getStroke();
+        Font font = g2.getFont();
+        ensureFonts(font);
 
-        Dimension size = getSize();
-        int width = Math.max(size.width, 600);
-        int height = Math.max(size.height, 420);
+        int width = Math.max(getWidth(), 600);
+        int height = Math.max(getHeight(), 420);
 
         drawServer(g2, width, height);
         drawTokens(g2, width, height);
         drawQueues(g2, width, height);
         drawAgents(g2);
-        drawHeader(g2, width);
+        drawHeader(g2, width, height);
+
+        g2.setFont(font);
+        g2.setStroke(stroke);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+        frameStats.end();
+        frameStats.frameDone();
+        if (frameStats.frames() >= FRAME_STATS_WINDOW) {
+            frameStats.roll();
+        }
+    }
 
-        g2.dispose();
+    private void ensureFonts(Font font) {
+        if (font == baseFont) {
+            return;
+        }
+        baseFont = font;
+        serverFont = font.deriveFont(Font.BOLD, 16f);
+        plainFont = font.deriveFont(Font.PLAIN, 13f);
+        agentFont = font.deriveFont(Font.BOLD, 12f);
+        titleFont = font.deriveFont(Font.BOLD, 20f);
+        statsFont = font.deriveFont(Font.PLAIN, 11f);
     }
 
     private void drawServer(Graphics2D g2, int width, int height) {
@@ -640,13 +1324,13 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         double serverHeight = height * 0.32;
         double x = width * 0.60;
         double y = height * 0.30;
-        RoundRectangle2D serverBox = new RoundRectangle2D.Double(x, y, serverWidth, serverHeight, 28, 28);
-        g2.setColor(new Color(0xE8, 0xED, 0xFF));
+        serverBox.setRoundRect(x, y, serverWidth, serverHeight, 28, 28);
+        g2.setColor(SERVER_FILL_COLOR);
         g2.fill(serverBox);
         g2.setColor(SERVER_COLOR);
-        g2.setStroke(new BasicStroke(2f));
+        g2.setStroke(SERVER_STROKE);
         g2.draw(serverBox);
-        g2.setFont(g2.getFont().deriveFont(Font.BOLD, 16f));
+        g2.setFont(serverFont);
         g2.drawString("Servidor de Respuestas", (int) x + 16, (int) y + 26);
     }
 
@@ -655,133 +1339,346 @@ public class VirtualAssistantsSim extends JPanel implements SimPanel {
         int spacing = 12;
         int startX = (int) (width * 0.34);
         int y = (int) (height * 0.18);
-        g2.setFont(g2.getFont().deriveFont(Font.PLAIN, 13f));
+        g2.setFont(plainFont);
         g2.setColor(Color.DARK_GRAY);
         g2.drawString("Tokens de prioridad", startX, y - 10);
-        List<Point2D> centers = new ArrayList<>();
         for (int i = 0; i < PRIORITY_TOKENS; i++) {
             int bx = startX + i * (boxWidth + spacing);
             g2.setColor(TOKEN_COLOR);
             g2.fillRoundRect(bx, y, boxWidth, boxWidth, 10, 10);
             g2.setColor(Color.DARK_GRAY);
             g2.drawRoundRect(bx, y, boxWidth, boxWidth, 10, 10);
-            g2.drawString("T" + (i + 1), bx + 8, y + boxWidth / 2 + 4);
-            centers.add(new Point2D.Double(bx + boxWidth / 2.0, y + boxWidth / 2.0));
+            g2.drawString(tokenLabels[i], bx + 8, y + boxWidth / 2 + 4);
+            tokenCenterX[i] = bx + boxWidth / 2.0;
+            tokenCenterY[i] = y + boxWidth / 2.0;
         }
-        drawTokenPulses(g2, centers);
+        drawTokenPulses(g2);
     }
 
     private void drawQueues(Graphics2D g2, int width, int height) {
-        g2.setStroke(new BasicStroke(1.2f));
-        g2.setFont(g2.getFont().deriveFont(Font.PLAIN, 13f));
+        g2.setStroke(QUEUE_STROKE);
+        g2.setFont(plainFont);
         int highY = (int) (height * 0.25);
         int lowY = (int) (height * 0.65);
         int queueWidth = (int) (width * 0.18);
         int queueHeight = 60;
         int x = (int) (width * 0.10);
 
-        g2.setColor(new Color(0xE9, 0xE3, 0xFF));
+        g2.setColor(HIGH_QUEUE_FILL_COLOR);
         g2.fillRoundRect(x, highY, queueWidth, queueHeight, 16, 16);
-        g2.setColor(HIGH_PRIORITY_COLOR.darker());
+        g2.setColor(HIGH_QUEUE_BORDER_COLOR);
         g2.drawRoundRect(x, highY, queueWidth, queueHeight, 16, 16);
         g2.drawString("Cola prioridad alta", x + 12, highY + 36);
 
-        g2.setColor(new Color(0xD6, 0xF5, 0xEE));
+        g2.setColor(LOW_QUEUE_FILL_COLOR);
         g2.fillRoundRect(x, lowY, queueWidth, queueHeight, 16, 16);
-        g2.setColor(LOW_PRIORITY_COLOR.darker());
+        g2.setColor(LOW_QUEUE_BORDER_COLOR);
         g2.drawRoundRect(x, lowY, queueWidth, queueHeight, 16, 16);
         g2.drawString("Cola prioridad baja", x + 12, lowY + 36);
     }
 
     private void drawAgents(Graphics2D g2) {
-        g2.setFont(g2.getFont().deriveFont(Font.BOLD, 12f));
-        for (AssistantAgent agent : agents) {
-            Color fill = agent.isHighPriority() ? HIGH_PRIORITY_COLOR : LOW_PRIORITY_COLOR;
-            g2.setColor(fill);
-            int size = 26;
-            int drawX = (int) Math.round(agent.x) - size / 2;
-            int drawY = (int) Math.round(agent.y) - size / 2;
-            g2.fillOval(drawX, drawY, size, size);
+        g2.setFont(agentFont);
+        for (int i = 0, n = layout.size(); i < n; i++) {
+            AssistantAgent agent = layout.agent(i);
+            int drawX = (int) Math.round(layout.x(i)) - AGENT_SIZE / 2;
+            int drawY = (int) Math.round(layout.y(i)) - AGENT_SIZE / 2;
+            g2.drawImage(agent.isHighPriority() ? HIGH_PRIORITY_SPRITE : LOW_PRIORITY_SPRITE, drawX, drawY, null);
             g2.setColor(Color.WHITE);
-            g2.drawString(agent.getLabel(), drawX - 4, drawY + size + 14);
+            g2.drawString(agent.getLabel(), drawX - 4, drawY + AGENT_SIZE + 14);
         }
     }
 
-    private void drawHeader(Graphics2D g2, int width) {
-        g2.setFont(g2.getFont().deriveFont(Font.BOLD, 20f));
+    private void drawHeader(Graphics2D g2, int width, int height) {
+        g2.setFont(titleFont);
         FontMetrics fm = g2.getFontMetrics();
         int textWidth = fm.stringWidth(methodTitle);
-        g2.setColor(new Color(0x14, 0x1E, 0x3C));
+        g2.setColor(TITLE_COLOR);
         g2.drawString(methodTitle, (width - textWidth) / 2, 34);
-        if (skeletonVisible) {
-            g2.setFont(g2.getFont().deriveFont(Font.PLAIN, 14f));
+        g2.setFont(statsFont);
+        g2.setColor(Color.GRAY);
+        g2.drawString(frameStats.summary(), 12, height - 10);
+        if (drawingPanel != null) {
+            g2.drawString(drawingPanel.describeGraphLatency(), 12, height - 24);
         }
     }
 
-    private void drawTokenPulses(Graphics2D g2, List<Point2D> tokenCenters) {
-        if (tokenCenters.isEmpty()) {
+    private void drawTokenPulses(Graphics2D g2) {
+        if (PRIORITY_TOKENS == 0) {
             return;
         }
-        List<TokenPulse> snapshot;
         long now = System.currentTimeMillis();
-        synchronized (tokenPulses) {
-            if (tokenPulses.isEmpty()) {
-                return;
+        boolean stroked = false;
+        for (int slot = 0, n = tokenPulses.capacity(); slot < n; slot++) {
+            long pulse = tokenPulses.get(slot);
+            if (pulse == 0L) {
+                continue;
             }
-            tokenPulses.removeIf(pulse -> now - pulse.createdAt > TOKEN_PULSE_DURATION_MS);
-            if (tokenPulses.isEmpty()) {
-                return;
+            long age = Math.max(0L, now - PulseRing.createdAt(pulse));
+            if (age > TOKEN_PULSE_DURATION_MS) {
+                tokenPulses.expire(slot, pulse);
+                continue;
             }
-            snapshot = new ArrayList<>(tokenPulses);
-        }
-        g2.setStroke(new BasicStroke(2f));
-        for (TokenPulse pulse : snapshot) {
-            int tokenIndex = pulse.agent.assignedToken;
-            if (tokenIndex < 0 || tokenIndex >= tokenCenters.size()) {
+            int agentIndex = PulseRing.agentIndex(pulse);
+            if (agentIndex >= layout.size()) {
+                continue;
+            }
+            int tokenIndex = layout.agent(agentIndex).assignedToken;
+            if (tokenIndex < 0 || tokenIndex >= PRIORITY_TOKENS) {
                 continue;
             }
-            Point2D tokenPoint = tokenCenters.get(tokenIndex);
-            Point2D agentPoint = new Point2D.Double(pulse.agent.x, pulse.agent.y);
-            float alpha = (float) Math.max(0.0, 1.0 - (now - pulse.createdAt) / (double) TOKEN_PULSE_DURATION_MS);
-            Color arrowColor = new Color(255, 160, 39, (int) (alpha * 255));
-            drawArrow(g2, agentPoint, tokenPoint, arrowColor);
+            if (!stroked) {
+                g2.setStroke(PULSE_STROKE);
+                stroked = true;
+            }
+            double alpha = 1.0 - age / (double) TOKEN_PULSE_DURATION_MS;
+            drawArrow(g2, layout.x(agentIndex), layout.y(agentIndex), tokenCenterX[tokenIndex], tokenCenterY[tokenIndex],
+                    PULSE_COLORS[(int) (alpha * PULSE_ALPHA_STEPS)]);
         }
     }
 
-    private void drawArrow(Graphics2D g2, Point2D from, Point2D to, Color color) {
-        if (from == null || to == null) {
-            return;
-        }
-        double dx = to.getX() - from.getX();
-        double dy = to.getY() - from.getY();
+    private void drawArrow(Graphics2D g2, double fromX, double fromY, double toX, double toY, Color color) {
+        double dx = toX - fromX;
+        double dy = toY - fromY;
         double distance = Math.hypot(dx, dy);
         if (distance < 1.0) {
             return;
         }
         double ux = dx / distance;
         double uy = dy / distance;
-        double startX = from.getX() + ux * 14;
-        double startY = from.getY() + uy * 14;
-        double endX = to.getX() - ux * 18;
-        double endY = to.getY() - uy * 18;
+        double startX = fromX + ux * 14;
+        double startY = fromY + uy * 14;
+        double endX = toX - ux * 18;
+        double endY = toY - uy * 18;
         g2.setColor(color);
         g2.drawLine((int) startX, (int) startY, (int) endX, (int) endY);
         double arrowSize = 8;
         double angle = Math.atan2(endY - startY, endX - startX);
-        double x1 = endX - arrowSize * Math.cos(angle - Math.PI / 6);
-        double y1 = endY - arrowSize * Math.sin(angle - Math.PI / 6);
-        double x2 = endX - arrowSize * Math.cos(angle + Math.PI / 6);
-        double y2 = endY - arrowSize * Math.sin(angle + Math.PI / 6);
-        g2.fillPolygon(new int[]{(int) endX, (int) x1, (int) x2}, new int[]{(int) endY, (int) y1, (int) y2}, 3);
+        arrowX[0] = (int) endX;
+        arrowY[0] = (int) endY;
+        arrowX[1] = (int) (endX - arrowSize * Math.cos(angle - Math.PI / 6));
+        arrowY[1] = (int) (endY - arrowSize * Math.sin(angle - Math.PI / 6));
+        arrowX[2] = (int) (endX - arrowSize * Math.cos(angle + Math.PI / 6));
+        arrowY[2] = (int) (endY - arrowSize * Math.sin(angle + Math.PI / 6));
+        g2.fillPolygon(arrowX, arrowY, 3);
+    }
+
+    private static final class AgentLayout {
+        private static final AssistantState[] STATES = AssistantState.values();
+        private static final double EASING = 0.12;
+
+        private final AssistantAgent[] agents;
+        private final double[] x;
+        private final double[] y;
+        private final double[] targetX;
+        private final double[] targetY;
+        private final byte[] state;
+        private final int[] lane;
+        private final int[] lanePriority;
+        private final double[] baseX = new double[STATES.length * 2];
+        private final double[] baseY = new double[STATES.length * 2];
+        private final double[] stepX = new double[STATES.length * 2];
+        private final double[] stepY = new double[STATES.length * 2];
+        private final double[] slotX;
+        private final double[] slotY;
+        private final double[] slotCos;
+        private int width = -1;
+        private int height = -1;
+
+        AgentLayout(List<AssistantAgent> roster, int slots) {
+            int n = roster.size();
+            agents = roster.toArray(new AssistantAgent[0]);
+            x = new double[n];
+            y = new double[n];
+            targetX = new double[n];
+            targetY = new double[n];
+            state = new byte[n];
+            lane = new int[n];
+            lanePriority = new int[n];
+            slotX = new double[slots];
+            slotY = new double[slots];
+            slotCos = new double[slots];
+            for (int s = 0; s < slots; s++) {
+                slotCos[s] = Math.cos(s) * 30;
+            }
+            for (int i = 0; i < n; i++) {
+                lane[i] = agents[i].laneIndex;
+                lanePriority[i] = agents[i].isHighPriority() ? 0 : 1;
+            }
+            rebuild(600, 420);
+            reset();
+        }
+
+        int size() {
+            return agents.length;
+        }
+
+        AssistantAgent agent(int index) {
+            return agents[index];
+        }
+
+        double x(int index) {
+            return x[index];
+        }
+
+        double y(int index) {
+            return y[index];
+        }
+
+        int indexOf(AssistantAgent agent) {
+            int index = agent.getId() - 1;
+            return index >= 0 && index < agents.length && agents[index].getId() == agent.getId() ? index : -1;
+        }
+
+        void reset() {
+            int idle = AssistantState.IDLE.ordinal();
+            for (int i = 0; i < agents.length; i++) {
+                state[i] = (byte) idle;
+                int row = idle * 2 + lanePriority[i];
+                targetX[i] = baseX[row] + lane[i] * stepX[row];
+                targetY[i] = baseY[row] + lane[i] * stepY[row];
+                x[i] = targetX[i];
+                y[i] = targetY[i];
+            }
+        }
+
+        void advance(int width, int height) {
+            if (width != this.width || height != this.height) {
+                rebuild(width, height);
+            }
+            int processing = AssistantState.PROCESSING.ordinal();
+            for (int i = 0; i < agents.length; i++) {
+                AssistantAgent agent = agents[i];
+                int ordinal = agent.state.ordinal();
+                state[i] = (byte) ordinal;
+                if (ordinal == processing && slotX.length > 0) {
+                    int slot = Math.min(slotX.length - 1, Math.max(0, agent.assignedSlot));
+                    targetX[i] = slotX[slot];
+                    targetY[i] = slotY[slot];
+                } else {
+                    int row = ordinal * 2 + lanePriority[i];
+                    targetX[i] = baseX[row] + lane[i] * stepX[row];
+                    targetY[i] = baseY[row] + lane[i] * stepY[row];
+                }
+                x[i] += (targetX[i] - x[i]) * EASING;
+                y[i] += (targetY[i] - y[i]) * EASING;
+            }
+        }
+
+        private void rebuild(int width, int height) {
+            this.width = width;
+            this.height = height;
+            double highQueueY = height * 0.25;
+            double lowQueueY = height * 0.65;
+            double queueSpacing = Math.max(36, height * 0.05);
+            double tokenX = width * 0.38;
+            double slotBaseX = width * 0.58;
+            double serverX = width * 0.70;
+            double restY = height * 0.88;
+            set(AssistantState.WAITING_TOKEN, tokenX - 80, 0, highQueueY, queueSpacing, tokenX - 80, 0, lowQueueY, queueSpacing);
+            set(AssistantState.HAS_TOKEN, tokenX, 0, highQueueY - 50, 0, tokenX, 0, lowQueueY + 50, 0);
+            set(AssistantState.WAITING_SLOT, slotBaseX - 40, 0, height * 0.45, 12, slotBaseX - 40, 0, height * 0.45, 12);
+            set(AssistantState.PROCESSING, serverX, 0, height * 0.42, 0, serverX, 0, height * 0.42, 0);
+            set(AssistantState.RESPONDING, serverX + 70, 0, height * 0.45, 0, serverX + 70, 0, height * 0.45, 0);
+            set(AssistantState.RESTING, width * 0.2, 32, restY, 0, width * 0.2, 32, restY, 0);
+            set(AssistantState.IDLE, 80, 36, 120, 12, 110, 36, 260, 12);
+            for (int s = 0; s < slotX.length; s++) {
+                slotX[s] = serverX + slotCos[s];
+                slotY[s] = height * 0.42 + s * 60;
+            }
+        }
+
+        private void set(AssistantState target, double highX, double highStepX, double highY, double highStepY,
+                         double lowX, double lowStepX, double lowY, double lowStepY) {
+            int row = target.ordinal() * 2;
+            baseX[row] = highX;
+            stepX[row] = highStepX;
+            baseY[row] = highY;
+            stepY[row] = highStepY;
+            baseX[row + 1] = lowX;
+            stepX[row + 1] = lowStepX;
+            baseY[row + 1] = lowY;
+            stepY[row + 1] = lowStepY;
+        }
+    }
+
+    private record SpawnCost(int threads, long nanos, long heapBytes) {
+        static final SpawnCost NONE = new SpawnCost(0, 0L, 0L);
+
+        String describe() {
+            double millis = nanos / 1_000_000.0;
+            double microsPerThread = nanos / 1_000.0 / threads;
+            double kbPerThread = heapBytes / 1024.0 / threads;
+            return String.format("%d en %.1f ms (%.1f µs/hilo, ~%.1f KB heap/hilo)", threads, millis, microsPerThread, kbPerThread);
+        }
     }
 
-    private static final class TokenPulse {
-        final AssistantAgent agent;
-        final long createdAt;
+    private record WindowSample(int completed, int timedOut, int rejected, long elapsedNanos, LatencyHistogram.Snapshot tokenWait,
+                                LatencyHistogram.Snapshot slotWait, LatencyHistogram.Snapshot endToEnd,
+                                LatencyHistogram.Snapshot queueDelay, LatencyHistogram.Snapshot highQueueDelay,
+                                LatencyHistogram.Snapshot lowQueueDelay, long offered, long dropped, int maxDepth) {
+
+        double valueOf(ChartMetric metric) {
+            return switch (metric) {
+                case THROUGHPUT -> completed / (elapsedNanos / 1e9);
+                case TIMED_OUT -> timedOut / (elapsedNanos / 1e9);
+                case REJECTED -> rejected / (elapsedNanos / 1e9);
+                case QUEUE_DELAY_P99 -> queueDelay.percentile(99) / 1e6;
+                case HIGH_LANE_P99 -> highQueueDelay.percentile(99) / 1e6;
+                case LOW_LANE_P99 -> lowQueueDelay.percentile(99) / 1e6;
+                case QUEUE_DEPTH -> maxDepth;
+                case DROPS -> dropped / (elapsedNanos / 1e9);
+                case LATENCY_P50 -> endToEnd.percentile(50) / 1e6;
+                case LATENCY_P99 -> endToEnd.percentile(99) / 1e6;
+                case TOKEN_WAIT_P99 -> tokenWait.percentile(99) / 1e6;
+                case SLOT_WAIT_P99 -> slotWait.percentile(99) / 1e6;
+            };
+        }
+    }
+
+    private static final class PulseRing {
+        private static final int INDEX_BITS = 20;
+        private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+        private final AtomicLongArray slots;
+        private final AtomicLong claims = new AtomicLong();
+        private final int mask;
+
+        PulseRing(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+            slots = new AtomicLongArray(size);
+            mask = size - 1;
+        }
+
+        void publish(int agentIndex, long createdAt) {
+            int slot = (int) (claims.getAndIncrement() & mask);
+            slots.setRelease(slot, (createdAt << INDEX_BITS) | (agentIndex + 1));
+        }
+
+        int capacity() {
+            return slots.length();
+        }
+
+        long get(int slot) {
+            return slots.getAcquire(slot);
+        }
+
+        void expire(int slot, long pulse) {
+            slots.compareAndSet(slot, pulse, 0L);
+        }
+
+        void clear() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, 0L);
+            }
+        }
+
+        static int agentIndex(long pulse) {
+            return (int) (pulse & INDEX_MASK) - 1;
+        }
 
-        TokenPulse(AssistantAgent agent) {
-            this.agent = agent;
-            this.createdAt = System.currentTimeMillis();
+        static long createdAt(long pulse) {
+            return pulse >>> INDEX_BITS;
         }
     }
 }
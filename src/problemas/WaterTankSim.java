@@ -45,7 +45,7 @@ public class WaterTankSim extends JPanel implements SimPanel {
     private void clearRagGraph() {
         if (drawingPanel != null) {
 
-            SwingUtilities.invokeLater(() -> drawingPanel.clearGraph());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.clearGraph());
         }
     }
 
@@ -78,7 +78,7 @@ public class WaterTankSim extends JPanel implements SimPanel {
         if (drawingPanel != null) {
 
 
-            SwingUtilities.invokeLater(() -> {
+            drawingPanel.enqueueGraphUpdate(() -> {
                 if (method == SyncMethod.MUTEX) {
                     drawingPanel.setupProducerConsumerGraph(); 
                 } else if (method == SyncMethod.SEMAPHORES) {
@@ -128,385 +128,385 @@ public class WaterTankSim extends JPanel implements SimPanel {
     public void updateGraphProducerRequestingMutex() {
 
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerRequestingMutex());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerRequestingMutex());
         }
     }
 
     public void updateGraphProducerHoldingMutex() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerHoldingMutex());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerHoldingMutex());
         }
     }
 
     public void updateGraphProducerBlockedByBuffer() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerBlockedByBuffer());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerBlockedByBuffer());
         }
     }
 
     public void updateGraphProducerReleasingMutex() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerReleasingMutex());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerReleasingMutex());
         }
     }
 
     public void updateGraphConsumerRequestingMutex() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerRequestingMutex());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerRequestingMutex());
         }
     }
 
     public void updateGraphProducerWaitingEmptySemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWaitingEmptySemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWaitingEmptySemaphore());
         }
     }
 
     public void updateGraphProducerAcquiredEmptySemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerAcquiredEmptySemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerAcquiredEmptySemaphore());
         }
     }
 
     public void updateGraphProducerWaitingMutexSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWaitingMutexSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWaitingMutexSemaphore());
         }
     }
 
     public void updateGraphProducerHoldingMutexSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerHoldingMutexSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerHoldingMutexSemaphore());
         }
     }
 
     public void updateGraphProducerAccessingBufferSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerAccessingBufferSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerAccessingBufferSemaphore());
         }
     }
 
     public void updateGraphProducerReleasingMutexSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerReleasingMutexSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerReleasingMutexSemaphore());
         }
     }
 
     public void updateGraphProducerSignalingFullSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerSignalingFullSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerSignalingFullSemaphore());
         }
     }
 
     public void updateGraphProducerIdleSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerIdleSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerIdleSemaphore());
         }
     }
 
     public void updateGraphConsumerWaitingFullSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWaitingFullSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWaitingFullSemaphore());
         }
     }
 
     public void updateGraphConsumerAcquiredFullSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerAcquiredFullSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerAcquiredFullSemaphore());
         }
     }
 
     public void updateGraphConsumerWaitingMutexSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWaitingMutexSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWaitingMutexSemaphore());
         }
     }
 
     public void updateGraphConsumerHoldingMutexSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerHoldingMutexSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerHoldingMutexSemaphore());
         }
     }
 
     public void updateGraphConsumerAccessingBufferSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerAccessingBufferSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerAccessingBufferSemaphore());
         }
     }
 
     public void updateGraphConsumerReleasingMutexSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerReleasingMutexSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerReleasingMutexSemaphore());
         }
     }
 
     public void updateGraphConsumerSignalingEmptySemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerSignalingEmptySemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerSignalingEmptySemaphore());
         }
     }
 
     public void updateGraphConsumerIdleSemaphore() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankSemaphoreStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerIdleSemaphore());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerIdleSemaphore());
         }
     }
 
     public void updateGraphProducerWaitingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWaitingLockCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWaitingLockCondition());
         }
     }
 
     public void updateGraphProducerHoldingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerHoldingLockCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerHoldingLockCondition());
         }
     }
 
     public void updateGraphProducerWaitingNotFullCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWaitingNotFullCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWaitingNotFullCondition());
         }
     }
 
     public void updateGraphProducerSignaledByNotFullCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerSignaledByNotFullCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerSignaledByNotFullCondition());
         }
     }
 
     public void updateGraphProducerProducingCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerProducingCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerProducingCondition());
         }
     }
 
     public void updateGraphProducerSignalingNotEmptyCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerSignalingNotEmptyCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerSignalingNotEmptyCondition());
         }
     }
 
     public void updateGraphProducerReleasingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerReleasingLockCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerReleasingLockCondition());
         }
     }
 
     public void updateGraphProducerIdleCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerIdleCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerIdleCondition());
         }
     }
 
     public void updateGraphConsumerWaitingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWaitingLockCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWaitingLockCondition());
         }
     }
 
     public void updateGraphConsumerHoldingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerHoldingLockCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerHoldingLockCondition());
         }
     }
 
     public void updateGraphConsumerWaitingNotEmptyCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWaitingNotEmptyCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWaitingNotEmptyCondition());
         }
     }
 
     public void updateGraphConsumerSignaledByNotEmptyCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerSignaledByNotEmptyCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerSignaledByNotEmptyCondition());
         }
     }
 
     public void updateGraphConsumerConsumingCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerConsumingCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerConsumingCondition());
         }
     }
 
     public void updateGraphConsumerSignalingNotFullCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerSignalingNotFullCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerSignalingNotFullCondition());
         }
     }
 
     public void updateGraphConsumerReleasingLockCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerReleasingLockCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerReleasingLockCondition());
         }
     }
 
     public void updateGraphConsumerIdleCondition() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankConditionStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerIdleCondition());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerIdleCondition());
         }
     }
 
     public void updateGraphProducerWaitingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWaitingMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWaitingMonitor());
         }
     }
 
     public void updateGraphProducerInMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerInMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerInMonitor());
         }
     }
 
     public void updateGraphProducerWaitingNotFullMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWaitingNotFullMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWaitingNotFullMonitor());
         }
     }
 
     public void updateGraphProducerSignaledNotFullMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerSignaledNotFullMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerSignaledNotFullMonitor());
         }
     }
 
     public void updateGraphProducerProducingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerProducingMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerProducingMonitor());
         }
     }
 
     public void updateGraphProducerSignalNotEmptyMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerSignalNotEmptyMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerSignalNotEmptyMonitor());
         }
     }
 
     public void updateGraphProducerExitMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerExitMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerExitMonitor());
         }
     }
 
     public void updateGraphProducerIdleMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerIdleMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerIdleMonitor());
         }
     }
 
     public void updateGraphConsumerWaitingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWaitingMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWaitingMonitor());
         }
     }
 
     public void updateGraphConsumerInMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerInMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerInMonitor());
         }
     }
 
     public void updateGraphConsumerWaitingNotEmptyMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWaitingNotEmptyMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWaitingNotEmptyMonitor());
         }
     }
 
     public void updateGraphConsumerSignaledNotEmptyMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerSignaledNotEmptyMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerSignaledNotEmptyMonitor());
         }
     }
 
     public void updateGraphConsumerConsumingMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerConsumingMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerConsumingMonitor());
         }
     }
 
     public void updateGraphConsumerSignalNotFullMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerSignalNotFullMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerSignalNotFullMonitor());
         }
     }
 
     public void updateGraphConsumerExitMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerExitMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerExitMonitor());
         }
     }
 
     public void updateGraphConsumerIdleMonitor() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankMonitorStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerIdleMonitor());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerIdleMonitor());
         }
     }
 
     public void updateGraphProducerWorkingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWorkingBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWorkingBarrier());
         }
     }
 
     public void updateGraphProducerWaitingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerWaitingBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerWaitingBarrier());
         }
     }
 
     public void updateGraphProducerReleasedBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerReleasedBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerReleasedBarrier());
         }
     }
 
     public void updateGraphProducerIdleBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showProducerIdleBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showProducerIdleBarrier());
         }
     }
 
     public void updateGraphConsumerWorkingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWorkingBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWorkingBarrier());
         }
     }
 
     public void updateGraphConsumerWaitingBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerWaitingBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerWaitingBarrier());
         }
     }
 
     public void updateGraphConsumerReleasedBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerReleasedBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerReleasedBarrier());
         }
     }
 
     public void updateGraphConsumerIdleBarrier() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankBarrierStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerIdleBarrier());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerIdleBarrier());
         }
     }
 
     public void updateGraphConsumerHoldingMutex() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerHoldingMutex());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerHoldingMutex());
         }
     }
 
     public void updateGraphConsumerBlockedByBuffer() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerBlockedByBuffer());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerBlockedByBuffer());
         }
     }
 
     public void updateGraphConsumerReleasingMutex() {
         if (drawingPanel != null && currentStrategy instanceof WaterTankPureMutexStrategy) {
-            SwingUtilities.invokeLater(() -> drawingPanel.showConsumerReleasingMutex());
+            drawingPanel.enqueueGraphUpdate(() -> drawingPanel.showConsumerReleasingMutex());
         }
     }
 
@@ -0,0 +1,125 @@
+package synch;
+
+import problemas.LanePolicy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+final class LaneScheduler {
+
+    private static final int HIGH_WIN_LIMIT = 2;
+    private static final double HIGH_WEIGHT = readPositive("va.laneWeightHigh", 3.0);
+    private static final double LOW_WEIGHT = readPositive("va.laneWeightLow", 1.0);
+    private static final double HIGH_QUANTUM = HIGH_WEIGHT / Math.min(HIGH_WEIGHT, LOW_WEIGHT);
+    private static final double LOW_QUANTUM = LOW_WEIGHT / Math.min(HIGH_WEIGHT, LOW_WEIGHT);
+    private static final long AGING_NANOS = TimeUnit.MILLISECONDS.toNanos((long) readPositive("va.laneAgingMs", 50.0));
+
+    interface Queued {
+        long queuedAt();
+    }
+
+    private final Supplier<LanePolicy> policySource;
+    private LanePolicy active;
+    private int consecutiveHighWins;
+    private double highFinish;
+    private double lowFinish;
+    private double highDeficit;
+    private double lowDeficit;
+    private boolean roundOnHigh;
+
+    LaneScheduler(Supplier<LanePolicy> policySource) {
+        this.policySource = policySource;
+        reset();
+    }
+
+    void reset() {
+        active = policySource.get();
+        consecutiveHighWins = 0;
+        highFinish = 0.0;
+        lowFinish = 0.0;
+        highDeficit = 0.0;
+        lowDeficit = 0.0;
+        roundOnHigh = false;
+    }
+
+    <T extends Queued> T next(T high, T low) {
+        if (high == null || low == null) {
+            return high != null ? high : low;
+        }
+        return pickHigh(high.queuedAt(), low.queuedAt()) ? high : low;
+    }
+
+    void granted(boolean high, boolean otherLaneWaiting) {
+        switch (policy()) {
+            case STRICT, AGING -> {
+            }
+            case TWO_WIN -> consecutiveHighWins = high ? consecutiveHighWins + 1 : 0;
+            case WFQ -> {
+                if (!otherLaneWaiting) {
+                    highFinish = Math.max(highFinish, lowFinish);
+                    lowFinish = highFinish;
+                }
+                if (high) {
+                    highFinish += 1.0 / HIGH_WEIGHT;
+                } else {
+                    lowFinish += 1.0 / LOW_WEIGHT;
+                }
+                double floor = Math.min(highFinish, lowFinish);
+                highFinish -= floor;
+                lowFinish -= floor;
+            }
+            case DRR -> {
+                if (!otherLaneWaiting) {
+                    if (high) {
+                        lowDeficit = 0.0;
+                    } else {
+                        highDeficit = 0.0;
+                    }
+                }
+                if (high != roundOnHigh || (high ? highDeficit : lowDeficit) < 1.0) {
+                    roundOnHigh = high;
+                    if (high) {
+                        highDeficit += HIGH_QUANTUM;
+                    } else {
+                        lowDeficit += LOW_QUANTUM;
+                    }
+                }
+                if (high) {
+                    highDeficit -= 1.0;
+                } else {
+                    lowDeficit -= 1.0;
+                }
+            }
+        }
+    }
+
+    private boolean pickHigh(long highQueuedAt, long lowQueuedAt) {
+        return switch (policy()) {
+            case STRICT -> true;
+            case TWO_WIN -> consecutiveHighWins < HIGH_WIN_LIMIT;
+            case WFQ -> highFinish + 1.0 / HIGH_WEIGHT <= lowFinish + 1.0 / LOW_WEIGHT;
+            case DRR -> roundOnHigh ? highDeficit >= 1.0 : lowDeficit < 1.0;
+            case AGING -> highQueuedAt - lowQueuedAt <= AGING_NANOS;
+        };
+    }
+
+    private LanePolicy policy() {
+        if (policySource.get() != active) {
+            reset();
+        }
+        return active;
+    }
+
+    private static double readPositive(String key, double defaultValue) {
+        String raw = System.getProperty(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            double parsed = Double.parseDouble(raw.trim());
+            return parsed > 0.0 ? parsed : defaultValue;
+        } catch (NumberFormatException ex) {
+            return defaultValue;
+        }
+    }
+}
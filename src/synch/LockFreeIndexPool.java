@@ -0,0 +1,69 @@
+package synch;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class LockFreeIndexPool {
+
+    private static final int EMPTY = -1;
+    private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+    private final int capacity;
+    private final AtomicIntegerArray next;
+    private final AtomicIntegerArray owned;
+    private final AtomicLong head = new AtomicLong();
+
+    LockFreeIndexPool(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.next = new AtomicIntegerArray(this.capacity);
+        this.owned = new AtomicIntegerArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            next.set(i, i + 1 < this.capacity ? i + 1 : EMPTY);
+        }
+        head.set(pack(0L, 0));
+    }
+
+    int take() {
+        while (true) {
+            long current = head.get();
+            int index = indexOf(current);
+            if (index == EMPTY) {
+                return EMPTY;
+            }
+            int successor = next.get(index);
+            if (head.compareAndSet(current, pack(stampOf(current) + 1, successor))) {
+                owned.set(index, 1);
+                return index;
+            }
+        }
+    }
+
+    void release(int index) {
+        if (index < 0 || index >= capacity || !owned.compareAndSet(index, 1, 0)) {
+            return;
+        }
+        while (true) {
+            long current = head.get();
+            next.set(index, indexOf(current));
+            if (head.compareAndSet(current, pack(stampOf(current) + 1, index))) {
+                return;
+            }
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    private static long pack(long stamp, int index) {
+        return (stamp << 32) | ((index + 1) & INDEX_MASK);
+    }
+
+    private static int indexOf(long packed) {
+        return (int) (packed & INDEX_MASK) - 1;
+    }
+
+    private static long stampOf(long packed) {
+        return packed >>> 32;
+    }
+}
@@ -0,0 +1,235 @@
+package synch;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+final class LockFreePriorityGate implements PriorityPermitGate {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final WakeupCounter wakeups;
+    private final AtomicInteger permits = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final LaneScheduler scheduler;
+    private final int traceId;
+    private final ConcurrentLinkedQueue<Node> highLane = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Node> lowLane = new ConcurrentLinkedQueue<>();
+    private volatile boolean open;
+    private volatile boolean schedulerStale;
+    private volatile Runnable releaseListener;
+
+    LockFreePriorityGate(int traceId, int permits, LaneScheduler scheduler, WakeupCounter wakeups) {
+        this.traceId = traceId;
+        this.scheduler = scheduler;
+        this.wakeups = wakeups;
+        this.permits.set(Math.max(0, permits));
+        this.open = true;
+    }
+
+    void reset(int permits) {
+        cancelQueued();
+        this.permits.set(Math.max(0, permits));
+        schedulerStale = true;
+        open = true;
+        drain();
+    }
+
+    void reschedule() {
+        drain();
+    }
+
+    void setReleaseListener(Runnable listener) {
+        releaseListener = listener;
+    }
+
+    void close() {
+        open = false;
+        cancelQueued();
+    }
+
+    @Override
+    public void acquire(boolean highPriority) throws InterruptedException {
+        acquire(highPriority, null, false, 0L);
+    }
+
+    @Override
+    public boolean tryAcquire(boolean highPriority, long nanos) throws InterruptedException {
+        return acquire(highPriority, null, true, nanos);
+    }
+
+    @Override
+    public void acquireWith(PriorityPermitGate companion, boolean highPriority) throws InterruptedException {
+        acquire(highPriority, companion, false, 0L);
+    }
+
+    @Override
+    public boolean tryAcquireWith(PriorityPermitGate companion, boolean highPriority, long nanos) throws InterruptedException {
+        return acquire(highPriority, companion, true, nanos);
+    }
+
+    private boolean acquire(boolean highPriority, PriorityPermitGate companion, boolean timed, long nanos) throws InterruptedException {
+        if (!open) {
+            throw new InterruptedException("Priority gate closed");
+        }
+        SyncTracer.record(traceId, SyncTracer.Op.ACQUIRE);
+        if (highLane.isEmpty() && lowLane.isEmpty() && tryTakePermit()) {
+            if (companion == null || companion.tryAcquire(highPriority)) {
+                return true;
+            }
+            permits.incrementAndGet();
+        }
+        if (timed && nanos <= 0L) {
+            SyncTracer.record(traceId, SyncTracer.Op.RELEASE);
+            drain();
+            return false;
+        }
+        long deadline = System.nanoTime() + nanos;
+        Node node = new Node(Thread.currentThread(), highPriority, companion, System.nanoTime());
+        (highPriority ? highLane : lowLane).offer(node);
+        drain();
+        int state;
+        while ((state = node.state.get()) != GRANTED) {
+            if (state == CANCELLED || !open || Thread.interrupted()) {
+                SyncTracer.record(traceId, SyncTracer.Op.RELEASE);
+                abandon(node);
+                throw new InterruptedException("Priority gate closed");
+            }
+            if (timed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    if (node.state.compareAndSet(WAITING, CANCELLED)) {
+                        SyncTracer.record(traceId, SyncTracer.Op.RELEASE);
+                        drain();
+                        return false;
+                    }
+                    continue;
+                }
+                SyncTracer.record(traceId, SyncTracer.Op.WAIT);
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                SyncTracer.record(traceId, SyncTracer.Op.WAIT);
+                LockSupport.park(this);
+            }
+            wakeups.record(node.state.get() == GRANTED);
+        }
+        return true;
+    }
+
+
+    @Override
+    public boolean tryAcquire(boolean highPriority) {
+        return open && highLane.isEmpty() && lowLane.isEmpty() && tryTakePermit();
+    }
+
+    @Override
+    public void release() {
+        permits.incrementAndGet();
+        drain();
+    }
+
+    private boolean tryTakePermit() {
+        while (true) {
+            int available = permits.get();
+            if (available <= 0) {
+                return false;
+            }
+            if (permits.compareAndSet(available, available - 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void abandon(Node node) {
+        if (node.state.compareAndSet(WAITING, CANCELLED)) {
+            drain();
+        } else if (node.state.get() == GRANTED) {
+            if (node.companion != null) {
+                node.companion.release();
+            }
+            release();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (schedulerStale) {
+                schedulerStale = false;
+                scheduler.reset();
+            }
+            while (open) {
+                Node high = firstWaiting(highLane);
+                Node low = firstWaiting(lowLane);
+                Node next = scheduler.next(high, low);
+                if (next == null || !tryTakePermit()) {
+                    break;
+                }
+                if (next.companion != null && !next.companion.tryAcquire(next.highPriority)) {
+                    permits.incrementAndGet();
+                    break;
+                }
+                boolean pickHigh = next == high;
+                if (next.state.compareAndSet(WAITING, GRANTED)) {
+                    (pickHigh ? highLane : lowLane).poll();
+                    scheduler.granted(pickHigh, (pickHigh ? low : high) != null);
+                    LockSupport.unpark(next.thread);
+                } else {
+                    permits.incrementAndGet();
+                    if (next.companion != null) {
+                        next.companion.release();
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+        Runnable listener = releaseListener;
+        if (listener != null && permits.get() > 0) {
+            listener.run();
+        }
+    }
+
+    private static Node firstWaiting(ConcurrentLinkedQueue<Node> lane) {
+        Node head;
+        while ((head = lane.peek()) != null && head.state.get() != WAITING) {
+            lane.poll();
+        }
+        return head;
+    }
+
+    private void cancelQueued() {
+        for (ConcurrentLinkedQueue<Node> lane : List.of(highLane, lowLane)) {
+            for (Node node : lane) {
+                if (node.state.compareAndSet(WAITING, CANCELLED)) {
+                    LockSupport.unpark(node.thread);
+                }
+            }
+        }
+    }
+
+    private static final class Node implements LaneScheduler.Queued {
+        final Thread thread;
+        final boolean highPriority;
+        final PriorityPermitGate companion;
+        final long queuedAt;
+        final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Node(Thread thread, boolean highPriority, PriorityPermitGate companion, long queuedAt) {
+            this.thread = thread;
+            this.highPriority = highPriority;
+            this.companion = companion;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public long queuedAt() {
+            return queuedAt;
+        }
+    }
+}
@@ -33,10 +33,10 @@ public class PhilosophersBarrierStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        barrier = new CyclicBarrier(PhilosophersSim.N); 
+        barrier = new TracedBarrier("R_Barrier_Ph", PhilosophersSim.N); 
         forks = new Semaphore[PhilosophersSim.N];
         for (int i = 0; i < PhilosophersSim.N; i++) {
-            forks[i] = new Semaphore(1); 
+            forks[i] = new TracedSemaphore("R_Fork" + i, 1); 
         }
 
         for (int i = 0; i < PhilosophersSim.N; i++) {
@@ -1,7 +1,6 @@
 package synch;
 
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.PhilosophersSim;
 import problemas.PhilosophersSim.State;
 
@@ -24,7 +23,7 @@ public class PhilosophersConditionStrategy implements SynchronizationStrategy {
     private final Thread[] threads = new Thread[PhilosophersSim.N];
     
     
-    private ReentrantLock lock;
+    private TracedLock lock;
     private Condition[] self; 
     private static final long VISUALIZATION_DELAY = 420L;
 
@@ -34,10 +33,10 @@ public class PhilosophersConditionStrategy implements SynchronizationStrategy {
     
     @Override
     public void start() {
-        lock = new ReentrantLock(true);
+        lock = new TracedLock("R_Lock_Ph", true);
         self = new Condition[PhilosophersSim.N];
         for (int i = 0; i < PhilosophersSim.N; i++) {
-            self[i] = lock.newCondition();
+            self[i] = lock.newCondition("C_Self" + i);
         }
 
         for (int i = 0; i < PhilosophersSim.N; i++) {
@@ -22,10 +22,10 @@ public class PhilosophersDeadlockStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-    barrier = new CyclicBarrier(PhilosophersSim.N);
-    afterLeftBarrier = new CyclicBarrier(PhilosophersSim.N);
+    barrier = new TracedBarrier("R_Barrier_Ph", PhilosophersSim.N);
+    afterLeftBarrier = new TracedBarrier("R_Barrier_Left", PhilosophersSim.N);
         for (int i = 0; i < PhilosophersSim.N; i++) {
-            forks[i] = new ReentrantLock(true);
+            forks[i] = new TracedLock("R_Fork" + i, true);
         }
         for (int i = 0; i < PhilosophersSim.N; i++) {
             final int id = i;
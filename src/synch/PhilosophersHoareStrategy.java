@@ -1,7 +1,6 @@
 package synch;
 
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.PhilosophersSim;
 import problemas.PhilosophersSim.State;
 
@@ -11,7 +10,7 @@ public class PhilosophersHoareStrategy implements SynchronizationStrategy {
 
     private final PhilosophersSim panel;
     private final Thread[] threads = new Thread[PhilosophersSim.N];
-    private final ReentrantLock lock = new ReentrantLock(true);
+    private final TracedLock lock = new TracedLock("R_Monitor_Ph", true);
     private final Condition[] self = new Condition[PhilosophersSim.N];
 
     public PhilosophersHoareStrategy(PhilosophersSim panel) {
@@ -21,7 +20,7 @@ public class PhilosophersHoareStrategy implements SynchronizationStrategy {
     @Override
     public void start() {
         for (int i = 0; i < PhilosophersSim.N; i++) {
-            self[i] = lock.newCondition();
+            self[i] = lock.newCondition("C_Self" + i);
         }
         for (int i = 0; i < PhilosophersSim.N; i++) {
             final int id = i;
@@ -19,7 +19,7 @@ public class PhilosophersMutexStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        diningMutex = new ReentrantLock(true);
+        diningMutex = new TracedLock("R_Mutex", true);
         for (int i = 0; i < PhilosophersSim.N; i++) {
             final int id = i;
             threads[i] = new Thread(() -> {
@@ -21,8 +21,8 @@ public class PhilosophersSemaphoreStrategy implements SynchronizationStrategy {
     @Override
     public void start() {
         forks = new Semaphore[PhilosophersSim.N];
-        for(int i=0; i<PhilosophersSim.N; i++) forks[i] = new Semaphore(1, true);
-        waiter = new Semaphore(PhilosophersSim.N - 1, true);
+        for(int i=0; i<PhilosophersSim.N; i++) forks[i] = new TracedSemaphore("R_Fork" + i, 1, true);
+        waiter = new TracedSemaphore("R_Waiter", PhilosophersSim.N - 1, true);
 
         for (int i = 0; i < PhilosophersSim.N; i++) {
             final int id = i;
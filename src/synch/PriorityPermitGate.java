@@ -0,0 +1,16 @@
+package synch;
+
+interface PriorityPermitGate {
+
+    void acquire(boolean highPriority) throws InterruptedException;
+
+    boolean tryAcquire(boolean highPriority);
+
+    boolean tryAcquire(boolean highPriority, long nanos) throws InterruptedException;
+
+    void acquireWith(PriorityPermitGate companion, boolean highPriority) throws InterruptedException;
+
+    boolean tryAcquireWith(PriorityPermitGate companion, boolean highPriority, long nanos) throws InterruptedException;
+
+    void release();
+}
@@ -0,0 +1,186 @@
+package synch;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class PrioritySemaphore implements PriorityPermitGate {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Waiter> highWaiters = new ArrayDeque<>();
+    private final Deque<Waiter> lowWaiters = new ArrayDeque<>();
+    private final LaneScheduler scheduler;
+    private final int traceId;
+    private int permits;
+    private boolean open;
+    private volatile Runnable releaseListener;
+
+    PrioritySemaphore(int traceId, LaneScheduler scheduler, int permits) {
+        this.traceId = traceId;
+        this.scheduler = scheduler;
+        this.permits = Math.max(0, permits);
+        this.open = true;
+    }
+
+    void reset(int permits) {
+        lock.lock();
+        try {
+            this.permits = Math.max(0, permits);
+            this.open = true;
+            scheduler.reset();
+            handOff();
+        } finally {
+            lock.unlock();
+        }
+        notifyReleased();
+    }
+
+    void setReleaseListener(Runnable listener) {
+        releaseListener = listener;
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            open = false;
+            for (Deque<Waiter> lane : List.of(highWaiters, lowWaiters)) {
+                for (Waiter waiter : lane) {
+                    waiter.condition.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void reschedule() {
+        lock.lock();
+        try {
+            handOff();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void acquire(boolean highPriority) throws InterruptedException {
+        acquire(highPriority, null, false, 0L);
+    }
+
+    @Override
+    public boolean tryAcquire(boolean highPriority, long nanos) throws InterruptedException {
+        return acquire(highPriority, null, true, nanos);
+    }
+
+    @Override
+    public void acquireWith(PriorityPermitGate companion, boolean highPriority) throws InterruptedException {
+        acquire(highPriority, companion, false, 0L);
+    }
+
+    @Override
+    public boolean tryAcquireWith(PriorityPermitGate companion, boolean highPriority, long nanos) throws InterruptedException {
+        return acquire(highPriority, companion, true, nanos);
+    }
+
+    private boolean acquire(boolean highPriority, PriorityPermitGate companion, boolean timed, long nanos) throws InterruptedException {
+        SyncTracer.record(traceId, SyncTracer.Op.ACQUIRE);
+        lock.lockInterruptibly();
+        Deque<Waiter> lane = highPriority ? highWaiters : lowWaiters;
+        Waiter waiter = new Waiter(lock.newCondition(), System.nanoTime());
+        lane.addLast(waiter);
+        boolean queued = true;
+        try {
+            long remaining = nanos;
+            while (open) {
+                if (permits > 0 && scheduler.next(highWaiters.peekFirst(), lowWaiters.peekFirst()) == waiter
+                        && (companion == null || companion.tryAcquire(highPriority))) {
+                    lane.removeFirstOccurrence(waiter);
+                    queued = false;
+                    permits--;
+                    scheduler.granted(highPriority, !(highPriority ? lowWaiters : highWaiters).isEmpty());
+                    return true;
+                }
+                SyncTracer.record(traceId, SyncTracer.Op.WAIT);
+                if (!timed) {
+                    waiter.condition.await();
+                } else if (remaining > 0L) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                } else {
+                    return false;
+                }
+            }
+            throw new InterruptedException("Priority gate closed");
+        } finally {
+            if (queued) {
+                lane.removeFirstOccurrence(waiter);
+                SyncTracer.record(traceId, SyncTracer.Op.RELEASE);
+            }
+            handOff();
+            boolean available = permits > 0;
+            lock.unlock();
+            if (available) {
+                notifyReleased();
+            }
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(boolean highPriority) {
+        lock.lock();
+        try {
+            if (!open || permits == 0 || !highWaiters.isEmpty() || !lowWaiters.isEmpty()) {
+                return false;
+            }
+            permits--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release() {
+        lock.lock();
+        try {
+            permits++;
+            handOff();
+        } finally {
+            lock.unlock();
+        }
+        notifyReleased();
+    }
+
+    private void notifyReleased() {
+        Runnable listener = releaseListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    private void handOff() {
+        if (permits <= 0 || !open) {
+            return;
+        }
+        Waiter next = scheduler.next(highWaiters.peekFirst(), lowWaiters.peekFirst());
+        if (next != null) {
+            next.condition.signal();
+        }
+    }
+
+    private static final class Waiter implements LaneScheduler.Queued {
+        final Condition condition;
+        final long queuedAt;
+
+        Waiter(Condition condition, long queuedAt) {
+            this.condition = condition;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public long queuedAt() {
+            return queuedAt;
+        }
+    }
+}
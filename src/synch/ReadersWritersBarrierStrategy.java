@@ -6,7 +6,6 @@ import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.ReadersWritersSim;
 import problemas.ReadersWritersSim.Actor;
 import problemas.ReadersWritersSim.Role;
@@ -19,9 +18,9 @@ public class ReadersWritersBarrierStrategy implements ReadersWritersStrategy {
     private Thread spawner;
     private ExecutorService exec;
 
-    private final ReentrantLock lock = new ReentrantLock(true);
-    private final Condition okToRead = lock.newCondition();
-    private final Condition okToWrite = lock.newCondition();
+    private final TracedLock lock = new TracedLock("R_Lock_RW_B", true);
+    private final Condition okToRead = lock.newCondition("C_OkToRead");
+    private final Condition okToWrite = lock.newCondition("C_OkToWrite");
     private volatile CyclicBarrier cycleBarrier;
 
     private int readersActive;
@@ -41,7 +40,7 @@ public class ReadersWritersBarrierStrategy implements ReadersWritersStrategy {
         panel.writerActive = false;
         panel.readersWaiting = 0;
         panel.writersWaiting = 0;
-        cycleBarrier = new CyclicBarrier(2);
+        cycleBarrier = new TracedBarrier("R_Barrier_RW", 2);
 
         exec = Executors.newCachedThreadPool(r -> {
             Thread t = new Thread(r, "RW-Barrier-Actor");
@@ -331,7 +330,7 @@ public class ReadersWritersBarrierStrategy implements ReadersWritersStrategy {
     private void resetCycleBarrier(CyclicBarrier broken) {
         synchronized (this) {
             if (cycleBarrier == broken) {
-                cycleBarrier = new CyclicBarrier(2);
+                cycleBarrier = new TracedBarrier("R_Barrier_RW", 2);
             }
         }
     }
@@ -4,7 +4,6 @@ import java.awt.Color;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.ReadersWritersSim;
 import problemas.ReadersWritersSim.Actor;
 import problemas.ReadersWritersSim.Role;
@@ -17,9 +16,9 @@ public class ReadersWritersMonitorStrategy implements ReadersWritersStrategy {
     private Thread spawner;
     private ExecutorService exec;
 
-    private final ReentrantLock lock = new ReentrantLock(true);
-    private final Condition okToRead = lock.newCondition();
-    private final Condition okToWrite = lock.newCondition();
+    private final TracedLock lock = new TracedLock("R_Monitor_RW", true);
+    private final Condition okToRead = lock.newCondition("C_OkToRead");
+    private final Condition okToWrite = lock.newCondition("C_OkToWrite");
 
     private int readersActive;
     private boolean writerActive;
@@ -23,7 +23,7 @@ public class ReadersWritersMutexStrategy implements ReadersWritersStrategy {
 
     @Override
     public void start() {
-        mutex = new ReentrantLock(true);
+        mutex = new TracedLock("R_Mutex_RW", true);
         exec = Executors.newCachedThreadPool(r -> {
             Thread t = new Thread(r, "RW-Mutex-Actor");
             t.setDaemon(true);
@@ -26,8 +26,8 @@ public class ReadersWritersSemaphoreStrategy implements ReadersWritersStrategy {
 
     @Override
     public void start() {
-        rwMutex = new Semaphore(1, true);
-        rcountMutex = new ReentrantLock(true);
+        rwMutex = new TracedSemaphore("R_Document_RW", 1, true);
+        rcountMutex = new TracedLock("R_CountMutex_RW", true);
     readersSemaphoreHeld = false;
         exec = Executors.newCachedThreadPool(r -> {
             Thread t = new Thread(r, "RW-Sem-Actor");
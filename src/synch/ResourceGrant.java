@@ -0,0 +1,4 @@
+package synch;
+
+public record ResourceGrant(int tokenIndex, int slotIndex) {
+}
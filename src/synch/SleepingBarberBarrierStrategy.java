@@ -18,7 +18,7 @@ public class SleepingBarberBarrierStrategy implements SynchronizationStrategy {
     private Thread barberThread;
 
     private CyclicBarrier barrier;
-    private final ReentrantLock chairLock = new ReentrantLock(true);
+    private final ReentrantLock chairLock = new TracedLock("R_Lock_SB", true);
 
     public SleepingBarberBarrierStrategy(SleepingBarberSim panel) {
         this.panel = panel;
@@ -26,7 +26,7 @@ public class SleepingBarberBarrierStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        barrier = new CyclicBarrier(2);
+        barrier = new TracedBarrier("R_Barrier_SB", 2);
 
         generatorThread = new Thread(this::runGenerator, "Generator-Barrier");
         generatorThread.setDaemon(true);
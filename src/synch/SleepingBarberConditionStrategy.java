@@ -3,7 +3,6 @@ package synch;
 import java.awt.Color;
 import java.awt.Point;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.SleepingBarberSim;
 import problemas.SleepingBarberSim.BarberState;
 import problemas.SleepingBarberSim.Customer;
@@ -17,7 +16,7 @@ public class SleepingBarberConditionStrategy implements SynchronizationStrategy
 
     private static final long VISUALIZATION_DELAY = 420L;
 
-    private ReentrantLock mutex;
+    private TracedLock mutex;
     private Condition seatsChanged;
 
     public SleepingBarberConditionStrategy(SleepingBarberSim panel) {
@@ -26,8 +25,8 @@ public class SleepingBarberConditionStrategy implements SynchronizationStrategy
 
     @Override
     public void start() {
-        mutex = new ReentrantLock(true);
-        seatsChanged = mutex.newCondition();
+        mutex = new TracedLock("R_Lock_SB", true);
+        seatsChanged = mutex.newCondition("C_SeatsChanged");
 
         generatorThread = new Thread(this::runGenerator, "Generator-Cond");
         generatorThread.setDaemon(true);
@@ -3,7 +3,6 @@ package synch;
 import java.awt.Color;
 import java.awt.Point;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.SleepingBarberSim;
 import problemas.SleepingBarberSim.BarberState;
 import problemas.SleepingBarberSim.Customer;
@@ -17,7 +16,7 @@ public class SleepingBarberMonitorStrategy implements SynchronizationStrategy {
 
     private static final long VISUALIZATION_DELAY = 420L;
 
-    private ReentrantLock monitorLock;
+    private TracedLock monitorLock;
     private Condition seatsChanged;
 
     public SleepingBarberMonitorStrategy(SleepingBarberSim panel) {
@@ -26,8 +25,8 @@ public class SleepingBarberMonitorStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        monitorLock = new ReentrantLock(true);
-        seatsChanged = monitorLock.newCondition();
+        monitorLock = new TracedLock("R_Monitor_SB", true);
+        seatsChanged = monitorLock.newCondition("C_SeatsChanged");
 
         generatorThread = new Thread(this::runGenerator, "Generator-Monitor");
         generatorThread.setDaemon(true);
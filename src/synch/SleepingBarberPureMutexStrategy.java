@@ -20,7 +20,7 @@ public class SleepingBarberPureMutexStrategy implements SynchronizationStrategy
     private static final long VISUALIZATION_DELAY = 420L;
 
 
-    private final ReentrantLock mutex = new ReentrantLock(true);
+    private final ReentrantLock mutex = new TracedLock("R_Mutex_Barber", true);
 
     public SleepingBarberPureMutexStrategy(SleepingBarberSim panel) {
         this.panel = panel;
@@ -22,9 +22,9 @@ public class SleepingBarberSemaphoreStrategy implements SynchronizationStrategy
     private static final long VISUALIZATION_DELAY = 420L;
 
     private final AtomicInteger waiting = new AtomicInteger(0);
-    private final Semaphore customersSem = new Semaphore(0);
-    private final Semaphore barberSem = new Semaphore(0);
-    private final Semaphore accessSeats = new Semaphore(1);
+    private final Semaphore customersSem = new TracedSemaphore("R_Customers", 0);
+    private final Semaphore barberSem = new TracedSemaphore("R_Barber", 0);
+    private final Semaphore accessSeats = new TracedSemaphore("R_WaitRoom", 1);
 
     public SleepingBarberSemaphoreStrategy(SleepingBarberSim panel) {
         this.panel = panel;
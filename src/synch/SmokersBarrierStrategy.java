@@ -24,8 +24,8 @@ public class SmokersBarrierStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        tableLock = new ReentrantLock(true);
-        barrier = new CyclicBarrier(4);
+        tableLock = new TracedLock("R_Table_Smokers", true);
+        barrier = new TracedBarrier("R_Barrier_Smokers", 4);
 
         agentThread = new Thread(this::runAgent, "Agent-Barrier");
         agentThread.setDaemon(true);
@@ -1,7 +1,6 @@
 package synch;
 
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.SmokersSim;
 import problemas.SmokersSim.Ing;
 import problemas.SmokersSim.SState;
@@ -14,7 +13,7 @@ public class SmokersMonitorStrategy implements SynchronizationStrategy {
     private Thread agentThread;
     private final Thread[] smokerThreads = new Thread[3];
 
-    private ReentrantLock monitorLock;
+    private TracedLock monitorLock;
     private Condition tableEmpty;
     private Condition canSmoke;
 
@@ -24,9 +23,9 @@ public class SmokersMonitorStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        monitorLock = new ReentrantLock(true);
-        tableEmpty = monitorLock.newCondition();
-        canSmoke = monitorLock.newCondition();
+        monitorLock = new TracedLock("R_Monitor_Smokers", true);
+        tableEmpty = monitorLock.newCondition("C_TableEmpty");
+        canSmoke = monitorLock.newCondition("C_CanSmoke");
 
         agentThread = new Thread(this::runAgent, "Agent-Monitor");
         agentThread.setDaemon(true);
@@ -12,7 +12,7 @@ public class SmokersPureMutexStrategy implements SynchronizationStrategy {
     private final SmokersSim panel;
     private Thread agentThread;
     private final Thread[] smokerThreads = new Thread[3];
-    private final ReentrantLock mutex = new ReentrantLock(true);
+    private final ReentrantLock mutex = new TracedLock("R_Mutex_Smokers", true);
 
     public SmokersPureMutexStrategy(SmokersSim panel) {
         this.panel = panel;
@@ -12,11 +12,11 @@ public class SmokersSemaphoreStrategy implements SynchronizationStrategy {
     private final SmokersSim panel;
     private Thread agentThread;
     private final Thread[] smokerThreads = new Thread[3];
-    private final Semaphore agentSem = new Semaphore(1, true);
+    private final Semaphore agentSem = new TracedSemaphore("R_Agent", 1, true);
     private final Semaphore[] smokerSems = {
-        new Semaphore(0, true),
-        new Semaphore(0, true),
-        new Semaphore(0, true)
+        new TracedSemaphore("R_Smoker0", 0, true),
+        new TracedSemaphore("R_Smoker1", 0, true),
+        new TracedSemaphore("R_Smoker2", 0, true)
     };
 
     public SmokersSemaphoreStrategy(SmokersSim panel) {
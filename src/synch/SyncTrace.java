@@ -0,0 +1,202 @@
+package synch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class SyncTrace {
+
+    private static final int MAGIC = 0x50435954;
+    private static final int VERSION = 1;
+
+    private final String[] names;
+    private final long[] threadIds;
+    private final int[] threadNames;
+    private final long[] stamps;
+    private final int[] threads;
+    private final int[] actors;
+    private final int[] primitives;
+    private final byte[] ops;
+
+    SyncTrace(String[] names, long[] threadIds, int[] threadNames, long[] stamps, int[] threads, int[] actors, int[] primitives, byte[] ops) {
+        this.names = names;
+        this.threadIds = threadIds;
+        this.threadNames = threadNames;
+        this.stamps = stamps;
+        this.threads = threads;
+        this.actors = actors;
+        this.primitives = primitives;
+        this.ops = ops;
+    }
+
+    public int size() {
+        return stamps.length;
+    }
+
+    public long startNanos() {
+        return stamps.length > 0 ? stamps[0] : 0L;
+    }
+
+    public long durationNanos() {
+        return stamps.length > 0 ? stamps[stamps.length - 1] - stamps[0] : 0L;
+    }
+
+    public long offsetNanos(int index) {
+        return stamps[index] - stamps[0];
+    }
+
+    public long threadId(int index) {
+        return threadIds[threads[index]];
+    }
+
+    public String threadName(int index) {
+        return names[threadNames[threads[index]]];
+    }
+
+    public int thread(int index) {
+        return threads[index];
+    }
+
+    public int threadCount() {
+        return threadIds.length;
+    }
+
+    public String actor(int index) {
+        return names[actors[index]];
+    }
+
+    public int actorId(int index) {
+        return actors[index];
+    }
+
+    public String primitive(int index) {
+        return names[primitives[index]];
+    }
+
+    public int primitiveId(int index) {
+        return primitives[index];
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public int nameCount() {
+        return names.length;
+    }
+
+    public SyncTracer.Op op(int index) {
+        return SyncTracer.Op.of(ops[index]);
+    }
+
+    public void write(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            writeVarInt(out, names.length);
+            for (String name : names) {
+                out.writeUTF(name);
+            }
+            writeVarInt(out, threadIds.length);
+            for (int i = 0; i < threadIds.length; i++) {
+                writeVarLong(out, threadIds[i]);
+                writeVarInt(out, threadNames[i]);
+            }
+            writeVarInt(out, stamps.length);
+            out.writeLong(startNanos());
+            long previous = startNanos();
+            for (int i = 0; i < stamps.length; i++) {
+                writeVarLong(out, stamps[i] - previous);
+                previous = stamps[i];
+                writeVarInt(out, threads[i]);
+                writeVarInt(out, actors[i]);
+                writeVarInt(out, primitives[i]);
+                out.writeByte(ops[i]);
+            }
+        }
+    }
+
+    public static SyncTrace read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("El archivo no es una traza válida");
+            }
+            String[] names = new String[readVarInt(in)];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+            }
+            int threadCount = readVarInt(in);
+            long[] threadIds = new long[threadCount];
+            int[] threadNames = new int[threadCount];
+            for (int i = 0; i < threadCount; i++) {
+                threadIds[i] = readVarLong(in);
+                threadNames[i] = checked(readVarInt(in), names.length);
+            }
+            int count = readVarInt(in);
+            long[] stamps = new long[count];
+            int[] threads = new int[count];
+            int[] actors = new int[count];
+            int[] primitives = new int[count];
+            byte[] ops = new byte[count];
+            long stamp = in.readLong();
+            int opCount = SyncTracer.Op.values().length;
+            for (int i = 0; i < count; i++) {
+                stamp += readVarLong(in);
+                stamps[i] = stamp;
+                threads[i] = checked(readVarInt(in), threadCount);
+                actors[i] = checked(readVarInt(in), names.length);
+                primitives[i] = checked(readVarInt(in), names.length);
+                ops[i] = (byte) checked(in.readUnsignedByte(), opCount);
+            }
+            return new SyncTrace(names, threadIds, threadNames, stamps, threads, actors, primitives, ops);
+        }
+    }
+
+    private static int checked(int value, int bound) throws IOException {
+        if (value < 0 || value >= bound) {
+            throw new IOException("Traza corrupta: índice " + value + " fuera de rango");
+        }
+        return value;
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0L) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Traza corrupta: entero fuera de rango");
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Traza truncada");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Traza corrupta: entero demasiado largo");
+    }
+}
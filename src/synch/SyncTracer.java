@@ -0,0 +1,199 @@
+package synch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class SyncTracer {
+
+    public enum Op {
+        ACQUIRE("Solicita"),
+        WAIT("Espera"),
+        GRANT("Obtiene"),
+        RELEASE("Libera"),
+        SIGNAL("Señala");
+
+        private static final Op[] VALUES = values();
+        private final String displayName;
+
+        Op(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        static Op of(int ordinal) {
+            return VALUES[ordinal];
+        }
+    }
+
+    private static final int RING_CAPACITY = Math.max(64, Integer.getInteger("trace.ringCapacity", 4096));
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final List<String> NAMES = new ArrayList<>();
+    private static final List<Ring> RINGS = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<Ring> LOCAL = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> ACTORS = new ThreadLocal<>();
+    private static volatile boolean enabled = Boolean.getBoolean("trace.enabled");
+    private static volatile int epoch;
+
+    private SyncTracer() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static void clear() {
+        epoch++;
+        RINGS.removeIf(ring -> !ring.thread.isAlive());
+    }
+
+    public static int intern(String name) {
+        Integer id = IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (NAMES) {
+            return IDS.computeIfAbsent(name, key -> {
+                NAMES.add(key);
+                return NAMES.size() - 1;
+            });
+        }
+    }
+
+    public static void bindActor(String actor) {
+        int id = intern(actor);
+        Ring ring = LOCAL.get();
+        if (ring != null) {
+            ring.actor = id;
+        } else {
+            ACTORS.set(id);
+        }
+    }
+
+    public static void record(int primitive, Op op) {
+        if (enabled) {
+            ring().add(primitive, op);
+        }
+    }
+
+    public static SyncTrace snapshot() {
+        int current = epoch;
+        List<long[]> stamps = new ArrayList<>();
+        List<long[]> words = new ArrayList<>();
+        List<Ring> sources = new ArrayList<>();
+        int total = 0;
+        for (Ring ring : RINGS) {
+            if (ring.epoch != current) {
+                continue;
+            }
+            long written = ring.written;
+            int count = (int) Math.min(written, RING_CAPACITY);
+            long[] s = new long[count];
+            long[] w = new long[count];
+            long first = written - count;
+            for (int i = 0; i < count; i++) {
+                int slot = (int) ((first + i) % RING_CAPACITY);
+                s[i] = ring.stamps[slot];
+                w[i] = ring.words[slot];
+            }
+            stamps.add(s);
+            words.add(w);
+            sources.add(ring);
+            total += count;
+        }
+        String[] names;
+        synchronized (NAMES) {
+            names = NAMES.toArray(new String[0]);
+        }
+        long[] threadIds = new long[sources.size()];
+        int[] threadNames = new int[sources.size()];
+        for (int i = 0; i < sources.size(); i++) {
+            threadIds[i] = sources.get(i).threadId;
+            threadNames[i] = sources.get(i).threadName;
+        }
+        long[] outStamps = new long[total];
+        int[] outThreads = new int[total];
+        int[] outActors = new int[total];
+        int[] outPrimitives = new int[total];
+        byte[] outOps = new byte[total];
+        int[] cursors = new int[sources.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>((a, b) -> Long.compare(stamps.get(a)[cursors[a]], stamps.get(b)[cursors[b]]));
+        for (int i = 0; i < sources.size(); i++) {
+            if (stamps.get(i).length > 0) {
+                heads.add(i);
+            }
+        }
+        int n = 0;
+        while (!heads.isEmpty()) {
+            int t = heads.poll();
+            int c = cursors[t]++;
+            long word = words.get(t)[c];
+            outStamps[n] = stamps.get(t)[c];
+            outThreads[n] = t;
+            outActors[n] = (int) (word >>> 32);
+            outPrimitives[n] = (int) (word >>> 8) & 0xFFFFFF;
+            outOps[n] = (byte) (word & 0xFF);
+            n++;
+            if (cursors[t] < stamps.get(t).length) {
+                heads.add(t);
+            }
+        }
+        return new SyncTrace(names, threadIds, threadNames, outStamps, outThreads, outActors, outPrimitives, outOps);
+    }
+
+    private static Ring ring() {
+        Ring ring = LOCAL.get();
+        if (ring == null) {
+            ring = new Ring(Thread.currentThread());
+            LOCAL.set(ring);
+            RINGS.add(ring);
+        }
+        int current = epoch;
+        if (ring.epoch != current) {
+            ring.written = 0L;
+            ring.epoch = current;
+            if (!RINGS.contains(ring)) {
+                RINGS.add(ring);
+            }
+        }
+        return ring;
+    }
+
+    private static final class Ring {
+        final Thread thread;
+        final long threadId;
+        final int threadName;
+        final long[] stamps = new long[RING_CAPACITY];
+        final long[] words = new long[RING_CAPACITY];
+        volatile long written;
+        int actor;
+        int epoch;
+
+        Ring(Thread thread) {
+            this.thread = thread;
+            this.threadId = thread.threadId();
+            this.threadName = intern(thread.getName());
+            Integer bound = ACTORS.get();
+            this.actor = bound != null ? bound : threadName;
+            this.epoch = SyncTracer.epoch;
+        }
+
+        void add(int primitive, Op op) {
+            long index = written;
+            int slot = (int) (index % RING_CAPACITY);
+            stamps[slot] = System.nanoTime();
+            words[slot] = ((long) actor << 32) | ((long) (primitive & 0xFFFFFF) << 8) | op.ordinal();
+            written = index + 1;
+        }
+    }
+}
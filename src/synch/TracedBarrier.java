@@ -0,0 +1,36 @@
+package synch;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+final class TracedBarrier extends CyclicBarrier {
+
+    private final int id;
+
+    TracedBarrier(String name, int parties) {
+        super(parties);
+        this.id = SyncTracer.intern(name);
+    }
+
+    @Override
+    public int await() throws InterruptedException, BrokenBarrierException {
+        SyncTracer.record(id, SyncTracer.Op.WAIT);
+        try {
+            return super.await();
+        } finally {
+            SyncTracer.record(id, SyncTracer.Op.RELEASE);
+        }
+    }
+
+    @Override
+    public int await(long timeout, TimeUnit unit) throws InterruptedException, BrokenBarrierException, TimeoutException {
+        SyncTracer.record(id, SyncTracer.Op.WAIT);
+        try {
+            return super.await(timeout, unit);
+        } finally {
+            SyncTracer.record(id, SyncTracer.Op.RELEASE);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package synch;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+
+final class TracedCondition implements Condition {
+
+    private final Condition delegate;
+    private final int id;
+    private final int lockId;
+
+    TracedCondition(Condition delegate, int id, int lockId) {
+        this.delegate = delegate;
+        this.id = id;
+        this.lockId = lockId;
+    }
+
+    @Override
+    public void await() throws InterruptedException {
+        beforeWait();
+        try {
+            delegate.await();
+        } finally {
+            afterWait();
+        }
+    }
+
+    @Override
+    public void awaitUninterruptibly() {
+        beforeWait();
+        try {
+            delegate.awaitUninterruptibly();
+        } finally {
+            afterWait();
+        }
+    }
+
+    @Override
+    public long awaitNanos(long nanosTimeout) throws InterruptedException {
+        beforeWait();
+        try {
+            return delegate.awaitNanos(nanosTimeout);
+        } finally {
+            afterWait();
+        }
+    }
+
+    @Override
+    public boolean await(long time, TimeUnit unit) throws InterruptedException {
+        beforeWait();
+        try {
+            return delegate.await(time, unit);
+        } finally {
+            afterWait();
+        }
+    }
+
+    @Override
+    public boolean awaitUntil(Date deadline) throws InterruptedException {
+        beforeWait();
+        try {
+            return delegate.awaitUntil(deadline);
+        } finally {
+            afterWait();
+        }
+    }
+
+    @Override
+    public void signal() {
+        SyncTracer.record(id, SyncTracer.Op.SIGNAL);
+        delegate.signal();
+    }
+
+    @Override
+    public void signalAll() {
+        SyncTracer.record(id, SyncTracer.Op.SIGNAL);
+        delegate.signalAll();
+    }
+
+    private void beforeWait() {
+        SyncTracer.record(id, SyncTracer.Op.WAIT);
+        SyncTracer.record(lockId, SyncTracer.Op.RELEASE);
+    }
+
+    private void afterWait() {
+        SyncTracer.record(lockId, SyncTracer.Op.GRANT);
+        SyncTracer.record(id, SyncTracer.Op.RELEASE);
+    }
+}
@@ -0,0 +1,90 @@
+package synch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class TracedLock extends ReentrantLock {
+
+    private static final long serialVersionUID = 1531992248049945979L;
+
+    private final String name;
+    private final int id;
+
+    TracedLock(String name) {
+        this(name, false);
+    }
+
+    TracedLock(String name, boolean fair) {
+        super(fair);
+        this.name = name;
+        this.id = SyncTracer.intern(name);
+    }
+
+    @Override
+    public void lock() {
+        if (!SyncTracer.isEnabled() || isHeldByCurrentThread()) {
+            super.lock();
+            return;
+        }
+        beforeAcquire();
+        super.lock();
+        SyncTracer.record(id, SyncTracer.Op.GRANT);
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (!SyncTracer.isEnabled() || isHeldByCurrentThread()) {
+            super.lockInterruptibly();
+            return;
+        }
+        beforeAcquire();
+        super.lockInterruptibly();
+        SyncTracer.record(id, SyncTracer.Op.GRANT);
+    }
+
+    @Override
+    public boolean tryLock() {
+        boolean reentry = isHeldByCurrentThread();
+        boolean acquired = super.tryLock();
+        if (acquired && !reentry) {
+            SyncTracer.record(id, SyncTracer.Op.GRANT);
+        }
+        return acquired;
+    }
+
+    @Override
+    public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!SyncTracer.isEnabled() || isHeldByCurrentThread()) {
+            return super.tryLock(timeout, unit);
+        }
+        beforeAcquire();
+        boolean acquired = super.tryLock(timeout, unit);
+        SyncTracer.record(id, acquired ? SyncTracer.Op.GRANT : SyncTracer.Op.RELEASE);
+        return acquired;
+    }
+
+    @Override
+    public void unlock() {
+        if (getHoldCount() == 1) {
+            SyncTracer.record(id, SyncTracer.Op.RELEASE);
+        }
+        super.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+        return newCondition(name + ".cond");
+    }
+
+    Condition newCondition(String conditionName) {
+        return new TracedCondition(super.newCondition(), SyncTracer.intern(conditionName), id);
+    }
+
+    private void beforeAcquire() {
+        SyncTracer.record(id, SyncTracer.Op.ACQUIRE);
+        if (isLocked()) {
+            SyncTracer.record(id, SyncTracer.Op.WAIT);
+        }
+    }
+}
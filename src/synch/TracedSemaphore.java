@@ -0,0 +1,94 @@
+package synch;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+final class TracedSemaphore extends Semaphore {
+
+    private static final long serialVersionUID = 4742965076408159824L;
+
+    private final int id;
+
+    TracedSemaphore(String name, int permits) {
+        this(name, permits, false);
+    }
+
+    TracedSemaphore(String name, int permits, boolean fair) {
+        super(permits, fair);
+        this.id = SyncTracer.intern(name);
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        acquire(1);
+    }
+
+    @Override
+    public void acquire(int permits) throws InterruptedException {
+        beforeAcquire(permits);
+        super.acquire(permits);
+        SyncTracer.record(id, SyncTracer.Op.GRANT);
+    }
+
+    @Override
+    public void acquireUninterruptibly() {
+        acquireUninterruptibly(1);
+    }
+
+    @Override
+    public void acquireUninterruptibly(int permits) {
+        beforeAcquire(permits);
+        super.acquireUninterruptibly(permits);
+        SyncTracer.record(id, SyncTracer.Op.GRANT);
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        return granted(super.tryAcquire());
+    }
+
+    @Override
+    public boolean tryAcquire(int permits) {
+        return granted(super.tryAcquire(permits));
+    }
+
+    @Override
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        return tryAcquire(1, timeout, unit);
+    }
+
+    @Override
+    public boolean tryAcquire(int permits, long timeout, TimeUnit unit) throws InterruptedException {
+        beforeAcquire(permits);
+        boolean acquired = super.tryAcquire(permits, timeout, unit);
+        SyncTracer.record(id, acquired ? SyncTracer.Op.GRANT : SyncTracer.Op.RELEASE);
+        return acquired;
+    }
+
+    @Override
+    public void release() {
+        release(1);
+    }
+
+    @Override
+    public void release(int permits) {
+        SyncTracer.record(id, SyncTracer.Op.RELEASE);
+        super.release(permits);
+    }
+
+    private void beforeAcquire(int permits) {
+        if (SyncTracer.isEnabled()) {
+            SyncTracer.record(id, SyncTracer.Op.ACQUIRE);
+            if (availablePermits() < permits) {
+                SyncTracer.record(id, SyncTracer.Op.WAIT);
+            }
+        }
+    }
+
+    private boolean granted(boolean acquired) {
+        if (acquired) {
+            SyncTracer.record(id, SyncTracer.Op.GRANT);
+        }
+        return acquired;
+    }
+}
@@ -5,22 +5,24 @@ import problemas.VirtualAssistantsSim.AssistantAgent;
 
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class VirtualAssistantsBarrierStrategy extends VirtualAssistantsBaseStrategy {
 
-    private final Semaphore tokenSemaphore;
-    private final Semaphore slotSemaphore;
+    private final PrioritySemaphore tokenSemaphore;
+    private final PrioritySemaphore slotSemaphore;
     private final CyclicBarrier barrier;
-    private final AtomicInteger highBatchPending = new AtomicInteger(0);
+    private final AtomicInteger generation = new AtomicInteger();
 
     public VirtualAssistantsBarrierStrategy(int slots, int tokens) {
         super(slots, tokens);
-        this.tokenSemaphore = new Semaphore(tokens, true);
-        this.slotSemaphore = new Semaphore(slots, true);
+        this.tokenSemaphore = new PrioritySemaphore(TOKENS, newLaneScheduler(lanePolicy), this.tokens);
+        this.slotSemaphore = new PrioritySemaphore(SLOTS, newLaneScheduler(lanePolicy), this.slots);
+        slotSemaphore.setReleaseListener(tokenSemaphore::reschedule);
         int parties = Math.max(2, Math.min(slots, tokens));
-        this.barrier = new CyclicBarrier(parties);
+        this.barrier = new TracedBarrier("R_Barrier", parties);
     }
 
     @Override
@@ -31,10 +33,9 @@ public class VirtualAssistantsBarrierStrategy extends VirtualAssistantsBaseStrat
     @Override
     public void start() {
         super.start();
-        tokenSemaphore.drainPermits();
-        slotSemaphore.drainPermits();
-        tokenSemaphore.release(tokens);
-        slotSemaphore.release(slots);
+        tokenSemaphore.reset(tokens);
+        slotSemaphore.reset(slots);
+        generation.incrementAndGet();
         barrier.reset();
     }
 
@@ -42,37 +43,94 @@ public class VirtualAssistantsBarrierStrategy extends VirtualAssistantsBaseStrat
     public void stop() {
         super.stop();
         barrier.reset();
-        tokenSemaphore.release(tokens);
-        slotSemaphore.release(slots);
+        tokenSemaphore.close();
+        slotSemaphore.close();
+    }
+
+    @Override
+    protected void onLanePolicyChanged() {
+        tokenSemaphore.reschedule();
+        slotSemaphore.reschedule();
     }
 
     @Override
     public int acquirePriorityToken(AssistantAgent agent) throws InterruptedException {
-        if (agent.isHighPriority()) {
-            highBatchPending.incrementAndGet();
-            try {
-                tokenSemaphore.acquire();
-                return takeToken();
-            } finally {
-                highBatchPending.decrementAndGet();
-            }
+        if (!isRunning()) {
+            throw new InterruptedException("Barrier stopped");
         }
-        while (highBatchPending.get() > 0 && isRunning()) {
-            Thread.sleep(8);
-        }
-        tokenSemaphore.acquire();
+        tokenSemaphore.acquire(agent.isHighPriority());
         return takeToken();
     }
 
     @Override
     public int acquireServerSlot(AssistantAgent agent) throws InterruptedException {
         awaitBarrier();
-        slotSemaphore.acquire();
+        slotSemaphore.acquire(agent.isHighPriority());
         return takeSlot();
     }
 
+    @Override
+    public ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Barrier stopped");
+        }
+        awaitBarrier();
+        return acquireTogether(agent, tokenSemaphore, slotSemaphore);
+    }
+
+    @Override
+    public int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Barrier stopped");
+        }
+        return tokenSemaphore.tryAcquire(agent.isHighPriority(), unit.toNanos(timeout)) ? takeToken() : -1;
+    }
+
+    @Override
+    public int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!awaitBarrier(deadline)) {
+            return -1;
+        }
+        return slotSemaphore.tryAcquire(agent.isHighPriority(), Math.max(0L, deadline - System.nanoTime())) ? takeSlot() : -1;
+    }
+
+    @Override
+    public ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Barrier stopped");
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        if (!awaitBarrier(deadline)) {
+            return null;
+        }
+        return acquireTogether(agent, tokenSemaphore, slotSemaphore, true, Math.max(0L, deadline - System.nanoTime()));
+    }
+
+    private boolean awaitBarrier(long deadline) throws InterruptedException {
+        while (isRunning()) {
+            int observed = generation.get();
+            try {
+                barrier.await(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                return true;
+            } catch (TimeoutException ex) {
+                return false;
+            } catch (BrokenBarrierException ex) {
+                if (!isRunning()) {
+                    throw new InterruptedException("Barrier stopped");
+                }
+                repairBarrier(observed);
+                if (deadline - System.nanoTime() <= 0L) {
+                    return false;
+                }
+            }
+        }
+        throw new InterruptedException("Barrier stopped");
+    }
+
     private void awaitBarrier() throws InterruptedException {
         while (isRunning()) {
+            int observed = generation.get();
             try {
                 barrier.await();
                 return;
@@ -80,11 +138,18 @@ public class VirtualAssistantsBarrierStrategy extends VirtualAssistantsBaseStrat
                 if (!isRunning()) {
                     throw new InterruptedException("Barrier stopped");
                 }
+                repairBarrier(observed);
             }
         }
         throw new InterruptedException("Barrier stopped");
     }
 
+    private void repairBarrier(int observed) {
+        if (barrier.isBroken() && generation.compareAndSet(observed, observed + 1)) {
+            barrier.reset();
+        }
+    }
+
     @Override
     public void releaseResources(AssistantAgent agent, int tokenIndex, int slotIndex) {
         if (tokenIndex >= 0) {
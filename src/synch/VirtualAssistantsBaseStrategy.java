@@ -1,25 +1,32 @@
 package synch;
 
+import problemas.LanePolicy;
+import problemas.VirtualAssistantsSim.AssistantAgent;
+
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 
 
 public abstract class VirtualAssistantsBaseStrategy implements VirtualAssistantsStrategy {
 
+    static final int TOKENS = SyncTracer.intern("R_Tokens");
+    static final int SLOTS = SyncTracer.intern("R_Slots");
+
     protected final int slots;
     protected final int tokens;
-    private final boolean[] slotBusy;
-    private final boolean[] tokenBusy;
-    private final Object slotLock = new Object();
-    private final Object tokenLock = new Object();
+    private final LockFreeIndexPool slotPool;
+    private final LockFreeIndexPool tokenPool;
     private final AtomicBoolean running = new AtomicBoolean(false);
+    final WakeupCounter wakeupCounter = new WakeupCounter();
+    final AtomicReference<LanePolicy> lanePolicy = new AtomicReference<>(LanePolicy.fromProperty("va.lanePolicy", LanePolicy.TWO_WIN));
 
     protected VirtualAssistantsBaseStrategy(int slots, int tokens) {
         this.slots = Math.max(1, slots);
         this.tokens = Math.max(1, tokens);
-        this.slotBusy = new boolean[this.slots];
-        this.tokenBusy = new boolean[this.tokens];
+        this.slotPool = new LockFreeIndexPool(this.slots);
+        this.tokenPool = new LockFreeIndexPool(this.tokens);
     }
 
     @Override
@@ -36,51 +43,102 @@ public abstract class VirtualAssistantsBaseStrategy implements VirtualAssistants
         return running.get();
     }
 
-    protected int takeSlot() {
-        synchronized (slotLock) {
-            for (int i = 0; i < slotBusy.length; i++) {
-                if (!slotBusy[i]) {
-                    slotBusy[i] = true;
-                    return i;
-                }
-            }
-            return -1;
+    protected static boolean targetedWakeupsByDefault() {
+        return Boolean.parseBoolean(System.getProperty("va.targetedWakeups", "true"));
+    }
+
+    @Override
+    public LanePolicy getLanePolicy() {
+        return lanePolicy.get();
+    }
+
+    @Override
+    public void setLanePolicy(LanePolicy policy) {
+        if (policy == null || lanePolicy.getAndSet(policy) == policy) {
+            return;
         }
+        onLanePolicyChanged();
     }
 
-    protected int takeToken() {
-        synchronized (tokenLock) {
-            for (int i = 0; i < tokenBusy.length; i++) {
-                if (!tokenBusy[i]) {
-                    tokenBusy[i] = true;
-                    return i;
-                }
+    protected void onLanePolicyChanged() {
+    }
+
+    static LaneScheduler newLaneScheduler(AtomicReference<LanePolicy> policy) {
+        return new LaneScheduler(policy::get);
+    }
+
+    protected void recordWakeup(boolean productive) {
+        wakeupCounter.record(productive);
+    }
+
+    @Override
+    public long getWakeupCount() {
+        return wakeupCounter.wakeups();
+    }
+
+    @Override
+    public long getSpuriousWakeupCount() {
+        return wakeupCounter.spuriousWakeups();
+    }
+
+    ResourceGrant acquireTogether(AssistantAgent agent, PriorityPermitGate tokenGate, PriorityPermitGate slotGate) throws InterruptedException {
+        return acquireTogether(agent, tokenGate, slotGate, false, 0L);
+    }
+
+    ResourceGrant acquireTogether(AssistantAgent agent, PriorityPermitGate tokenGate, PriorityPermitGate slotGate, boolean timed, long nanos) throws InterruptedException {
+        boolean granted = false;
+        trace(false, true, SyncTracer.Op.ACQUIRE);
+        try {
+            if (timed) {
+                granted = tokenGate.tryAcquireWith(slotGate, agent.isHighPriority(), nanos);
+            } else {
+                tokenGate.acquireWith(slotGate, agent.isHighPriority());
+                granted = true;
+            }
+        } finally {
+            if (!granted) {
+                trace(false, true, SyncTracer.Op.RELEASE);
             }
-            return -1;
         }
+        return granted ? new ResourceGrant(takeToken(), takeSlot()) : null;
+    }
+
+    protected int takeSlot() {
+        int index = slotPool.take();
+        SyncTracer.record(SLOTS, SyncTracer.Op.GRANT);
+        return index;
+    }
+
+    protected int takeToken() {
+        int index = tokenPool.take();
+        SyncTracer.record(TOKENS, SyncTracer.Op.GRANT);
+        return index;
     }
 
     protected void releaseSlot(int index) {
-        if (index >= 0 && index < slotBusy.length) {
-            synchronized (slotLock) {
-                slotBusy[index] = false;
-            }
-        }
+        SyncTracer.record(SLOTS, SyncTracer.Op.RELEASE);
+        slotPool.release(index);
     }
 
     protected void releaseToken(int index) {
-        if (index >= 0 && index < tokenBusy.length) {
-            synchronized (tokenLock) {
-                tokenBusy[index] = false;
-            }
+        SyncTracer.record(TOKENS, SyncTracer.Op.RELEASE);
+        tokenPool.release(index);
+    }
+
+    void trace(boolean token, boolean slot, SyncTracer.Op op) {
+        if (token) {
+            SyncTracer.record(TOKENS, op);
+        }
+        if (slot) {
+            SyncTracer.record(SLOTS, op);
         }
     }
 
     protected int getSlotCapacity() {
-        return slotBusy.length;
+        return slotPool.capacity();
     }
 
     protected int getTokenCapacity() {
-        return tokenBusy.length;
+        return tokenPool.capacity();
     }
 }
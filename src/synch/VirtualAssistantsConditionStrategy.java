@@ -5,6 +5,7 @@ import problemas.VirtualAssistantsSim.AssistantAgent;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -13,10 +14,12 @@ public class VirtualAssistantsConditionStrategy extends VirtualAssistantsBaseStr
     private final ReentrantLock lock = new ReentrantLock(true);
     private final Condition tokenCondition = lock.newCondition();
     private final Condition slotCondition = lock.newCondition();
-    private final Deque<AssistantAgent> highTokenQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> lowTokenQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> highSlotQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> lowSlotQueue = new ArrayDeque<>();
+    private final Deque<Ticket> highTokenQueue = new ArrayDeque<>();
+    private final Deque<Ticket> lowTokenQueue = new ArrayDeque<>();
+    private final Deque<Ticket> highSlotQueue = new ArrayDeque<>();
+    private final Deque<Ticket> lowSlotQueue = new ArrayDeque<>();
+    private final LaneScheduler tokenScheduler = newLaneScheduler(lanePolicy);
+    private final LaneScheduler slotScheduler = newLaneScheduler(lanePolicy);
     private int tokensFree;
     private int slotsFree;
 
@@ -35,6 +38,8 @@ public class VirtualAssistantsConditionStrategy extends VirtualAssistantsBaseStr
             lowTokenQueue.clear();
             highSlotQueue.clear();
             lowSlotQueue.clear();
+            tokenScheduler.reset();
+            slotScheduler.reset();
             tokenCondition.signalAll();
             slotCondition.signalAll();
         } finally {
@@ -54,6 +59,17 @@ public class VirtualAssistantsConditionStrategy extends VirtualAssistantsBaseStr
         }
     }
 
+    @Override
+    protected void onLanePolicyChanged() {
+        lock.lock();
+        try {
+            tokenCondition.signalAll();
+            slotCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public SyncMethod getMethod() {
         return SyncMethod.VAR_COND;
@@ -61,58 +77,101 @@ public class VirtualAssistantsConditionStrategy extends VirtualAssistantsBaseStr
 
     @Override
     public int acquirePriorityToken(AssistantAgent agent) throws InterruptedException {
-        lock.lockInterruptibly();
-        boolean dequeued = false;
-        try {
-            Deque<AssistantAgent> queue = agent.isHighPriority() ? highTokenQueue : lowTokenQueue;
-            queue.addLast(agent);
-            while (isRunning()) {
-                boolean eligible = agent.isHighPriority() ? highTokenQueue.peekFirst() == agent : highTokenQueue.isEmpty() && lowTokenQueue.peekFirst() == agent;
-                if (eligible && tokensFree > 0) {
-                    tokensFree--;
-                    dequeued = true;
-                    queue.removeFirstOccurrence(agent);
-                    return takeToken();
-                }
-                tokenCondition.await();
-            }
-            throw new InterruptedException("Condition strategy stopped");
-        } finally {
-            if (!dequeued) {
-                Deque<AssistantAgent> queue = agent.isHighPriority() ? highTokenQueue : lowTokenQueue;
-                queue.removeFirstOccurrence(agent);
-            }
-            lock.unlock();
-        }
+        return await(agent, Need.TOKEN, false, 0L).tokenIndex();
     }
 
     @Override
     public int acquireServerSlot(AssistantAgent agent) throws InterruptedException {
+        return await(agent, Need.SLOT, false, 0L).slotIndex();
+    }
+
+    @Override
+    public ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException {
+        return await(agent, Need.BOTH, false, 0L);
+    }
+
+    @Override
+    public int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        ResourceGrant grant = await(agent, Need.TOKEN, true, unit.toNanos(timeout));
+        return grant != null ? grant.tokenIndex() : -1;
+    }
+
+    @Override
+    public int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        ResourceGrant grant = await(agent, Need.SLOT, true, unit.toNanos(timeout));
+        return grant != null ? grant.slotIndex() : -1;
+    }
+
+    @Override
+    public ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        return await(agent, Need.BOTH, true, unit.toNanos(timeout));
+    }
+
+    private ResourceGrant await(AssistantAgent agent, Need need, boolean timed, long nanos) throws InterruptedException {
+        boolean tokenLane = need != Need.SLOT;
+        boolean highPriority = agent.isHighPriority();
+        Deque<Ticket> highQueue = tokenLane ? highTokenQueue : highSlotQueue;
+        Deque<Ticket> lowQueue = tokenLane ? lowTokenQueue : lowSlotQueue;
+        Deque<Ticket> queue = highPriority ? highQueue : lowQueue;
+        LaneScheduler scheduler = tokenLane ? tokenScheduler : slotScheduler;
+        Condition condition = tokenLane ? tokenCondition : slotCondition;
+        Ticket ticket = new Ticket(System.nanoTime());
+        trace(tokenLane, need != Need.TOKEN, SyncTracer.Op.ACQUIRE);
         lock.lockInterruptibly();
         boolean dequeued = false;
+        long remaining = nanos;
         try {
-            Deque<AssistantAgent> queue = agent.isHighPriority() ? highSlotQueue : lowSlotQueue;
-            queue.addLast(agent);
+            queue.addLast(ticket);
             while (isRunning()) {
-                boolean eligible = agent.isHighPriority() ? highSlotQueue.peekFirst() == agent : highSlotQueue.isEmpty() && lowSlotQueue.peekFirst() == agent;
-                if (eligible && slotsFree > 0) {
-                    slotsFree--;
+                boolean eligible = scheduler.next(highQueue.peekFirst(), lowQueue.peekFirst()) == ticket;
+                if (eligible && grantable(need)) {
                     dequeued = true;
-                    queue.removeFirstOccurrence(agent);
-                    return takeSlot();
+                    queue.removeFirstOccurrence(ticket);
+                    scheduler.granted(highPriority, !(highPriority ? lowQueue : highQueue).isEmpty());
+                    return grant(need);
+                }
+                trace(tokenLane, need != Need.TOKEN, SyncTracer.Op.WAIT);
+                if (!timed) {
+                    condition.await();
+                } else if (remaining > 0L) {
+                    remaining = condition.awaitNanos(remaining);
+                } else {
+                    return null;
                 }
-                slotCondition.await();
             }
             throw new InterruptedException("Condition strategy stopped");
         } finally {
             if (!dequeued) {
-                Deque<AssistantAgent> queue = agent.isHighPriority() ? highSlotQueue : lowSlotQueue;
-                queue.removeFirstOccurrence(agent);
+                queue.removeFirstOccurrence(ticket);
+                trace(tokenLane, need != Need.TOKEN, SyncTracer.Op.RELEASE);
+                condition.signalAll();
             }
             lock.unlock();
         }
     }
 
+    private boolean grantable(Need need) {
+        return switch (need) {
+            case TOKEN -> tokensFree > 0;
+            case SLOT -> slotsFree > 0;
+            case BOTH -> tokensFree > 0 && slotsFree > 0 && highSlotQueue.isEmpty() && lowSlotQueue.isEmpty();
+        };
+    }
+
+    private ResourceGrant grant(Need need) {
+        int tokenIndex = -1;
+        int slotIndex = -1;
+        if (need != Need.SLOT) {
+            tokensFree--;
+            tokenIndex = takeToken();
+        }
+        if (need != Need.TOKEN) {
+            slotsFree--;
+            slotIndex = takeSlot();
+        }
+        return new ResourceGrant(tokenIndex, slotIndex);
+    }
+
     @Override
     public void releaseResources(AssistantAgent agent, int tokenIndex, int slotIndex) {
         lock.lock();
@@ -131,4 +190,19 @@ public class VirtualAssistantsConditionStrategy extends VirtualAssistantsBaseStr
             lock.unlock();
         }
     }
+
+    private enum Need { TOKEN, SLOT, BOTH }
+
+    private static final class Ticket implements LaneScheduler.Queued {
+        final long queuedAt;
+
+        Ticket(long queuedAt) {
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public long queuedAt() {
+            return queuedAt;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package synch;
+
+import problemas.SyncMethod;
+import problemas.VirtualAssistantsSim.AssistantAgent;
+
+import java.util.concurrent.TimeUnit;
+
+public class VirtualAssistantsLockFreeStrategy extends VirtualAssistantsBaseStrategy {
+
+    private final LockFreePriorityGate tokenGate;
+    private final LockFreePriorityGate slotGate;
+
+    public VirtualAssistantsLockFreeStrategy(int slots, int tokens) {
+        super(slots, tokens);
+        this.tokenGate = new LockFreePriorityGate(TOKENS, this.tokens, newLaneScheduler(lanePolicy), wakeupCounter);
+        this.slotGate = new LockFreePriorityGate(SLOTS, this.slots, newLaneScheduler(lanePolicy), wakeupCounter);
+        slotGate.setReleaseListener(tokenGate::reschedule);
+    }
+
+    @Override
+    public SyncMethod getMethod() {
+        return SyncMethod.LOCK_FREE;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        tokenGate.reset(tokens);
+        slotGate.reset(slots);
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        tokenGate.close();
+        slotGate.close();
+    }
+
+    @Override
+    protected void onLanePolicyChanged() {
+        tokenGate.reschedule();
+        slotGate.reschedule();
+    }
+
+    @Override
+    public int acquirePriorityToken(AssistantAgent agent) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Lock-free strategy stopped");
+        }
+        tokenGate.acquire(agent.isHighPriority());
+        return takeToken();
+    }
+
+    @Override
+    public int acquireServerSlot(AssistantAgent agent) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Lock-free strategy stopped");
+        }
+        slotGate.acquire(agent.isHighPriority());
+        return takeSlot();
+    }
+
+    @Override
+    public ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Lock-free strategy stopped");
+        }
+        return acquireTogether(agent, tokenGate, slotGate);
+    }
+
+    @Override
+    public int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Lock-free strategy stopped");
+        }
+        return tokenGate.tryAcquire(agent.isHighPriority(), unit.toNanos(timeout)) ? takeToken() : -1;
+    }
+
+    @Override
+    public int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Lock-free strategy stopped");
+        }
+        return slotGate.tryAcquire(agent.isHighPriority(), unit.toNanos(timeout)) ? takeSlot() : -1;
+    }
+
+    @Override
+    public ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Lock-free strategy stopped");
+        }
+        return acquireTogether(agent, tokenGate, slotGate, true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public void releaseResources(AssistantAgent agent, int tokenIndex, int slotIndex) {
+        if (tokenIndex >= 0) {
+            releaseToken(tokenIndex);
+            tokenGate.release();
+        }
+        if (slotIndex >= 0) {
+            releaseSlot(slotIndex);
+            slotGate.release();
+        }
+    }
+}
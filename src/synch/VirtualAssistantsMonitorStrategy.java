@@ -5,34 +5,44 @@ import problemas.VirtualAssistantsSim.AssistantAgent;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class VirtualAssistantsMonitorStrategy extends VirtualAssistantsBaseStrategy {
 
     private final Object monitor = new Object();
-    private final Deque<AssistantAgent> highTokenQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> lowTokenQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> highSlotQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> lowSlotQueue = new ArrayDeque<>();
+    private final Deque<Waiter> highTokenQueue = new ArrayDeque<>();
+    private final Deque<Waiter> lowTokenQueue = new ArrayDeque<>();
+    private final Deque<Waiter> highSlotQueue = new ArrayDeque<>();
+    private final Deque<Waiter> lowSlotQueue = new ArrayDeque<>();
+    private final boolean targetedWakeups;
     private int tokensFree;
     private int slotsFree;
-    private int consecutiveHighWins = 0;
+    private final LaneScheduler tokenScheduler = newLaneScheduler(lanePolicy);
+    private final LaneScheduler slotScheduler = newLaneScheduler(lanePolicy);
 
     public VirtualAssistantsMonitorStrategy(int slots, int tokens) {
+        this(slots, tokens, targetedWakeupsByDefault());
+    }
+
+    public VirtualAssistantsMonitorStrategy(int slots, int tokens, boolean targetedWakeups) {
         super(slots, tokens);
+        this.targetedWakeups = targetedWakeups;
     }
 
     @Override
     public void start() {
         super.start();
         synchronized (monitor) {
+            wakeAll();
             tokensFree = tokens;
             slotsFree = slots;
             highTokenQueue.clear();
             lowTokenQueue.clear();
             highSlotQueue.clear();
             lowSlotQueue.clear();
-            consecutiveHighWins = 0;
-            monitor.notifyAll();
+            tokenScheduler.reset();
+            slotScheduler.reset();
         }
     }
 
@@ -40,7 +50,14 @@ public class VirtualAssistantsMonitorStrategy extends VirtualAssistantsBaseStrat
     public void stop() {
         super.stop();
         synchronized (monitor) {
-            monitor.notifyAll();
+            wakeAll();
+        }
+    }
+
+    @Override
+    protected void onLanePolicyChanged() {
+        synchronized (monitor) {
+            wakeEligible();
         }
     }
 
@@ -51,58 +68,117 @@ public class VirtualAssistantsMonitorStrategy extends VirtualAssistantsBaseStrat
 
     @Override
     public int acquirePriorityToken(AssistantAgent agent) throws InterruptedException {
-        synchronized (monitor) {
-            Deque<AssistantAgent> queue = agent.isHighPriority() ? highTokenQueue : lowTokenQueue;
-            queue.addLast(agent);
-            boolean dequeued = false;
-            try {
-                while (isRunning()) {
-                    boolean eligible = eligibleForToken(agent);
-                    if (eligible && tokensFree > 0) {
-                        tokensFree--;
-                        dequeued = true;
-                        queue.removeFirstOccurrence(agent);
-                        registerGrant(agent.isHighPriority());
-                        return takeToken();
-                    }
-                    monitor.wait();
-                }
-            } finally {
-                if (!dequeued) {
-                    queue.removeFirstOccurrence(agent);
-                }
-            }
-        }
-        throw new InterruptedException("Monitor strategy stopped");
+        return await(agent, Need.TOKEN, false, 0L).tokenIndex();
     }
 
     @Override
     public int acquireServerSlot(AssistantAgent agent) throws InterruptedException {
+        return await(agent, Need.SLOT, false, 0L).slotIndex();
+    }
+
+    @Override
+    public ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException {
+        return await(agent, Need.BOTH, false, 0L);
+    }
+
+    @Override
+    public int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        ResourceGrant grant = await(agent, Need.TOKEN, true, unit.toNanos(timeout));
+        return grant != null ? grant.tokenIndex() : -1;
+    }
+
+    @Override
+    public int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        ResourceGrant grant = await(agent, Need.SLOT, true, unit.toNanos(timeout));
+        return grant != null ? grant.slotIndex() : -1;
+    }
+
+    @Override
+    public ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        return await(agent, Need.BOTH, true, unit.toNanos(timeout));
+    }
+
+    private ResourceGrant await(AssistantAgent agent, Need need, boolean timed, long nanos) throws InterruptedException {
+        Waiter waiter = new Waiter(need == Need.BOTH, System.nanoTime());
+        boolean tokenLane = need != Need.SLOT;
+        Deque<Waiter> queue = tokenLane
+                ? (agent.isHighPriority() ? highTokenQueue : lowTokenQueue)
+                : (agent.isHighPriority() ? highSlotQueue : lowSlotQueue);
+        long deadline = System.nanoTime() + nanos;
+        trace(tokenLane, need != Need.TOKEN, SyncTracer.Op.ACQUIRE);
         synchronized (monitor) {
-            Deque<AssistantAgent> queue = agent.isHighPriority() ? highSlotQueue : lowSlotQueue;
-            queue.addLast(agent);
-            boolean dequeued = false;
-            try {
-                while (isRunning()) {
-                    boolean eligible = eligibleForSlot(agent);
-                    if (eligible && slotsFree > 0) {
-                        slotsFree--;
+            queue.addLast(waiter);
+        }
+        boolean dequeued = false;
+        try {
+            boolean woken = false;
+            while (true) {
+                synchronized (monitor) {
+                    if (!isRunning()) {
+                        break;
+                    }
+                    boolean eligible = tokenLane ? eligibleForToken(waiter) : eligibleForSlot(waiter);
+                    if (eligible && grantable(need)) {
                         dequeued = true;
-                        queue.removeFirstOccurrence(agent);
-                        registerGrant(agent.isHighPriority());
-                        return takeSlot();
+                        queue.removeFirstOccurrence(waiter);
+                        registerGrant(agent.isHighPriority(), tokenLane);
+                        if (woken) {
+                            recordWakeup(true);
+                        }
+                        ResourceGrant grant = grant(need);
+                        wakeEligible();
+                        return grant;
+                    }
+                    if (woken) {
+                        recordWakeup(false);
+                    }
+                    if (timed && deadline - System.nanoTime() <= 0L) {
+                        return null;
                     }
-                    monitor.wait();
+                    waiter.arm();
                 }
-            } finally {
-                if (!dequeued) {
-                    queue.removeFirstOccurrence(agent);
+                trace(tokenLane, need != Need.TOKEN, SyncTracer.Op.WAIT);
+                if (timed) {
+                    waiter.await(this, deadline - System.nanoTime());
+                } else {
+                    waiter.await(this);
+                }
+                woken = true;
+            }
+        } finally {
+            if (!dequeued) {
+                trace(tokenLane, need != Need.TOKEN, SyncTracer.Op.RELEASE);
+                synchronized (monitor) {
+                    queue.removeFirstOccurrence(waiter);
+                    wakeEligible();
                 }
             }
         }
         throw new InterruptedException("Monitor strategy stopped");
     }
 
+    private boolean grantable(Need need) {
+        return switch (need) {
+            case TOKEN -> tokensFree > 0;
+            case SLOT -> slotsFree > 0;
+            case BOTH -> tokensFree > 0 && slotsGrantable();
+        };
+    }
+
+    private ResourceGrant grant(Need need) {
+        int tokenIndex = -1;
+        int slotIndex = -1;
+        if (need != Need.SLOT) {
+            tokensFree--;
+            tokenIndex = takeToken();
+        }
+        if (need != Need.TOKEN) {
+            slotsFree--;
+            slotIndex = takeSlot();
+        }
+        return new ResourceGrant(tokenIndex, slotIndex);
+    }
+
     @Override
     public void releaseResources(AssistantAgent agent, int tokenIndex, int slotIndex) {
         synchronized (monitor) {
@@ -114,31 +190,103 @@ public class VirtualAssistantsMonitorStrategy extends VirtualAssistantsBaseStrat
                 slotsFree = Math.min(slots, slotsFree + 1);
                 releaseSlot(slotIndex);
             }
-            monitor.notifyAll();
+            wakeEligible();
+        }
+    }
+
+    private void wakeEligible() {
+        if (!targetedWakeups) {
+            wakeAll();
+            return;
+        }
+        if (tokensFree > 0) {
+            wakeFirstEligible(highTokenQueue, lowTokenQueue, true);
+        }
+        if (slotsFree > 0) {
+            wakeFirstEligible(highSlotQueue, lowSlotQueue, false);
         }
     }
 
-    private boolean eligibleForToken(AssistantAgent agent) {
-        if (agent.isHighPriority()) {
-            return highTokenQueue.peekFirst() == agent;
+    private void wakeFirstEligible(Deque<Waiter> highQueue, Deque<Waiter> lowQueue, boolean token) {
+        Waiter next = (token ? tokenScheduler : slotScheduler).next(highQueue.peekFirst(), lowQueue.peekFirst());
+        if (next != null) {
+            wakeIfGrantable(next);
         }
-        return lowTokenQueue.peekFirst() == agent
-            && (highTokenQueue.isEmpty() || consecutiveHighWins >= 2);
     }
 
-    private boolean eligibleForSlot(AssistantAgent agent) {
-        if (agent.isHighPriority()) {
-            return highSlotQueue.peekFirst() == agent;
+    private void wakeIfGrantable(Waiter waiter) {
+        if (!waiter.needsSlot || slotsGrantable()) {
+            waiter.wake();
         }
-        return lowSlotQueue.peekFirst() == agent
-            && (highSlotQueue.isEmpty() || consecutiveHighWins >= 2);
     }
 
-    private void registerGrant(boolean highPriority) {
-        if (highPriority) {
-            consecutiveHighWins++;
+    private boolean slotsGrantable() {
+        return slotsFree > 0 && highSlotQueue.isEmpty() && lowSlotQueue.isEmpty();
+    }
+
+    private void wakeAll() {
+        for (Deque<Waiter> queue : List.of(highTokenQueue, lowTokenQueue, highSlotQueue, lowSlotQueue)) {
+            for (Waiter waiter : queue) {
+                waiter.wake();
+            }
+        }
+    }
+
+    private boolean eligibleForToken(Waiter waiter) {
+        return tokenScheduler.next(highTokenQueue.peekFirst(), lowTokenQueue.peekFirst()) == waiter;
+    }
+
+    private boolean eligibleForSlot(Waiter waiter) {
+        return slotScheduler.next(highSlotQueue.peekFirst(), lowSlotQueue.peekFirst()) == waiter;
+    }
+
+    private void registerGrant(boolean highPriority, boolean tokenLane) {
+        if (tokenLane) {
+            tokenScheduler.granted(highPriority, !(highPriority ? lowTokenQueue : highTokenQueue).isEmpty());
         } else {
-            consecutiveHighWins = 0;
+            slotScheduler.granted(highPriority, !(highPriority ? lowSlotQueue : highSlotQueue).isEmpty());
+        }
+    }
+
+    private enum Need { TOKEN, SLOT, BOTH }
+
+    private static final class Waiter implements LaneScheduler.Queued {
+        final boolean needsSlot;
+        final long queuedAt;
+        private boolean notified;
+
+        Waiter(boolean needsSlot, long queuedAt) {
+            this.needsSlot = needsSlot;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public long queuedAt() {
+            return queuedAt;
+        }
+
+        synchronized void arm() {
+            notified = false;
+        }
+
+        synchronized void wake() {
+            notified = true;
+            notify();
+        }
+
+        synchronized void await(VirtualAssistantsBaseStrategy owner) throws InterruptedException {
+            while (!notified && owner.isRunning()) {
+                wait();
+            }
+        }
+
+        synchronized void await(VirtualAssistantsBaseStrategy owner, long nanos) throws InterruptedException {
+            long deadline = System.nanoTime() + nanos;
+            long remaining = nanos;
+            while (!notified && owner.isRunning() && remaining > 0L) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
         }
     }
 }
@@ -5,40 +5,70 @@ import problemas.VirtualAssistantsSim.AssistantAgent;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class VirtualAssistantsMutexStrategy extends VirtualAssistantsBaseStrategy {
 
-    private final Object monitor = new Object();
-    private final Deque<AssistantAgent> highTokenQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> lowTokenQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> highSlotQueue = new ArrayDeque<>();
-    private final Deque<AssistantAgent> lowSlotQueue = new ArrayDeque<>();
+    private final ReentrantLock mutex = new ReentrantLock();
+    private final Deque<Waiter> highTokenQueue = new ArrayDeque<>();
+    private final Deque<Waiter> lowTokenQueue = new ArrayDeque<>();
+    private final Deque<Waiter> highSlotQueue = new ArrayDeque<>();
+    private final Deque<Waiter> lowSlotQueue = new ArrayDeque<>();
+    private final LaneScheduler tokenScheduler = newLaneScheduler(lanePolicy);
+    private final LaneScheduler slotScheduler = newLaneScheduler(lanePolicy);
+    private final boolean targetedWakeups;
     private int availableTokens;
     private int availableSlots;
 
     public VirtualAssistantsMutexStrategy(int slots, int tokens) {
+        this(slots, tokens, targetedWakeupsByDefault());
+    }
+
+    public VirtualAssistantsMutexStrategy(int slots, int tokens, boolean targetedWakeups) {
         super(slots, tokens);
+        this.targetedWakeups = targetedWakeups;
     }
 
     @Override
     public void start() {
         super.start();
-        synchronized (monitor) {
+        mutex.lock();
+        try {
+            wakeAll();
             availableSlots = this.slots;
             availableTokens = this.tokens;
             highTokenQueue.clear();
             lowTokenQueue.clear();
             highSlotQueue.clear();
             lowSlotQueue.clear();
-            monitor.notifyAll();
+            tokenScheduler.reset();
+            slotScheduler.reset();
+        } finally {
+            mutex.unlock();
         }
     }
 
     @Override
     public void stop() {
         super.stop();
-        synchronized (monitor) {
-            monitor.notifyAll();
+        mutex.lock();
+        try {
+            wakeAll();
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    @Override
+    protected void onLanePolicyChanged() {
+        mutex.lock();
+        try {
+            wakeEligible();
+        } finally {
+            mutex.unlock();
         }
     }
 
@@ -49,59 +79,114 @@ public class VirtualAssistantsMutexStrategy extends VirtualAssistantsBaseStrateg
 
     @Override
     public int acquirePriorityToken(AssistantAgent agent) throws InterruptedException {
-        synchronized (monitor) {
-            Deque<AssistantAgent> queue = agent.isHighPriority() ? highTokenQueue : lowTokenQueue;
-            queue.addLast(agent);
-            boolean queued = true;
-            try {
-                while (isRunning()) {
-                    boolean eligible = agent.isHighPriority() ? highTokenQueue.peekFirst() == agent : highTokenQueue.isEmpty() && lowTokenQueue.peekFirst() == agent;
-                    if (eligible && availableTokens > 0) {
-                        availableTokens--;
-                        queued = false;
-                        queue.removeFirstOccurrence(agent);
-                        return takeToken();
-                    }
-                    monitor.wait();
-                }
-            } finally {
-                if (queued) {
-                    queue.removeFirstOccurrence(agent);
-                }
-            }
-        }
-        throw new InterruptedException("Mutex strategy stopped");
+        return await(agent, Need.TOKEN, false, 0L).tokenIndex();
     }
 
     @Override
     public int acquireServerSlot(AssistantAgent agent) throws InterruptedException {
-        synchronized (monitor) {
-            Deque<AssistantAgent> queue = agent.isHighPriority() ? highSlotQueue : lowSlotQueue;
-            queue.addLast(agent);
-            boolean queued = true;
-            try {
-                while (isRunning()) {
-                    boolean eligible = agent.isHighPriority() ? highSlotQueue.peekFirst() == agent : highSlotQueue.isEmpty() && lowSlotQueue.peekFirst() == agent;
-                    if (eligible && availableSlots > 0) {
-                        availableSlots--;
-                        queued = false;
-                        queue.removeFirstOccurrence(agent);
-                        return takeSlot();
+        return await(agent, Need.SLOT, false, 0L).slotIndex();
+    }
+
+    @Override
+    public ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException {
+        return await(agent, Need.BOTH, false, 0L);
+    }
+
+    @Override
+    public int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        ResourceGrant grant = await(agent, Need.TOKEN, true, unit.toNanos(timeout));
+        return grant != null ? grant.tokenIndex() : -1;
+    }
+
+    @Override
+    public int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        ResourceGrant grant = await(agent, Need.SLOT, true, unit.toNanos(timeout));
+        return grant != null ? grant.slotIndex() : -1;
+    }
+
+    @Override
+    public ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        return await(agent, Need.BOTH, true, unit.toNanos(timeout));
+    }
+
+    private ResourceGrant await(AssistantAgent agent, Need need, boolean timed, long nanos) throws InterruptedException {
+        trace(need != Need.SLOT, need != Need.TOKEN, SyncTracer.Op.ACQUIRE);
+        mutex.lockInterruptibly();
+        Waiter waiter = new Waiter(mutex.newCondition(), need == Need.BOTH, System.nanoTime());
+        boolean tokenLane = need != Need.SLOT;
+        boolean highPriority = agent.isHighPriority();
+        Deque<Waiter> highQueue = tokenLane ? highTokenQueue : highSlotQueue;
+        Deque<Waiter> lowQueue = tokenLane ? lowTokenQueue : lowSlotQueue;
+        Deque<Waiter> queue = highPriority ? highQueue : lowQueue;
+        LaneScheduler scheduler = tokenLane ? tokenScheduler : slotScheduler;
+        queue.addLast(waiter);
+        boolean queued = true;
+        long remaining = nanos;
+        try {
+            boolean woken = false;
+            while (isRunning()) {
+                boolean eligible = scheduler.next(highQueue.peekFirst(), lowQueue.peekFirst()) == waiter;
+                if (eligible && grantable(need)) {
+                    queued = false;
+                    queue.removeFirstOccurrence(waiter);
+                    scheduler.granted(highPriority, !(highPriority ? lowQueue : highQueue).isEmpty());
+                    if (woken) {
+                        recordWakeup(true);
                     }
-                    monitor.wait();
+                    ResourceGrant grant = grant(need);
+                    wakeEligible();
+                    return grant;
+                }
+                if (woken) {
+                    recordWakeup(false);
                 }
-            } finally {
-                if (queued) {
-                    queue.removeFirstOccurrence(agent);
+                trace(need != Need.SLOT, need != Need.TOKEN, SyncTracer.Op.WAIT);
+                if (!timed) {
+                    waiter.condition.await();
+                } else if (remaining > 0L) {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                } else {
+                    return null;
                 }
+                woken = true;
+            }
+        } finally {
+            if (queued) {
+                queue.removeFirstOccurrence(waiter);
+                trace(need != Need.SLOT, need != Need.TOKEN, SyncTracer.Op.RELEASE);
+                wakeEligible();
             }
+            mutex.unlock();
         }
         throw new InterruptedException("Mutex strategy stopped");
     }
 
+    private boolean grantable(Need need) {
+        return switch (need) {
+            case TOKEN -> availableTokens > 0;
+            case SLOT -> availableSlots > 0;
+            case BOTH -> availableTokens > 0 && slotsGrantable();
+        };
+    }
+
+    private ResourceGrant grant(Need need) {
+        int tokenIndex = -1;
+        int slotIndex = -1;
+        if (need != Need.SLOT) {
+            availableTokens--;
+            tokenIndex = takeToken();
+        }
+        if (need != Need.TOKEN) {
+            availableSlots--;
+            slotIndex = takeSlot();
+        }
+        return new ResourceGrant(tokenIndex, slotIndex);
+    }
+
     @Override
     public void releaseResources(AssistantAgent agent, int tokenIndex, int slotIndex) {
-        synchronized (monitor) {
+        mutex.lock();
+        try {
             if (tokenIndex >= 0) {
                 availableTokens = Math.min(tokens, availableTokens + 1);
                 releaseToken(tokenIndex);
@@ -110,7 +195,59 @@ public class VirtualAssistantsMutexStrategy extends VirtualAssistantsBaseStrateg
                 availableSlots = Math.min(slots, availableSlots + 1);
                 releaseSlot(slotIndex);
             }
-            monitor.notifyAll();
+            wakeEligible();
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    private void wakeEligible() {
+        if (!targetedWakeups) {
+            wakeAll();
+            return;
+        }
+        if (availableTokens > 0) {
+            wakeHead(tokenScheduler.next(highTokenQueue.peekFirst(), lowTokenQueue.peekFirst()));
+        }
+        if (availableSlots > 0) {
+            wakeHead(slotScheduler.next(highSlotQueue.peekFirst(), lowSlotQueue.peekFirst()));
+        }
+    }
+
+    private void wakeHead(Waiter head) {
+        if (head != null && (!head.needsSlot || slotsGrantable())) {
+            head.condition.signal();
+        }
+    }
+
+    private boolean slotsGrantable() {
+        return availableSlots > 0 && highSlotQueue.isEmpty() && lowSlotQueue.isEmpty();
+    }
+
+    private void wakeAll() {
+        for (Deque<Waiter> queue : List.of(highTokenQueue, lowTokenQueue, highSlotQueue, lowSlotQueue)) {
+            for (Waiter waiter : queue) {
+                waiter.condition.signal();
+            }
+        }
+    }
+
+    private enum Need { TOKEN, SLOT, BOTH }
+
+    private static final class Waiter implements LaneScheduler.Queued {
+        final Condition condition;
+        final boolean needsSlot;
+        final long queuedAt;
+
+        Waiter(Condition condition, boolean needsSlot, long queuedAt) {
+            this.condition = condition;
+            this.needsSlot = needsSlot;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public long queuedAt() {
+            return queuedAt;
         }
     }
 }
@@ -3,20 +3,18 @@ package synch;
 import problemas.SyncMethod;
 import problemas.VirtualAssistantsSim.AssistantAgent;
 
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
 public class VirtualAssistantsSemaphoreStrategy extends VirtualAssistantsBaseStrategy {
 
-    private final Semaphore tokenSemaphore;
-    private final Semaphore slotSemaphore;
-    private final AtomicInteger highTokenWaiting = new AtomicInteger(0);
-    private final AtomicInteger highSlotWaiting = new AtomicInteger(0);
+    private final PrioritySemaphore tokenSemaphore;
+    private final PrioritySemaphore slotSemaphore;
 
     public VirtualAssistantsSemaphoreStrategy(int slots, int tokens) {
         super(slots, tokens);
-        this.tokenSemaphore = new Semaphore(tokens, true);
-        this.slotSemaphore = new Semaphore(slots, true);
+        this.tokenSemaphore = new PrioritySemaphore(TOKENS, newLaneScheduler(lanePolicy), this.tokens);
+        this.slotSemaphore = new PrioritySemaphore(SLOTS, newLaneScheduler(lanePolicy), this.slots);
+        slotSemaphore.setReleaseListener(tokenSemaphore::reschedule);
     }
 
     @Override
@@ -27,61 +25,71 @@ public class VirtualAssistantsSemaphoreStrategy extends VirtualAssistantsBaseStr
     @Override
     public void start() {
         super.start();
-        tokenSemaphore.drainPermits();
-        slotSemaphore.drainPermits();
-        tokenSemaphore.release(tokens);
-        slotSemaphore.release(slots);
+        tokenSemaphore.reset(tokens);
+        slotSemaphore.reset(slots);
     }
 
     @Override
     public void stop() {
         super.stop();
-        tokenSemaphore.release(tokens);
-        slotSemaphore.release(slots);
+        tokenSemaphore.close();
+        slotSemaphore.close();
+    }
+
+    @Override
+    protected void onLanePolicyChanged() {
+        tokenSemaphore.reschedule();
+        slotSemaphore.reschedule();
     }
 
     @Override
     public int acquirePriorityToken(AssistantAgent agent) throws InterruptedException {
-        while (isRunning()) {
-            if (agent.isHighPriority()) {
-                highTokenWaiting.incrementAndGet();
-                try {
-                    tokenSemaphore.acquire();
-                    return takeToken();
-                } finally {
-                    highTokenWaiting.decrementAndGet();
-                }
-            }
-            if (highTokenWaiting.get() > 0) {
-                Thread.sleep(10);
-                continue;
-            }
-            tokenSemaphore.acquire();
-            return takeToken();
+        if (!isRunning()) {
+            throw new InterruptedException("Semaphore strategy stopped");
         }
-        throw new InterruptedException("Semaphore strategy stopped");
+        tokenSemaphore.acquire(agent.isHighPriority());
+        return takeToken();
     }
 
     @Override
     public int acquireServerSlot(AssistantAgent agent) throws InterruptedException {
-        while (isRunning()) {
-            if (agent.isHighPriority()) {
-                highSlotWaiting.incrementAndGet();
-                try {
-                    slotSemaphore.acquire();
-                    return takeSlot();
-                } finally {
-                    highSlotWaiting.decrementAndGet();
-                }
-            }
-            if (highSlotWaiting.get() > 0) {
-                Thread.sleep(10);
-                continue;
-            }
-            slotSemaphore.acquire();
-            return takeSlot();
+        if (!isRunning()) {
+            throw new InterruptedException("Semaphore strategy stopped");
+        }
+        slotSemaphore.acquire(agent.isHighPriority());
+        return takeSlot();
+    }
+
+    @Override
+    public ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Semaphore strategy stopped");
+        }
+        return acquireTogether(agent, tokenSemaphore, slotSemaphore);
+    }
+
+    @Override
+    public int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Semaphore strategy stopped");
+        }
+        return tokenSemaphore.tryAcquire(agent.isHighPriority(), unit.toNanos(timeout)) ? takeToken() : -1;
+    }
+
+    @Override
+    public int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Semaphore strategy stopped");
+        }
+        return slotSemaphore.tryAcquire(agent.isHighPriority(), unit.toNanos(timeout)) ? takeSlot() : -1;
+    }
+
+    @Override
+    public ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!isRunning()) {
+            throw new InterruptedException("Semaphore strategy stopped");
         }
-        throw new InterruptedException("Semaphore strategy stopped");
+        return acquireTogether(agent, tokenSemaphore, slotSemaphore, true, unit.toNanos(timeout));
     }
 
     @Override
@@ -0,0 +1,547 @@
+package synch;
+
+import problemas.LanePolicy;
+import problemas.ShardRouting;
+import problemas.SyncMethod;
+import problemas.VirtualAssistantsSim.AssistantAgent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+public class VirtualAssistantsShardedStrategy implements VirtualAssistantsStrategy {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final SyncMethod method;
+    private final ShardRouting routing;
+    private final VirtualAssistantsStrategy tokenStrategy;
+    private final VirtualAssistantsStrategy[] shards;
+    private final int[] slotOffsets;
+    private final AtomicIntegerArray shardLoad;
+    private final AtomicIntegerArray freeSlots;
+    private final ReentrantLock handoffLock = new ReentrantLock();
+    private final Lanes[] slotWaiters;
+    private final Lanes[] pairWaiters;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger pairWaiting = new AtomicInteger();
+    private final LongAdder steals = new LongAdder();
+    private volatile boolean running;
+
+    public VirtualAssistantsShardedStrategy(SyncMethod method, int slots, int tokens, int shardCount, ShardRouting routing,
+                                            BiFunction<Integer, Integer, VirtualAssistantsStrategy> factory) {
+        int totalSlots = Math.max(1, slots);
+        int count = Math.max(1, Math.min(shardCount, totalSlots));
+        this.method = method;
+        this.routing = routing;
+        this.tokenStrategy = factory.apply(1, Math.max(1, tokens));
+        this.shards = new VirtualAssistantsStrategy[count];
+        this.slotOffsets = new int[count + 1];
+        this.shardLoad = new AtomicIntegerArray(count);
+        this.freeSlots = new AtomicIntegerArray(count);
+        this.slotWaiters = new Lanes[count];
+        this.pairWaiters = new Lanes[count];
+        for (int i = 0; i < count; i++) {
+            int shardSlots = totalSlots / count + (i < totalSlots % count ? 1 : 0);
+            shards[i] = factory.apply(shardSlots, 1);
+            slotOffsets[i + 1] = slotOffsets[i] + shardSlots;
+            slotWaiters[i] = new Lanes(new LaneScheduler(tokenStrategy::getLanePolicy));
+            pairWaiters[i] = new Lanes(new LaneScheduler(tokenStrategy::getLanePolicy));
+        }
+    }
+
+    @Override
+    public void start() {
+        handoffLock.lock();
+        try {
+            cancelWaiters();
+            steals.reset();
+            for (int i = 0; i < shards.length; i++) {
+                shardLoad.set(i, 0);
+                freeSlots.set(i, slotOffsets[i + 1] - slotOffsets[i]);
+                slotWaiters[i].scheduler.reset();
+                pairWaiters[i].scheduler.reset();
+                shards[i].start();
+            }
+            tokenStrategy.start();
+            running = true;
+        } finally {
+            handoffLock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        handoffLock.lock();
+        try {
+            running = false;
+            cancelWaiters();
+        } finally {
+            handoffLock.unlock();
+        }
+        tokenStrategy.stop();
+        for (VirtualAssistantsStrategy shard : shards) {
+            shard.stop();
+        }
+    }
+
+    @Override
+    public SyncMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public int shardOf(int slotIndex) {
+        for (int i = 0; i < shards.length; i++) {
+            if (slotIndex < slotOffsets[i + 1]) {
+                return i;
+            }
+        }
+        return shards.length - 1;
+    }
+
+    public ShardRouting getRouting() {
+        return routing;
+    }
+
+    public long getStealCount() {
+        return steals.sum();
+    }
+
+    @Override
+    public int acquirePriorityToken(AssistantAgent agent) throws InterruptedException {
+        return tokenStrategy.acquirePriorityToken(agent);
+    }
+
+    @Override
+    public int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        return tokenStrategy.tryAcquirePriorityToken(agent, timeout, unit);
+    }
+
+    @Override
+    public int acquireServerSlot(AssistantAgent agent) throws InterruptedException {
+        return acquire(agent, false, false, 0L).slotIndex();
+    }
+
+    @Override
+    public int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        ResourceGrant grant = acquire(agent, false, true, unit.toNanos(timeout));
+        return grant != null ? grant.slotIndex() : -1;
+    }
+
+    @Override
+    public ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException {
+        return acquire(agent, true, false, 0L);
+    }
+
+    @Override
+    public ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException {
+        return acquire(agent, true, true, unit.toNanos(timeout));
+    }
+
+    private ResourceGrant acquire(AssistantAgent agent, boolean withToken, boolean timed, long nanos) throws InterruptedException {
+        if (!running) {
+            throw new InterruptedException("Sharded strategy stopped");
+        }
+        int home = route(agent);
+        shardLoad.incrementAndGet(home);
+        if (waiting.get() == 0 && pairWaiting.get() == 0) {
+            ResourceGrant grant;
+            try {
+                grant = tryImmediately(agent, home, withToken);
+            } catch (InterruptedException ex) {
+                shardLoad.decrementAndGet(home);
+                throw ex;
+            }
+            if (grant != null) {
+                return grant;
+            }
+        }
+        long deadline = System.nanoTime() + nanos;
+        Waiter waiter = new Waiter(Thread.currentThread(), agent, home, withToken, System.nanoTime());
+        handoffLock.lock();
+        try {
+            if (!running) {
+                waiter.state = CANCELLED;
+                shardLoad.decrementAndGet(home);
+                throw new InterruptedException("Sharded strategy stopped");
+            }
+            (withToken ? pairWaiters : slotWaiters)[home].add(waiter);
+            (withToken ? pairWaiting : waiting).incrementAndGet();
+            dispatch();
+        } catch (InterruptedException ex) {
+            if (waiter.state == WAITING) {
+                waiter.state = CANCELLED;
+                (withToken ? pairWaiters : slotWaiters)[home].remove(waiter);
+                (withToken ? pairWaiting : waiting).decrementAndGet();
+                shardLoad.decrementAndGet(home);
+                throw ex;
+            }
+            if (waiter.state == CANCELLED) {
+                throw ex;
+            }
+        } finally {
+            handoffLock.unlock();
+        }
+        while (waiter.state == WAITING) {
+            if (timed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    if (cancel(waiter)) {
+                        return null;
+                    }
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                LockSupport.park(this);
+            }
+            if (Thread.interrupted()) {
+                if (cancel(waiter)) {
+                    throw new InterruptedException("Sharded strategy interrupted");
+                }
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (waiter.state == CANCELLED) {
+            throw new InterruptedException("Sharded strategy stopped");
+        }
+        return new ResourceGrant(waiter.tokenIndex, waiter.slotIndex);
+    }
+
+    private ResourceGrant tryImmediately(AssistantAgent agent, int home, boolean withToken) throws InterruptedException {
+        int token = -1;
+        if (withToken) {
+            token = tokenStrategy.tryAcquirePriorityToken(agent, 0L, TimeUnit.NANOSECONDS);
+            if (token < 0) {
+                return null;
+            }
+        }
+        for (int step = 0; step < shards.length; step++) {
+            int shard = (home + step) % shards.length;
+            int local = takeFree(agent, shard);
+            if (local >= 0) {
+                if (shard != home) {
+                    shardLoad.decrementAndGet(home);
+                    shardLoad.incrementAndGet(shard);
+                    steals.increment();
+                }
+                return new ResourceGrant(token, slotOffsets[shard] + local);
+            }
+        }
+        if (token >= 0) {
+            releaseResources(agent, token, -1);
+        }
+        return null;
+    }
+
+    private boolean cancel(Waiter waiter) {
+        handoffLock.lock();
+        try {
+            if (waiter.state != WAITING) {
+                return false;
+            }
+            waiter.state = CANCELLED;
+            (waiter.withToken ? pairWaiters : slotWaiters)[waiter.home].remove(waiter);
+            (waiter.withToken ? pairWaiting : waiting).decrementAndGet();
+            shardLoad.decrementAndGet(waiter.home);
+            return true;
+        } finally {
+            handoffLock.unlock();
+        }
+    }
+
+    private void dispatch() throws InterruptedException {
+        for (int shard = 0; shard < shards.length; shard++) {
+            Waiter next;
+            while (freeSlots.get(shard) > 0 && (next = nextSlotWaiter(shard)) != null) {
+                int local = takeFree(next.agent, shard);
+                if (local < 0) {
+                    break;
+                }
+                grant(next, -1, slotOffsets[shard] + local);
+            }
+        }
+        if (pairWaiting.get() == 0) {
+            return;
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            Waiter next;
+            while (freeSlots.get(shard) > 0 && nextSlotWaiter(shard) == null && (next = nextPairWaiter(shard)) != null) {
+                int token = tokenStrategy.tryAcquirePriorityToken(next.agent, 0L, TimeUnit.NANOSECONDS);
+                if (token < 0) {
+                    return;
+                }
+                int local = takeFree(next.agent, shard);
+                if (local < 0) {
+                    tokenStrategy.releaseResources(next.agent, token, -1);
+                    break;
+                }
+                grant(next, token, slotOffsets[shard] + local);
+            }
+        }
+    }
+
+    private int takeFree(AssistantAgent agent, int shard) throws InterruptedException {
+        if (freeSlots.get(shard) <= 0) {
+            return -1;
+        }
+        int local = shards[shard].tryAcquireServerSlot(agent, 0L, TimeUnit.NANOSECONDS);
+        if (local >= 0) {
+            freeSlots.decrementAndGet(shard);
+        }
+        return local;
+    }
+
+    private Waiter nextSlotWaiter(int shard) {
+        Waiter local = slotWaiters[shard].peek();
+        return local != null ? local : oldestForeign(slotWaiters, shard);
+    }
+
+    private Waiter nextPairWaiter(int shard) {
+        Waiter local = pairWaiters[shard].peek();
+        return local != null ? local : oldestForeign(pairWaiters, shard);
+    }
+
+    private Waiter oldestForeign(Lanes[] lanes, int shard) {
+        Waiter oldest = null;
+        for (int i = 0; i < lanes.length; i++) {
+            Waiter candidate = i == shard ? null : lanes[i].peek();
+            if (candidate != null && (oldest == null || candidate.queuedAt - oldest.queuedAt < 0L)) {
+                oldest = candidate;
+            }
+        }
+        return oldest;
+    }
+
+    private void grant(Waiter waiter, int tokenIndex, int slotIndex) {
+        (waiter.withToken ? pairWaiters : slotWaiters)[waiter.home].granted(waiter);
+        (waiter.withToken ? pairWaiting : waiting).decrementAndGet();
+        int shard = shardOf(slotIndex);
+        if (shard != waiter.home) {
+            shardLoad.decrementAndGet(waiter.home);
+            shardLoad.incrementAndGet(shard);
+            steals.increment();
+        }
+        waiter.tokenIndex = tokenIndex;
+        waiter.slotIndex = slotIndex;
+        waiter.state = GRANTED;
+        LockSupport.unpark(waiter.thread);
+    }
+
+    private void cancelWaiters() {
+        for (Lanes[] lanes : new Lanes[][]{slotWaiters, pairWaiters}) {
+            for (Lanes lane : lanes) {
+                Waiter waiter;
+                while ((waiter = lane.peek()) != null) {
+                    lane.remove(waiter);
+                    waiter.state = CANCELLED;
+                    LockSupport.unpark(waiter.thread);
+                }
+            }
+        }
+        waiting.set(0);
+        pairWaiting.set(0);
+    }
+
+    private int route(AssistantAgent agent) {
+        int home = Math.floorMod(agent.getId(), shards.length);
+        if (routing == ShardRouting.HASH) {
+            return home;
+        }
+        int best = home;
+        int bestLoad = shardLoad.get(home);
+        for (int step = 1; step < shards.length; step++) {
+            int candidate = (home + step) % shards.length;
+            int candidateLoad = shardLoad.get(candidate);
+            if (candidateLoad * (slotOffsets[best + 1] - slotOffsets[best]) < bestLoad * (slotOffsets[candidate + 1] - slotOffsets[candidate])) {
+                best = candidate;
+                bestLoad = candidateLoad;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void releaseResources(AssistantAgent agent, int tokenIndex, int slotIndex) {
+        if (slotIndex >= 0) {
+            releaseSlot(agent, slotIndex);
+        }
+        if (tokenIndex >= 0) {
+            tokenStrategy.releaseResources(agent, tokenIndex, -1);
+            if (pairWaiting.get() > 0) {
+                redispatch();
+            }
+        }
+    }
+
+    private void releaseSlot(AssistantAgent agent, int slotIndex) {
+        int shard = shardOf(slotIndex);
+        if (waiting.get() > 0 || pairWaiting.get() > 0) {
+            handoffLock.lock();
+            try {
+                if (handOver(shard, slotIndex)) {
+                    return;
+                }
+            } finally {
+                handoffLock.unlock();
+            }
+        }
+        shards[shard].releaseResources(agent, -1, slotIndex - slotOffsets[shard]);
+        freeSlots.incrementAndGet(shard);
+        shardLoad.decrementAndGet(shard);
+        if (waiting.get() > 0 || pairWaiting.get() > 0) {
+            redispatch();
+        }
+    }
+
+    private boolean handOver(int shard, int slotIndex) {
+        Waiter next = nextSlotWaiter(shard);
+        if (next != null) {
+            shardLoad.decrementAndGet(shard);
+            grant(next, -1, slotIndex);
+            return true;
+        }
+        next = nextPairWaiter(shard);
+        if (next == null) {
+            return false;
+        }
+        boolean interrupted = Thread.interrupted();
+        int token;
+        try {
+            token = tokenStrategy.tryAcquirePriorityToken(next.agent, 0L, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            return false;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (token < 0) {
+            return false;
+        }
+        shardLoad.decrementAndGet(shard);
+        grant(next, token, slotIndex);
+        return true;
+    }
+
+    private void redispatch() {
+        boolean interrupted = Thread.interrupted();
+        handoffLock.lock();
+        try {
+            if (running) {
+                dispatch();
+            }
+        } catch (InterruptedException ex) {
+            cancelWaiters();
+        } finally {
+            handoffLock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public LanePolicy getLanePolicy() {
+        return tokenStrategy.getLanePolicy();
+    }
+
+    @Override
+    public void setLanePolicy(LanePolicy policy) {
+        tokenStrategy.setLanePolicy(policy);
+        for (VirtualAssistantsStrategy shard : shards) {
+            shard.setLanePolicy(policy);
+        }
+        redispatch();
+    }
+
+    @Override
+    public long getWakeupCount() {
+        long total = tokenStrategy.getWakeupCount();
+        for (VirtualAssistantsStrategy shard : shards) {
+            total += shard.getWakeupCount();
+        }
+        return total;
+    }
+
+    @Override
+    public long getSpuriousWakeupCount() {
+        long total = tokenStrategy.getSpuriousWakeupCount();
+        for (VirtualAssistantsStrategy shard : shards) {
+            total += shard.getSpuriousWakeupCount();
+        }
+        return total;
+    }
+
+    private static final class Lanes {
+        final Deque<Waiter> high = new ArrayDeque<>();
+        final Deque<Waiter> low = new ArrayDeque<>();
+        final LaneScheduler scheduler;
+
+        Lanes(LaneScheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        void add(Waiter waiter) {
+            (waiter.highPriority ? high : low).addLast(waiter);
+        }
+
+        boolean isEmpty() {
+            return high.isEmpty() && low.isEmpty();
+        }
+
+        Waiter peek() {
+            return scheduler.next(high.peekFirst(), low.peekFirst());
+        }
+
+        void remove(Waiter waiter) {
+            (waiter.highPriority ? high : low).removeFirstOccurrence(waiter);
+        }
+
+        void granted(Waiter waiter) {
+            remove(waiter);
+            scheduler.granted(waiter.highPriority, !(waiter.highPriority ? low : high).isEmpty());
+        }
+    }
+
+    private static final class Waiter implements LaneScheduler.Queued {
+        final Thread thread;
+        final AssistantAgent agent;
+        final int home;
+        final boolean highPriority;
+        final boolean withToken;
+        final long queuedAt;
+        volatile int state = WAITING;
+        volatile int tokenIndex = -1;
+        volatile int slotIndex = -1;
+
+        Waiter(Thread thread, AssistantAgent agent, int home, boolean withToken, long queuedAt) {
+            this.thread = thread;
+            this.agent = agent;
+            this.home = home;
+            this.highPriority = agent.isHighPriority();
+            this.withToken = withToken;
+            this.queuedAt = queuedAt;
+        }
+
+        @Override
+        public long queuedAt() {
+            return queuedAt;
+        }
+    }
+}
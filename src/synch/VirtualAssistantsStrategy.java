@@ -1,8 +1,11 @@
 package synch;
 
+import problemas.LanePolicy;
 import problemas.SyncMethod;
 import problemas.VirtualAssistantsSim.AssistantAgent;
 
+import java.util.concurrent.TimeUnit;
+
 
 
 
@@ -14,5 +17,40 @@ public interface VirtualAssistantsStrategy extends SynchronizationStrategy {
 
     int acquireServerSlot(AssistantAgent agent) throws InterruptedException;
 
+    int tryAcquirePriorityToken(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException;
+
+    int tryAcquireServerSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException;
+
     void releaseResources(AssistantAgent agent, int tokenIndex, int slotIndex);
+
+    ResourceGrant acquireTokenAndSlot(AssistantAgent agent) throws InterruptedException;
+
+    ResourceGrant tryAcquireTokenAndSlot(AssistantAgent agent, long timeout, TimeUnit unit) throws InterruptedException;
+
+    default void releaseGrant(AssistantAgent agent, ResourceGrant grant) {
+        releaseResources(agent, grant.tokenIndex(), grant.slotIndex());
+    }
+
+    default int getShardCount() {
+        return 1;
+    }
+
+    default int shardOf(int slotIndex) {
+        return 0;
+    }
+
+    default LanePolicy getLanePolicy() {
+        return LanePolicy.STRICT;
+    }
+
+    default void setLanePolicy(LanePolicy policy) {
+    }
+
+    default long getWakeupCount() {
+        return 0L;
+    }
+
+    default long getSpuriousWakeupCount() {
+        return 0L;
+    }
 }
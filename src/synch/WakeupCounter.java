@@ -0,0 +1,24 @@
+package synch;
+
+import java.util.concurrent.atomic.LongAdder;
+
+final class WakeupCounter {
+
+    private final LongAdder wakeups = new LongAdder();
+    private final LongAdder spuriousWakeups = new LongAdder();
+
+    void record(boolean productive) {
+        wakeups.increment();
+        if (!productive) {
+            spuriousWakeups.increment();
+        }
+    }
+
+    long wakeups() {
+        return wakeups.sum();
+    }
+
+    long spuriousWakeups() {
+        return spuriousWakeups.sum();
+    }
+}
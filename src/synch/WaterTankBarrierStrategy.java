@@ -23,7 +23,7 @@ public class WaterTankBarrierStrategy implements SynchronizationStrategy {
 
     
     
-    private final ReentrantLock levelLock = new ReentrantLock();
+    private final ReentrantLock levelLock = new TracedLock("R_Lock");
     private static final long VISUALIZATION_DELAY = 420L;
 
     public WaterTankBarrierStrategy(WaterTankSim panel) {
@@ -32,7 +32,7 @@ public class WaterTankBarrierStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        barrier = new CyclicBarrier(2); 
+        barrier = new TracedBarrier("R_Barrier", 2); 
 
         
         producer = new Thread(() -> {
@@ -1,14 +1,13 @@
 package synch;
 
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.WaterTankSim;
 
 
 public class WaterTankConditionStrategy implements SynchronizationStrategy {
     private final WaterTankSim panel;
     private Thread producer, consumer;
-    private ReentrantLock mtxPC;
+    private TracedLock mtxPC;
     private Condition notEmpty, notFull;
     private static final long VISUALIZATION_DELAY = 420L;
 
@@ -18,9 +17,9 @@ public class WaterTankConditionStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        mtxPC = new ReentrantLock(true);
-        notEmpty = mtxPC.newCondition();
-        notFull = mtxPC.newCondition();
+        mtxPC = new TracedLock("R_Lock", true);
+        notEmpty = mtxPC.newCondition("C_NotEmpty");
+        notFull = mtxPC.newCondition("C_NotFull");
 
         producer = new Thread(() -> {
             try {
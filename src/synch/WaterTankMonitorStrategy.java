@@ -1,7 +1,6 @@
 package synch;
 
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import problemas.WaterTankSim;
 
 
@@ -13,7 +12,7 @@ public class WaterTankMonitorStrategy implements SynchronizationStrategy {
     private Thread producer, consumer;
 
     
-    private ReentrantLock lock; 
+    private TracedLock lock; 
     private Condition notEmpty; 
     private Condition notFull;  
     private static final long VISUALIZATION_DELAY = 420L;
@@ -24,9 +23,9 @@ public class WaterTankMonitorStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        lock = new ReentrantLock(true);
-        notEmpty = lock.newCondition();
-        notFull = lock.newCondition();
+        lock = new TracedLock("R_Monitor", true);
+        notEmpty = lock.newCondition("C_NotEmpty");
+        notFull = lock.newCondition("C_NotFull");
 
         
         producer = new Thread(() -> {
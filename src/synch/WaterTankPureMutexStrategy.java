@@ -10,7 +10,7 @@ public class WaterTankPureMutexStrategy implements SynchronizationStrategy {
 
     private final WaterTankSim simPanel;
     private Thread producer, consumer;
-    private final ReentrantLock mutex = new ReentrantLock();
+    private final ReentrantLock mutex = new TracedLock("R_Mutex");
 
     
 
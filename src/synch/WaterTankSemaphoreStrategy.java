@@ -17,9 +17,9 @@ public class WaterTankSemaphoreStrategy implements SynchronizationStrategy {
 
     @Override
     public void start() {
-        semEmpty = new Semaphore(WaterTankSim.SLOTS);
-        semFull = new Semaphore(0);
-        semMutex = new ReentrantLock(true);
+        semEmpty = new TracedSemaphore("R_Empty", WaterTankSim.SLOTS);
+        semFull = new TracedSemaphore("R_Full", 0);
+        semMutex = new TracedLock("R_Mutex", true);
 
         producer = new Thread(() -> {
             try {